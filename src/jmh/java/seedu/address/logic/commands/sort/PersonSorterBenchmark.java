@@ -0,0 +1,140 @@
+package seedu.address.logic.commands.sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.SortCommand.SortDirection;
+import seedu.address.logic.commands.SortCommand.SortField;
+import seedu.address.model.insurance.InsurancePackage;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Dependents;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MaritalStatus;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Occupation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Salary;
+
+/**
+ * Compares the composite key radix sort used by {@code PersonSorter} against sorting with {@code PersonSorter} used
+ * as a plain {@code Comparator}, for a single field and for multiple fields.
+ * The composite key sorts read their keys either from the persons or from their {@code PersonColumns}.
+ * Run with {@code gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class PersonSorterBenchmark {
+
+    /** Number of distinct values of each field, shared between persons to keep the heap small. */
+    private static final int DISTINCT_VALUES = 50_000;
+
+    @Param({"100000", "1000000", "5000000"})
+    private int size;
+
+    @Param({"SALARY", "DATEOFBIRTH", "DEPENDENTS"})
+    private SortField sortField;
+
+    private List<Person> persons;
+    private PersonColumns personColumns;
+    private PersonSorter sorter;
+    private PersonSorter multiKeySorter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(2103);
+        Salary[] salaries = new Salary[DISTINCT_VALUES];
+        DateOfBirth[] datesOfBirth = new DateOfBirth[DISTINCT_VALUES];
+        for (int i = 0; i < DISTINCT_VALUES; i++) {
+            salaries[i] = new Salary(random.nextInt(1_000_000) + "." + random.nextInt(100));
+            datesOfBirth[i] = new DateOfBirth(LocalDate.ofEpochDay(random.nextInt(36_500) - 25_000).toString());
+        }
+
+        Name name = new Name("Amy Bee");
+        Phone phone = new Phone("85355255");
+        Email email = new Email("amy@gmail.com");
+        Address address = new Address("123, Jurong West Ave 6, #08-111");
+        MaritalStatus maritalStatus = new MaritalStatus("Single");
+        Occupation occupation = new Occupation("Engineer");
+        InsurancePackage[] insurancePackages = {
+            new InsurancePackage("Undecided", "No insurance package selected."),
+            new InsurancePackage("Gold", "Gold package."),
+            new InsurancePackage("Silver", "Silver package.")
+        };
+
+        persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean isUnspecified = random.nextInt(20) == 0;
+            persons.add(new Person(name, phone, email, address,
+                    isUnspecified ? Salary.createUnspecified() : salaries[random.nextInt(DISTINCT_VALUES)],
+                    isUnspecified ? DateOfBirth.createUnspecified() : datesOfBirth[random.nextInt(DISTINCT_VALUES)],
+                    maritalStatus, occupation,
+                    isUnspecified ? Dependents.createUnspecified() : new Dependents(random.nextInt(6)),
+                    insurancePackages[random.nextInt(insurancePackages.length)], new HashSet<>()));
+        }
+        personColumns = new PersonColumns(persons);
+        sorter = new PersonSorter(sortField, SortDirection.DESCENDING);
+        multiKeySorter = new PersonSorter(List.of(
+                new SortCriterion(SortField.INSURANCEPACKAGE, SortDirection.ASCENDING),
+                new SortCriterion(sortField, SortDirection.DESCENDING),
+                new SortCriterion(SortField.NAME, SortDirection.ASCENDING)));
+    }
+
+    @Benchmark
+    public int[] compositeKeySort() {
+        return sorter.sortedOrder(persons, null);
+    }
+
+    @Benchmark
+    public int[] columnarCompositeKeySort() {
+        return sorter.sortedOrder(persons, personColumns);
+    }
+
+    @Benchmark
+    public List<Person> comparatorSort() {
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.sort(sorter);
+        return sortedPersons;
+    }
+
+    @Benchmark
+    public int[] multiKeyCompositeKeySort() {
+        return multiKeySorter.sortedOrder(persons, null);
+    }
+
+    @Benchmark
+    public int[] columnarMultiKeyCompositeKeySort() {
+        return multiKeySorter.sortedOrder(persons, personColumns);
+    }
+
+    @Benchmark
+    public List<Person> multiKeyRepeatedSorts() {
+        // Sorting by each field from the least to the most significant, relying on the stability of the sort
+        List<Person> sortedPersons = new PersonSorter(SortField.NAME, SortDirection.ASCENDING).sort(persons);
+        sortedPersons = new PersonSorter(sortField, SortDirection.DESCENDING).sort(sortedPersons);
+        return new PersonSorter(SortField.INSURANCEPACKAGE, SortDirection.ASCENDING).sort(sortedPersons);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the scalar and vectorised scans of {@code PersonColumns} for the filter {@code s/>=50000 dep/<=2},
+ * i.e. a salary scan over all rows followed by a dependents scan over the rows left.
+ * Run with {@code gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class RowScannerBenchmark {
+
+    private static final long MIN_SALARY_CENTS = 50_000_00L;
+    private static final int MAX_DEPENDENTS = 2;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    private long[] salaryCents;
+    private int[] dependents;
+    private BitSet allRows;
+    private RowScanner scalarScanner;
+    private RowScanner vectorScanner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(2103);
+        salaryCents = new long[size];
+        dependents = new int[size];
+        for (int i = 0; i < size; i++) {
+            boolean isUnspecified = random.nextInt(20) == 0;
+            salaryCents[i] = isUnspecified ? Salary.UNSPECIFIED_CENTS : random.nextInt(100_000_00);
+            dependents[i] = isUnspecified ? Dependents.UNSPECIFIED_VALUE : random.nextInt(6);
+        }
+        allRows = new BitSet(size);
+        allRows.set(0, size);
+        scalarScanner = new ScalarRowScanner();
+        vectorScanner = new VectorRowScanner();
+    }
+
+    @Benchmark
+    public BitSet scalarSalaryScan() {
+        BitSet rows = (BitSet) allRows.clone();
+        scalarScanner.retainRowsBetween(salaryCents, size, MIN_SALARY_CENTS, Long.MAX_VALUE, rows);
+        return rows;
+    }
+
+    @Benchmark
+    public BitSet vectorSalaryScan() {
+        BitSet rows = (BitSet) allRows.clone();
+        vectorScanner.retainRowsBetween(salaryCents, size, MIN_SALARY_CENTS, Long.MAX_VALUE, rows);
+        return rows;
+    }
+
+    @Benchmark
+    public BitSet scalarSalaryAndDependentsScan() {
+        BitSet rows = (BitSet) allRows.clone();
+        scalarScanner.retainRowsBetween(salaryCents, size, MIN_SALARY_CENTS, Long.MAX_VALUE, rows);
+        scalarScanner.retainRowsBetween(dependents, size, 0, MAX_DEPENDENTS, rows);
+        return rows;
+    }
+
+    @Benchmark
+    public BitSet vectorSalaryAndDependentsScan() {
+        BitSet rows = (BitSet) allRows.clone();
+        vectorScanner.retainRowsBetween(salaryCents, size, MIN_SALARY_CENTS, Long.MAX_VALUE, rows);
+        vectorScanner.retainRowsBetween(dependents, size, 0, MAX_DEPENDENTS, rows);
+        return rows;
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.model.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares validating the fields of {@code size} typical persons with {@code String.matches}, as the value classes
+ * used to, with precompiled patterns, and with {@code FieldValidator}, and validating an invalid email whose domain
+ * makes the email regex backtrack.
+ * Run with {@code gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class FieldValidatorBenchmark {
+
+    private static final Pattern NAME_PATTERN = Pattern.compile(FieldValidator.NAME_REGEX);
+    private static final Pattern PHONE_PATTERN = Pattern.compile(Phone.VALIDATION_REGEX);
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(Email.VALIDATION_REGEX);
+    private static final Pattern ADDRESS_PATTERN = Pattern.compile(Address.VALIDATION_REGEX);
+    private static final Pattern TAG_PATTERN = Pattern.compile(Tag.VALIDATION_REGEX);
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private String[] names;
+    private String[] phones;
+    private String[] emails;
+    private String[] addresses;
+    private String[] tags;
+    private String hostileEmail;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(2103);
+        names = new String[size];
+        phones = new String[size];
+        emails = new String[size];
+        addresses = new String[size];
+        tags = new String[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = "Person " + i + " Tan-Lim";
+            phones[i] = String.valueOf(80_000_000 + random.nextInt(20_000_000));
+            emails[i] = "person." + i + "@example-" + random.nextInt(100) + ".com";
+            addresses[i] = "Blk " + random.nextInt(1000) + ", Clementi Ave " + random.nextInt(10) + ", #08-111";
+            tags[i] = random.nextBoolean() ? "friends" : "colleague " + random.nextInt(10);
+        }
+        hostileEmail = "a@" + "a".repeat(1000) + "!";
+    }
+
+    @Benchmark
+    public int stringMatches() {
+        int validCount = 0;
+        for (int i = 0; i < size; i++) {
+            validCount += names[i].matches(FieldValidator.NAME_REGEX)
+                    && phones[i].matches(Phone.VALIDATION_REGEX)
+                    && emails[i].matches(Email.VALIDATION_REGEX)
+                    && addresses[i].matches(Address.VALIDATION_REGEX)
+                    && tags[i].matches(Tag.VALIDATION_REGEX) ? 1 : 0;
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public int precompiledPatterns() {
+        int validCount = 0;
+        for (int i = 0; i < size; i++) {
+            validCount += NAME_PATTERN.matcher(names[i]).matches()
+                    && PHONE_PATTERN.matcher(phones[i]).matches()
+                    && EMAIL_PATTERN.matcher(emails[i]).matches()
+                    && ADDRESS_PATTERN.matcher(addresses[i]).matches()
+                    && TAG_PATTERN.matcher(tags[i]).matches() ? 1 : 0;
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public int fieldValidator() {
+        int validCount = 0;
+        for (int i = 0; i < size; i++) {
+            validCount += FieldValidator.isValidName(names[i])
+                    && FieldValidator.isValidPhone(phones[i])
+                    && FieldValidator.isValidEmail(emails[i])
+                    && FieldValidator.isNonBlankLine(addresses[i])
+                    && FieldValidator.isValidTagName(tags[i]) ? 1 : 0;
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public boolean hostileEmailRegex() {
+        return EMAIL_PATTERN.matcher(hostileEmail).matches();
+    }
+
+    @Benchmark
+    public boolean hostileEmailFieldValidator() {
+        return FieldValidator.isValidEmail(hostileEmail);
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.insurance.InsurancePackage;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Dependents;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MaritalStatus;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Occupation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Salary;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares reading and writing the address book data file with {@code JsonStreamingCodec} against Jackson's data
+ * binding of {@code JsonSerializableAddressBook}, which is how the data file was read and written before.
+ * Run with {@code gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class JsonStreamingCodecBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private Path directory;
+    private Path dataFilePath;
+    private Path outputFilePath;
+    private AddressBook addressBook;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        InsurancePackage insurancePackage = new InsurancePackage("Gold", "Gold package.");
+        Set<Tag> tags = new HashSet<>(Set.of(new Tag("friends"), new Tag("colleagues")));
+        addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new Person(new Name("Person " + i), new Phone(String.valueOf(80_000_000 + i)),
+                    new Email("person" + i + "@example.com"), new Address(i + ", Jurong West Ave 6, #08-111"),
+                    new Salary(String.valueOf(1000 + i % 9000)), new DateOfBirth("1990-01-01"),
+                    new MaritalStatus("Single"), new Occupation("Engineer"), new Dependents(i % 4),
+                    insurancePackage, tags));
+        }
+        directory = Files.createTempDirectory("codec-benchmark");
+        dataFilePath = directory.resolve("addressbook.json");
+        outputFilePath = directory.resolve("output.json");
+        JsonStreamingCodec.writeAddressBook(dataFilePath, addressBook);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public JsonSerializableAddressBook readStreamingCodec() throws Exception {
+        return JsonStreamingCodec.readAddressBook(dataFilePath).get();
+    }
+
+    @Benchmark
+    public JsonSerializableAddressBook readDataBinding() throws Exception {
+        return JsonUtil.readJsonFile(dataFilePath, JsonSerializableAddressBook.class).get();
+    }
+
+    @Benchmark
+    public void writeStreamingCodec() throws IOException {
+        JsonStreamingCodec.writeAddressBook(outputFilePath, addressBook);
+    }
+
+    @Benchmark
+    public void writeDataBinding() throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), outputFilePath);
+    }
+}
@@ -1,11 +1,17 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -22,12 +28,20 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyInsuranceCatalog;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.InsuranceCatalogStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonInsuranceCatalogStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.LogCompactionScheduler;
+import seedu.address.storage.ParsedAddressBook;
+import seedu.address.storage.PersonSnapshotFile;
+import seedu.address.storage.SalvagedAddressBook;
+import seedu.address.storage.SegmentFilePersonStore;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -49,6 +63,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private SegmentFilePersonStore personStore;
+    private boolean isAddressBookLoadedInBackground;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -60,13 +77,16 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
         InsuranceCatalogStorage insuranceCatalogStorage =
                 new JsonInsuranceCatalogStorage(userPrefs.getInsuranceCatalogFilePath());
 
         storage = new StorageManager(addressBookStorage, insuranceCatalogStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        if (!isAddressBookLoadedInBackground) {
+            trackAddressBook(storage, model);
+        }
 
         logic = new LogicManager(model, storage);
 
@@ -79,15 +99,42 @@ public class MainApp extends Application {
     Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        ReadOnlyInsuranceCatalog initialInsuranceCatalog = initInsuranceCatalog(storage);
-
-        ReadOnlyAddressBook initialData = initAddressBook(storage, initialInsuranceCatalog);
+        ReadOnlyInsuranceCatalog initialInsuranceCatalog;
+        ReadOnlyAddressBook initialData;
+        if (config.isPagedAddressBook()) {
+            initialInsuranceCatalog = initInsuranceCatalog(storage);
+            initialData = initPagedAddressBook(storage, initialInsuranceCatalog);
+        } else if (config.isProgressiveStartup()) {
+            initialInsuranceCatalog = initInsuranceCatalog(storage);
+            initialData = new AddressBook();
+            isAddressBookLoadedInBackground = true;
+        } else {
+            // Only resolving the insurance packages of the persons needs the catalog, so the data file is read and
+            // parsed on another thread while the catalog is loaded
+            CompletableFuture<Optional<ParsedAddressBook>> parsedAddressBook =
+                    parseAddressBook(storage, ForkJoinPool.commonPool());
+            initialInsuranceCatalog = initInsuranceCatalog(storage);
+            initialData = initAddressBook(storage, initialInsuranceCatalog, parsedAddressBook);
+        }
 
         logger.info("Using insurance catalog file: " + storage.getInsuranceCatalogFilePath());
 
         return new ModelManager(initialData, initialInsuranceCatalog, userPrefs);
     }
 
+    /**
+     * Has {@code storage} follow the changes to the address book of {@code model} from now on, so that the first save
+     * after a command only writes what the command changed.
+     */
+    void trackAddressBook(Storage storage, Model model) {
+        try {
+            storage.trackAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.warning("Failed to track the changes to the address book. The next save will write it all. "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Loads the InsuranceCatalog from storage.
      * If the file is missing,a sample catalog is created and saved to storage.
@@ -133,18 +180,149 @@ public class MainApp extends Application {
      * If the file is missing, a sample AddressBook is used.
      */
     ReadOnlyAddressBook initAddressBook(Storage storage, ReadOnlyInsuranceCatalog initialInsuranceCatalog) {
+        return initAddressBook(storage, initialInsuranceCatalog, parseAddressBook(storage, Runnable::run));
+    }
+
+    /**
+     * Loads the AddressBook from {@code parsedAddressBook}, the result of parsing the data file of {@code storage},
+     * resolving its insurance packages in the provided catalog.
+     * If the file is missing, a sample AddressBook is used. If it cannot be loaded as a whole, the persons in it that
+     * can be loaded are salvaged, and an empty AddressBook is used if it cannot be read at all.
+     */
+    ReadOnlyAddressBook initAddressBook(Storage storage, ReadOnlyInsuranceCatalog initialInsuranceCatalog,
+            CompletableFuture<Optional<ParsedAddressBook>> parsedAddressBook) {
         try {
-            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook(initialInsuranceCatalog);
+            Optional<ParsedAddressBook> parsedAddressBookOptional = join(parsedAddressBook);
 
-            if (!addressBookOptional.isPresent()) {
+            if (!parsedAddressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
+                return SampleDataUtil.getSampleAddressBook();
             }
-            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
+            return parsedAddressBookOptional.get().resolve(initialInsuranceCatalog);
+        } catch (DataLoadingException | DuplicatePersonException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            return new AddressBook();
+                    + " Will be salvaging the persons in it.");
+            return salvageAddressBook(storage, initialInsuranceCatalog);
+        }
+    }
+
+    /**
+     * Loads the persons of the data file of {@code storage} that can be loaded, setting the others aside in a
+     * quarantine file, or returns an empty AddressBook if the data file cannot be read at all.
+     */
+    private ReadOnlyAddressBook salvageAddressBook(Storage storage, ReadOnlyInsuranceCatalog initialInsuranceCatalog) {
+        try {
+            Optional<SalvagedAddressBook> salvagedAddressBook = storage.salvageAddressBook(initialInsuranceCatalog);
+            if (salvagedAddressBook.isPresent()) {
+                ReadOnlyAddressBook addressBook = salvagedAddressBook.get().getAddressBook();
+                logger.warning("Salvaged " + addressBook.getPersonList().size() + " persons, quarantined "
+                        + salvagedAddressBook.get().getQuarantinedRecordCount() + " records"
+                        + salvagedAddressBook.get().getQuarantineFilePath().map(path -> " in " + path).orElse(""));
+                return addressBook;
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be salvaged: "
+                    + StringUtil.getDetails(e));
+        }
+        logger.warning("Will be starting with an empty AddressBook.");
+        return new AddressBook();
+    }
+
+    /**
+     * Starts reading and parsing the data file of {@code storage} with {@code executor}.
+     */
+    private static CompletableFuture<Optional<ParsedAddressBook>> parseAddressBook(Storage storage,
+            Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return storage.parseAddressBook();
+            } catch (DataLoadingException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Waits for {@code parsedAddressBook} and returns its result.
+     *
+     * @throws DataLoadingException if reading or parsing the data file failed.
+     */
+    private static Optional<ParsedAddressBook> join(CompletableFuture<Optional<ParsedAddressBook>> parsedAddressBook)
+            throws DataLoadingException {
+        try {
+            return parsedAddressBook.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns an address book with the persons of {@code storage}'s address book, which keeps its persons in a
+     * segment file in the directory of the data file and only the most recently read persons in memory.
+     * If the snapshot of the data file is up to date, the address book is created from the snapshot, and persons are
+     * only read from it when they are asked for. Otherwise, the data file is loaded as usual, or in the background
+     * after the UI has started if startup is progressive.
+     * If the segment file cannot be created, the loaded address book is returned, so all persons stay in memory.
+     */
+    ReadOnlyAddressBook initPagedAddressBook(Storage storage, ReadOnlyInsuranceCatalog initialInsuranceCatalog) {
+        Path dataFilePath = storage.getAddressBookFilePath();
+        Path directory = dataFilePath.toAbsolutePath().getParent();
+        PersonSnapshotFile snapshot = openSnapshot(dataFilePath, storage.getAddressBookStampFilePath(),
+                initialInsuranceCatalog);
+        try {
+            personStore = new SegmentFilePersonStore(directory, snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to create a segment file in " + directory + "."
+                    + " Will keep all persons in memory. " + StringUtil.getDetails(e));
+            closeSnapshot(snapshot);
+            return initAddressBook(storage, initialInsuranceCatalog);
+        }
+        logger.info("Using segment file : " + personStore.getSegmentFilePath());
+
+        int cacheCapacity = Math.max(1, config.getPersonCacheSize());
+        if (snapshot != null) {
+            return AddressBook.createPaged(personStore, cacheCapacity, snapshot);
+        }
+        AddressBook pagedAddressBook = AddressBook.createPaged(personStore, cacheCapacity);
+        if (config.isProgressiveStartup()) {
+            isAddressBookLoadedInBackground = true;
+            return pagedAddressBook;
+        }
+        pagedAddressBook.resetData(initAddressBook(storage, initialInsuranceCatalog));
+        return pagedAddressBook;
+    }
+
+    /**
+     * Returns the snapshot of the data file at {@code dataFilePath}, or null if there is no snapshot that is up to date
+     * with the file at {@code stampFilePath}, which the address book was last saved to.
+     */
+    private PersonSnapshotFile openSnapshot(Path dataFilePath, Path stampFilePath,
+            ReadOnlyInsuranceCatalog insuranceCatalog) {
+        Path snapshotFilePath = PersonSnapshotFile.getSnapshotFilePath(dataFilePath);
+        try {
+            Optional<PersonSnapshotFile> snapshot =
+                    PersonSnapshotFile.open(snapshotFilePath, stampFilePath, insuranceCatalog);
+            snapshot.ifPresent(s -> logger.info("Using snapshot file : " + snapshotFilePath));
+            return snapshot.orElse(null);
+        } catch (DataLoadingException e) {
+            logger.warning("Snapshot file at " + snapshotFilePath + " could not be loaded."
+                    + " Will load the data file instead. " + StringUtil.getDetails(e));
+            return null;
+        }
+    }
+
+    private void closeSnapshot(PersonSnapshotFile snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            snapshot.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close snapshot file " + StringUtil.getDetails(e));
         }
     }
 
@@ -191,6 +369,21 @@ public class MainApp extends Application {
         return initializedConfig;
     }
 
+    /**
+     * Returns the storage of the address book whose data file is {@code dataFilePath}, which keeps it in a snapshot and
+     * log, in segment files, or in the data file alone, as set in {@code config}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path dataFilePath) {
+        if (config.isJournaledAddressBook()) {
+            return new JournaledAddressBookStorage(dataFilePath, new LogCompactionScheduler(
+                    config.getMaxAddressBookLogSize(), config.getMaxAddressBookLogRecords()));
+        }
+        if (config.isSegmentedAddressBook()) {
+            return new SegmentedAddressBookStorage(dataFilePath, config.getAddressBookSegmentSize());
+        }
+        return new JsonAddressBookStorage(dataFilePath);
+    }
+
     /**
      * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
      * or a new {@code UserPrefs} with default configuration if errors occur when
@@ -227,16 +420,57 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (isAddressBookLoadedInBackground) {
+            logger.info("Loading the address book in the background");
+            logic.loadAddressBookInBackground(Math.max(1, config.getStartupBatchSize()), Platform::runLater);
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        boolean isAddressBookSaved = false;
         try {
             storage.saveUserPrefs(model.getUserPrefs());
-            storage.saveAddressBook(model.getAddressBook());
+            if (logic.isLoading()) {
+                logger.info("Not saving the address book, as it has not been fully loaded");
+            } else {
+                storage.saveAddressBook(model.getAddressBook());
+                isAddressBookSaved = true;
+            }
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+
+        if (personStore != null) {
+            if (isAddressBookSaved) {
+                saveSnapshot();
+            }
+            try {
+                personStore.close();
+            } catch (IOException e) {
+                logger.warning("Failed to delete segment file " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    /**
+     * Saves a snapshot of the address book next to the data file, stamped with the file it was just saved to, which is
+     * the manifest or log rather than the data file if the address book is saved to segments or a log, so the next
+     * start can skip loading the address book.
+     */
+    private void saveSnapshot() {
+        Path dataFilePath = storage.getAddressBookFilePath();
+        Path stampFilePath = storage.getAddressBookStampFilePath();
+        if (!Files.exists(stampFilePath)) {
+            logger.info("Not saving a snapshot, as " + stampFilePath + " has not been written");
+            return;
+        }
+        try {
+            PersonSnapshotFile.write(PersonSnapshotFile.getSnapshotFilePath(dataFilePath), model.getAddressBook(),
+                    stampFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save snapshot file " + StringUtil.getDetails(e));
+        }
     }
 }
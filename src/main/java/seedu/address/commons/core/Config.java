@@ -17,6 +17,15 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean pagedAddressBook = false;
+    private int personCacheSize = 10_000;
+    private boolean progressiveStartup = false;
+    private int startupBatchSize = 1_000;
+    private boolean segmentedAddressBook = false;
+    private int addressBookSegmentSize = 1_000;
+    private boolean journaledAddressBook = false;
+    private long maxAddressBookLogSize = 4L * 1024 * 1024;
+    private int maxAddressBookLogRecords = 10_000;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +43,95 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the persons of the address book are kept in a segment file next to the data file, with only
+     * the {@link #getPersonCacheSize() most recently read persons} held in memory.
+     */
+    public boolean isPagedAddressBook() {
+        return pagedAddressBook;
+    }
+
+    public void setPagedAddressBook(boolean pagedAddressBook) {
+        this.pagedAddressBook = pagedAddressBook;
+    }
+
+    public int getPersonCacheSize() {
+        return personCacheSize;
+    }
+
+    public void setPersonCacheSize(int personCacheSize) {
+        this.personCacheSize = personCacheSize;
+    }
+
+    /**
+     * Returns true if the main window is shown before the address book is loaded, and the persons are then loaded in
+     * the background in batches of {@link #getStartupBatchSize()} persons.
+     */
+    public boolean isProgressiveStartup() {
+        return progressiveStartup;
+    }
+
+    public void setProgressiveStartup(boolean progressiveStartup) {
+        this.progressiveStartup = progressiveStartup;
+    }
+
+    public int getStartupBatchSize() {
+        return startupBatchSize;
+    }
+
+    public void setStartupBatchSize(int startupBatchSize) {
+        this.startupBatchSize = startupBatchSize;
+    }
+
+    /**
+     * Returns true if the address book is saved to segment files of up to {@link #getAddressBookSegmentSize()}
+     * persons each, of which a save only rewrites those that have changed.
+     */
+    public boolean isSegmentedAddressBook() {
+        return segmentedAddressBook;
+    }
+
+    public void setSegmentedAddressBook(boolean segmentedAddressBook) {
+        this.segmentedAddressBook = segmentedAddressBook;
+    }
+
+    public int getAddressBookSegmentSize() {
+        return addressBookSegmentSize;
+    }
+
+    public void setAddressBookSegmentSize(int addressBookSegmentSize) {
+        this.addressBookSegmentSize = addressBookSegmentSize;
+    }
+
+    /**
+     * Returns true if each save of the address book appends its changes to a log, which is compacted into a snapshot
+     * in the background once it has more than {@link #getMaxAddressBookLogSize()} bytes or
+     * {@link #getMaxAddressBookLogRecords()} records.
+     */
+    public boolean isJournaledAddressBook() {
+        return journaledAddressBook;
+    }
+
+    public void setJournaledAddressBook(boolean journaledAddressBook) {
+        this.journaledAddressBook = journaledAddressBook;
+    }
+
+    public long getMaxAddressBookLogSize() {
+        return maxAddressBookLogSize;
+    }
+
+    public void setMaxAddressBookLogSize(long maxAddressBookLogSize) {
+        this.maxAddressBookLogSize = maxAddressBookLogSize;
+    }
+
+    public int getMaxAddressBookLogRecords() {
+        return maxAddressBookLogRecords;
+    }
+
+    public void setMaxAddressBookLogRecords(int maxAddressBookLogRecords) {
+        this.maxAddressBookLogRecords = maxAddressBookLogRecords;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +145,23 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && pagedAddressBook == otherConfig.pagedAddressBook
+                && personCacheSize == otherConfig.personCacheSize
+                && progressiveStartup == otherConfig.progressiveStartup
+                && startupBatchSize == otherConfig.startupBatchSize
+                && segmentedAddressBook == otherConfig.segmentedAddressBook
+                && addressBookSegmentSize == otherConfig.addressBookSegmentSize
+                && journaledAddressBook == otherConfig.journaledAddressBook
+                && maxAddressBookLogSize == otherConfig.maxAddressBookLogSize
+                && maxAddressBookLogRecords == otherConfig.maxAddressBookLogRecords;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, pagedAddressBook, personCacheSize, progressiveStartup,
+                startupBatchSize, segmentedAddressBook, addressBookSegmentSize, journaledAddressBook,
+                maxAddressBookLogSize, maxAddressBookLogRecords);
     }
 
     @Override
@@ -60,6 +169,15 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("pagedAddressBook", pagedAddressBook)
+                .add("personCacheSize", personCacheSize)
+                .add("progressiveStartup", progressiveStartup)
+                .add("startupBatchSize", startupBatchSize)
+                .add("segmentedAddressBook", segmentedAddressBook)
+                .add("addressBookSegmentSize", addressBookSegmentSize)
+                .add("journaledAddressBook", journaledAddressBook)
+                .add("maxAddressBookLogSize", maxAddressBookLogSize)
+                .add("maxAddressBookLogRecords", maxAddressBookLogRecords)
                 .toString();
     }
 
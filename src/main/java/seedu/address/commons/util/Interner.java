@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value class, so that equal values can share one instance.
+ * The pool only holds weak references, so a value is dropped from the pool once no person refers to it.
+ *
+ * @param <T> the type of the values, which must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    // Both the key and the value are weak, so the pool does not keep the canonical instance alive
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}.
+     * If there is none, {@code value} becomes the canonical instance and is returned.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the pool that have not been dropped yet.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +26,35 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns true if the command can be executed while the address book is still being loaded.
+     *
+     * @param commandText The command as entered by the user.
+     * @throws ParseException If an error occurs during parsing.
+     * @see seedu.address.logic.commands.Command#canExecuteWhileLoading()
+     */
+    boolean canExecuteWhileLoading(String commandText) throws ParseException;
+
+    /**
+     * Loads the persons of the address book in storage into the model on a background thread, in batches of
+     * {@code batchSize} persons. Each batch is added to the model by {@code uiExecutor}, which must run its tasks
+     * one at a time on the thread that executes commands.
+     * Until all persons have been loaded, only commands that {@link #canExecuteWhileLoading(String) can be executed
+     * while loading} are executed, and the address book is not saved.
+     */
+    void loadAddressBookInBackground(int batchSize, Executor uiExecutor);
+
+    /**
+     * Returns true if the address book is still being loaded.
+     */
+    boolean isLoading();
+
+    /**
+     * Adds a listener that is called on the thread that executes commands whenever more persons have been loaded,
+     * and when loading starts or ends.
+     */
+    void addLoadingListener(Runnable listener);
+
     /**
      * Returns the AddressBook.
      *
@@ -3,21 +3,34 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandRegistry;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyInsuranceCatalog;
 import seedu.address.model.insurance.InsurancePackage;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.SalvagedAddressBook;
 import seedu.address.storage.Storage;
 
 /**
@@ -29,19 +42,48 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_STILL_LOADING =
+            "The address book is still being loaded. Please try again once all clients have been loaded.";
+
+    /** The number of loaded batches that may wait to be added to the model before the loader waits for them. */
+    private static final int MAX_PENDING_BATCHES = 4;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final CommandRegistry commandRegistry;
     private final AddressBookParser addressBookParser;
 
+    /** True if the address book or insurance catalog may have changed since they were last saved. */
+    private boolean hasUnsavedChanges = true;
+
+    private boolean isLoading = false;
+    private volatile boolean isLoadingFailed = false;
+    private Executor loaderExecutor;
+    private final List<Runnable> loadingListeners = new ArrayList<>();
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, CommandRegistry.createDefault());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which executes the commands
+     * in {@code commandRegistry}.
+     */
+    public LogicManager(Model model, Storage storage, CommandRegistry commandRegistry) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.commandRegistry = commandRegistry;
+        addressBookParser = new AddressBookParser(commandRegistry);
+
+        model.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) change -> hasUnsavedChanges = true);
+        model.getInsuranceCatalog().getInsurancePackageList()
+                .addListener((ListChangeListener<InsurancePackage>) change -> hasUnsavedChanges = true);
     }
 
     @Override
@@ -50,11 +92,21 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (isLoading && !command.canExecuteWhileLoading()) {
+            throw new CommandException(MESSAGE_STILL_LOADING);
+        }
+        commandResult = commandRegistry.execute(command, model);
+
+        if (!hasUnsavedChanges || isLoading) {
+            // Commands such as list, find and sort only change what is displayed,
+            // and a partly loaded address book must not overwrite the data file
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
             storage.saveInsuranceCatalog(model.getInsuranceCatalog());
+            hasUnsavedChanges = false;
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -64,6 +116,162 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public boolean canExecuteWhileLoading(String commandText) throws ParseException {
+        return addressBookParser.parseCommand(commandText).canExecuteWhileLoading();
+    }
+
+    @Override
+    public void loadAddressBookInBackground(int batchSize, Executor uiExecutor) {
+        loadAddressBookInBackground(batchSize, uiExecutor, loadTask -> {
+            Thread loader = new Thread(loadTask, "address-book-loader");
+            loader.setDaemon(true);
+            loader.start();
+        });
+    }
+
+    /**
+     * Loads the address book as in {@link #loadAddressBookInBackground(int, Executor)}, reading the persons with
+     * {@code loaderExecutor}.
+     */
+    void loadAddressBookInBackground(int batchSize, Executor uiExecutor, Executor loaderExecutor) {
+        setLoading(true);
+        this.loaderExecutor = loaderExecutor;
+        loaderExecutor.execute(() -> loadAddressBook(batchSize, uiExecutor));
+    }
+
+    /**
+     * Reads the persons of the address book in batches on the calling thread, and adds each batch to the model with
+     * {@code uiExecutor}. At most {@value #MAX_PENDING_BATCHES} batches are read ahead of those added to the model.
+     */
+    private void loadAddressBook(int batchSize, Executor uiExecutor) {
+        Semaphore pendingBatches = new Semaphore(MAX_PENDING_BATCHES);
+        try {
+            boolean isFound = storage.readAddressBookInBatches(model.getInsuranceCatalog(), batchSize, batch -> {
+                if (isLoadingFailed) {
+                    throw new CancellationException();
+                }
+                pendingBatches.acquireUninterruptibly();
+                uiExecutor.execute(() -> {
+                    pendingBatches.release();
+                    addLoadedPersons(batch, uiExecutor);
+                });
+            });
+            uiExecutor.execute(() -> finishLoading(isFound));
+        } catch (CancellationException e) {
+            // The loaded persons were found to be invalid, and have been removed
+        } catch (DataLoadingException e) {
+            failLoading(e);
+            salvageAddressBook(uiExecutor);
+        }
+    }
+
+    private void addLoadedPersons(List<Person> persons, Executor uiExecutor) {
+        if (isLoadingFailed) {
+            return;
+        }
+        try {
+            model.addPersons(persons);
+            loadingListeners.forEach(Runnable::run);
+        } catch (DuplicatePersonException e) {
+            failLoading(e);
+            loaderExecutor.execute(() -> salvageAddressBook(uiExecutor));
+        }
+    }
+
+    private void finishLoading(boolean isFound) {
+        if (isLoadingFailed) {
+            return;
+        }
+        if (!isFound) {
+            logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                    + " populated with a sample AddressBook.");
+            model.setAddressBook(SampleDataUtil.getSampleAddressBook());
+        }
+        // The loaded address book is the same as the data file, unless the sample address book was used instead
+        hasUnsavedChanges = !isFound;
+        if (isFound) {
+            trackAddressBook();
+        }
+        setLoading(false);
+    }
+
+    /**
+     * Has the storage follow the changes to the loaded address book, so that the first save after a command only
+     * writes what the command changed.
+     */
+    private void trackAddressBook() {
+        try {
+            storage.trackAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.warning("Failed to track the changes to the address book. The next save will write it all. " + e);
+        }
+    }
+
+    /**
+     * Stops adding the persons being loaded to the model, as the data file cannot be loaded as a whole.
+     */
+    private void failLoading(Exception e) {
+        isLoadingFailed = true;
+        logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                + " Will be salvaging the persons in it. " + e);
+    }
+
+    /**
+     * Loads the persons of the data file that can be loaded on the calling thread, setting the others aside in a
+     * quarantine file as {@code MainApp} does, and then replaces the persons loaded so far with them with
+     * {@code uiExecutor}. An empty address book is used instead if the data file cannot be read at all.
+     */
+    private void salvageAddressBook(Executor uiExecutor) {
+        try {
+            Optional<SalvagedAddressBook> salvagedAddressBook =
+                    storage.salvageAddressBook(model.getInsuranceCatalog());
+            if (salvagedAddressBook.isPresent()) {
+                logger.warning("Salvaged " + salvagedAddressBook.get().getAddressBook().getPersonList().size()
+                        + " persons, quarantined " + salvagedAddressBook.get().getQuarantinedRecordCount()
+                        + " records" + salvagedAddressBook.get().getQuarantineFilePath()
+                                .map(path -> " in " + path).orElse(""));
+                uiExecutor.execute(() -> finishSalvage(salvagedAddressBook.get().getAddressBook(), true));
+                return;
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be salvaged: " + e);
+        }
+        logger.warning("Will be starting with an empty AddressBook.");
+        uiExecutor.execute(() -> finishSalvage(new AddressBook(), false));
+    }
+
+    /**
+     * Replaces the persons loaded so far with {@code addressBook}, which is only saved once a command changes it, so
+     * that the data file is left as it is until then.
+     *
+     * @param isSalvaged whether {@code addressBook} holds the salvaged persons of the data file, rather than being
+     *     empty as the data file could not be read.
+     */
+    private void finishSalvage(ReadOnlyAddressBook addressBook, boolean isSalvaged) {
+        model.setAddressBook(addressBook);
+        hasUnsavedChanges = false;
+        if (isSalvaged) {
+            trackAddressBook();
+        }
+        setLoading(false);
+    }
+
+    private void setLoading(boolean isLoading) {
+        this.isLoading = isLoading;
+        loadingListeners.forEach(Runnable::run);
+    }
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    @Override
+    public void addLoadingListener(Runnable listener) {
+        loadingListeners.add(listener);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -26,7 +26,7 @@ public class Messages {
             "The insurance package specified does not exist in the address book.";
     public static final String MESSAGE_LIST_OF_COMMANDS =
             "\nList of all existing commands: [help] [add] [list] [edit] [find] [view] [filter] [sort] [export] "
-            + "[delete] [addp] [editp] [deletep] [listp] [clear] [exit]";
+            + "[delete] [addp] [editp] [deletep] [listp] [run] [clear] [exit]";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
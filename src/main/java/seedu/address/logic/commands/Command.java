@@ -17,4 +17,21 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command can be executed before the address book has been fully loaded.
+     * Such a command does not change the address book or insurance catalog, and only needs the persons loaded so far,
+     * e.g. because it only changes which persons are displayed.
+     */
+    public boolean canExecuteWhileLoading() {
+        return false;
+    }
+
+    /**
+     * Returns true if the command can be run from a script by the {@code run} command, which only shows the result of
+     * the script as a whole. A command whose result exits the app or opens a window cannot.
+     */
+    public boolean canRunInScript() {
+        return true;
+    }
+
 }
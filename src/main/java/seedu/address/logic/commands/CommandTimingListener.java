@@ -0,0 +1,17 @@
+package seedu.address.logic.commands;
+
+/**
+ * Is told how long each command took to be parsed and executed, e.g. to collect metrics on the commands.
+ */
+public interface CommandTimingListener {
+
+    /**
+     * Called when {@code command} has been parsed from user input, which took {@code elapsedNanos} nanoseconds.
+     */
+    void commandParsed(Command command, long elapsedNanos);
+
+    /**
+     * Called when {@code command} has been executed, successfully or not, which took {@code elapsedNanos} nanoseconds.
+     */
+    void commandExecuted(Command command, long elapsedNanos);
+}
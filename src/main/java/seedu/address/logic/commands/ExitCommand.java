@@ -18,4 +18,14 @@ public class ExitCommand extends Command {
                 false, true);
     }
 
+    @Override
+    public boolean canExecuteWhileLoading() {
+        return true;
+    }
+
+    @Override
+    public boolean canRunInScript() {
+        return false;
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_BIRTH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPENDENTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
@@ -30,6 +31,8 @@ public class FilterCommand extends Command {
             + "By default, all fields use a case-insensitive 'contains' search (e.g., n/jo, s/50).\n"
             + "For Salary (s/) and Dependents (dep/), you can also use operators (<, <=, >, >=, =) "
             + "for strict numerical comparison.\n"
+            + "For Date of birth (dob/), you can use the same operators with a date (e.g., dob/>=1980-01-01), "
+            + "and for Age (age/), a number, a range or an operator (e.g., age/30, age/30-45, age/>=30).\n"
             + "You must provide at least one prefix (e.g., n/, s/, t/).\n"
             + "Parameters: "
             + "[" + PREFIX_NAME + "NAME] "
@@ -37,6 +40,7 @@ public class FilterCommand extends Command {
             + "[" + PREFIX_EMAIL + "EMAIL] "
             + "[" + PREFIX_ADDRESS + "ADDRESS] "
             + "[" + PREFIX_DATE_OF_BIRTH + "DATE_OF_BIRTH] "
+            + "[" + PREFIX_AGE + "AGE] "
             + "[" + PREFIX_MARITAL_STATUS + "MARITAL_STATUS] "
             + "[" + PREFIX_SALARY + "SALARY] "
             + "[" + PREFIX_DEPENDENTS + "NUMBER_OF_DEPENDENTS] "
@@ -78,6 +82,11 @@ public class FilterCommand extends Command {
         return new CommandResult(String.format(message, numPersons, this.args));
     }
 
+    @Override
+    public boolean canExecuteWhileLoading() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -34,6 +34,11 @@ public class FindCommand extends Command {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public boolean canExecuteWhileLoading() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
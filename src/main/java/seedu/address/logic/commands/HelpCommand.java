@@ -20,4 +20,14 @@ public class HelpCommand extends Command {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, new ViewData(false, null),
                 false, false);
     }
+
+    @Override
+    public boolean canExecuteWhileLoading() {
+        return true;
+    }
+
+    @Override
+    public boolean canRunInScript() {
+        return false;
+    }
 }
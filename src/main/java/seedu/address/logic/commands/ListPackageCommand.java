@@ -20,4 +20,14 @@ public class ListPackageCommand extends Command {
         return new CommandResult(SHOWING_PACKAGE_MESSAGE, false, new ViewData(false, null),
                 true, false);
     }
+
+    @Override
+    public boolean canExecuteWhileLoading() {
+        return true;
+    }
+
+    @Override
+    public boolean canRunInScript() {
+        return false;
+    }
 }
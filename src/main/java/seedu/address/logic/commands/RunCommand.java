@@ -0,0 +1,183 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.model.AddressBook;
+import seedu.address.model.InsuranceCatalog;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands of a script file as one batch, so that the displayed person list changes, and the address book is
+ * saved, only once.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String ATOMIC_FLAG = "--atomic";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line. "
+            + "Blank lines and lines starting with # are skipped. "
+            + "A command that fails is skipped, unless " + ATOMIC_FLAG + " is given, "
+            + "in which case no changes are made if any command fails.\n"
+            + "Parameters: [" + ATOMIC_FLAG + "] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + ATOMIC_FLAG + " ~/Downloads/new-clients.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s.";
+    public static final String MESSAGE_COMMANDS_FAILED = "Ran %1$d commands from %2$s, of which %3$d failed and "
+            + "were skipped:\n%4$s";
+    public static final String MESSAGE_ROLLED_BACK = "No changes were made, as a command from %1$s failed:\n%2$s";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path filePath;
+    private final SortedMap<Integer, Command> commands;
+    private final boolean isAtomic;
+    private final CommandRegistry commandRegistry;
+
+    /**
+     * Creates a RunCommand to run {@code commands}, keyed by their line numbers in the script at {@code filePath},
+     * with {@code commandRegistry}, so that its timing listeners are told about each of them.
+     *
+     * @param isAtomic whether to make no changes if any command fails, rather than skip the commands that fail.
+     */
+    public RunCommand(Path filePath, Map<Integer, Command> commands, boolean isAtomic,
+            CommandRegistry commandRegistry) {
+        requireAllNonNull(filePath, commands, commandRegistry);
+        this.filePath = filePath;
+        this.commands = new TreeMap<>(commands);
+        this.isAtomic = isAtomic;
+        this.commandRegistry = commandRegistry;
+    }
+
+    /**
+     * Runs the commands on {@code model} in order, as if they had been entered one by one, so that an index refers to
+     * the list of persons as it is displayed when the command runs. The changes to the displayed list are fired as one
+     * change once all the commands have run, so that the UI refreshes once.
+     * If the script is atomic, the address book and insurance catalog are copied before the commands run, and are
+     * restored from the copies if a command fails, but only if the commands before it changed them.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Running " + commands.size() + " commands from " + filePath);
+
+        model.beginPersonListBatch();
+        try {
+            if (isAtomic) {
+                executeAtomically(model);
+                return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), filePath));
+            }
+            return executeSkippingFailures(model);
+        } finally {
+            model.endPersonListBatch();
+        }
+    }
+
+    /**
+     * Runs the commands on {@code model}, skipping those that fail.
+     */
+    private CommandResult executeSkippingFailures(Model model) {
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<Integer, Command> command : commands.entrySet()) {
+            try {
+                commandRegistry.execute(command.getValue(), model);
+            } catch (CommandException e) {
+                failures.add(String.format(MESSAGE_LINE_ERROR, command.getKey(), e.getMessage()));
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_COMMANDS_FAILED, commands.size(), filePath,
+                    failures.size(), String.join("\n", failures)));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), filePath));
+    }
+
+    /**
+     * Runs the commands on {@code model}, and restores its address book and insurance catalog if any command fails.
+     * Copying the address book shares its persons, so a paged address book is not read into memory.
+     */
+    private void executeAtomically(Model model) throws CommandException {
+        AddressBook addressBookSnapshot = new AddressBook(model.getAddressBook());
+        InsuranceCatalog insuranceCatalogSnapshot = new InsuranceCatalog(model.getInsuranceCatalog());
+        ChangeTracker personChanges = new ChangeTracker();
+        ChangeTracker insurancePackageChanges = new ChangeTracker();
+        model.getAddressBook().getPersonList().addListener(personChanges);
+        model.getInsuranceCatalog().getInsurancePackageList().addListener(insurancePackageChanges);
+
+        try {
+            for (Map.Entry<Integer, Command> command : commands.entrySet()) {
+                try {
+                    commandRegistry.execute(command.getValue(), model);
+                } catch (CommandException e) {
+                    String failure = String.format(MESSAGE_LINE_ERROR, command.getKey(), e.getMessage());
+                    if (personChanges.hasChanged) {
+                        model.setAddressBook(addressBookSnapshot);
+                    }
+                    if (insurancePackageChanges.hasChanged) {
+                        // Also restores the valid insurance package names
+                        model.setInsuranceCatalog(insuranceCatalogSnapshot);
+                    }
+                    logger.info("Rolled back the commands from " + filePath + ". " + failure);
+                    throw new CommandException(String.format(MESSAGE_ROLLED_BACK, filePath, failure), e);
+                }
+            }
+        } finally {
+            model.getAddressBook().getPersonList().removeListener(personChanges);
+            model.getInsuranceCatalog().getInsurancePackageList().removeListener(insurancePackageChanges);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath)
+                && commands.equals(otherRunCommand.commands)
+                && isAtomic == otherRunCommand.isAtomic;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("commands", commands)
+                .add("isAtomic", isAtomic)
+                .toString();
+    }
+
+    /**
+     * Records whether a list has changed since the listener was added.
+     */
+    private static class ChangeTracker implements ListChangeListener<Object> {
+        private boolean hasChanged;
+
+        @Override
+        public void onChanged(Change<?> change) {
+            hasChanged = true;
+        }
+    }
+}
@@ -3,35 +3,33 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.Comparator;
-import java.util.function.Function;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.sort.PersonSorter;
+import seedu.address.logic.commands.sort.SortCriterion;
 import seedu.address.model.Model;
-import seedu.address.model.person.DateOfBirth;
-import seedu.address.model.person.Dependents;
-import seedu.address.model.person.MaritalStatus;
-import seedu.address.model.person.Occupation;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.Salary;
 
 /**
- * Sorts all persons in the address book by specified field and direction.
+ * Sorts all persons in the address book by one or more specified fields and directions.
  */
 public class SortCommand extends Command {
 
     public static final String COMMAND_WORD = "sort";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Sorts the list of persons by the specified field in specified order.\n"
-            + "Parameters: FIELD [DIRECTION]\n"
+            + ": Sorts the list of persons by the specified field in specified order. "
+            + "Further fields, separated by commas, are used to order persons that are equal in the previous fields.\n"
+            + "Parameters: FIELD [DIRECTION][, FIELD [DIRECTION]]...\n"
             + "FIELD: name, phone, email, address, salary, dateofbirth, "
             + "maritalstatus, occupation, dependents, insurancepackage\n"
             + "DIRECTION: ascending, descending\n"
-            + "Example: " + COMMAND_WORD + " name descending";
+            + "Example: " + COMMAND_WORD + " name descending\n"
+            + "Example: " + COMMAND_WORD + " insurancepackage, salary descending, name";
     public static final String MESSAGE_SUCCESS = "Sorted all persons by ";
 
-    private final SortField sortField;
-    private final SortDirection sortDirection;
+    private final List<SortCriterion> sortCriteria;
 
     /**
      * Creates a SortCommand to sort persons by the specified field and direction
@@ -40,165 +38,38 @@ public class SortCommand extends Command {
      * @param sortDirection of the selected sort criteria
      */
     public SortCommand(SortField sortField, SortDirection sortDirection) {
-        this.sortField = sortField;
-        this.sortDirection = sortDirection;
-    }
-
-
-    @Override
-    public CommandResult execute(Model model) {
-        requireNonNull(model);
-
-        Comparator<Person> comparator = createComparator(sortField, sortDirection);
-        model.sortPersonList(comparator);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        String directionText = sortDirection.toString().toLowerCase();
-        String message = MESSAGE_SUCCESS + sortField + " in " + directionText + " order";
-        return new CommandResult(message);
-    }
-
-    /**
-     * Creates a comparator for sorting persons based on a particular field and direction
-     * and returns the comparator
-     *
-     * @param sortField the field is sorted by NAME, PHONE, EMAIL, ADDRESS, SALARY,
-     *                  DATEOFBIRTH, MARITALSTATUS, OCCUPATION, DEPENDENTS, INSURANCEPACKAGE
-     * @param sortDirection the direction is sorted by ASCENDING OR DESCENDING
-     * @return comparator that compares two persons based on the provided field and direction
-     */
-    private static Comparator<Person> createComparator(SortField sortField, SortDirection sortDirection) {
-        Comparator<Person> baseComparator = createBaseComparator(sortField);
-        Comparator<Person> directedComparator = applyDirection(baseComparator, sortDirection);
-        return handleUnspecifiedValues(directedComparator, sortField);
+        this(List.of(new SortCriterion(sortField, sortDirection)));
     }
 
     /**
-     * Creates a comparator for sorting persons based on a particular field
-     * and returns the comparator
+     * Creates a SortCommand to sort persons by the specified criteria, in decreasing order of priority
      *
-     * @param sortField the field is sorted by NAME, PHONE, EMAIL, ADDRESS, SALARY,
-     *                  DATEOFBIRTH, MARITALSTATUS, OCCUPATION, DEPENDENTS, INSURANCEPACKAGE
-     * @return base comparator that compares two persons based on the provided field and direction
+     * @param sortCriteria non-empty list of the selected sort criteria
      */
-    private static Comparator<Person> createBaseComparator(SortField sortField) {
-        switch (sortField) {
-        case NAME:
-            return createStringComparator(person -> person.getName().fullName);
-        case PHONE:
-            return createStringComparator(person -> person.getPhone().value);
-        case EMAIL:
-            return createStringComparator(person -> person.getEmail().value);
-        case ADDRESS:
-            return createStringComparator(person -> person.getAddress().value);
-        case SALARY:
-            return createNumericComparator(person -> Double.parseDouble(person.getSalary().getValue()));
-        case DATEOFBIRTH:
-            return createStringComparator(person -> person.getDateOfBirth().getValue());
-        case MARITALSTATUS:
-            return createStringComparator(person -> person.getMaritalStatus().getValue());
-        case OCCUPATION:
-            return createStringComparator(person -> person.getOccupation().getValue());
-        case DEPENDENTS:
-            return Comparator.comparingInt(person -> person.getDependents().getValue());
-        case INSURANCEPACKAGE:
-            return createStringComparator(person -> person.getInsurancePackage().getPackageName());
-        default:
-            throw new AssertionError("Invalid sort field: " + sortField);
-        }
+    public SortCommand(List<SortCriterion> sortCriteria) {
+        requireNonNull(sortCriteria);
+        this.sortCriteria = List.copyOf(sortCriteria);
     }
 
-    /**
-     * Creates a string comparator using the provided mapper function.
-     *
-     * @param mapper function that gets a string value from a Person for comparison
-     * @return string comparator that compares two persons based on the provided field and direction
-     */
-    private static Comparator<Person> createStringComparator(Function<Person, String> mapper) {
-        return (person1, person2) -> mapper.apply(person1).compareToIgnoreCase(mapper.apply(person2));
-    }
 
-    /**
-     * Creates a numeric comparator using the provided mapper function.
-     *
-     * @param mapper function that gets a double value from a Person for comparison
-     * @return numeric comparator that compares two persons based on the provided field and direction
-     */
-    private static Comparator<Person> createNumericComparator(Function<Person, Double> mapper) {
-        return Comparator.comparing(mapper);
-    }
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
 
-    /**
-     * Applies the sort direction to the base comparator.
-     *
-     * @param baseComparator base comparator that compares two persons based on provided field
-     * @param sortDirection the direction is sorted by ASCENDING OR DESCENDING
-     * @return comparator with the specified direction applied
-     */
-    private static Comparator<Person> applyDirection(Comparator<Person> baseComparator, SortDirection sortDirection) {
-        if (sortDirection == SortDirection.DESCENDING) {
-            return baseComparator.reversed();
-        }
-        return baseComparator;
-    }
+        Locale sortLocale = Locale.forLanguageTag(model.getUserPrefs().getSortLocale());
+        model.sortPersonList(new PersonSorter(sortCriteria, sortLocale));
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
-    /**
-     * Wraps the comparator to handle unspecified values by placing them at the bottom.
-     *
-     * @param directedComparator direction comparator that compares two persons based on provided field and direction
-     * @param sortField the field is sorted by NAME, PHONE, EMAIL, ADDRESS, SALARY,
-     *                       DATEOFBIRTH, MARITALSTATUS, OCCUPATION, DEPENDENTS, INSURANCEPACKAGE
-     * @return comparator that accounts for Unspecified or -1 values
-     */
-    private static Comparator<Person> handleUnspecifiedValues(Comparator<Person> directedComparator,
-                                                              SortField sortField) {
-        return (p1, p2) -> {
-            boolean p1Unspecified = isPersonUnspecified(p1, sortField);
-            boolean p2Unspecified = isPersonUnspecified(p2, sortField);
-
-            if (p1Unspecified && p2Unspecified) {
-                // Both are "Unspecified" or -1
-                return 0;
-            } else if (p1Unspecified) {
-                // p1 is "Unspecified" or -1, sort it last
-                return 1;
-            } else if (p2Unspecified) {
-                // p2 is "Unspecified" or -1, sort it last
-                return -1;
-            } else {
-                // Neither is "Unspecified" or -1
-                return directedComparator.compare(p1, p2);
-            }
-        };
+        String message = MESSAGE_SUCCESS + sortCriteria.stream()
+                .map(criterion -> criterion.getSortField() + " in "
+                        + criterion.getSortDirection().toString().toLowerCase() + " order")
+                .collect(Collectors.joining(", then "));
+        return new CommandResult(message);
     }
 
-    /**
-     * Helper method to check if a Person's sorted field is "Unspecified".
-     *
-     * @param person The person to check.
-     * @param sortField The field being sorted.
-     * @return true if the person's value for that field is "Unspecified" or -1, false otherwise.
-     */
-    private static boolean isPersonUnspecified(Person person, SortField sortField) {
-        switch(sortField) {
-        case SALARY:
-            return person.getSalary().getValue().equals(Salary.UNSPECIFIED_VALUE);
-        case DATEOFBIRTH:
-            return person.getDateOfBirth().getValue().equals(DateOfBirth.UNSPECIFIED_VALUE);
-        case MARITALSTATUS:
-            return person.getMaritalStatus().getValue().equals(MaritalStatus.UNSPECIFIED_VALUE);
-        case OCCUPATION:
-            return person.getOccupation().getValue().equals(Occupation.UNSPECIFIED_VALUE);
-        case DEPENDENTS:
-            return person.getDependents().getValue() == Dependents.UNSPECIFIED_VALUE;
-        case NAME:
-        case PHONE:
-        case EMAIL:
-        case ADDRESS:
-        case INSURANCEPACKAGE:
-        default:
-            return false;
-        }
+    @Override
+    public boolean canExecuteWhileLoading() {
+        return true;
     }
 
     @Override
@@ -212,8 +83,7 @@ public class SortCommand extends Command {
         }
 
         SortCommand secondSortCommand = (SortCommand) object;
-        return sortField.equals(secondSortCommand.sortField)
-                && sortDirection.equals(secondSortCommand.sortDirection);
+        return sortCriteria.equals(secondSortCommand.sortCriteria);
     }
 
     /**
@@ -233,8 +103,7 @@ public class SortCommand extends Command {
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("sortField", sortField)
-                .add("sortDirection", sortDirection)
+                .add("sortCriteria", sortCriteria)
                 .toString();
     }
 }
@@ -74,6 +74,16 @@ public class ViewCommand extends Command {
         }
     }
 
+    @Override
+    public boolean canExecuteWhileLoading() {
+        return true;
+    }
+
+    @Override
+    public boolean canRunInScript() {
+        return false;
+    }
+
     /**
      * Execute the command based on the input index
      *
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands.sort;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the {@code CollationKey}s of the most recently used strings for one collator, so that sorting the same
+ * persons again does not recompute the keys of their names and addresses.
+ * The cache holds at most a fixed number of keys, evicting the least recently used key first, and is safe to use from
+ * multiple threads.
+ */
+class CollationKeyCache {
+
+    private final Collator collator;
+    private final Map<String, CollationKey> keys;
+
+    /**
+     * Creates a cache of up to {@code capacity} keys computed by {@code collator}, which must not be modified after.
+     */
+    CollationKeyCache(Collator collator, int capacity) {
+        requireNonNull(collator);
+        checkArgument(capacity > 0, "The capacity must be positive.");
+        this.collator = collator;
+        this.keys = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CollationKey> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the collation key of {@code value}, computing it only if it is not cached.
+     */
+    synchronized CollationKey get(String value) {
+        requireNonNull(value);
+        CollationKey key = keys.get(value);
+        if (key == null) {
+            key = collator.getCollationKey(value);
+            keys.put(value, key);
+        }
+        return key;
+    }
+
+    /**
+     * Returns the number of cached keys.
+     */
+    synchronized int size() {
+        return keys.size();
+    }
+}
@@ -0,0 +1,579 @@
+package seedu.address.logic.commands.sort;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.SortCommand.SortDirection;
+import seedu.address.logic.commands.SortCommand.SortField;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Dependents;
+import seedu.address.model.person.MaritalStatus;
+import seedu.address.model.person.MaritalStatusEnum;
+import seedu.address.model.person.Occupation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.Salary;
+
+/**
+ * Sorts persons by an ordered list of {@code SortCriterion}: persons are sorted by the first criterion, persons that
+ * are equal by the first criterion are sorted by the second criterion, and so on.
+ * Sorting is done in three steps (decorate-sort-undecorate):<br>
+ * 1. Every criterion is compiled into a column of non-negative {@code long} keys, one per person, with the sort
+ * direction already applied and "Unspecified" mapped to the largest key. Salary (in cents), date of birth (as an epoch
+ * day) and number of dependents are used as integer keys directly. Other fields are replaced by the rank of their
+ * value among the distinct values of the field.<br>
+ * 2. If the keys of all columns fit into 63 bits together, they are packed into one composite key per person and
+ * sorted with a single {@link RadixSort}. Otherwise, the persons are sorted by comparing their columns.<br>
+ * 3. The sorted positions are mapped back to the persons in their new order.<br>
+ * If the {@code PersonColumns} of the persons are given, the integer keys, marital statuses and insurance packages are
+ * read from the columns, and marital statuses and insurance packages are ranked by their codes rather than by
+ * hashing the value of every person.<br>
+ * Names and addresses are compared by the rules of a locale, using collation keys that are cached per locale, up to
+ * a bound, so that repeated sorts do not recompute them.
+ * Other text fields are compared by Unicode value, ignoring case.
+ * Persons whose sorted field is "Unspecified" are always placed last, regardless of direction.
+ * The sort is stable: persons with equal keys keep their relative order.
+ * As a {@code Comparator}, it compares two persons in the same order without the stable tie-break,
+ * which allows a single person to be inserted into an already sorted list.
+ */
+public class PersonSorter implements PersonOrder {
+
+    /** Lists larger than this are sorted with {@link Arrays#parallelSort}. */
+    public static final int PARALLEL_SORT_THRESHOLD = 10_000;
+
+    public static final String MESSAGE_NO_CRITERIA = "At least one sort criterion must be given.";
+    public static final String MESSAGE_COLUMNS_SIZE_MISMATCH = "The columns must hold one row per person.";
+
+    /** Composite keys have to stay non-negative, so they can hold at most 63 bits. */
+    private static final int MAX_COMPOSITE_KEY_BITS = 63;
+
+    /** The integer key of "Unspecified" values, before the keys of a column are offset. */
+    private static final long UNSPECIFIED_INTEGER_KEY = Long.MIN_VALUE;
+
+    private static final MaritalStatusEnum[] MARITAL_STATUSES = MaritalStatusEnum.values();
+
+    /**
+     * The most collation keys cached for each locale, enough for the names and addresses of about a hundred thousand
+     * persons.
+     */
+    private static final int MAX_CACHED_COLLATION_KEYS = 1 << 18;
+
+    /**
+     * Collation key caches shared by all sorters of the same locale, so that the keys computed for one sort are
+     * reused by the next.
+     */
+    private static final Map<Locale, CollationKeyCache> COLLATION_KEY_CACHES = new ConcurrentHashMap<>();
+
+    private final List<SortCriterion> criteria;
+    private final Locale collationLocale;
+    private final CollationKeyCache collationKeys;
+
+    /**
+     * Creates a {@code PersonSorter} that sorts by the given field and direction.
+     */
+    public PersonSorter(SortField sortField, SortDirection sortDirection) {
+        this(List.of(new SortCriterion(sortField, sortDirection)));
+    }
+
+    /**
+     * Creates a {@code PersonSorter} that sorts by {@code criteria}, in decreasing order of priority.
+     * Names and addresses are compared by the rules of the default sort locale.
+     * @throws IllegalArgumentException if {@code criteria} is empty.
+     */
+    public PersonSorter(List<SortCriterion> criteria) {
+        this(criteria, Locale.forLanguageTag(UserPrefs.DEFAULT_SORT_LOCALE));
+    }
+
+    /**
+     * Creates a {@code PersonSorter} that sorts by {@code criteria}, in decreasing order of priority,
+     * comparing names and addresses by the rules of {@code collationLocale}.
+     * @throws IllegalArgumentException if {@code criteria} is empty.
+     */
+    public PersonSorter(List<SortCriterion> criteria, Locale collationLocale) {
+        requireAllNonNull(criteria, collationLocale);
+        checkArgument(!criteria.isEmpty(), MESSAGE_NO_CRITERIA);
+        this.criteria = List.copyOf(criteria);
+        this.collationLocale = collationLocale;
+        this.collationKeys = COLLATION_KEY_CACHES.computeIfAbsent(collationLocale, locale ->
+                new CollationKeyCache(createCollator(locale), MAX_CACHED_COLLATION_KEYS));
+    }
+
+    /**
+     * Creates a collator for {@code locale} that ignores case, but not accents,
+     * and treats composed and decomposed accented characters as equal.
+     */
+    private static Collator createCollator(Locale locale) {
+        Collator collator = Collator.getInstance(locale);
+        collator.setStrength(Collator.SECONDARY);
+        collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        return collator;
+    }
+
+    /**
+     * Returns a new list containing {@code persons} in sorted order.
+     * {@code persons} is not modified.
+     */
+    public List<Person> sort(List<Person> persons) {
+        requireNonNull(persons);
+        return toSortedList(persons, sortedOrder(persons, null));
+    }
+
+    /**
+     * Returns a new list containing {@code persons} in sorted order, reading their numeric and categorical fields from
+     * {@code columns}, which must hold the fields of {@code persons} in the same order.
+     * {@code persons} is not modified.
+     * @throws IllegalArgumentException if {@code columns} does not have one row per person.
+     */
+    public List<Person> sort(List<Person> persons, PersonColumns columns) {
+        return toSortedList(persons, sortedPositions(persons, columns));
+    }
+
+    /**
+     * Returns the positions of {@code persons} in sorted order, reading their numeric and categorical fields from
+     * {@code columns}, which must hold the fields of {@code persons} in the same order.
+     * @throws IllegalArgumentException if {@code columns} does not have one row per person.
+     */
+    @Override
+    public int[] sortedPositions(List<Person> persons, PersonColumns columns) {
+        requireAllNonNull(persons, columns);
+        checkArgument(columns.size() == persons.size(), MESSAGE_COLUMNS_SIZE_MISMATCH);
+        return sortedOrder(persons, columns);
+    }
+
+    private static List<Person> toSortedList(List<Person> persons, int[] order) {
+        List<Person> sortedPersons = new ArrayList<>(order.length);
+        for (int index : order) {
+            sortedPersons.add(persons.get(index));
+        }
+        return sortedPersons;
+    }
+
+    /**
+     * Returns the positions of {@code persons} in sorted order.
+     *
+     * @param personColumns The columns of {@code persons}, or null to read every field from the persons.
+     */
+    int[] sortedOrder(List<Person> persons, PersonColumns personColumns) {
+        long[][] columns = new long[criteria.size()][];
+        int[] columnBits = new int[criteria.size()];
+        int totalBits = 0;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = createKeyColumn(criteria.get(i), persons, personColumns);
+            columnBits[i] = 64 - Long.numberOfLeadingZeros(Arrays.stream(columns[i]).max().orElse(0));
+            totalBits += columnBits[i];
+        }
+
+        if (totalBits <= MAX_COMPOSITE_KEY_BITS) {
+            return RadixSort.stableOrder(packColumns(columns, columnBits, persons.size()));
+        }
+        return lexicographicOrder(columns, persons.size());
+    }
+
+    /**
+     * Packs the keys of every person into one composite key, with the first column in the most significant bits.
+     */
+    private static long[] packColumns(long[][] columns, int[] columnBits, int size) {
+        long[] compositeKeys = new long[size];
+        for (int i = 0; i < columns.length; i++) {
+            long[] column = columns[i];
+            int bits = columnBits[i];
+            for (int j = 0; j < size; j++) {
+                compositeKeys[j] = (compositeKeys[j] << bits) | column[j];
+            }
+        }
+        return compositeKeys;
+    }
+
+    /**
+     * Returns the positions of the persons in the lexicographic order of their keys in {@code columns}.
+     * Used when the keys are too wide to be packed into a single composite key.
+     */
+    private static int[] lexicographicOrder(long[][] columns, int size) {
+        Integer[] indexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+
+        Comparator<Integer> columnComparator = (index, otherIndex) -> {
+            for (long[] column : columns) {
+                int result = Long.compare(column[index], column[otherIndex]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(index, otherIndex);
+        };
+        if (size > PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(indexes, columnComparator);
+        } else {
+            Arrays.sort(indexes, columnComparator);
+        }
+        return Arrays.stream(indexes).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Compiles {@code criterion} into one non-negative key per person, such that sorting the persons by ascending key
+     * sorts them by {@code criterion}. "Unspecified" values get the largest key.
+     */
+    private long[] createKeyColumn(SortCriterion criterion, List<Person> persons, PersonColumns personColumns) {
+        SortField sortField = criterion.getSortField();
+        boolean isDescending = criterion.getSortDirection() == SortDirection.DESCENDING;
+        if (hasIntegerKey(sortField)) {
+            long[] keys = personColumns == null
+                    ? readIntegerKeys(sortField, persons)
+                    : readIntegerKeys(sortField, personColumns);
+            return createIntegerKeyColumn(keys, isDescending);
+        }
+        if (personColumns != null && sortField == SortField.MARITALSTATUS) {
+            return createMaritalStatusKeyColumn(personColumns, isDescending);
+        }
+        if (personColumns != null && sortField == SortField.INSURANCEPACKAGE) {
+            return createInsurancePackageKeyColumn(personColumns, isDescending);
+        }
+        return createRankKeyColumn(sortField, isDescending, persons);
+    }
+
+    /**
+     * Returns the integer keys of {@code sortField} of {@code persons}, with {@code UNSPECIFIED_INTEGER_KEY} for
+     * "Unspecified" values.
+     */
+    private static long[] readIntegerKeys(SortField sortField, List<Person> persons) {
+        long[] keys = new long[persons.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Person person = persons.get(i);
+            keys[i] = hasUnspecifiedKey(sortField, person) ? UNSPECIFIED_INTEGER_KEY : getIntegerKey(sortField, person);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the integer keys of {@code sortField} in {@code columns}, with {@code UNSPECIFIED_INTEGER_KEY} for
+     * "Unspecified" values.
+     */
+    private static long[] readIntegerKeys(SortField sortField, PersonColumns columns) {
+        long[] keys = new long[columns.size()];
+        switch (sortField) {
+        case SALARY:
+            for (int i = 0; i < keys.length; i++) {
+                long cents = columns.getSalaryCents(i);
+                keys[i] = cents == Salary.UNSPECIFIED_CENTS ? UNSPECIFIED_INTEGER_KEY : cents;
+            }
+            break;
+        case DATEOFBIRTH:
+            for (int i = 0; i < keys.length; i++) {
+                int epochDay = columns.getDateOfBirthEpochDay(i);
+                keys[i] = epochDay == DateOfBirth.UNSPECIFIED_EPOCH_DAY ? UNSPECIFIED_INTEGER_KEY : epochDay;
+            }
+            break;
+        case DEPENDENTS:
+            for (int i = 0; i < keys.length; i++) {
+                int dependents = columns.getDependents(i);
+                keys[i] = dependents == Dependents.UNSPECIFIED_VALUE ? UNSPECIFIED_INTEGER_KEY : dependents;
+            }
+            break;
+        default:
+            throw new AssertionError("Not an integer sort field: " + sortField);
+        }
+        return keys;
+    }
+
+    /**
+     * Turns {@code keys} into a key column by offsetting every integer key by the smallest (or, in descending order,
+     * largest) integer key. Integer keys are bounded well within a {@code long}, so their range cannot overflow.
+     */
+    private static long[] createIntegerKeyColumn(long[] keys, boolean isDescending) {
+        long minKey = Long.MAX_VALUE;
+        long maxKey = Long.MIN_VALUE;
+        for (long key : keys) {
+            if (key != UNSPECIFIED_INTEGER_KEY) {
+                minKey = Math.min(minKey, key);
+                maxKey = Math.max(maxKey, key);
+            }
+        }
+        long unspecifiedKey = minKey > maxKey ? 0 : maxKey - minKey + 1;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == UNSPECIFIED_INTEGER_KEY) {
+                keys[i] = unspecifiedKey;
+            } else {
+                keys[i] = isDescending ? maxKey - keys[i] : keys[i] - minKey;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns a key column that ranks the marital status in every row of {@code columns}.
+     */
+    private static long[] createMaritalStatusKeyColumn(PersonColumns columns, boolean isDescending) {
+        int[] codes = new int[columns.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = columns.getMaritalStatus(i).ordinal();
+        }
+        String[] codeKeys = new String[MARITAL_STATUSES.length];
+        for (MaritalStatusEnum maritalStatus : MARITAL_STATUSES) {
+            if (maritalStatus != MaritalStatusEnum.UNSPECIFIED) {
+                codeKeys[maritalStatus.ordinal()] = foldCase(maritalStatus.toString());
+            }
+        }
+        return createCodeRankKeyColumn(codes, codeKeys, isDescending);
+    }
+
+    /**
+     * Returns a key column that ranks the insurance package name in every row of {@code columns}.
+     */
+    private static long[] createInsurancePackageKeyColumn(PersonColumns columns, boolean isDescending) {
+        int[] codes = new int[columns.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = columns.getInsurancePackageCode(i);
+        }
+        String[] codeKeys = new String[columns.getInsurancePackageCodeCount()];
+        for (int code = 0; code < codeKeys.length; code++) {
+            codeKeys[code] = foldCase(columns.getInsurancePackageName(code));
+        }
+        return createCodeRankKeyColumn(codes, codeKeys, isDescending);
+    }
+
+    /**
+     * Returns a key column that replaces every code in {@code codes} by the rank of its key in {@code codeKeys} among
+     * the distinct keys of the codes in use. Codes whose key is null are "Unspecified".
+     * This ranks a column of n persons with k distinct codes by sorting only the k keys, without hashing any value.
+     */
+    private static long[] createCodeRankKeyColumn(int[] codes, String[] codeKeys, boolean isDescending) {
+        boolean[] isUsed = new boolean[codeKeys.length];
+        for (int code : codes) {
+            isUsed[code] = true;
+        }
+        List<Integer> usedCodes = new ArrayList<>();
+        for (int code = 0; code < codeKeys.length; code++) {
+            if (isUsed[code] && codeKeys[code] != null) {
+                usedCodes.add(code);
+            }
+        }
+        usedCodes.sort(Comparator.comparing(code -> codeKeys[code]));
+
+        // Codes with equal keys share a rank
+        long[] ranks = new long[codeKeys.length];
+        long rank = -1;
+        String previousKey = null;
+        for (int code : usedCodes) {
+            if (!codeKeys[code].equals(previousKey)) {
+                rank++;
+                previousKey = codeKeys[code];
+            }
+            ranks[code] = rank;
+        }
+        long distinctKeyCount = rank + 1;
+        for (int code = 0; code < codeKeys.length; code++) {
+            if (codeKeys[code] == null) {
+                ranks[code] = distinctKeyCount;
+            } else if (isDescending) {
+                ranks[code] = distinctKeyCount - 1 - ranks[code];
+            }
+        }
+
+        long[] column = new long[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            column[i] = ranks[codes[i]];
+        }
+        return column;
+    }
+
+    /**
+     * Returns a key column that replaces the value of every person by its rank among the distinct values.
+     */
+    private long[] createRankKeyColumn(SortField sortField, boolean isDescending, List<Person> persons) {
+        int size = persons.size();
+        Object[] keys = new Object[size];
+        Map<Object, Long> ranks = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            keys[i] = getComparableKey(sortField, persons.get(i));
+            if (keys[i] != null) {
+                ranks.putIfAbsent(keys[i], 0L);
+            }
+        }
+
+        Object[] distinctKeys = ranks.keySet().toArray();
+        if (distinctKeys.length > PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(distinctKeys, PersonSorter::compareKeys);
+        } else {
+            Arrays.sort(distinctKeys, PersonSorter::compareKeys);
+        }
+        for (int rank = 0; rank < distinctKeys.length; rank++) {
+            ranks.put(distinctKeys[rank], isDescending ? distinctKeys.length - 1L - rank : rank);
+        }
+
+        long[] column = new long[size];
+        for (int i = 0; i < size; i++) {
+            column[i] = keys[i] == null ? distinctKeys.length : ranks.get(keys[i]);
+        }
+        return column;
+    }
+
+    /**
+     * Compares two persons by their sort keys. Persons with equal keys compare as equal.
+     */
+    @Override
+    public int compare(Person person, Person otherPerson) {
+        requireAllNonNull(person, otherPerson);
+        for (SortCriterion criterion : criteria) {
+            Object key = getComparableKey(criterion.getSortField(), person);
+            Object otherKey = getComparableKey(criterion.getSortField(), otherPerson);
+
+            int result;
+            if (key == null || otherKey == null) {
+                // Unspecified values are placed last regardless of direction
+                result = Boolean.compare(key == null, otherKey == null);
+            } else if (criterion.getSortDirection() == SortDirection.DESCENDING) {
+                result = compareKeys(otherKey, key);
+            } else {
+                result = compareKeys(key, otherKey);
+            }
+
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareKeys(Object key, Object otherKey) {
+        return ((Comparable<Object>) key).compareTo(otherKey);
+    }
+
+    /**
+     * Returns the sort key of {@code person} for {@code sortField}, or null if the field is "Unspecified".
+     * Keys that compare as equal are also {@code equals}, so that they can be used in hash-based collections.
+     */
+    private Object getComparableKey(SortField sortField, Person person) {
+        switch (sortField) {
+        case NAME:
+            return collationKeys.get(person.getName().fullName);
+        case PHONE:
+            return foldCase(person.getPhone().value);
+        case EMAIL:
+            return foldCase(person.getEmail().value);
+        case ADDRESS:
+            return collationKeys.get(person.getAddress().value);
+        case SALARY:
+            if (person.getSalary().isUnspecified()) {
+                return null;
+            }
+            return person.getSalary().getCents();
+        case DATEOFBIRTH:
+            if (person.getDateOfBirth().isUnspecified()) {
+                return null;
+            }
+            return person.getDateOfBirth().getEpochDay();
+        case MARITALSTATUS:
+            String maritalStatus = person.getMaritalStatus().getValue();
+            if (maritalStatus.equals(MaritalStatus.UNSPECIFIED_VALUE)) {
+                return null;
+            }
+            return foldCase(maritalStatus);
+        case OCCUPATION:
+            String occupation = person.getOccupation().getValue();
+            if (occupation.equals(Occupation.UNSPECIFIED_VALUE)) {
+                return null;
+            }
+            return foldCase(occupation);
+        case DEPENDENTS:
+            if (person.getDependents().isUnspecified()) {
+                return null;
+            }
+            return person.getDependents().getValue();
+        case INSURANCEPACKAGE:
+            return foldCase(person.getInsurancePackage().getPackageName());
+        default:
+            throw new AssertionError("Invalid sort field: " + sortField);
+        }
+    }
+
+    /**
+     * Returns true if {@code sortField} can be sorted by an integer key rather than by rank.
+     */
+    private static boolean hasIntegerKey(SortField sortField) {
+        return sortField == SortField.SALARY
+                || sortField == SortField.DATEOFBIRTH
+                || sortField == SortField.DEPENDENTS;
+    }
+
+    /**
+     * Returns true if the integer sort field of {@code person} is "Unspecified".
+     */
+    private static boolean hasUnspecifiedKey(SortField sortField, Person person) {
+        switch (sortField) {
+        case SALARY:
+            return person.getSalary().isUnspecified();
+        case DATEOFBIRTH:
+            return person.getDateOfBirth().isUnspecified();
+        case DEPENDENTS:
+            return person.getDependents().isUnspecified();
+        default:
+            throw new AssertionError("Not an integer sort field: " + sortField);
+        }
+    }
+
+    /**
+     * Returns the specified integer sort field of {@code person} as an integer key.
+     */
+    private static long getIntegerKey(SortField sortField, Person person) {
+        switch (sortField) {
+        case SALARY:
+            return person.getSalary().getCents();
+        case DATEOFBIRTH:
+            return person.getDateOfBirth().getEpochDay();
+        case DEPENDENTS:
+            return person.getDependents().getValue();
+        default:
+            throw new AssertionError("Not an integer sort field: " + sortField);
+        }
+    }
+
+    /**
+     * Folds the case of {@code value} by code point with the full Unicode case mappings of the root locale, so that
+     * supplementary characters are folded as a whole and e.g. "Straße" and "STRASSE" get the same key.
+     */
+    static String foldCase(String value) {
+        return value.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSorter)) {
+            return false;
+        }
+
+        PersonSorter otherSorter = (PersonSorter) other;
+        return criteria.equals(otherSorter.criteria)
+                && collationLocale.equals(otherSorter.collationLocale);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("criteria", criteria)
+                .add("collationLocale", collationLocale)
+                .toString();
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.logic.commands.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * Stable least-significant-digit radix sort over {@code long} keys.
+ * Keys are first offset by the smallest key, so only the bits needed to represent the range of keys are sorted on.
+ * A range of up to {@link #MAX_COUNTING_SORT_BITS} bits (e.g. number of dependents or date of birth as an epoch day)
+ * is sorted with a single counting pass; wider ranges (e.g. salary in cents) are sorted
+ * {@link #RADIX_DIGIT_BITS} bits per pass.
+ */
+final class RadixSort {
+
+    /** Key ranges that fit in this many bits are sorted with a single counting sort pass. */
+    static final int MAX_COUNTING_SORT_BITS = 16;
+
+    /** Number of key bits sorted per pass for wider key ranges. */
+    static final int RADIX_DIGIT_BITS = 11;
+
+    private RadixSort() {}
+
+    /**
+     * Returns the positions of {@code keys} in ascending order of key.
+     * Positions with equal keys keep their relative order. {@code keys} is not modified.
+     */
+    static int[] stableOrder(long[] keys) {
+        requireNonNull(keys);
+        int size = keys.length;
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        if (size < 2) {
+            return order;
+        }
+
+        long minKey = keys[0];
+        long maxKey = keys[0];
+        for (long key : keys) {
+            minKey = Math.min(minKey, key);
+            maxKey = Math.max(maxKey, key);
+        }
+
+        // The range is treated as unsigned, so it is correct even if maxKey - minKey overflows
+        int rangeBits = 64 - Long.numberOfLeadingZeros(maxKey - minKey);
+        if (rangeBits == 0) {
+            return order;
+        }
+        int digitBits = rangeBits <= MAX_COUNTING_SORT_BITS ? rangeBits : RADIX_DIGIT_BITS;
+
+        long[] offsetKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            offsetKeys[i] = keys[i] - minKey;
+        }
+
+        // Keys are moved together with their positions so that each pass reads them sequentially
+        long[] keyBuffer = new long[size];
+        int[] orderBuffer = new int[size];
+        int[] counts = new int[1 << digitBits];
+        long digitMask = (1L << digitBits) - 1;
+        for (int shift = 0; shift < rangeBits; shift += digitBits) {
+            Arrays.fill(counts, 0);
+            for (long key : offsetKeys) {
+                counts[(int) ((key >>> shift) & digitMask)]++;
+            }
+
+            int total = 0;
+            for (int digit = 0; digit < counts.length; digit++) {
+                int count = counts[digit];
+                counts[digit] = total;
+                total += count;
+            }
+
+            for (int i = 0; i < size; i++) {
+                int destination = counts[(int) ((offsetKeys[i] >>> shift) & digitMask)]++;
+                keyBuffer[destination] = offsetKeys[i];
+                orderBuffer[destination] = order[i];
+            }
+
+            long[] sortedKeys = keyBuffer;
+            keyBuffer = offsetKeys;
+            offsetKeys = sortedKeys;
+            int[] sortedOrder = orderBuffer;
+            orderBuffer = order;
+            order = sortedOrder;
+        }
+        return order;
+    }
+}
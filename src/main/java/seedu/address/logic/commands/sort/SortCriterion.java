@@ -0,0 +1,65 @@
+package seedu.address.logic.commands.sort;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.SortCommand.SortDirection;
+import seedu.address.logic.commands.SortCommand.SortField;
+
+/**
+ * Represents a single field to sort persons by, together with the direction to sort it in.
+ * Guarantees: immutable; field and direction are not null.
+ */
+public class SortCriterion {
+
+    private final SortField sortField;
+    private final SortDirection sortDirection;
+
+    /**
+     * Creates a {@code SortCriterion} that sorts by {@code sortField} in {@code sortDirection}.
+     */
+    public SortCriterion(SortField sortField, SortDirection sortDirection) {
+        requireAllNonNull(sortField, sortDirection);
+        this.sortField = sortField;
+        this.sortDirection = sortDirection;
+    }
+
+    public SortField getSortField() {
+        return sortField;
+    }
+
+    public SortDirection getSortDirection() {
+        return sortDirection;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCriterion)) {
+            return false;
+        }
+
+        SortCriterion otherCriterion = (SortCriterion) other;
+        return sortField.equals(otherCriterion.sortField)
+                && sortDirection.equals(otherCriterion.sortDirection);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortField, sortDirection);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortField", sortField)
+                .add("sortDirection", sortDirection)
+                .toString();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_LIST_OF_COMMANDS;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -9,23 +10,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.commands.AddCommand;
-import seedu.address.logic.commands.AddPackageCommand;
-import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.DeleteCommand;
-import seedu.address.logic.commands.DeletePackageCommand;
-import seedu.address.logic.commands.EditCommand;
-import seedu.address.logic.commands.EditPackageCommand;
-import seedu.address.logic.commands.ExitCommand;
-import seedu.address.logic.commands.ExportCommand;
-import seedu.address.logic.commands.FilterCommand;
-import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
-import seedu.address.logic.commands.ListCommand;
-import seedu.address.logic.commands.ListPackageCommand;
-import seedu.address.logic.commands.SortCommand;
-import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -39,6 +25,23 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandRegistry commandRegistry;
+
+    /**
+     * Creates an {@code AddressBookParser} of all the commands of the app.
+     */
+    public AddressBookParser() {
+        this(CommandRegistry.createDefault());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} of the commands in {@code commandRegistry}.
+     */
+    public AddressBookParser(CommandRegistry commandRegistry) {
+        requireNonNull(commandRegistry);
+        this.commandRegistry = commandRegistry;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -60,60 +63,11 @@ public class AddressBookParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FilterCommand.COMMAND_WORD:
-            return new FilterCommandParser().parse(arguments);
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case ExportCommand.COMMAND_WORD:
-            return new ExportCommandParser().parse(arguments);
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        case ViewCommand.COMMAND_WORD:
-            return new ViewCommandParser().parse(arguments);
-
-        case AddPackageCommand.COMMAND_WORD:
-            return new PackageCommandParser().parseAddPackage(arguments);
-
-        case ListPackageCommand.COMMAND_WORD:
-            return new ListPackageCommand();
-
-        case EditPackageCommand.COMMAND_WORD:
-            return new PackageCommandParser().parseEditPackage(arguments);
-
-        case DeletePackageCommand.COMMAND_WORD:
-            return new PackageCommandParser().parseDeletePackage(arguments);
-
-        default:
+        if (!commandRegistry.hasCommandWord(commandWord)) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND + MESSAGE_LIST_OF_COMMANDS);
         }
+        return commandRegistry.parse(commandWord, arguments);
     }
 
 }
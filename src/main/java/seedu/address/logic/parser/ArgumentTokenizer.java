@@ -1,10 +1,12 @@
 package seedu.address.logic.parser;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -30,58 +32,16 @@ public class ArgumentTokenizer {
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Finds all zero-based prefix positions in the given arguments string, in one pass over it. A prefix inside an
+     * unclosed quote is ignored, and of overlapping prefixes, only the one that starts first, or the longest of those
+     * that start together, is kept.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to find in the arguments string
      * @return           List of zero-based prefix positions in the given arguments string
      */
     private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-        positions.sort(Comparator.comparingInt(PrefixPosition::getStartPosition)
-                .thenComparingInt(p -> -p.getPrefix().getPrefix().length()));
-        List<PrefixPosition> filteredPositions = new ArrayList<>();
-        int lastEndPosition = -1;
-        for (PrefixPosition current : positions) {
-            if (current.getStartPosition() >= lastEndPosition) {
-                filteredPositions.add(current);
-                lastEndPosition = current.getStartPosition() + current.getPrefix().getPrefix().length();
-            }
-        }
-        return filteredPositions;
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            if (!isInsideQuotes(argsString, prefixPosition)) {
-                PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-                positions.add(extendedPrefix);
-            }
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition + 1);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 4.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        return argsString.indexOf(prefix, fromIndex);
+        return new PrefixAutomaton(prefixes).findPrefixPositions(argsString);
     }
 
     /**
@@ -133,14 +93,6 @@ public class ArgumentTokenizer {
         return value.trim();
     }
 
-    /**
-     * Checks if a given index in a string is inside an unclosed quote.
-     */
-    private static boolean isInsideQuotes(String argsString, int index) {
-        long quoteCount = argsString.substring(0, index).chars().filter(ch -> ch == '"').count();
-        return quoteCount % 2 != 0;
-    }
-
     /**
      * Represents a prefix's position in an arguments string.
      */
@@ -162,4 +114,138 @@ public class ArgumentTokenizer {
         }
     }
 
+    /**
+     * An Aho-Corasick automaton over a set of prefixes, which finds all their occurrences in a string, overlapping
+     * ones included, as it reads the string once. Empty prefixes are never found.
+     */
+    private static class PrefixAutomaton {
+        private static final int ROOT = 0;
+        private static final int NO_NODE = -1;
+
+        /** The children of each node, i.e. the trie of the prefixes. */
+        private final List<Map<Character, Integer>> children = new ArrayList<>();
+        /** The node of the longest proper suffix of each node's string that is also in the trie. */
+        private final List<Integer> failures = new ArrayList<>();
+        /** The nearest node along each node's failures that is a whole prefix. */
+        private final List<Integer> outputs = new ArrayList<>();
+        /** The prefix that each node's string is, or null if it is not one. */
+        private final List<Prefix> nodePrefixes = new ArrayList<>();
+        /** Whether each node's string has an odd number of quotes. */
+        private final List<Boolean> hasOddQuotes = new ArrayList<>();
+
+        PrefixAutomaton(Prefix... prefixes) {
+            addNode(false);
+            for (Prefix prefix : prefixes) {
+                addPrefix(prefix);
+            }
+            linkFailures();
+        }
+
+        private int addNode(boolean hasOddQuotes) {
+            children.add(new HashMap<>());
+            failures.add(ROOT);
+            outputs.add(NO_NODE);
+            nodePrefixes.add(null);
+            this.hasOddQuotes.add(hasOddQuotes);
+            return children.size() - 1;
+        }
+
+        private void addPrefix(Prefix prefix) {
+            String prefixString = prefix.getPrefix();
+            if (prefixString.isEmpty()) {
+                return;
+            }
+            int node = ROOT;
+            for (int i = 0; i < prefixString.length(); i++) {
+                char c = prefixString.charAt(i);
+                Integer child = children.get(node).get(c);
+                if (child == null) {
+                    child = addNode(hasOddQuotes.get(node) ^ (c == '"'));
+                    children.get(node).put(c, child);
+                }
+                node = child;
+            }
+            if (nodePrefixes.get(node) == null) {
+                nodePrefixes.set(node, prefix);
+            }
+        }
+
+        /**
+         * Links each node to its failure and output, in breadth-first order so that those of its parent are known.
+         */
+        private void linkFailures() {
+            Deque<Integer> queue = new ArrayDeque<>(children.get(ROOT).values());
+            while (!queue.isEmpty()) {
+                int node = queue.remove();
+                int failure = failures.get(node);
+                outputs.set(node, nodePrefixes.get(failure) != null ? failure : outputs.get(failure));
+                for (Map.Entry<Character, Integer> child : children.get(node).entrySet()) {
+                    failures.set(child.getValue(), step(failure, child.getKey()));
+                    queue.add(child.getValue());
+                }
+            }
+        }
+
+        /**
+         * Returns the node reached by reading {@code c} at {@code node}.
+         */
+        private int step(int node, char c) {
+            int current = node;
+            while (true) {
+                Integer child = children.get(current).get(c);
+                if (child != null) {
+                    return child;
+                }
+                if (current == ROOT) {
+                    return ROOT;
+                }
+                current = failures.get(current);
+            }
+        }
+
+        /**
+         * Returns the positions of the prefixes in {@code argsString} that are not inside an unclosed quote, without
+         * those that overlap an earlier one, sorted by position.
+         */
+        List<PrefixPosition> findPrefixPositions(String argsString) {
+            // the node of the longest prefix outside quotes that starts at each position, or NO_NODE
+            int[] longestPrefixNodes = new int[argsString.length()];
+            Arrays.fill(longestPrefixNodes, NO_NODE);
+
+            int node = ROOT;
+            boolean isInsideQuotes = false;
+            for (int i = 0; i < argsString.length(); i++) {
+                char c = argsString.charAt(i);
+                if (c == '"') {
+                    isInsideQuotes = !isInsideQuotes;
+                }
+                node = step(node, c);
+                int match = nodePrefixes.get(node) != null ? node : outputs.get(node);
+                for (; match != NO_NODE; match = outputs.get(match)) {
+                    // the quotes before the prefix are those up to here, less those in the prefix itself
+                    if (isInsideQuotes ^ hasOddQuotes.get(match)) {
+                        continue;
+                    }
+                    int length = nodePrefixes.get(match).getPrefix().length();
+                    int startPosition = i - length + 1;
+                    int longest = longestPrefixNodes[startPosition];
+                    if (longest == NO_NODE || nodePrefixes.get(longest).getPrefix().length() < length) {
+                        longestPrefixNodes[startPosition] = match;
+                    }
+                }
+            }
+
+            List<PrefixPosition> positions = new ArrayList<>();
+            int lastEndPosition = 0;
+            for (int i = 0; i < longestPrefixNodes.length; i++) {
+                if (longestPrefixNodes[i] != NO_NODE && i >= lastEndPosition) {
+                    Prefix prefix = nodePrefixes.get(longestPrefixNodes[i]);
+                    positions.add(new PrefixPosition(prefix, i));
+                    lastEndPosition = i + prefix.getPrefix().length();
+                }
+            }
+            return positions;
+        }
+    }
+
 }
@@ -13,6 +13,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_SALARY = new Prefix("s/");
     public static final Prefix PREFIX_DATE_OF_BIRTH = new Prefix("dob/");
+    public static final Prefix PREFIX_AGE = new Prefix("age/");
     public static final Prefix PREFIX_OCCUPATION = new Prefix("occ/");
     public static final Prefix PREFIX_MARITAL_STATUS = new Prefix("ms/");
     public static final Prefix PREFIX_DEPENDENTS = new Prefix("dep/");
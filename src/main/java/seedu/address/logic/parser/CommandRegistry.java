@@ -0,0 +1,147 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddPackageCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandTimingListener;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeletePackageCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.EditPackageCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListPackageCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Maps command words, and their aliases, to the parsers of their commands, and times the parsing and execution of the
+ * commands for its {@code CommandTimingListener}s.
+ * A parser is reused for every command that it parses, so it must not keep any state between calls.
+ */
+public class CommandRegistry {
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+    private final List<CommandTimingListener> timingListeners = new ArrayList<>();
+
+    /**
+     * Returns a registry of all the commands of the app.
+     */
+    public static CommandRegistry createDefault() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registry.register(FilterCommand.COMMAND_WORD, new FilterCommandParser());
+        registry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registry.register(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+        registry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.register(SortCommand.COMMAND_WORD, new SortCommandParser());
+        registry.register(ViewCommand.COMMAND_WORD, new ViewCommandParser());
+        registry.register(AddPackageCommand.COMMAND_WORD, PackageCommandParser::parseAddPackage);
+        registry.register(ListPackageCommand.COMMAND_WORD, arguments -> new ListPackageCommand());
+        registry.register(EditPackageCommand.COMMAND_WORD, PackageCommandParser::parseEditPackage);
+        registry.register(DeletePackageCommand.COMMAND_WORD, PackageCommandParser::parseDeletePackage);
+        registry.register(RunCommand.COMMAND_WORD, new RunCommandParser(registry));
+        return registry;
+    }
+
+    /**
+     * Registers {@code parser} as the parser of the commands with {@code commandWord} or any of {@code aliases}.
+     *
+     * @throws IllegalArgumentException if the command word or an alias is already registered.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser, String... aliases) {
+        requireAllNonNull(commandWord, parser);
+        requireAllNonNull((Object[]) aliases);
+        List<String> words = new ArrayList<>(List.of(aliases));
+        words.add(0, commandWord);
+        for (String word : words) {
+            if (parsers.containsKey(word) || words.indexOf(word) != words.lastIndexOf(word)) {
+                throw new IllegalArgumentException("Command word is already registered: " + word);
+            }
+        }
+        words.forEach(word -> parsers.put(word, parser));
+    }
+
+    /**
+     * Returns true if {@code commandWord} is a registered command word or alias.
+     */
+    public boolean hasCommandWord(String commandWord) {
+        requireNonNull(commandWord);
+        return parsers.containsKey(commandWord);
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, or null if it is not registered.
+     */
+    Parser<? extends Command> getParser(String commandWord) {
+        requireNonNull(commandWord);
+        return parsers.get(commandWord);
+    }
+
+    /**
+     * Parses {@code arguments} into a command with the parser registered for {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is not registered.
+     * @throws ParseException if {@code arguments} does not conform the expected format.
+     */
+    public Command parse(String commandWord, String arguments) throws ParseException {
+        requireAllNonNull(commandWord, arguments);
+        Parser<? extends Command> parser = parsers.get(commandWord);
+        if (parser == null) {
+            throw new IllegalArgumentException("Command word is not registered: " + commandWord);
+        }
+
+        long startTime = System.nanoTime();
+        Command command = parser.parse(arguments);
+        long elapsedNanos = System.nanoTime() - startTime;
+        timingListeners.forEach(listener -> listener.commandParsed(command, elapsedNanos));
+        return command;
+    }
+
+    /**
+     * Executes {@code command} on {@code model}, and returns its result.
+     *
+     * @throws CommandException if an error occurs during command execution.
+     */
+    public CommandResult execute(Command command, Model model) throws CommandException {
+        requireAllNonNull(command, model);
+        long startTime = System.nanoTime();
+        try {
+            return command.execute(model);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startTime;
+            timingListeners.forEach(listener -> listener.commandExecuted(command, elapsedNanos));
+        }
+    }
+
+    /**
+     * Adds a listener that is told how long each command took to be parsed and executed.
+     */
+    public void addTimingListener(CommandTimingListener listener) {
+        requireNonNull(listener);
+        timingListeners.add(listener);
+    }
+}
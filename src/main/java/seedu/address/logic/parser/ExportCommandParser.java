@@ -4,7 +4,6 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -37,7 +36,7 @@ public class ExportCommandParser implements Parser<ExportCommand> {
         }
 
         try {
-            Path filePath = expandHomeDirectory(trimmedArgs);
+            Path filePath = ParserUtil.expandHomeDirectory(trimmedArgs);
             logger.info("Export path parsed successfully: " + filePath);
             return new ExportCommand(filePath);
         } catch (InvalidPathException e) {
@@ -45,18 +44,4 @@ public class ExportCommandParser implements Parser<ExportCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), e);
         }
     }
-
-    /**
-     * Expands the tilde (~) character in a path to the user's home directory.
-     *
-     * @param path The path string to expand.
-     */
-    private Path expandHomeDirectory(String path) {
-        if (path.startsWith("~/") || path.startsWith("~\\")) {
-            String home = System.getProperty("user.home");
-            String remainingPath = path.substring(2);
-            return Paths.get(home, remainingPath);
-        }
-        return Paths.get(path);
-    }
 }
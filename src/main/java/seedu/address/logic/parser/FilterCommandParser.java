@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_BIRTH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPENDENTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
@@ -19,6 +20,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -26,6 +28,7 @@ import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.filter.FilterComparisonPrefixParser;
 import seedu.address.logic.parser.filter.FilterContainsPrefixParser;
+import seedu.address.logic.parser.filter.FilterDateOfBirthPrefixParser;
 import seedu.address.logic.parser.filter.FilterPrefixParser;
 import seedu.address.logic.parser.filter.FilterTagParser;
 import seedu.address.model.person.Person;
@@ -39,7 +42,6 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     public static final String MESSAGE_MISSING_KEYWORDS = "Missing keyword for the following %s: %s";
 
     private static final Function<Person, String> GET_ADDRESS = p -> p.getAddress().toString();
-    private static final Function<Person, String> GET_DOB = p -> p.getDateOfBirth().toString();
     private static final Function<Person, String> GET_EMAIL = p -> p.getEmail().toString();
     private static final Function<Person, String> GET_INSURANCE_PACKAGE =
             p -> p.getInsurancePackage().getPackageName();
@@ -49,17 +51,19 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     private static final Function<Person, String> GET_PHONE = p -> p.getPhone().toString();
 
     private static final Function<Person, String> GET_DEPENDENTS = p -> p.getDependents().toString();
+    private static final ToLongFunction<Person> GET_DEPENDENTS_NUMBER = p -> p.getDependents().getValue();
     private static final Function<Person, Boolean> IS_DEPENDENTS_UNSPECIFIED =
             p -> p.getDependents().isUnspecified();
 
     private static final Function<Person, String> GET_SALARY = p -> p.getSalary().toString();
+    private static final ToLongFunction<Person> GET_SALARY_CENTS = p -> p.getSalary().getCents();
     private static final Function<Person, Boolean> IS_SALARY_UNSPECIFIED = p -> p.getSalary().isUnspecified();
 
     /**
      * Prefixes that can only appear once in filter. Only PREFIX_TAG is not in this array.
      */
     private static final Prefix[] SINGLE_PREFIXES = {
-        PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_EMAIL, PREFIX_SALARY, PREFIX_DATE_OF_BIRTH,
+        PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_EMAIL, PREFIX_SALARY, PREFIX_DATE_OF_BIRTH, PREFIX_AGE,
         PREFIX_MARITAL_STATUS, PREFIX_DEPENDENTS, PREFIX_OCCUPATION, PREFIX_INSURANCE_PACKAGE,
     };
 
@@ -67,7 +71,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
      * All prefixes that can be filtered.
      */
     private static final Prefix[] ALL_PREFIXES = {
-        PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_EMAIL, PREFIX_SALARY, PREFIX_DATE_OF_BIRTH,
+        PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_EMAIL, PREFIX_SALARY, PREFIX_DATE_OF_BIRTH, PREFIX_AGE,
         PREFIX_MARITAL_STATUS, PREFIX_DEPENDENTS, PREFIX_OCCUPATION, PREFIX_INSURANCE_PACKAGE, PREFIX_TAG
     };
 
@@ -82,7 +86,6 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         map.put(PREFIX_ADDRESS, GET_ADDRESS);
         map.put(PREFIX_PHONE, GET_PHONE);
         map.put(PREFIX_EMAIL, GET_EMAIL);
-        map.put(PREFIX_DATE_OF_BIRTH, GET_DOB);
         map.put(PREFIX_OCCUPATION, GET_OCCUPATION);
         map.put(PREFIX_MARITAL_STATUS, GET_MARITAL_STATUS);
         map.put(PREFIX_INSURANCE_PACKAGE, GET_INSURANCE_PACKAGE);
@@ -103,6 +106,8 @@ public class FilterCommandParser implements Parser<FilterCommand> {
 
         List<FilterPrefixParser> filterPrefixParsers = new ArrayList<>();
         addAllContainsPrefixParsersIfPresent(argMultiMap, filterPrefixParsers);
+        addDateOfBirthPrefixParserIfPresent(argMultiMap, PREFIX_DATE_OF_BIRTH, filterPrefixParsers);
+        addDateOfBirthPrefixParserIfPresent(argMultiMap, PREFIX_AGE, filterPrefixParsers);
         addAllComparisonPrefixParsersIfPresent(argMultiMap, filterPrefixParsers);
         addTagParserIfPresent(argMultiMap, filterPrefixParsers);
 
@@ -190,13 +195,32 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     private void addComparisonPrefixParserIfPresent(ArgumentMultimap argMultimap,
                                                   Prefix prefix,
                                                   Function<Person, String> getPersonField,
+                                                  ToLongFunction<Person> getPersonNumber,
                                                   Function<Person, Boolean> isPersonFieldUnspecified,
                                                   List<FilterPrefixParser> filterPrefixParsers) throws ParseException {
         if (!argMultimap.getValue(prefix).isPresent()) {
             return;
         }
         FilterComparisonPrefixParser parser =
-                new FilterComparisonPrefixParser(prefix, getPersonField, isPersonFieldUnspecified);
+                new FilterComparisonPrefixParser(prefix, getPersonField, getPersonNumber, isPersonFieldUnspecified);
+        parser.parse(argMultimap.getValue(prefix).get());
+        filterPrefixParsers.add(parser);
+    }
+
+    /**
+     * Adds a date of birth prefix parser to the list if the prefix is present in the argMultiMap.
+     * Applies to prefixes Date of birth and Age.<br>
+     * These prefixes contain keywords that are parsed into a range of dates of birth, or using {@code contains}
+     * logic if no operators are provided for date of birth.
+     */
+    private void addDateOfBirthPrefixParserIfPresent(ArgumentMultimap argMultimap,
+                                                     Prefix prefix,
+                                                     List<FilterPrefixParser> filterPrefixParsers)
+            throws ParseException {
+        if (!argMultimap.getValue(prefix).isPresent()) {
+            return;
+        }
+        FilterDateOfBirthPrefixParser parser = new FilterDateOfBirthPrefixParser(prefix);
         parser.parse(argMultimap.getValue(prefix).get());
         filterPrefixParsers.add(parser);
     }
@@ -235,8 +259,8 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     private void addAllComparisonPrefixParsersIfPresent(
             ArgumentMultimap argMultiMap, List<FilterPrefixParser> filterPrefixParsers) throws ParseException {
         addComparisonPrefixParserIfPresent(argMultiMap,
-                PREFIX_SALARY, GET_SALARY, IS_SALARY_UNSPECIFIED, filterPrefixParsers);
-        addComparisonPrefixParserIfPresent(
-                argMultiMap, PREFIX_DEPENDENTS, GET_DEPENDENTS, IS_DEPENDENTS_UNSPECIFIED, filterPrefixParsers);
+                PREFIX_SALARY, GET_SALARY, GET_SALARY_CENTS, IS_SALARY_UNSPECIFIED, filterPrefixParsers);
+        addComparisonPrefixParserIfPresent(argMultiMap, PREFIX_DEPENDENTS, GET_DEPENDENTS, GET_DEPENDENTS_NUMBER,
+                IS_DEPENDENTS_UNSPECIFIED, filterPrefixParsers);
     }
 }
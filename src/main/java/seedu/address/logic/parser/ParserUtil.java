@@ -2,6 +2,8 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -106,7 +108,7 @@ public class ParserUtil {
         if (processedAddress.isEmpty()) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(processedAddress);
+        return Address.of(processedAddress);
     }
 
     /**
@@ -163,7 +165,7 @@ public class ParserUtil {
         if (!MaritalStatusEnum.isValidMaritalStatus(normalizedStatus)) {
             throw new ParseException(MaritalStatus.MESSAGE_CONSTRAINTS);
         }
-        return new MaritalStatus(normalizedStatus);
+        return MaritalStatus.of(normalizedStatus);
     }
 
     /**
@@ -184,7 +186,7 @@ public class ParserUtil {
         if (processedOccupation.isEmpty()) {
             throw new ParseException(Occupation.MESSAGE_CONSTRAINTS);
         }
-        return new Occupation(processedOccupation);
+        return Occupation.of(processedOccupation);
     }
 
     /**
@@ -250,7 +252,7 @@ public class ParserUtil {
      */
     public static Tag parseTag(String tag) throws ParseException {
         String trimmedTag = validateStringField(tag, Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS);
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -264,4 +266,19 @@ public class ParserUtil {
         }
         return tagSet;
     }
+
+    /**
+     * Returns the path of {@code path}, with a leading tilde (~) expanded to the user's home directory.
+     *
+     * @throws java.nio.file.InvalidPathException if {@code path} is not a valid path.
+     */
+    public static Path expandHomeDirectory(String path) {
+        requireNonNull(path);
+        if (path.startsWith("~/") || path.startsWith("~\\")) {
+            String home = System.getProperty("user.home");
+            String remainingPath = path.substring(2);
+            return Paths.get(home, remainingPath);
+        }
+        return Paths.get(path);
+    }
 }
@@ -0,0 +1,120 @@
+package seedu.address.logic.parser;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and the script file that they name, and creates a new RunCommand object.
+ * All the commands of the script are parsed before any of them is run, so that every error in the script is reported
+ * at once.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read the script file %1$s.";
+    public static final String MESSAGE_EMPTY_SCRIPT = "The script file %1$s does not contain any commands.";
+    public static final String MESSAGE_INVALID_SCRIPT =
+            "No commands were run, as %1$d lines of %2$s are invalid:\n%3$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "A script cannot run another script.";
+    public static final String MESSAGE_COMMAND_NOT_IN_SCRIPT =
+            "A script cannot exit the app or open a window, so it cannot contain %1$s.";
+
+    private static final String COMMENT_MARKER = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommandParser.class);
+
+    private final CommandRegistry commandRegistry;
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a {@code RunCommandParser} that parses the commands of scripts with {@code commandRegistry}.
+     */
+    public RunCommandParser(CommandRegistry commandRegistry) {
+        requireNonNull(commandRegistry);
+        this.commandRegistry = commandRegistry;
+        addressBookParser = new AddressBookParser(commandRegistry);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand, reads the script file that it
+     * names, and returns a RunCommand of the commands in the file for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format, if the script file cannot
+     *         be read, or if any of its commands is invalid.
+     */
+    @Override
+    public RunCommand parse(String args) throws ParseException {
+        String[] flagAndFilePath = args.trim().split("\\s+", 2);
+        boolean isAtomic = flagAndFilePath[0].equals(RunCommand.ATOMIC_FLAG);
+        String filePathString = isAtomic
+                ? (flagAndFilePath.length > 1 ? flagAndFilePath[1] : "")
+                : args.trim();
+        if (filePathString.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        List<String> lines;
+        try {
+            filePath = ParserUtil.expandHomeDirectory(filePathString);
+            lines = Files.readAllLines(filePath, UTF_8);
+        } catch (InvalidPathException | IOException e) {
+            logger.warning("Script file " + filePathString + " could not be read: " + e);
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_SCRIPT, filePathString), e);
+        }
+
+        Map<Integer, Command> commands = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            int lineNumber = i + 1;
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+            try {
+                commands.put(lineNumber, parseLine(line));
+            } catch (ParseException e) {
+                errors.add(String.format(RunCommand.MESSAGE_LINE_ERROR, lineNumber, e.getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_SCRIPT, errors.size(), filePath,
+                    String.join("\n", errors)));
+        }
+        if (commands.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_SCRIPT, filePath));
+        }
+        return new RunCommand(filePath, commands, isAtomic, commandRegistry);
+    }
+
+    /**
+     * Parses a line of a script into a command that can be run in a script.
+     */
+    private Command parseLine(String line) throws ParseException {
+        String commandWord = line.split("\\s+", 2)[0];
+        if (commandRegistry.getParser(commandWord) instanceof RunCommandParser) {
+            throw new ParseException(MESSAGE_NESTED_SCRIPT);
+        }
+        Command command = addressBookParser.parseCommand(line);
+        if (!command.canRunInScript()) {
+            throw new ParseException(String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, commandWord));
+        }
+        return command;
+    }
+}
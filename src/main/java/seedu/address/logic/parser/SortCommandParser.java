@@ -2,9 +2,13 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.SortCommand.SortDirection;
 import seedu.address.logic.commands.SortCommand.SortField;
+import seedu.address.logic.commands.sort.SortCriterion;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -12,13 +16,31 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class SortCommandParser implements Parser<SortCommand> {
 
+    private static final String CRITERIA_SEPARATOR = ",";
+
     /**
      * Parses the given {@code String} of arguments in the context of the SortCommand
      * and returns a SortCommand object for execution.
+     * The arguments are one or more sort criteria separated by commas, each in the format {@code FIELD [DIRECTION]}.
      * @throws ParseException if the user input does not conform the expected format
      */
     public SortCommand parse(String args) throws ParseException {
-        String trimmedArguments = args.trim();
+        // A limit of -1 keeps trailing empty criteria, so that e.g. "name," is rejected
+        String[] criteriaArguments = args.split(CRITERIA_SEPARATOR, -1);
+        List<SortCriterion> sortCriteria = new ArrayList<>();
+        for (String criterionArguments : criteriaArguments) {
+            sortCriteria.add(parseSortCriterion(criterionArguments));
+        }
+        return new SortCommand(sortCriteria);
+    }
+
+    /**
+     * Parses a single sort criterion in the format {@code FIELD [DIRECTION]}.
+     * Invalid directions and extra arguments after the direction are ignored.
+     * @throws ParseException if the field is missing or invalid
+     */
+    private static SortCriterion parseSortCriterion(String criterionArguments) throws ParseException {
+        String trimmedArguments = criterionArguments.trim();
 
         if (trimmedArguments.isEmpty()) {
             throw new ParseException(
@@ -81,6 +103,6 @@ public class SortCommandParser implements Parser<SortCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
-        return new SortCommand(field, direction);
+        return new SortCriterion(field, direction);
     }
 }
@@ -6,9 +6,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPENDENTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
 
 import java.math.BigDecimal;
+import java.util.BitSet;
 import java.util.Objects;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -18,13 +19,16 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
 
 /**
  * Parses prefixes that involve numerical comparison (e.g., salary, dependents) or contains-search.
  * This parser implements a hybrid logic:<br>
  * 1. It checks for an optional operator (>, <, >=, <=, =).<br>
  * 2. If an operator is present, it parses the rest of the string as a number and
- * creates a comparison predicate.<br>
+ * converts the comparison into an inclusive range of the numeric value of the field (e.g. salary in cents), which is
+ * compared without parsing the person's field. Such comparisons can also be applied to the salary and dependents
+ * columns of a {@code PersonColumns}.<br>
  * 3. If no operator is present, it defaults to a case-insensitive "contains" search.
  * This "contains" search works on the string representation of the number, or
  * on the "unspecified" keyword.
@@ -49,24 +53,29 @@ public class FilterComparisonPrefixParser implements FilterPrefixParser {
     private final Logger logger = LogsCenter.getLogger(FilterComparisonPrefixParser.class);
     private final Prefix prefix;
     private final Function<Person, String> getPersonField;
+    private final ToLongFunction<Person> getPersonNumber;
     private final Function<Person, Boolean> isPersonFieldUnspecified;
     private String keyword; // The full argument (e.g. >=50000 or $50,000)
 
-    private Predicate<BigDecimal> predicate;
     private boolean isContainsLogic;
+    private long minValue;
+    private long maxValue;
 
     /**
      * Constructs a {@code FilterComparisonPrefixParser}.
      *
      * @param prefix The numerical prefix to handle.
      * @param getPersonField A function to get the relevant String attribute from a Person.
+     * @param getPersonNumber A function to get the numeric value of the attribute from a Person, in cents for salary.
      */
     public FilterComparisonPrefixParser(Prefix prefix,
                                         Function<Person, String> getPersonField,
+                                        ToLongFunction<Person> getPersonNumber,
                                         Function<Person, Boolean> isPersonFieldUnspecified) {
-        requireAllNonNull(prefix, getPersonField, isPersonFieldUnspecified);
+        requireAllNonNull(prefix, getPersonField, getPersonNumber, isPersonFieldUnspecified);
         this.prefix = prefix;
         this.getPersonField = getPersonField;
+        this.getPersonNumber = getPersonNumber;
         this.isPersonFieldUnspecified = isPersonFieldUnspecified;
     }
 
@@ -118,34 +127,51 @@ public class FilterComparisonPrefixParser implements FilterPrefixParser {
             throw new ParseException(errorMessage);
         }
 
-        BigDecimal valueToCompare;
+        BigDecimal number;
         try {
-            valueToCompare = new BigDecimal(value);
+            number = new BigDecimal(value);
         } catch (NumberFormatException e) {
             // This should never happen
             logger.warning("Error occurred trying to convert value into BigDecimal: " + value);
             throw new ParseException("Unexpected parser error");
         }
+        if (this.prefix.equals(PREFIX_SALARY)) {
+            number = number.movePointRight(2);
+        }
+        // Person values always fit in a long, so larger values can be compared as the largest long
+        long valueToCompare = number.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0
+                ? Long.MAX_VALUE
+                : number.longValueExact();
 
         switch (operator) {
         case ">":
-            this.predicate = personValue -> personValue.compareTo(valueToCompare) > 0;
+            if (valueToCompare == Long.MAX_VALUE) {
+                // No value is larger, so the range is empty
+                setRange(Long.MAX_VALUE, Long.MIN_VALUE);
+            } else {
+                setRange(valueToCompare + 1, Long.MAX_VALUE);
+            }
             break;
         case ">=":
-            this.predicate = personValue -> personValue.compareTo(valueToCompare) >= 0;
+            setRange(valueToCompare, Long.MAX_VALUE);
             break;
         case "<":
-            this.predicate = personValue -> personValue.compareTo(valueToCompare) < 0;
+            setRange(Long.MIN_VALUE, valueToCompare - 1);
             break;
         case "<=":
-            this.predicate = personValue -> personValue.compareTo(valueToCompare) <= 0;
+            setRange(Long.MIN_VALUE, valueToCompare);
             break;
         case "=":
         default:
-            this.predicate = personValue -> personValue.compareTo(valueToCompare) == 0;
+            setRange(valueToCompare, valueToCompare);
         }
     }
 
+    private void setRange(long minValue, long maxValue) {
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+    }
+
     @Override
     public boolean test(Person person) {
         if (this.isPersonFieldUnspecified.apply(person)) {
@@ -155,30 +181,45 @@ public class FilterComparisonPrefixParser implements FilterPrefixParser {
             return false;
         }
 
-        String formattedValue = this.getPersonField.apply(person);
-        if (formattedValue == null) {
-            return false;
-        }
-        String rawValue = formattedValue.replace("$", "").replace(",", "");
-
         if (this.isContainsLogic) {
-            return testContainsLogic(formattedValue, rawValue);
+            return testContainsLogic(this.getPersonField.apply(person));
         }
-        return testComparisonLogic(rawValue);
+        long personValue = this.getPersonNumber.applyAsLong(person);
+        return personValue >= this.minValue && personValue <= this.maxValue;
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * Comparisons of salary and dependents can be applied to rows, but "contains" searches cannot.
+     */
+    @Override
+    public boolean canFilterRows() {
+        return !this.isContainsLogic
+                && (this.prefix.equals(PREFIX_SALARY) || this.prefix.equals(PREFIX_DEPENDENTS));
     }
 
-    private boolean testContainsLogic(String formattedValue, String rawValue) {
-        return formattedValue.contains(this.keyword) || rawValue.contains(this.keyword);
+    @Override
+    public void retainMatchingRows(PersonColumns columns, BitSet rows) {
+        requireAllNonNull(columns, rows);
+        if (!canFilterRows()) {
+            throw new UnsupportedOperationException();
+        }
+        if (this.prefix.equals(PREFIX_SALARY)) {
+            columns.retainRowsWithSalaryCentsBetween(this.minValue, this.maxValue, rows);
+        } else {
+            columns.retainRowsWithDependentsBetween(this.minValue, this.maxValue, rows);
+        }
     }
 
-    private boolean testComparisonLogic(String rawValue) {
-        try {
-            BigDecimal personValueBigDecimal = new BigDecimal(rawValue);
-            return this.predicate.test(personValueBigDecimal);
-        } catch (NumberFormatException e) {
-            logger.warning("Could not parse person's value for comparison: " + rawValue);
+    private boolean testContainsLogic(String formattedValue) {
+        if (formattedValue == null) {
             return false;
         }
+        if (formattedValue.contains(this.keyword)) {
+            return true;
+        }
+        String rawValue = formattedValue.replace("$", "").replace(",", "");
+        return rawValue.contains(this.keyword);
     }
 
     @Override
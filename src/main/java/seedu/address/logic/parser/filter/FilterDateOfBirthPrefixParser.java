@@ -0,0 +1,268 @@
+package seedu.address.logic.parser.filter;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_BIRTH;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+
+/**
+ * Parses the date of birth and age prefixes of the filter command into a range of dates of birth.
+ * This parser implements the following logic:<br>
+ * 1. For date of birth, an optional operator (>, <, >=, <=, =) followed by a date (e.g. {@code dob/>=1980-01-01})
+ * selects the dates of birth on the given side of the date. Without an operator, it defaults to a case-insensitive
+ * "contains" search on the date of birth (e.g. {@code dob/-10-}).<br>
+ * 2. For age, a whole number (e.g. {@code age/30}), an inclusive range (e.g. {@code age/30-45}) or an operator followed
+ * by a whole number (e.g. {@code age/>=30}) selects the persons whose age today is in range.<br>
+ * Both are converted once into an inclusive range of epoch days, so each person is tested by comparing their stored
+ * epoch day without parsing their date of birth or computing their age. Persons with an unspecified date of birth never
+ * match a range.
+ */
+public class FilterDateOfBirthPrefixParser implements FilterPrefixParser {
+
+    public static final String MESSAGE_INVALID_DATE =
+            "Invalid date for date of birth comparison: '%s'.\n"
+                    + "The date must be a valid date in the format yyyy-MM-dd (e.g., '1980-01-01').";
+    public static final String MESSAGE_INVALID_AGE =
+            "Invalid age: '%s'.\n"
+                    + "Age must be a whole number (e.g., '30'), a range of whole numbers (e.g., '30-45'), "
+                    + "or an operator followed by a whole number (e.g., '>=30').";
+    public static final String MESSAGE_REVERSED_AGE_RANGE =
+            "Invalid age range: '%s'.\n"
+                    + "The first age of a range must not be greater than the second (e.g., '30-45').";
+
+    private static final Pattern OPERATOR_PATTERN = Pattern.compile("^(([<>]=?)|=)?\\s*(.*)$");
+    private static final Pattern AGE_RANGE_PATTERN = Pattern.compile("^(\\d{1,3})\\s*-\\s*(\\d{1,3})$");
+    private static final String AGE_REGEX = "^\\d{1,3}$";
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    private final Logger logger = LogsCenter.getLogger(FilterDateOfBirthPrefixParser.class);
+    private final Prefix prefix;
+    private String keyword;
+
+    private boolean isContainsLogic;
+    private long minEpochDay;
+    private long maxEpochDay;
+
+    /**
+     * Constructs a {@code FilterDateOfBirthPrefixParser}.
+     *
+     * @param prefix Either the date of birth or the age prefix.
+     */
+    public FilterDateOfBirthPrefixParser(Prefix prefix) {
+        requireNonNull(prefix);
+        assert prefix.equals(PREFIX_DATE_OF_BIRTH) || prefix.equals(PREFIX_AGE);
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Prefix getPrefix() {
+        return this.prefix;
+    }
+
+    @Override
+    public void parse(String args) throws ParseException {
+        logger.info("Parsing date of birth prefix arguments: " + args);
+        requireNonNull(args);
+        Matcher matcher = OPERATOR_PATTERN.matcher(args);
+        if (!matcher.matches()) {
+            // This should never happen
+            logger.warning("Error occurred trying to parse date of birth prefix arguments.");
+            throw new ParseException("Unexpected parser error");
+        }
+
+        String operator = matcher.group(1);
+        String value = matcher.group(3).trim();
+        if (value.isEmpty() && operator != null) {
+            throw new ParseException(String.format(
+                    FilterComparisonPrefixParser.MESSAGE_MISSING_VALUE_AFTER_OPERATOR, operator, this.prefix));
+        }
+
+        this.keyword = operator == null ? value : operator + value;
+        this.isContainsLogic = false;
+        if (this.prefix.equals(PREFIX_AGE)) {
+            parseAgeRange(operator, value);
+        } else if (operator != null) {
+            parseDateRange(operator, value);
+        } else {
+            this.isContainsLogic = true;
+            this.keyword = value.toLowerCase();
+        }
+    }
+
+    /**
+     * Sets the range of epoch days to the dates of birth on the side of the date given by {@code operator}.
+     */
+    private void parseDateRange(String operator, String value) throws ParseException {
+        long epochDay;
+        try {
+            epochDay = LocalDate.parse(value, FORMATTER).toEpochDay();
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_DATE, value));
+        }
+
+        switch (operator) {
+        case ">":
+            setEpochDayRange(epochDay + 1, Long.MAX_VALUE);
+            break;
+        case ">=":
+            setEpochDayRange(epochDay, Long.MAX_VALUE);
+            break;
+        case "<":
+            setEpochDayRange(Long.MIN_VALUE, epochDay - 1);
+            break;
+        case "<=":
+            setEpochDayRange(Long.MIN_VALUE, epochDay);
+            break;
+        case "=":
+        default:
+            setEpochDayRange(epochDay, epochDay);
+        }
+    }
+
+    /**
+     * Sets the range of epoch days to the dates of birth of persons whose age today is in the range given by
+     * {@code operator} and {@code value}.
+     */
+    private void parseAgeRange(String operator, String value) throws ParseException {
+        Matcher rangeMatcher = AGE_RANGE_PATTERN.matcher(value);
+        if (operator == null && rangeMatcher.matches()) {
+            int minAge = Integer.parseInt(rangeMatcher.group(1));
+            int maxAge = Integer.parseInt(rangeMatcher.group(2));
+            if (minAge > maxAge) {
+                throw new ParseException(String.format(MESSAGE_REVERSED_AGE_RANGE, value));
+            }
+            setAgeRange(minAge, maxAge);
+            return;
+        }
+        if (!value.matches(AGE_REGEX)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_AGE, value));
+        }
+
+        int age = Integer.parseInt(value);
+        if (operator == null) {
+            setAgeRange(age, age);
+            return;
+        }
+        switch (operator) {
+        case ">":
+            setAgeRange(age + 1, Integer.MAX_VALUE);
+            break;
+        case ">=":
+            setAgeRange(age, Integer.MAX_VALUE);
+            break;
+        case "<":
+            setAgeRange(0, age - 1);
+            break;
+        case "<=":
+            setAgeRange(0, age);
+            break;
+        case "=":
+        default:
+            setAgeRange(age, age);
+        }
+    }
+
+    /**
+     * Sets the range of epoch days to the dates of birth of persons who are between {@code minAge} and
+     * {@code maxAge} years old today, inclusive. {@code maxAge} of {@code Integer.MAX_VALUE} means no upper bound.
+     */
+    private void setAgeRange(int minAge, int maxAge) {
+        LocalDate today = LocalDate.now();
+        // A person is at least minAge years old if they were born on or before today minus minAge years,
+        // and at most maxAge years old if they were born after today minus (maxAge + 1) years
+        long maxEpochDay = today.minusYears(minAge).toEpochDay();
+        long minEpochDay = maxAge == Integer.MAX_VALUE
+                ? Long.MIN_VALUE
+                : today.minusYears(maxAge + 1L).toEpochDay() + 1;
+        setEpochDayRange(minEpochDay, maxEpochDay);
+    }
+
+    private void setEpochDayRange(long minEpochDay, long maxEpochDay) {
+        this.minEpochDay = minEpochDay;
+        this.maxEpochDay = maxEpochDay;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        DateOfBirth dateOfBirth = person.getDateOfBirth();
+        if (this.isContainsLogic) {
+            return dateOfBirth.getValue().toLowerCase().contains(this.keyword);
+        }
+        if (dateOfBirth.isUnspecified()) {
+            return false;
+        }
+        int epochDay = dateOfBirth.getEpochDay();
+        return epochDay >= this.minEpochDay && epochDay <= this.maxEpochDay;
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * Ranges of dates of birth can be applied to rows, but "contains" searches cannot.
+     */
+    @Override
+    public boolean canFilterRows() {
+        return !this.isContainsLogic;
+    }
+
+    @Override
+    public void retainMatchingRows(PersonColumns columns, BitSet rows) {
+        requireAllNonNull(columns, rows);
+        if (!canFilterRows()) {
+            throw new UnsupportedOperationException();
+        }
+        columns.retainRowsWithDateOfBirthEpochDaysBetween(this.minEpochDay, this.maxEpochDay, rows);
+    }
+
+    @Override
+    public String getArg() {
+        return this.prefix.getPrefix() + this.keyword;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("prefix", this.prefix)
+                .add("user input", this.keyword)
+                .toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterDateOfBirthPrefixParser)) {
+            return false;
+        }
+
+        FilterDateOfBirthPrefixParser otherParser = (FilterDateOfBirthPrefixParser) other;
+        return this.prefix.equals(otherParser.prefix)
+                && this.keyword.equals(otherParser.keyword);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.prefix, this.keyword);
+    }
+}
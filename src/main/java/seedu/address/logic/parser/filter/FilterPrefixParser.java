@@ -1,8 +1,11 @@
 package seedu.address.logic.parser.filter;
 
+import java.util.BitSet;
+
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
 
 /**
  * Represents a parser for a specific filter prefix.
@@ -32,6 +35,24 @@ public interface FilterPrefixParser {
      */
     boolean test(Person person);
 
+    /**
+     * Returns true if this filter can also be applied to the rows of a {@code PersonColumns}
+     * with {@link #retainMatchingRows(PersonColumns, BitSet)}.
+     */
+    default boolean canFilterRows() {
+        return false;
+    }
+
+    /**
+     * Clears the bits in {@code rows} of the rows of {@code columns} whose persons do not match this filter.
+     * A row matches if and only if {@link #test(Person)} is true for its person.
+     *
+     * @throws UnsupportedOperationException if {@link #canFilterRows()} is false.
+     */
+    default void retainMatchingRows(PersonColumns columns, BitSet rows) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Returns a string representation of the filter arguments this parser holds, formatted for display.
      * The format should be the prefix followed by the keyword(s). For parsers that handle
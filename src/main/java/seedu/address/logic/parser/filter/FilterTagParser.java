@@ -13,6 +13,7 @@ import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Parses prefixes that a Person is able to store multiple values of (Tag only).
@@ -57,10 +58,13 @@ public class FilterTagParser implements FilterPrefixParser {
             return true;
         }
         // All specified tags must be present in the person's tags
-        return this.parsedTags.stream()
-                .allMatch(filterTag -> person.getTags().stream()
-                        .anyMatch(personTag ->
-                                personTag.tagName.toLowerCase().contains(filterTag.tagName.toLowerCase())));
+        TagSet personTags = person.getTags();
+        for (Tag filterTag : this.parsedTags) {
+            if (!personTags.contains(filterTag) && !personTags.hasTagNameContaining(filterTag.tagName)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
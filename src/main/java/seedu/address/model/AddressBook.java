@@ -2,12 +2,14 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.model.person.PersonRecordStore;
+import seedu.address.model.person.PersonSnapshot;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -18,27 +20,41 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
-        persons = new UniquePersonList();
+    public AddressBook() {
+        this(new UniquePersonList());
     }
 
-    public AddressBook() {}
-
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}.
+     * If {@code toBeCopied} is an {@code AddressBook}, the copy keeps its persons in the same way.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
-        this();
+        this(toBeCopied instanceof AddressBook
+                ? ((AddressBook) toBeCopied).persons.createEmptyCopy()
+                : new UniquePersonList());
         resetData(toBeCopied);
     }
 
+    private AddressBook(UniquePersonList persons) {
+        this.persons = persons;
+    }
+
+    /**
+     * Returns an empty AddressBook that keeps its persons in {@code store} rather than in memory, with up to
+     * {@code cacheCapacity} persons in memory at a time.
+     */
+    public static AddressBook createPaged(PersonRecordStore store, int cacheCapacity) {
+        return new AddressBook(new UniquePersonList(store, cacheCapacity));
+    }
+
+    /**
+     * Returns an AddressBook of the persons in {@code snapshot}, which keeps its persons in {@code store}, with up to
+     * {@code cacheCapacity} persons in memory at a time. No person is read until it is asked for.
+     */
+    public static AddressBook createPaged(PersonRecordStore store, int cacheCapacity, PersonSnapshot snapshot) {
+        return new AddressBook(new UniquePersonList(store, cacheCapacity, snapshot));
+    }
+
     //// list overwrite operations
 
     /**
@@ -55,6 +71,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // Avoids checking the persons for duplicates again, and lets paged address books share their records
+            persons.setPersons(((AddressBook) newData).persons);
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -76,6 +97,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code persons} to the end of the address book.
+     * No person in {@code persons} may already exist in the address book or appear in {@code persons} more than once.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -95,13 +124,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
-    /**
-     * Sorts the person list by name in alphabetical order.
-     */
-    public void sortPersonList(Comparator<Person> comparator) {
-        persons.sort(comparator);
-    }
-
     //// util methods
 
     @Override
@@ -116,6 +138,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the numeric and categorical fields of the persons in {@link #getPersonList()}, in the same order.
+     * The columns are kept up to date as the person list changes.
+     */
+    public PersonColumns getPersonColumns() {
+        return persons.getPersonColumns();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,416 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonOrder;
+
+/**
+ * An unmodifiable view of the persons of an address book that match a predicate, in the order of the active
+ * {@code PersonOrder}, or in their stored order if no sort is active.
+ * Only the positions (rows) of the persons in the address book are kept, and a person is read from the address book
+ * when the view is asked for it, so that a paged address book only reads the persons on screen.
+ * Whether each row matches the predicate is kept as well, so that a change to the address book only tests the added
+ * persons. Added persons are inserted at their sorted position if a sort is active, or at their stored position
+ * otherwise, which keeps a replaced person at its displayed position.
+ */
+class DisplayedPersonList extends ObservableListBase<Person> {
+
+    private final ObservableList<Person> persons;
+    private final PersonColumns personColumns;
+
+    private Predicate<? super Person> predicate = Model.PREDICATE_SHOW_ALL_PERSONS;
+    private PersonOrder sorter;
+
+    /** The rows of all persons, in display order. */
+    private int[] order = new int[0];
+    private int rowCount;
+
+    /** The rows of the persons that match the predicate. */
+    private BitSet matches = new BitSet();
+
+    /** The positions in {@code order} of the displayed persons, in increasing order. */
+    private int[] shown = new int[0];
+    private int shownCount;
+
+    /**
+     * Creates a view of all {@code persons} in their stored order, which follows the changes to {@code persons}.
+     *
+     * @param personColumns The columns of {@code persons}, which must be updated before this view is notified.
+     */
+    DisplayedPersonList(ObservableList<Person> persons, PersonColumns personColumns) {
+        this.persons = requireNonNull(persons);
+        this.personColumns = requireNonNull(personColumns);
+        rebuild();
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    @Override
+    public Person get(int index) {
+        Objects.checkIndex(index, shownCount);
+        return persons.get(order[shown[index]]);
+    }
+
+    @Override
+    public int size() {
+        return shownCount;
+    }
+
+    /**
+     * Shows only the persons that match {@code predicate}.
+     * If {@code predicate} is a {@code PersonContainsKeywordsPredicate} with filters that can be applied to rows,
+     * those filters are applied to the {@code PersonColumns} in a single scan, and only the persons in the remaining
+     * rows are read.
+     */
+    void setPredicate(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        int[] oldRows = getDisplayedRows();
+        this.predicate = predicate;
+        matches = findMatches();
+        updateShown();
+        fireReplaced(new RowList(persons, oldRows));
+    }
+
+    /**
+     * Shows the persons in the order of {@code sorter}, which is also used to place the persons added later.
+     */
+    void sort(PersonOrder sorter) {
+        requireNonNull(sorter);
+        int[] oldRows = getDisplayedRows();
+        this.sorter = sorter;
+        order = sorter.sortedPositions(persons, personColumns);
+        updateShown();
+        fireReplaced(new RowList(persons, oldRows));
+    }
+
+    /**
+     * Defers the changes to this view until the matching {@link #endBatch()}, which fires them as one change.
+     * Batches may be nested, in which case the changes are fired when the outermost batch ends.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    /**
+     * Rebuilds the order, matches and displayed positions of all rows.
+     */
+    private void rebuild() {
+        rowCount = persons.size();
+        if (sorter == null) {
+            order = new int[rowCount];
+            Arrays.setAll(order, row -> row);
+        } else {
+            order = sorter.sortedPositions(persons, personColumns);
+        }
+        matches = findMatches();
+        updateShown();
+    }
+
+    private BitSet findMatches() {
+        BitSet rows = new BitSet(rowCount);
+        rows.set(0, rowCount);
+        if (predicate == Model.PREDICATE_SHOW_ALL_PERSONS) {
+            return rows;
+        }
+
+        Predicate<? super Person> remainingPredicate = predicate;
+        if (predicate instanceof PersonContainsKeywordsPredicate
+                && ((PersonContainsKeywordsPredicate) predicate).hasRowFilters()) {
+            PersonContainsKeywordsPredicate keywordsPredicate = (PersonContainsKeywordsPredicate) predicate;
+            keywordsPredicate.retainMatchingRows(personColumns, rows);
+            remainingPredicate = keywordsPredicate::testNonRowFilters;
+        }
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (!remainingPredicate.test(persons.get(row))) {
+                rows.clear(row);
+            }
+        }
+        return rows;
+    }
+
+    private void updateShown() {
+        shown = new int[matches.cardinality()];
+        shownCount = 0;
+        for (int position = 0; position < rowCount; position++) {
+            if (matches.get(order[position])) {
+                shown[shownCount++] = position;
+            }
+        }
+    }
+
+    private int[] getDisplayedRows() {
+        int[] rows = new int[shownCount];
+        for (int i = 0; i < shownCount; i++) {
+            rows[i] = order[shown[i]];
+        }
+        return rows;
+    }
+
+    private void fireReplaced(List<Person> oldPersons) {
+        beginChange();
+        if (!oldPersons.isEmpty()) {
+            nextRemove(0, oldPersons);
+        }
+        if (shownCount > 0) {
+            nextAdd(0, shownCount);
+        }
+        endChange();
+    }
+
+    //=========== Following changes to the persons ============================================================
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        change.next();
+        boolean isSingleChange = !change.wasPermutated() && !change.wasUpdated() && !change.next();
+        change.reset();
+
+        if (!isSingleChange) {
+            // Not caused by the address book, which only adds, replaces and removes persons one change at a time
+            List<Person> oldPersons = reconstructOldPersons(change);
+            int[] oldRows = getDisplayedRows();
+            rebuild();
+            fireReplaced(new RowList(oldPersons, oldRows));
+            return;
+        }
+
+        change.next();
+        if (isReset(change)) {
+            int[] oldRows = getDisplayedRows();
+            rebuild();
+            fireReplaced(new RowList(change.getRemoved(), oldRows));
+            return;
+        }
+
+        int from = change.getFrom();
+        beginChange();
+        removeRows(from, change.getRemoved());
+        int addedCount = change.getAddedSize();
+        shiftRows(from + change.getRemovedSize(), addedCount - change.getRemovedSize());
+        matches = spliceRows(matches, from, change.getRemovedSize(), addedCount);
+        for (int row = from; row < from + addedCount; row++) {
+            insertRow(row, persons.get(row));
+        }
+        endChange();
+    }
+
+    /**
+     * Returns true if {@code change} replaces all the persons at once, e.g. when the address book is reset, or fills
+     * an empty list, e.g. when the data file is loaded, in which case rebuilding is cheaper than inserting each row.
+     * Removing the only person is not a reset, as no person replaces it.
+     */
+    private boolean isReset(ListChangeListener.Change<? extends Person> change) {
+        boolean isWholeList = change.getFrom() == 0 && change.getRemovedSize() == rowCount
+                && change.getTo() == persons.size();
+        return isWholeList && (change.wasReplaced() || rowCount == 0);
+    }
+
+    /**
+     * Removes the rows from {@code from} of the {@code removedPersons}, without renumbering the other rows.
+     */
+    private void removeRows(int from, List<? extends Person> removedPersons) {
+        int end = from + removedPersons.size();
+        int keptCount = 0;
+        int keptShownCount = 0;
+        int shownIndex = 0;
+        for (int position = 0; position < rowCount; position++) {
+            boolean isShown = shownIndex < shownCount && shown[shownIndex] == position;
+            if (isShown) {
+                shownIndex++;
+            }
+            int row = order[position];
+            if (row >= from && row < end) {
+                if (isShown) {
+                    nextRemove(keptShownCount, removedPersons.get(row - from));
+                }
+                continue;
+            }
+            order[keptCount] = row;
+            if (isShown) {
+                shown[keptShownCount++] = keptCount;
+            }
+            keptCount++;
+        }
+        rowCount = keptCount;
+        shownCount = keptShownCount;
+    }
+
+    /**
+     * Adds {@code offset} to every row from {@code from}.
+     */
+    private void shiftRows(int from, int offset) {
+        if (offset == 0) {
+            return;
+        }
+        for (int position = 0; position < rowCount; position++) {
+            if (order[position] >= from) {
+                order[position] += offset;
+            }
+        }
+    }
+
+    private void insertRow(int row, Person person) {
+        boolean isMatch = predicate.test(person);
+        if (isMatch) {
+            matches.set(row);
+        }
+
+        int position = findPosition(row, person);
+        order = insert(order, rowCount++, position, row);
+        int shownIndex = lowerBound(shown, shownCount, position);
+        for (int i = shownIndex; i < shownCount; i++) {
+            shown[i]++;
+        }
+        if (isMatch) {
+            shown = insert(shown, shownCount++, shownIndex, position);
+            nextAdd(shownIndex, shownIndex + 1);
+        }
+    }
+
+    /**
+     * Returns the position in {@code order} at which to insert {@code row}, which holds {@code person}.
+     * With an active sort, this is found by binary search and is after all persons that compare equal to
+     * {@code person}, so that ties keep the order in which persons were added. Otherwise, rows are kept in order.
+     */
+    private int findPosition(int row, Person person) {
+        if (sorter == null) {
+            return lowerBound(order, rowCount, row + 1);
+        }
+
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorter.compare(persons.get(order[mid]), person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first of the {@code length} ascending values in {@code array} that is not less than
+     * {@code value}.
+     */
+    private static int lowerBound(int[] array, int length, int value) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Inserts {@code value} at {@code index} of the first {@code length} values of {@code array}, and returns the
+     * array, which is a larger copy if {@code array} was full.
+     */
+    private static int[] insert(int[] array, int length, int index, int value) {
+        int[] result = array;
+        if (length == array.length) {
+            result = Arrays.copyOf(array, Math.max(16, length + (length >> 1)));
+        }
+        System.arraycopy(result, index, result, index + 1, length - index);
+        result[index] = value;
+        return result;
+    }
+
+    /**
+     * Returns a copy of {@code rows} in which the {@code removedCount} rows from {@code from} are replaced by
+     * {@code addedCount} unset rows.
+     */
+    private static BitSet spliceRows(BitSet rows, int from, int removedCount, int addedCount) {
+        BitSet result = rows.get(0, from);
+        int end = from + removedCount;
+        for (int row = rows.nextSetBit(end); row >= 0; row = rows.nextSetBit(row + 1)) {
+            result.set(row - removedCount + addedCount);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the persons before {@code change}, by undoing each of its changes on a copy of the persons after it.
+     */
+    private static List<Person> reconstructOldPersons(ListChangeListener.Change<? extends Person> change) {
+        List<int[]> ranges = new ArrayList<>();
+        List<List<? extends Person>> removedLists = new ArrayList<>();
+        List<int[]> permutations = new ArrayList<>();
+        while (change.next()) {
+            ranges.add(new int[] {change.getFrom(), change.getTo()});
+            removedLists.add(change.wasPermutated() || change.wasUpdated() ? null : change.getRemoved());
+            int[] permutation = null;
+            if (change.wasPermutated()) {
+                permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = 0; i < permutation.length; i++) {
+                    permutation[i] = change.getPermutation(change.getFrom() + i);
+                }
+            }
+            permutations.add(permutation);
+        }
+
+        List<Person> oldPersons = new ArrayList<>(change.getList());
+        for (int i = ranges.size() - 1; i >= 0; i--) {
+            int from = ranges.get(i)[0];
+            int to = ranges.get(i)[1];
+            if (permutations.get(i) != null) {
+                List<Person> permuted = new ArrayList<>(oldPersons.subList(from, to));
+                for (int j = 0; j < permuted.size(); j++) {
+                    oldPersons.set(from + j, permuted.get(permutations.get(i)[j] - from));
+                }
+            } else if (removedLists.get(i) != null) {
+                oldPersons.subList(from, to).clear();
+                oldPersons.addAll(from, removedLists.get(i));
+            }
+        }
+        return oldPersons;
+    }
+
+    /**
+     * An unmodifiable list of the persons in some rows of a list, which are read on demand.
+     */
+    private static class RowList extends AbstractList<Person> {
+        private final List<? extends Person> source;
+        private final int[] rows;
+
+        RowList(List<? extends Person> source, int[] rows) {
+            this.source = source;
+            this.rows = rows;
+        }
+
+        @Override
+        public Person get(int index) {
+            return source.get(rows[index]);
+        }
+
+        @Override
+        public int size() {
+            return rows.length;
+        }
+    }
+}
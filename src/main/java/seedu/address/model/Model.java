@@ -2,12 +2,14 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.insurance.InsurancePackage;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
 
 /**
  * The API of the Model component.
@@ -72,6 +74,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons to the end of the address book, without changing which persons are displayed.
+     * No person in {@code persons} may already exist in the address book or appear in {@code persons} more than once.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -89,9 +97,23 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * Sorts the person list by name in alphabetical order.
+     * Defers the changes to the filtered person list until the matching {@link #endPersonListBatch()}, which fires
+     * them as one change, e.g. so that the UI refreshes once for a batch of commands. The list itself is still
+     * updated by each change, so an index refers to the persons displayed at the time. Batches may be nested.
+     */
+    void beginPersonListBatch();
+
+    /**
+     * Ends the batch started by the matching {@link #beginPersonListBatch()}.
+     */
+    void endPersonListBatch();
+
+    /**
+     * Displays the persons in {@code order}, which stays active for later changes to the address book:
+     * added and edited persons are displayed at their sorted position instead of at the end of the list.
+     * Only the displayed order changes; the order of persons stored in the address book is left untouched.
      */
-    void sortPersonList(Comparator<Person> comparator);
+    void sortPersonList(PersonOrder order);
 
     /**
      * Returns the user prefs' insurance catalog file path.
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,6 +15,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.insurance.InsurancePackage;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,7 +27,7 @@ public class ModelManager implements Model {
     private final InsuranceCatalog insuranceCatalog;
     private final UserPrefs userPrefs;
     private final FilteredList<InsurancePackage> filteredInsurancePackages;
-    private final FilteredList<Person> filteredPersons;
+    private final DisplayedPersonList displayedPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -43,7 +45,8 @@ public class ModelManager implements Model {
         this.insuranceCatalog = new InsuranceCatalog(insuranceCatalog);
         this.userPrefs = new UserPrefs(userPrefs);
         this.filteredInsurancePackages = new FilteredList<>(this.insuranceCatalog.getInsurancePackageList());
-        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.displayedPersons = new DisplayedPersonList(this.addressBook.getPersonList(),
+                this.addressBook.getPersonColumns());
     }
 
     public ModelManager() {
@@ -125,6 +128,11 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -133,8 +141,9 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void sortPersonList(Comparator<Person> comparator) {
-        addressBook.sortPersonList(comparator);
+    public void sortPersonList(PersonOrder order) {
+        requireNonNull(order);
+        displayedPersons.sort(order);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -145,13 +154,28 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return displayedPersons;
     }
 
+    /**
+     * {@inheritDoc}<br>
+     * If {@code predicate} is a {@code PersonContainsKeywordsPredicate} with filters that can be applied to rows,
+     * those filters are applied to the {@code PersonColumns} of the address book in a single scan.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        displayedPersons.setPredicate(predicate);
+    }
+
+    @Override
+    public void beginPersonListBatch() {
+        displayedPersons.beginBatch();
+    }
+
+    @Override
+    public void endPersonListBatch() {
+        displayedPersons.endBatch();
     }
 
     //=========== Insurance Package-Level Accessors ==========================================================
@@ -220,7 +244,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && displayedPersons.equals(otherModelManager.displayedPersons)
                 && insuranceCatalog.equals(otherModelManager.insuranceCatalog);
         // filteredInsurancePackages is order dependent, while insuranceCatalog is not
     }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Locale;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -13,9 +14,12 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String DEFAULT_SORT_LOCALE = Locale.ENGLISH.toLanguageTag();
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path insuranceCatalogFilePath = Paths.get("data", "insurancecatalog.json");
+    private String sortLocale = DEFAULT_SORT_LOCALE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +42,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setInsuranceCatalogFilePath(newUserPrefs.getInsuranceCatalogFilePath());
+        setSortLocale(newUserPrefs.getSortLocale());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +72,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.insuranceCatalogFilePath = insuranceCatalogFilePath;
     }
 
+    public String getSortLocale() {
+        return sortLocale;
+    }
+
+    /**
+     * Sets the locale whose rules are used to sort names and addresses, as an IETF BCP 47 language tag (e.g. "fr-CA").
+     */
+    public void setSortLocale(String sortLocale) {
+        requireNonNull(sortLocale);
+        this.sortLocale = sortLocale;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -81,12 +98,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && insuranceCatalogFilePath.equals(otherUserPrefs.insuranceCatalogFilePath);
+                && insuranceCatalogFilePath.equals(otherUserPrefs.insuranceCatalogFilePath)
+                && sortLocale.equals(otherUserPrefs.sortLocale);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, insuranceCatalogFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, insuranceCatalogFilePath, sortLocale);
     }
 
     @Override
@@ -95,6 +113,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nInsurance Catalog file location : " + insuranceCatalogFilePath);
+        sb.append("\nSort locale : " + sortLocale);
         return sb.toString();
     }
 
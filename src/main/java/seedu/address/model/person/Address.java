@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -20,6 +23,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Address> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -28,16 +33,37 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, false);
+    }
+
+    private Address(String address, boolean isKnownValid) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
     }
 
+    /**
+     * Returns the {@code Address} with {@code address}, shared with all other equal addresses created by this method.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return INTERNER.intern(new Address(address));
+    }
+
+    /**
+     * Returns the {@code Address} with {@code address} as {@link #of(String)} does, but without validating it, for an
+     * address that is known to be valid.
+     */
+    public static Address ofValidated(String address) {
+        return INTERNER.intern(new Address(address, true));
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isNonBlankLine(test);
     }
 
     @Override
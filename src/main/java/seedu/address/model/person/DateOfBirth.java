@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
@@ -20,31 +21,56 @@ public class DateOfBirth {
 
     public static final String UNSPECIFIED_VALUE = "Unspecified";
 
+    /** The epoch day of an unspecified date of birth, which is not the epoch day of any valid date of birth. */
+    public static final int UNSPECIFIED_EPOCH_DAY = Integer.MIN_VALUE;
+
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd")
             .withResolverStyle(ResolverStyle.STRICT);
-    private final String value;
+
+    /** Today, created on first use by {@link #getTodayEpochDay()} and replaced once it has passed. */
+    private static volatile Today today;
+
+    private final int epochDay;
+
+    /** The date of birth in yyyy-MM-dd format, created on first use by {@link #getValue()}. */
+    private String value;
 
     /**
      * Constructs a {@code DateOfBirth}.
+     * Stores the date of birth as an epoch day, so that it can be compared without parsing.
      *
      * @param dateOfBirth A valid date of birth in yyyy-MM-dd format.
      */
     public DateOfBirth(String dateOfBirth) {
         requireNonNull(dateOfBirth);
-        checkArgument(isValidDateOfBirth(dateOfBirth), MESSAGE_CONSTRAINTS);
 
         if (dateOfBirth.equalsIgnoreCase(UNSPECIFIED_VALUE)) {
-            this.value = UNSPECIFIED_VALUE;
+            this.epochDay = UNSPECIFIED_EPOCH_DAY;
         } else {
-            value = dateOfBirth;
+            LocalDate parsedDate = parseDateOfBirth(dateOfBirth);
+            checkArgument(parsedDate != null, MESSAGE_CONSTRAINTS);
+            this.epochDay = (int) parsedDate.toEpochDay();
         }
     }
 
     /**
-     * @return The raw date of birth value as a string.
+     * @return The date of birth in yyyy-MM-dd format, or "Unspecified".
      */
     public String getValue() {
-        return this.value;
+        String formatted = value;
+        if (formatted == null) {
+            formatted = isUnspecified() ? UNSPECIFIED_VALUE : LocalDate.ofEpochDay(epochDay).format(FORMATTER);
+            value = formatted;
+        }
+        return formatted;
+    }
+
+    /**
+     * @return The date of birth as the number of days since 1970-01-01,
+     *     or {@link #UNSPECIFIED_EPOCH_DAY} if the date of birth is unspecified.
+     */
+    public int getEpochDay() {
+        return this.epochDay;
     }
 
     /**
@@ -57,25 +83,54 @@ public class DateOfBirth {
     }
 
     /**
-     * Parses the string to a LocalDate and checks if it is an invalid format or is in the future.
      * Returns true if a given string is a valid date of birth.
      */
     public static boolean isValidDateOfBirth(String test) {
-        if (test.equalsIgnoreCase(UNSPECIFIED_VALUE)) {
-            return true;
-        }
+        return test.equalsIgnoreCase(UNSPECIFIED_VALUE) || parseDateOfBirth(test) != null;
+    }
+
+    /**
+     * Parses the string to a LocalDate, or returns null if it is in an invalid format, is in the future,
+     * or is too far in the past for its epoch day to fit in an {@code int}.
+     */
+    private static LocalDate parseDateOfBirth(String dateOfBirth) {
         try {
-            LocalDate parsedDate = LocalDate.parse(test, FORMATTER);
-            return !parsedDate.isAfter(LocalDate.now());
+            LocalDate parsedDate = LocalDate.parse(dateOfBirth, FORMATTER);
+            long epochDay = parsedDate.toEpochDay();
+            if (epochDay > getTodayEpochDay() || epochDay <= UNSPECIFIED_EPOCH_DAY) {
+                return null;
+            }
+            return parsedDate;
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
+    /**
+     * Returns the epoch day of today in the default time zone.
+     * Today is only worked out again once it has passed, so that validating every date of birth of a data file
+     * only reads the clock rather than working out the date each time.
+     */
+    private static long getTodayEpochDay() {
+        Today current = today;
+        long nowMillis = System.currentTimeMillis();
+        if (current == null || nowMillis >= current.endMillis) {
+            current = new Today(LocalDate.now());
+            today = current;
+        }
+        return current.epochDay;
+    }
+
+    /**
+     * Returns true if the date of birth is unspecified.
+     */
+    public boolean isUnspecified() {
+        return this.epochDay == UNSPECIFIED_EPOCH_DAY;
+    }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -90,11 +145,24 @@ public class DateOfBirth {
         }
 
         DateOfBirth otherDateOfBirth = (DateOfBirth) other;
-        return value.equals(otherDateOfBirth.value);
+        return epochDay == otherDateOfBirth.epochDay;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(epochDay);
+    }
+
+    /**
+     * A date and the time at which it ends in the default time zone.
+     */
+    private static class Today {
+        private final long epochDay;
+        private final long endMillis;
+
+        Today(LocalDate date) {
+            epochDay = date.toEpochDay();
+            endMillis = date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
     }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -39,16 +41,28 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    private Email(String email, boolean isKnownValid) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email.toLowerCase();
     }
 
+    /**
+     * Returns an {@code Email} of {@code email} without validating it, for an email address that is known to be
+     * valid. Validating an email is the most costly of the checks on a person.
+     */
+    public static Email ofValidated(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isValidEmail(test);
     }
 
     @Override
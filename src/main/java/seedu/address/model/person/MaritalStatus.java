@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's marital status in the address book.
  * Guarantees: immutable; must be one of the predefined constants in {@link MaritalStatusEnum}.
@@ -15,6 +17,8 @@ public class MaritalStatus {
 
     public static final String UNSPECIFIED_VALUE = "Unspecified";
 
+    private static final Interner<MaritalStatus> INTERNER = new Interner<>();
+
     private final String value;
 
     /**
@@ -35,12 +39,22 @@ public class MaritalStatus {
         return this.value;
     }
 
+    /**
+     * Returns the {@code MaritalStatus} with {@code maritalStatus}, shared with all other equal marital statuses
+     * created by this method.
+     *
+     * @param maritalStatus A valid marital status.
+     */
+    public static MaritalStatus of(String maritalStatus) {
+        return INTERNER.intern(new MaritalStatus(maritalStatus));
+    }
+
     /**
      * Static factory method for creating the default "Unspecified" MaritalStatus
      * @return A MaritalStatus object with value "Unspecified".
      */
     public static MaritalStatus createUnspecified() {
-        return new MaritalStatus(UNSPECIFIED_VALUE);
+        return of(UNSPECIFIED_VALUE);
     }
 
 
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -15,11 +17,6 @@ public class Name {
                     + "quotes. \n"
                     + "Example: n/\"Peter s/o John\"";
 
-    /*
-     * The first character of the address must not be a whitespace,
-     * otherwise " " (a blank string) becomes a valid input.
-     */
-    private static final String VALIDATION_REGEX = "[\\p{L}\\p{M}\\p{N}\\s'\\-\\.\\(\\)/]+";
     private static final String DELIMITERS = " -'/.()";
     public final String fullName;
 
@@ -29,14 +26,26 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isKnownValid) {
         requireNonNull(name);
         String trimmedName = name.trim();
 
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidName(name), MESSAGE_CONSTRAINTS);
 
         this.fullName = standardizeName(trimmedName);
     }
 
+    /**
+     * Returns a {@code Name} of {@code name} without validating it, for a name that is known to be valid, such as one
+     * read back from a data file whose names have all been validated before.
+     */
+    public static Name ofValidated(String name) {
+        return new Name(name, true);
+    }
+
     /**
      * Standardizes the name by capitalizing the first letter of each word
      * and converting the rest of the letters to lowercase.
@@ -71,10 +80,9 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isValidName(test);
     }
 
-
     @Override
     public String toString() {
         return fullName;
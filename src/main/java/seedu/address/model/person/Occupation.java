@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Person's occupation in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidOccupation(String)}
@@ -23,6 +26,8 @@ public class Occupation {
 
     public static final String UNSPECIFIED_VALUE = "Unspecified";
 
+    private static final Interner<Occupation> INTERNER = new Interner<>();
+
     private final String value;
 
     /**
@@ -31,8 +36,12 @@ public class Occupation {
      * @param occupation A valid occupation.
      */
     public Occupation(String occupation) {
+        this(occupation, false);
+    }
+
+    private Occupation(String occupation, boolean isKnownValid) {
         requireNonNull(occupation);
-        checkArgument(isValidOccupation(occupation), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidOccupation(occupation), MESSAGE_CONSTRAINTS);
 
         if (occupation.equalsIgnoreCase(UNSPECIFIED_VALUE)) {
             this.value = UNSPECIFIED_VALUE;
@@ -48,19 +57,37 @@ public class Occupation {
         return this.value;
     }
 
+    /**
+     * Returns the {@code Occupation} with {@code occupation}, shared with all other equal occupations created by
+     * this method.
+     *
+     * @param occupation A valid occupation.
+     */
+    public static Occupation of(String occupation) {
+        return INTERNER.intern(new Occupation(occupation));
+    }
+
+    /**
+     * Returns the {@code Occupation} with {@code occupation} as {@link #of(String)} does, but without validating it,
+     * for an occupation that is known to be valid.
+     */
+    public static Occupation ofValidated(String occupation) {
+        return INTERNER.intern(new Occupation(occupation, true));
+    }
+
     /**
      * Static factory method for creating the default "Unspecified" Occupation
      * @return An Occupation object with value "Unspecified".
      */
     public static Occupation createUnspecified() {
-        return new Occupation(UNSPECIFIED_VALUE);
+        return of(UNSPECIFIED_VALUE);
     }
 
     /**
      * Returns true if a given string is a valid occupation.
      */
     public static boolean isValidOccupation(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isNonBlankLine(test);
     }
 
     @Override
@@ -0,0 +1,238 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of persons that are kept in a {@code PersonRecordStore} rather than in memory.
+ * Only the address of the record of each person is held in memory. A person is read from its record when the list
+ * is first asked for it, and the persons read most recently are kept in a bounded LRU cache.
+ * Persons are immutable, so replacing a person writes a new record instead of changing the old one.
+ * Store failures are thrown as {@code UncheckedIOException}.
+ */
+public class PagedPersonList extends ModifiableObservableListBase<Person> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final PersonRecordStore store;
+    private final int cacheCapacity;
+    private final Map<Long, Person> cache;
+    private long[] addresses = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates an empty {@code PagedPersonList} that writes its persons to {@code store} and keeps up to
+     * {@code cacheCapacity} persons in memory.
+     */
+    public PagedPersonList(PersonRecordStore store, int cacheCapacity) {
+        requireNonNull(store);
+        if (cacheCapacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + cacheCapacity);
+        }
+        this.store = store;
+        this.cacheCapacity = cacheCapacity;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Person> eldest) {
+                return size() > PagedPersonList.this.cacheCapacity;
+            }
+        };
+    }
+
+    /**
+     * Creates a {@code PagedPersonList} of the persons in {@code snapshot}, whose records are in {@code store}.
+     */
+    PagedPersonList(PersonRecordStore store, int cacheCapacity, PersonSnapshot snapshot) {
+        this(store, cacheCapacity);
+        size = snapshot.size();
+        addresses = new long[Math.max(size, INITIAL_CAPACITY)];
+        snapshot.readRecordAddresses(addresses);
+    }
+
+    /**
+     * Returns an empty {@code PagedPersonList} with the same store and cache capacity as this list.
+     * Both lists can refer to the same records, so copying the persons of one list to the other is cheap.
+     */
+    public PagedPersonList createEmptyCopy() {
+        return new PagedPersonList(store, cacheCapacity);
+    }
+
+    @Override
+    public Person get(int index) {
+        checkIndex(index, size - 1);
+        return read(addresses[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of persons held in memory.
+     */
+    public int getCachedCount() {
+        return cache.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index, size);
+        long address = write(person);
+        if (size == addresses.length) {
+            addresses = Arrays.copyOf(addresses, size + (size >> 1));
+        }
+        System.arraycopy(addresses, index, addresses, index + 1, size - index);
+        addresses[index] = address;
+        size++;
+    }
+
+    @Override
+    protected Person doSet(int index, Person person) {
+        requireNonNull(person);
+        Person oldPerson = get(index);
+        addresses[index] = write(person);
+        return oldPerson;
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        Person oldPerson = get(index);
+        System.arraycopy(addresses, index + 1, addresses, index, size - index - 1);
+        size--;
+        return oldPerson;
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * The removed persons are not read unless a listener asks for them. If {@code persons} is a
+     * {@code PagedPersonList} with the same store, the records are shared instead of copied.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        long[] oldAddresses = Arrays.copyOf(addresses, size);
+        long[] newAddresses;
+        if (persons instanceof PagedPersonList && ((PagedPersonList) persons).store == store) {
+            PagedPersonList otherList = (PagedPersonList) persons;
+            newAddresses = Arrays.copyOf(otherList.addresses, Math.max(otherList.size, INITIAL_CAPACITY));
+        } else {
+            newAddresses = new long[Math.max(persons.size(), INITIAL_CAPACITY)];
+            int index = 0;
+            for (Person person : persons) {
+                newAddresses[index++] = write(requireNonNull(person));
+            }
+        }
+
+        beginChange();
+        addresses = newAddresses;
+        size = persons.size();
+        if (oldAddresses.length > 0) {
+            nextRemove(0, new RecordList(oldAddresses));
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * The persons held in memory are compared first, by reference, so that removing or replacing a person that was
+     * just read from this list does not read every record.
+     */
+    @Override
+    public int indexOf(Object object) {
+        for (Map.Entry<Long, Person> entry : cache.entrySet()) {
+            if (entry.getValue() == object) {
+                int index = indexOfAddress(entry.getKey());
+                if (index >= 0) {
+                    return index;
+                }
+            }
+        }
+        return super.indexOf(object);
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        int index = indexOf(object);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    private int indexOfAddress(long address) {
+        for (int i = 0; i < size; i++) {
+            if (addresses[i] == address) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Person read(long address) {
+        Person person = cache.get(address);
+        if (person != null) {
+            return person;
+        }
+        try {
+            person = store.read(address);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        cache.put(address, person);
+        return person;
+    }
+
+    private long write(Person person) {
+        long address;
+        try {
+            address = store.append(person);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        cache.put(address, person);
+        return address;
+    }
+
+    private void checkIndex(int index, int maxIndex) {
+        if (index < 0 || index > maxIndex) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * An unmodifiable list of the persons in the records at some addresses, which are read on demand.
+     */
+    private class RecordList extends AbstractList<Person> {
+        private final long[] recordAddresses;
+
+        RecordList(long[] recordAddresses) {
+            this.recordAddresses = recordAddresses;
+        }
+
+        @Override
+        public Person get(int index) {
+            return read(recordAddresses[index]);
+        }
+
+        @Override
+        public int size() {
+            return recordAddresses.length;
+        }
+    }
+}
@@ -2,14 +2,13 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.insurance.InsurancePackage;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -27,7 +26,7 @@ public class Person {
     // Optional data fields
     private final Salary salary;
     private final DateOfBirth dateOfBirth;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
     private final Occupation occupation;
     private final MaritalStatus maritalStatus;
     private final Dependents dependents;
@@ -51,7 +50,7 @@ public class Person {
         this.occupation = occupation;
         this.dependents = dependents;
         this.insurancePackage = insurancePackage;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Name getName() {
@@ -74,8 +73,8 @@ public class Person {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     public Salary getSalary() {
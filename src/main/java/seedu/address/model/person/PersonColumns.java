@@ -0,0 +1,327 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Stores the numeric and categorical fields of a list of persons as one primitive array per field
+ * (a struct of arrays), with row {@code i} holding the fields of the {@code i}-th person in the list.
+ * Scans over a single field, such as filtering or sorting by salary, then read one contiguous array
+ * instead of following references from every {@code Person} to its value objects.
+ * Unspecified values are stored as the unspecified values of their fields, e.g. {@link Salary#UNSPECIFIED_CENTS}.
+ * Insurance packages are stored as codes into a dictionary of the package names that have been seen.
+ */
+public class PersonColumns {
+
+    /** System property that enables vectorised scans of the numeric columns if set to {@code true}. */
+    public static final String VECTOR_SCAN_PROPERTY = "clientcore.vectorScan";
+
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+    static final String VECTOR_ROW_SCANNER_CLASS = "seedu.address.model.person.VectorRowScanner";
+
+    private static final Logger logger = LogsCenter.getLogger(PersonColumns.class);
+    private static final RowScanner ROW_SCANNER = createRowScanner();
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final MaritalStatusEnum[] MARITAL_STATUSES = MaritalStatusEnum.values();
+
+    private final List<String> insurancePackageNames = new ArrayList<>();
+    private final Map<String, Integer> insurancePackageCodes = new HashMap<>();
+
+    private long[] salaryCents = new long[INITIAL_CAPACITY];
+    private int[] dependents = new int[INITIAL_CAPACITY];
+    private int[] dateOfBirthEpochDays = new int[INITIAL_CAPACITY];
+    private byte[] maritalStatusOrdinals = new byte[INITIAL_CAPACITY];
+    private int[] insurancePackageCodeColumn = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates an empty {@code PersonColumns}.
+     */
+    public PersonColumns() {}
+
+    /**
+     * Creates a {@code PersonColumns} holding the fields of {@code persons}.
+     */
+    public PersonColumns(List<? extends Person> persons) {
+        requireNonNull(persons);
+        insert(0, persons);
+    }
+
+    /**
+     * Inserts the fields of {@code person} as a new row at {@code row}.
+     */
+    void insert(int row, Person person) {
+        insert(row, List.of(person));
+    }
+
+    /**
+     * Replaces the fields in {@code row} with those of {@code person}.
+     */
+    void set(int row, Person person) {
+        assert row >= 0 && row < size;
+        setRow(row, person);
+    }
+
+    /**
+     * Removes {@code row}.
+     */
+    void remove(int row) {
+        assert row >= 0 && row < size;
+        remove(row, 1);
+    }
+
+    /**
+     * Replaces all rows with the fields of {@code persons}.
+     */
+    void setAll(List<? extends Person> persons) {
+        size = 0;
+        insert(0, persons);
+    }
+
+    /**
+     * Replaces all rows with copies of the rows of {@code other}.
+     */
+    void setAll(PersonColumns other) {
+        int capacity = Math.max(other.size, INITIAL_CAPACITY);
+        salaryCents = Arrays.copyOf(other.salaryCents, capacity);
+        dependents = Arrays.copyOf(other.dependents, capacity);
+        dateOfBirthEpochDays = Arrays.copyOf(other.dateOfBirthEpochDays, capacity);
+        maritalStatusOrdinals = Arrays.copyOf(other.maritalStatusOrdinals, capacity);
+        insurancePackageCodeColumn = Arrays.copyOf(other.insurancePackageCodeColumn, capacity);
+        insurancePackageNames.clear();
+        insurancePackageNames.addAll(other.insurancePackageNames);
+        insurancePackageCodes.clear();
+        insurancePackageCodes.putAll(other.insurancePackageCodes);
+        size = other.size;
+    }
+
+    /**
+     * Replaces all rows with the fields of the persons in {@code snapshot}, which are copied from the columns of the
+     * snapshot without reading the persons.
+     */
+    void setAll(PersonSnapshot snapshot) {
+        size = 0;
+        insurancePackageNames.clear();
+        insurancePackageCodes.clear();
+        ensureCapacity(snapshot.size());
+        size = snapshot.size();
+        snapshot.readSalaryCents(salaryCents);
+        snapshot.readDependents(dependents);
+        snapshot.readDateOfBirthEpochDays(dateOfBirthEpochDays);
+        snapshot.readMaritalStatusOrdinals(maritalStatusOrdinals);
+        snapshot.readInsurancePackageCodes(insurancePackageCodeColumn);
+
+        List<String> packageNames = snapshot.getInsurancePackageNames();
+        int[] codes = new int[packageNames.size()];
+        boolean isRecoded = false;
+        for (int code = 0; code < codes.length; code++) {
+            codes[code] = encodeInsurancePackage(packageNames.get(code));
+            isRecoded |= codes[code] != code;
+        }
+        if (isRecoded) {
+            for (int row = 0; row < size; row++) {
+                insurancePackageCodeColumn[row] = codes[insurancePackageCodeColumn[row]];
+            }
+        }
+    }
+
+    /**
+     * Inserts the fields of {@code persons} as new rows starting at {@code row}.
+     */
+    void insert(int row, List<? extends Person> persons) {
+        int count = persons.size();
+        ensureCapacity(size + count);
+        shiftRows(row, row + count, size - row);
+        for (int i = 0; i < count; i++) {
+            setRow(row + i, persons.get(i));
+        }
+        size += count;
+    }
+
+    /**
+     * Removes {@code count} rows starting at {@code row}.
+     */
+    private void remove(int row, int count) {
+        if (count == 0) {
+            return;
+        }
+        shiftRows(row + count, row, size - row - count);
+        size -= count;
+    }
+
+    private void setRow(int row, Person person) {
+        salaryCents[row] = person.getSalary().getCents();
+        dependents[row] = person.getDependents().getValue();
+        dateOfBirthEpochDays[row] = person.getDateOfBirth().getEpochDay();
+        maritalStatusOrdinals[row] = (byte) MaritalStatusEnum.fromString(person.getMaritalStatus().getValue())
+                .ordinal();
+        insurancePackageCodeColumn[row] = encodeInsurancePackage(person.getInsurancePackage().getPackageName());
+    }
+
+    private int encodeInsurancePackage(String packageName) {
+        return insurancePackageCodes.computeIfAbsent(packageName, name -> {
+            insurancePackageNames.add(name);
+            return insurancePackageNames.size() - 1;
+        });
+    }
+
+    private void shiftRows(int from, int to, int count) {
+        System.arraycopy(salaryCents, from, salaryCents, to, count);
+        System.arraycopy(dependents, from, dependents, to, count);
+        System.arraycopy(dateOfBirthEpochDays, from, dateOfBirthEpochDays, to, count);
+        System.arraycopy(maritalStatusOrdinals, from, maritalStatusOrdinals, to, count);
+        System.arraycopy(insurancePackageCodeColumn, from, insurancePackageCodeColumn, to, count);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= salaryCents.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, salaryCents.length + (salaryCents.length >> 1));
+        salaryCents = Arrays.copyOf(salaryCents, newCapacity);
+        dependents = Arrays.copyOf(dependents, newCapacity);
+        dateOfBirthEpochDays = Arrays.copyOf(dateOfBirthEpochDays, newCapacity);
+        maritalStatusOrdinals = Arrays.copyOf(maritalStatusOrdinals, newCapacity);
+        insurancePackageCodeColumn = Arrays.copyOf(insurancePackageCodeColumn, newCapacity);
+    }
+
+    /**
+     * Returns the number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the salary of the person in {@code row} in cents, or {@link Salary#UNSPECIFIED_CENTS}.
+     */
+    public long getSalaryCents(int row) {
+        assert row >= 0 && row < size;
+        return salaryCents[row];
+    }
+
+    /**
+     * Returns the number of dependents of the person in {@code row}, or {@link Dependents#UNSPECIFIED_VALUE}.
+     */
+    public int getDependents(int row) {
+        assert row >= 0 && row < size;
+        return dependents[row];
+    }
+
+    /**
+     * Returns the date of birth of the person in {@code row} as an epoch day,
+     * or {@link DateOfBirth#UNSPECIFIED_EPOCH_DAY}.
+     */
+    public int getDateOfBirthEpochDay(int row) {
+        assert row >= 0 && row < size;
+        return dateOfBirthEpochDays[row];
+    }
+
+    /**
+     * Returns the marital status of the person in {@code row}.
+     */
+    public MaritalStatusEnum getMaritalStatus(int row) {
+        assert row >= 0 && row < size;
+        return MARITAL_STATUSES[maritalStatusOrdinals[row]];
+    }
+
+    /**
+     * Returns the code of the insurance package of the person in {@code row}.
+     * Persons with insurance packages of the same name have the same code.
+     *
+     * @see #getInsurancePackageName(int)
+     */
+    public int getInsurancePackageCode(int row) {
+        assert row >= 0 && row < size;
+        return insurancePackageCodeColumn[row];
+    }
+
+    /**
+     * Returns the number of insurance package codes, which are the integers from 0 to this number, exclusive.
+     * Codes may remain for packages that no row refers to any more.
+     */
+    public int getInsurancePackageCodeCount() {
+        return insurancePackageNames.size();
+    }
+
+    /**
+     * Returns the name of the insurance package with {@code code}.
+     */
+    public String getInsurancePackageName(int code) {
+        return insurancePackageNames.get(code);
+    }
+
+    /**
+     * Clears the bits in {@code rows} of the rows whose salary in cents is not between {@code min} and {@code max},
+     * inclusive. Unspecified salaries are never in range, as {@link Salary#UNSPECIFIED_CENTS} is negative.
+     */
+    public void retainRowsWithSalaryCentsBetween(long min, long max, BitSet rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        ROW_SCANNER.retainRowsBetween(salaryCents, size, Math.max(min, 0), max, rows);
+    }
+
+    /**
+     * Clears the bits in {@code rows} of the rows whose number of dependents is not between {@code min} and
+     * {@code max}, inclusive. Unspecified numbers of dependents are never in range.
+     */
+    public void retainRowsWithDependentsBetween(long min, long max, BitSet rows) {
+        retainRowsBetween(dependents, Math.max(min, 0), max, rows);
+    }
+
+    /**
+     * Clears the bits in {@code rows} of the rows whose date of birth as an epoch day is not between {@code min} and
+     * {@code max}, inclusive. Unspecified dates of birth are never in range.
+     */
+    public void retainRowsWithDateOfBirthEpochDaysBetween(long min, long max, BitSet rows) {
+        retainRowsBetween(dateOfBirthEpochDays, Math.max(min, DateOfBirth.UNSPECIFIED_EPOCH_DAY + 1L), max, rows);
+    }
+
+    private void retainRowsBetween(int[] column, long min, long max, BitSet rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (min > max || min > Integer.MAX_VALUE || max < Integer.MIN_VALUE) {
+            rows.clear(0, size);
+            return;
+        }
+        ROW_SCANNER.retainRowsBetween(column, size, (int) Math.max(min, Integer.MIN_VALUE),
+                (int) Math.min(max, Integer.MAX_VALUE), rows);
+    }
+
+    /**
+     * Returns the {@code VectorRowScanner} if vectorised scans are enabled by the {@value #VECTOR_SCAN_PROPERTY}
+     * system property and the {@value #VECTOR_MODULE} module is present, or a {@code ScalarRowScanner} otherwise.
+     */
+    static RowScanner createRowScanner() {
+        if (!Boolean.getBoolean(VECTOR_SCAN_PROPERTY)) {
+            return new ScalarRowScanner();
+        }
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            logger.warning("Vectorised scans need the JVM option --add-modules " + VECTOR_MODULE
+                    + ". Using scalar scans.");
+            return new ScalarRowScanner();
+        }
+        try {
+            // Loaded by name, so that this class does not depend on the incubating module
+            RowScanner scanner = (RowScanner) Class.forName(VECTOR_ROW_SCANNER_CLASS).getDeclaredConstructor()
+                    .newInstance();
+            logger.info("Using vectorised scans.");
+            return scanner;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warning("Vectorised scans are not available: " + e + ". Using scalar scans.");
+            return new ScalarRowScanner();
+        }
+    }
+}
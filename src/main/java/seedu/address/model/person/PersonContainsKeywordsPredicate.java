@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -29,7 +30,45 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
     @Override
     public boolean test(Person person) {
         // A person matches if they satisfy ALL the specified filters.
-        return filterPrefixList.stream().allMatch(filterPrefixParser -> filterPrefixParser.test(person));
+        for (FilterPrefixParser filterPrefixParser : filterPrefixList) {
+            if (!filterPrefixParser.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if any of the filters can be applied to the rows of a {@code PersonColumns}.
+     */
+    public boolean hasRowFilters() {
+        return filterPrefixList.stream().anyMatch(FilterPrefixParser::canFilterRows);
+    }
+
+    /**
+     * Clears the bits in {@code rows} of the rows of {@code columns} that do not match all the filters that can be
+     * applied to rows. Each filter scans only the rows that still match, one column at a time.
+     */
+    public void retainMatchingRows(PersonColumns columns, BitSet rows) {
+        requireNonNull(columns);
+        requireNonNull(rows);
+        for (FilterPrefixParser filterPrefixParser : filterPrefixList) {
+            if (filterPrefixParser.canFilterRows()) {
+                filterPrefixParser.retainMatchingRows(columns, rows);
+            }
+        }
+    }
+
+    /**
+     * Tests {@code person} against only the filters that cannot be applied to rows.
+     */
+    public boolean testNonRowFilters(Person person) {
+        for (FilterPrefixParser filterPrefixParser : filterPrefixList) {
+            if (!filterPrefixParser.canFilterRows() && !filterPrefixParser.test(person)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
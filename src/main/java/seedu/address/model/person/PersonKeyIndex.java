@@ -0,0 +1,170 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+
+/**
+ * Counts the hash codes of the phones and emails of a list of persons, which are the fields that
+ * {@link Person#isSamePerson(Person)} compares.
+ * If neither hash code of a person is counted, no person in the list is the same person, so most duplicate checks
+ * need not read the list. Otherwise the list has to be searched, as different values may have the same hash code.
+ */
+class PersonKeyIndex {
+
+    private final HashCounts phoneHashes;
+    private final HashCounts emailHashes;
+
+    /**
+     * Creates an empty {@code PersonKeyIndex}.
+     */
+    PersonKeyIndex() {
+        phoneHashes = new HashCounts();
+        emailHashes = new HashCounts();
+    }
+
+    /**
+     * Creates a {@code PersonKeyIndex} of the persons with the first {@code count} of the given hash codes.
+     */
+    PersonKeyIndex(int[] phoneHashCodes, int[] emailHashCodes, int count) {
+        phoneHashes = new HashCounts(count);
+        emailHashes = new HashCounts(count);
+        for (int i = 0; i < count; i++) {
+            phoneHashes.add(phoneHashCodes[i]);
+            emailHashes.add(emailHashCodes[i]);
+        }
+    }
+
+    private PersonKeyIndex(PersonKeyIndex toBeCopied) {
+        phoneHashes = new HashCounts(toBeCopied.phoneHashes);
+        emailHashes = new HashCounts(toBeCopied.emailHashes);
+    }
+
+    /**
+     * Returns a copy of this index.
+     */
+    PersonKeyIndex copy() {
+        return new PersonKeyIndex(this);
+    }
+
+    /**
+     * Returns false if no person in the list is the same person as {@code person}.
+     */
+    boolean mayContainSamePerson(Person person) {
+        return phoneHashes.count(person.getPhone().hashCode()) > 0
+                || emailHashes.count(person.getEmail().hashCode()) > 0;
+    }
+
+    /**
+     * Counts the keys of {@code person}, which has been added to the list.
+     */
+    void add(Person person) {
+        phoneHashes.add(person.getPhone().hashCode());
+        emailHashes.add(person.getEmail().hashCode());
+    }
+
+    /**
+     * Stops counting the keys of {@code person}, which has been removed from the list.
+     */
+    void remove(Person person) {
+        phoneHashes.remove(person.getPhone().hashCode());
+        emailHashes.remove(person.getEmail().hashCode());
+    }
+
+    /**
+     * A multiset of {@code int} hash codes, stored in an open addressing table of primitive arrays.
+     * Hash codes whose count drops to zero keep their slots until the table is next resized.
+     */
+    private static class HashCounts {
+        private static final int EMPTY = -1;
+        private static final int INITIAL_CAPACITY = 16;
+
+        private int[] hashes;
+        private int[] counts;
+        private int usedSlots;
+
+        HashCounts() {
+            this(0);
+        }
+
+        /**
+         * Creates an empty multiset with room for {@code expectedCount} distinct hash codes without resizing.
+         */
+        HashCounts(int expectedCount) {
+            long minCapacity = expectedCount * 4L / 3 + 1;
+            int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit((int) minCapacity) << 1);
+            hashes = new int[capacity];
+            counts = new int[capacity];
+            Arrays.fill(counts, EMPTY);
+        }
+
+        HashCounts(HashCounts toBeCopied) {
+            hashes = toBeCopied.hashes.clone();
+            counts = toBeCopied.counts.clone();
+            usedSlots = toBeCopied.usedSlots;
+        }
+
+        int count(int hash) {
+            int slot = findSlot(hashes, counts, hash);
+            return counts[slot] == EMPTY ? 0 : counts[slot];
+        }
+
+        void add(int hash) {
+            int slot = findSlot(hashes, counts, hash);
+            if (counts[slot] != EMPTY) {
+                counts[slot]++;
+                return;
+            }
+            hashes[slot] = hash;
+            counts[slot] = 1;
+            usedSlots++;
+            if (usedSlots * 4 >= hashes.length * 3) {
+                resize();
+            }
+        }
+
+        void remove(int hash) {
+            int slot = findSlot(hashes, counts, hash);
+            assert counts[slot] > 0;
+            counts[slot]--;
+        }
+
+        /**
+         * Moves the hash codes with a positive count into a table with at most half of its slots used.
+         */
+        private void resize() {
+            int liveSlots = 0;
+            for (int count : counts) {
+                if (count > 0) {
+                    liveSlots++;
+                }
+            }
+            int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(liveSlots, 1)) << 2);
+            int[] newHashes = new int[capacity];
+            int[] newCounts = new int[capacity];
+            Arrays.fill(newCounts, EMPTY);
+            for (int slot = 0; slot < hashes.length; slot++) {
+                if (counts[slot] > 0) {
+                    int newSlot = findSlot(newHashes, newCounts, hashes[slot]);
+                    newHashes[newSlot] = hashes[slot];
+                    newCounts[newSlot] = counts[slot];
+                }
+            }
+            hashes = newHashes;
+            counts = newCounts;
+            usedSlots = liveSlots;
+        }
+
+        /**
+         * Returns the slot of {@code hash}, or the empty slot where it would be added.
+         */
+        private static int findSlot(int[] hashes, int[] counts, int hash) {
+            int mask = hashes.length - 1;
+            // Takes the top bits of a multiplicative hash, as phone numbers that differ only in their last digits
+            // have close hash codes
+            int slot = (hash * 0x9E3779B9) >>> (Integer.numberOfLeadingZeros(mask) & 31);
+            while (counts[slot] != EMPTY && hashes[slot] != hash) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
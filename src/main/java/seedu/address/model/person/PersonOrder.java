@@ -0,0 +1,21 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An order in which to display persons, which the model keeps for the persons added later.
+ * As a {@code Comparator}, it compares two persons in the same order, which allows a single person to be inserted
+ * into an already ordered list.
+ */
+public interface PersonOrder extends Comparator<Person> {
+
+    /**
+     * Returns the positions of {@code persons} in this order, reading their numeric and categorical fields from
+     * {@code columns}, which must hold the fields of {@code persons} in the same order.
+     * {@code persons} is not modified.
+     *
+     * @throws IllegalArgumentException if {@code columns} does not have one row per person.
+     */
+    int[] sortedPositions(List<Person> persons, PersonColumns columns);
+}
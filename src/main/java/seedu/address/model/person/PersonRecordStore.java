@@ -0,0 +1,21 @@
+package seedu.address.model.person;
+
+import java.io.IOException;
+
+/**
+ * An append-only store of person records, used by {@code PagedPersonList} to keep persons out of memory.
+ * Records are never modified once written, so the address of a record stays valid for the life of the store and
+ * may be shared by several lists.
+ */
+public interface PersonRecordStore {
+
+    /**
+     * Writes {@code person} as a new record and returns the address of the record.
+     */
+    long append(Person person) throws IOException;
+
+    /**
+     * Returns the person in the record at {@code address}, which must have been returned by {@link #append(Person)}.
+     */
+    Person read(long address) throws IOException;
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+/**
+ * A saved list of persons whose records are in a {@code PersonRecordStore}, and whose numeric and categorical fields
+ * and identity hash codes are also saved as columns. A paged {@code UniquePersonList} can be created from a snapshot
+ * by copying its columns, without reading any person.
+ * Each {@code read} method fills the first {@link #size()} elements of the given array, one per person, in order.
+ */
+public interface PersonSnapshot {
+
+    /**
+     * Returns the number of persons.
+     */
+    int size();
+
+    /**
+     * Reads the address of the record of each person in the {@code PersonRecordStore}.
+     */
+    void readRecordAddresses(long[] column);
+
+    /**
+     * Reads the hash code of the {@code Phone} of each person.
+     */
+    void readPhoneHashes(int[] column);
+
+    /**
+     * Reads the hash code of the {@code Email} of each person.
+     */
+    void readEmailHashes(int[] column);
+
+    /**
+     * Reads the salary of each person in cents, as in {@link PersonColumns#getSalaryCents(int)}.
+     */
+    void readSalaryCents(long[] column);
+
+    /**
+     * Reads the number of dependents of each person, as in {@link PersonColumns#getDependents(int)}.
+     */
+    void readDependents(int[] column);
+
+    /**
+     * Reads the date of birth of each person as an epoch day, as in {@link PersonColumns#getDateOfBirthEpochDay(int)}.
+     */
+    void readDateOfBirthEpochDays(int[] column);
+
+    /**
+     * Reads the ordinal of the {@code MaritalStatusEnum} of each person.
+     */
+    void readMaritalStatusOrdinals(byte[] column);
+
+    /**
+     * Reads the code of the insurance package of each person, which is its position in
+     * {@link #getInsurancePackageNames()}.
+     */
+    void readInsurancePackageCodes(int[] column);
+
+    /**
+     * Returns the name of the insurance package of each code. Different codes may have the same name.
+     */
+    List<String> getInsurancePackageNames();
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -21,16 +23,27 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    private Phone(String phone, boolean isKnownValid) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} of {@code phone} without validating it, for a phone number that is known to be valid.
+     */
+    public static Phone ofValidated(String phone) {
+        return new Phone(phone, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isValidPhone(test);
     }
 
     @Override
@@ -0,0 +1,22 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+
+/**
+ * Scans a primitive column of {@code PersonColumns} for the rows whose values lie in a range.
+ * Row {@code i} of a column is element {@code i} of its array, and only the first {@code size} elements are rows.
+ */
+interface RowScanner {
+
+    /**
+     * Clears the bits in {@code rows} of the rows whose value in {@code column} is not between {@code min} and
+     * {@code max}, inclusive. Bits from {@code size} onwards are left unchanged.
+     */
+    void retainRowsBetween(long[] column, int size, long min, long max, BitSet rows);
+
+    /**
+     * Clears the bits in {@code rows} of the rows whose value in {@code column} is not between {@code min} and
+     * {@code max}, inclusive. Bits from {@code size} onwards are left unchanged.
+     */
+    void retainRowsBetween(int[] column, int size, int min, int max, BitSet rows);
+}
@@ -3,11 +3,7 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.math.BigDecimal;
-import java.text.DecimalFormat;
-import java.util.logging.Logger;
-
-import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.util.FieldValidator;
 
 
 /**
@@ -16,50 +12,69 @@ import seedu.address.commons.core.LogsCenter;
  */
 public class Salary {
 
+    /** The largest salary that can be stored, in cents. */
+    public static final long MAX_CENTS = 99_999_999_999_999_999L;
+
     public static final String MESSAGE_CONSTRAINTS =
             "Salary must be a non-negative number that contains up to 2 decimal places, "
+                    + "is at most $999,999,999,999,999.99, "
                     + "should not be blank, "
                     + "or be declared as 'Unspecified' (case-insensitive).";
 
     public static final String UNSPECIFIED_VALUE = "Unspecified";
 
-    /*
-     * For a salary to be valid, it must be non-negative.
-     * It can be an integer (e.g. "100") or a decimal with up to 2 decimal places (e.g. "100.10").
-     * Users can optionally include commas as separators for every 3 digits (e.g. "1,000" or "10,000.99").
-     * Leading and/or trailing whitespaces are not allowed.
-     */
-    private static final String VALIDATION_REGEX = "\\d+(\\.\\d{1,2})?";
-    private static final Logger logger = LogsCenter.getLogger(Salary.class);
+    public static final long UNSPECIFIED_CENTS = -1;
 
+    private final long cents;
+
+    /** The salary as it was entered, without commas, so that it is saved exactly as it was read. */
     private final String value;
 
+    /** The formatted salary, created on first use by {@link #toString()}. */
+    private String formattedValue;
+
     /**
      * Constructs a {@code Salary}.
-     * Stores the salary without commas to preserve formatting.
+     * Stores the salary as a whole number of cents, so that it can be compared and sorted without parsing,
+     * together with the salary as it was entered, without commas.
+     * Two salaries are equal only if they were entered the same way, so "100" does not equal "100.00"
+     * although both are 10000 cents.
      *
      * @param salary A valid salary.
      */
     public Salary(String salary) {
+        this(salary, false);
+    }
+
+    private Salary(String salary, boolean isKnownValid) {
         requireNonNull(salary);
         String sanitizedSalary = salary.replace(",", "");
 
-        checkArgument(isValidSalary(sanitizedSalary), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidSalary(sanitizedSalary), MESSAGE_CONSTRAINTS);
 
         if (sanitizedSalary.equalsIgnoreCase(UNSPECIFIED_VALUE)) {
+            this.cents = UNSPECIFIED_CENTS;
             this.value = UNSPECIFIED_VALUE;
         } else {
+            this.cents = toCents(sanitizedSalary);
             this.value = sanitizedSalary;
         }
     }
 
     /**
-     * @return The raw salary value as a string.
+     * @return The raw salary value as a string, as it was entered without commas (e.g. "1234.5"), or "Unspecified".
      */
     public String getValue() {
         return this.value;
     }
 
+    /**
+     * @return The salary as a whole number of cents, or {@link #UNSPECIFIED_CENTS} if the salary is unspecified.
+     */
+    public long getCents() {
+        return this.cents;
+    }
+
     /**
      * Static factory method for creating the default "Unspecified" Salary
      * @return A Salary object with value "Unspecified".
@@ -68,6 +83,13 @@ public class Salary {
         return new Salary(UNSPECIFIED_VALUE);
     }
 
+    /**
+     * Returns a {@code Salary} of {@code salary} without validating it, for a salary that is known to be valid.
+     */
+    public static Salary ofValidated(String salary) {
+        return new Salary(salary, true);
+    }
+
     /**
      * Returns true if a given string is a valid salary.
      */
@@ -76,35 +98,73 @@ public class Salary {
         if (sanitizedSalary.equalsIgnoreCase(UNSPECIFIED_VALUE)) {
             return true;
         }
-        return sanitizedSalary.matches(VALIDATION_REGEX);
+        return FieldValidator.isValidSalaryAmount(sanitizedSalary) && toCents(sanitizedSalary) != UNSPECIFIED_CENTS;
+    }
+
+    /**
+     * Converts a valid salary amount without commas (e.g. "1234.5") to a whole number of cents (e.g. 123450),
+     * or returns {@link #UNSPECIFIED_CENTS} if it is larger than {@link #MAX_CENTS}.
+     */
+    private static long toCents(String salary) {
+        long cents = 0;
+        int decimalPlaces = -1;
+        for (int i = 0; i < salary.length(); i++) {
+            char c = salary.charAt(i);
+            if (c == '.') {
+                decimalPlaces = 0;
+                continue;
+            }
+            cents = cents * 10 + (c - '0');
+            if (cents > MAX_CENTS) {
+                // Checked on every digit, so that cents cannot overflow
+                return UNSPECIFIED_CENTS;
+            }
+            if (decimalPlaces >= 0) {
+                decimalPlaces++;
+            }
+        }
+        for (int i = Math.max(decimalPlaces, 0); i < 2; i++) {
+            cents *= 10;
+        }
+        return cents > MAX_CENTS ? UNSPECIFIED_CENTS : cents;
     }
 
     /**
      * Returns true if the salary is unspecified.
      */
     public boolean isUnspecified() {
-        return this.value.equals(UNSPECIFIED_VALUE);
+        return this.cents == UNSPECIFIED_CENTS;
     }
 
     /**
-     * Formats the salary with a '$' sign in front and commas separating thousands.
-     * If the salary has decimal places, it will be formatted to two decimal places.
+     * Formats the salary with a '$' sign in front, commas separating thousands and two decimal places.
+     * The formatted salary is created once and cached.
      * @return A formatted string representation of the salary.
      */
     @Override
     public String toString() {
-        if (this.value.equals(UNSPECIFIED_VALUE)) {
-            return UNSPECIFIED_VALUE;
+        String formatted = formattedValue;
+        if (formatted == null) {
+            formatted = isUnspecified() ? UNSPECIFIED_VALUE : formatCents(cents);
+            formattedValue = formatted;
         }
+        return formatted;
+    }
 
-        try {
-            BigDecimal amount = new BigDecimal(this.value);
-            DecimalFormat formatter = new DecimalFormat("$#,##0.00");
-            return formatter.format(amount);
-        } catch (NumberFormatException e) {
-            logger.severe("Salary object in invalid state. Value: " + value);
-            throw new IllegalStateException("Salary object has an invalid numeric value.", e);
+    /**
+     * Formats a non-negative number of cents, e.g. 123456789 as "$1,234,567.89".
+     */
+    private static String formatCents(long cents) {
+        String dollars = String.valueOf(cents / 100);
+        StringBuilder formatted = new StringBuilder("$");
+        for (int i = 0; i < dollars.length(); i++) {
+            if (i > 0 && (dollars.length() - i) % 3 == 0) {
+                formatted.append(',');
+            }
+            formatted.append(dollars.charAt(i));
         }
+        long fraction = cents % 100;
+        return formatted.append(fraction < 10 ? ".0" : ".").append(fraction).toString();
     }
 
     @Override
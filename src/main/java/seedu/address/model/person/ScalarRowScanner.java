@@ -0,0 +1,30 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+
+/**
+ * A {@code RowScanner} that compares the value of one row at a time.
+ * Only the rows whose bits are set are read, so scans after a selective filter are cheap.
+ */
+class ScalarRowScanner implements RowScanner {
+
+    @Override
+    public void retainRowsBetween(long[] column, int size, long min, long max, BitSet rows) {
+        for (int row = rows.nextSetBit(0); row >= 0 && row < size; row = rows.nextSetBit(row + 1)) {
+            long value = column[row];
+            if (value < min || value > max) {
+                rows.clear(row);
+            }
+        }
+    }
+
+    @Override
+    public void retainRowsBetween(int[] column, int size, int min, int max, BitSet rows) {
+        for (int row = rows.nextSetBit(0); row >= 0 && row < size; row = rows.nextSetBit(row + 1)) {
+            int value = column[row];
+            if (value < min || value > max) {
+                rows.clear(row);
+            }
+        }
+    }
+}
@@ -3,7 +3,6 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
@@ -20,21 +19,69 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The persons can be kept in memory, or in a {@code PersonRecordStore} through a {@code PagedPersonList}.
+ * Either way, the phones and emails are indexed in memory, so checking for duplicates rarely reads the persons, and
+ * the numeric and categorical fields are kept in {@code PersonColumns}, which are updated before the list is changed.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ObservableList<Person> internalList;
+    private final ObservableList<Person> internalUnmodifiableList;
+    private final PersonColumns columns = new PersonColumns();
+    private PersonKeyIndex keyIndex = new PersonKeyIndex();
+
+    /**
+     * Creates an empty list that keeps its persons in memory.
+     */
+    public UniquePersonList() {
+        this(FXCollections.observableArrayList());
+    }
+
+    /**
+     * Creates an empty list that keeps its persons in {@code store}, with up to {@code cacheCapacity} persons
+     * in memory.
+     */
+    public UniquePersonList(PersonRecordStore store, int cacheCapacity) {
+        this(new PagedPersonList(store, cacheCapacity));
+    }
+
+    /**
+     * Creates a list of the persons in {@code snapshot}, whose records are in {@code store}, with up to
+     * {@code cacheCapacity} persons in memory. No person is read until the list is asked for it.
+     */
+    public UniquePersonList(PersonRecordStore store, int cacheCapacity, PersonSnapshot snapshot) {
+        this(new PagedPersonList(store, cacheCapacity, snapshot));
+        columns.setAll(snapshot);
+        int[] phoneHashes = new int[snapshot.size()];
+        int[] emailHashes = new int[snapshot.size()];
+        snapshot.readPhoneHashes(phoneHashes);
+        snapshot.readEmailHashes(emailHashes);
+        keyIndex = new PersonKeyIndex(phoneHashes, emailHashes, snapshot.size());
+    }
+
+    private UniquePersonList(ObservableList<Person> internalList) {
+        this.internalList = internalList;
+        this.internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Returns an empty list that keeps its persons in the same way as this list.
+     */
+    public UniquePersonList createEmptyCopy() {
+        if (internalList instanceof PagedPersonList) {
+            return new UniquePersonList(((PagedPersonList) internalList).createEmptyCopy());
+        }
+        return new UniquePersonList();
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return keyIndex.mayContainSamePerson(toCheck) && internalList.stream().anyMatch(toCheck::isSamePerson);
     }
 
     /**
@@ -46,7 +93,23 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        columns.insert(internalList.size(), toAdd);
         internalList.add(toAdd);
+        keyIndex.add(toAdd);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list, as a single change to the list.
+     * No person in {@code toAdd} may already exist in the list or appear in {@code toAdd} more than once.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (indexUniquePersons(toAdd) == null || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+        columns.insert(internalList.size(), toAdd);
+        internalList.addAll(toAdd);
+        toAdd.forEach(keyIndex::add);
     }
 
     /**
@@ -66,7 +129,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        columns.set(index, editedPerson);
         internalList.set(index, editedPerson);
+        keyIndex.remove(target);
+        keyIndex.add(editedPerson);
     }
 
     /**
@@ -75,14 +141,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        columns.remove(index);
+        internalList.remove(index);
+        keyIndex.remove(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        columns.setAll(replacement.columns);
         internalList.setAll(replacement.internalList);
+        keyIndex = replacement.keyIndex.copy();
     }
 
     /**
@@ -91,18 +163,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        PersonKeyIndex newKeyIndex = indexUniquePersons(persons);
+        if (newKeyIndex == null) {
             throw new DuplicatePersonException();
         }
 
+        columns.setAll(persons);
         internalList.setAll(persons);
+        keyIndex = newKeyIndex;
     }
 
     /**
-     * Sorts the list of persons by name in alphabetical order.
+     * Returns the numeric and categorical fields of the persons in this list, in the same order.
+     * The columns are kept up to date as the list changes.
      */
-    public void sort(Comparator<Person> comparator) {
-        internalList.sort(comparator);
+    public PersonColumns getPersonColumns() {
+        return columns;
     }
 
     /**
@@ -143,16 +219,18 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns a {@code PersonKeyIndex} of {@code persons}, or null if {@code persons} contains duplicate persons.
+     * Only the persons whose keys may have been seen before are compared with the persons before them.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static PersonKeyIndex indexUniquePersons(List<Person> persons) {
+        PersonKeyIndex index = new PersonKeyIndex();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (index.mayContainSamePerson(person) && persons.subList(0, i).stream().anyMatch(person::isSamePerson)) {
+                return null;
             }
+            index.add(person);
         }
-        return true;
+        return index;
     }
 }
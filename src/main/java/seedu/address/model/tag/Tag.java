@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +15,8 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Tag> INTERNER = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -20,17 +25,45 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, false);
+    }
+
+    private Tag(String tagName, boolean isKnownValid) {
         requireNonNull(tagName);
         String trimmedTagName = tagName.trim(); // Trim leading and trailing whitespaces
-        checkArgument(isValidTagName(trimmedTagName), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidTagName(trimmedTagName), MESSAGE_CONSTRAINTS);
         this.tagName = trimmedTagName.toLowerCase();
     }
 
+    /**
+     * Returns the {@code Tag} with {@code tagName}, shared with all other equal tags created by this method.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return new Tag(tagName).intern();
+    }
+
+    /**
+     * Returns the {@code Tag} with {@code tagName} as {@link #of(String)} does, but without validating it, for a tag
+     * name that is known to be valid.
+     */
+    public static Tag ofValidated(String tagName) {
+        return new Tag(tagName, true).intern();
+    }
+
+    /**
+     * Returns the tag equal to this tag that is shared with all other equal tags created by {@link #of(String)}.
+     */
+    public Tag intern() {
+        return INTERNER.intern(this);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isValidTagName(test);
     }
 
     @Override
@@ -0,0 +1,168 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as an array of interned tags sorted by tag name.
+ * Most persons have no more than a few tags, so this takes far less memory than a {@code HashSet}, and
+ * all persons without tags share one empty set.
+ * Any attempt to modify the set throws {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a {@code TagSet} of the distinct tags in {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = new Tag[tags.size()];
+        int size = 0;
+        for (Tag tag : tags) {
+            sortedTags[size++] = requireNonNull(tag).intern();
+        }
+        Arrays.sort(sortedTags, TAG_NAME_ORDER);
+
+        // Drop duplicates, which are next to each other after sorting
+        int distinctSize = 1;
+        for (int i = 1; i < size; i++) {
+            if (sortedTags[i] != sortedTags[distinctSize - 1]) {
+                sortedTags[distinctSize++] = sortedTags[i];
+            }
+        }
+        return new TagSet(distinctSize == size ? sortedTags : Arrays.copyOf(sortedTags, distinctSize));
+    }
+
+    /**
+     * Returns true if the name of any tag in this set contains {@code keyword}.
+     *
+     * @param keyword A lowercase keyword.
+     */
+    public boolean hasTagNameContaining(String keyword) {
+        requireNonNull(keyword);
+        for (Tag tag : tags) {
+            if (tag.tagName.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        // Tags are interned, so an equal tag is usually the same instance
+        for (Tag tag : tags) {
+            if (tag == object) {
+                return true;
+            }
+        }
+        for (Tag tag : tags) {
+            if (tag.equals(object)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[index++];
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // Both arrays are sorted by tag name, so equal sets have equal arrays
+        if (other instanceof TagSet) {
+            return Arrays.equals(tags, ((TagSet) other).tags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
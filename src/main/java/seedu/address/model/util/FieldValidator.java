@@ -0,0 +1,203 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Occupation;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Checks the values of the fields of a person against their validation regexes, in a single pass over
+ * each value, instead of with {@code String#matches}, which compiles the regex on every call and can backtrack for a
+ * long time on some invalid values, or even overflow the stack, as with the domain of an email.
+ * Each method accepts exactly the strings that its regex matches, as {@code FieldValidatorTest} checks.
+ */
+public class FieldValidator {
+
+    /** The regex of a valid name, which {@link #isValidName(String)} checks without compiling it. */
+    static final String NAME_REGEX = "[\\p{L}\\p{M}\\p{N}\\s'\\-\\.\\(\\)/]+";
+
+    /**
+     * The regex of a valid salary amount, which {@link #isValidSalaryAmount(String)} checks without compiling it.
+     * It can be an integer (e.g. "100") or a decimal with up to 2 decimal places (e.g. "100.10"), without the commas
+     * that users may separate every 3 digits with, which {@code Salary} removes first.
+     */
+    static final String SALARY_AMOUNT_REGEX = "\\d+(\\.\\d{1,2})?";
+
+    /** The characters matched by {@code \s}, which are only ASCII ones as the regexes are not compiled for Unicode. */
+    private static final String WHITESPACE_CHARACTERS = " \t\n\u000B\f\r";
+    /** The characters not matched by {@code .}, as the regexes are not compiled with {@code DOTALL}. */
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+    private static final String NAME_PUNCTUATION = "'-.()/";
+    private static final String EMAIL_LOCAL_PART_SEPARATORS = "+_.-";
+
+    private FieldValidator() {} // prevents instantiation
+
+    /**
+     * Returns true if {@code test} matches {@link #NAME_REGEX}: one or more letters, marks, numbers,
+     * whitespace characters, or any of {@code '-.()/}.
+     */
+    public static boolean isValidName(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length();) {
+            int codePoint = test.codePointAt(i);
+            if (!isNameCodePoint(codePoint)) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@link Phone#VALIDATION_REGEX}: 7 to 15 ASCII digits.
+     */
+    public static boolean isValidPhone(String test) {
+        requireNonNull(test);
+        return test.length() >= 7 && test.length() <= 15 && isAsciiDigits(test, 0, test.length());
+    }
+
+    /**
+     * Returns true if {@code test} matches {@link Email#VALIDATION_REGEX}: a local part of runs of ASCII letters and
+     * digits separated by single characters of {@code +_.-}, an {@code @}, and a domain of labels separated by
+     * periods, each label being runs of ASCII letters and digits separated by single hyphens, and the last label
+     * having two letters or digits in a row.
+     */
+    public static boolean isValidEmail(String test) {
+        requireNonNull(test);
+        int at = test.indexOf('@');
+        if (at < 0 || !isAlphanumericRuns(test, 0, at, EMAIL_LOCAL_PART_SEPARATORS)) {
+            return false;
+        }
+        int labelStart = at + 1;
+        int labelEnd = test.indexOf('.', labelStart);
+        while (labelEnd >= 0) {
+            if (!isAlphanumericRuns(test, labelStart, labelEnd, "-")) {
+                return false;
+            }
+            labelStart = labelEnd + 1;
+            labelEnd = test.indexOf('.', labelStart);
+        }
+        // the last label is matched by at least two repetitions of the label regex, which only split between two
+        // letters or digits in a row
+        return isAlphanumericRuns(test, labelStart, test.length(), "-")
+                && hasAdjacentAlphanumerics(test, labelStart, test.length());
+    }
+
+    /**
+     * Returns true if {@code test} matches {@link Address#VALIDATION_REGEX} and {@link Occupation#VALIDATION_REGEX}:
+     * a character other than whitespace, followed by any characters other than line terminators.
+     */
+    public static boolean isNonBlankLine(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || WHITESPACE_CHARACTERS.indexOf(test.charAt(0)) >= 0) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (LINE_TERMINATORS.indexOf(test.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@link Tag#VALIDATION_REGEX}: an ASCII letter or digit, followed by any
+     * ASCII letters, digits and spaces.
+     */
+    public static boolean isValidTagName(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@link #SALARY_AMOUNT_REGEX}: one or more ASCII digits, optionally
+     * followed by a period and one or two ASCII digits.
+     */
+    public static boolean isValidSalaryAmount(String test) {
+        requireNonNull(test);
+        int point = test.indexOf('.');
+        if (point < 0) {
+            return !test.isEmpty() && isAsciiDigits(test, 0, test.length());
+        }
+        int decimalPlaces = test.length() - point - 1;
+        return point > 0 && decimalPlaces >= 1 && decimalPlaces <= 2
+                && isAsciiDigits(test, 0, point) && isAsciiDigits(test, point + 1, test.length());
+    }
+
+    private static boolean isNameCodePoint(int codePoint) {
+        switch (Character.getType(codePoint)) {
+        case Character.UPPERCASE_LETTER:
+        case Character.LOWERCASE_LETTER:
+        case Character.TITLECASE_LETTER:
+        case Character.MODIFIER_LETTER:
+        case Character.OTHER_LETTER:
+        case Character.NON_SPACING_MARK:
+        case Character.ENCLOSING_MARK:
+        case Character.COMBINING_SPACING_MARK:
+        case Character.DECIMAL_DIGIT_NUMBER:
+        case Character.LETTER_NUMBER:
+        case Character.OTHER_NUMBER:
+            return true;
+        default:
+            return codePoint < 128 && (WHITESPACE_CHARACTERS.indexOf(codePoint) >= 0
+                    || NAME_PUNCTUATION.indexOf(codePoint) >= 0);
+        }
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} to {@code end} are one or more runs of ASCII
+     * letters and digits, separated by single characters of {@code separators}.
+     */
+    private static boolean isAlphanumericRuns(String test, int start, int end, String separators) {
+        boolean isRunStart = true;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                isRunStart = false;
+            } else if (!isRunStart && separators.indexOf(c) >= 0) {
+                isRunStart = true;
+            } else {
+                return false;
+            }
+        }
+        return !isRunStart;
+    }
+
+    private static boolean hasAdjacentAlphanumerics(String test, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (isAsciiAlphanumeric(test.charAt(i - 1)) && isAsciiAlphanumeric(test.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAsciiDigits(String test, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * An append-only file of the changes made to the address book since a snapshot of it, one
+ * {@link AddressBookLogRecord} per line.
+ * A record cut short by a crash while it was being appended can only be the last line, and is ignored when reading the
+ * log, and overwritten by the next append.
+ */
+class AddressBookLog {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLog.class);
+
+    private final Path filePath;
+    /** The number of bytes of the whole records in the file, or -1 if the file has not been read or written yet. */
+    private long size = -1;
+    private int recordCount;
+    private long lastSequence;
+
+    AddressBookLog(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of bytes of the whole records in the log.
+     */
+    synchronized long getSize() throws IOException {
+        initSize();
+        return size;
+    }
+
+    synchronized int getRecordCount() throws IOException {
+        initSize();
+        return recordCount;
+    }
+
+    /**
+     * Returns the sequence of the last record in the log, or 0 if it has none.
+     */
+    synchronized long getLastSequence() throws IOException {
+        initSize();
+        return lastSequence;
+    }
+
+    /**
+     * Reads the records of the log, passing each record after {@code afterSequence} to {@code recordConsumer}, and
+     * returns the sequence of the last record, or {@code afterSequence} if there is none after it.
+     *
+     * @throws DataLoadingException if the log could not be read, a record other than the last is invalid, or the
+     *     records after {@code afterSequence} are not numbered consecutively from it.
+     */
+    synchronized long replay(long afterSequence,
+            JsonStreamingCodec.ElementConsumer<AddressBookLogRecord> recordConsumer) throws DataLoadingException {
+        requireNonNull(recordConsumer);
+        long replayedSequence = afterSequence;
+        try {
+            List<Line> lines = readLines();
+            for (Line line : lines) {
+                if (line.record.getSequence() <= afterSequence) {
+                    continue;
+                }
+                if (line.record.getSequence() != replayedSequence + 1) {
+                    throw new IllegalValueException(
+                            "Log record " + (replayedSequence + 1) + " is missing from " + filePath);
+                }
+                recordConsumer.accept(line.record);
+                replayedSequence = line.record.getSequence();
+            }
+            setRecords(lines);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading log file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return replayedSequence;
+    }
+
+    /**
+     * Appends {@code records}, each a line written by {@link JsonStreamingCodec#writeLogRecord}, to the log. The
+     * sequence of the last of them is {@code lastRecordSequence}.
+     * If appending them fails, the log is left as it was, save for a partly written record that the next append
+     * overwrites.
+     */
+    synchronized void append(List<String> records, long lastRecordSequence) throws IOException {
+        requireNonNull(records);
+        if (records.isEmpty()) {
+            return;
+        }
+        initSize();
+        StringBuilder text = new StringBuilder();
+        for (String record : records) {
+            text.append(record).append('\n');
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(text.toString().getBytes(UTF_8));
+        int length = bytes.remaining();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            if (channel.size() < size) {
+                // the last record was written but not the line separator after it
+                channel.write(ByteBuffer.wrap(new byte[] {'\n'}), size - 1);
+            }
+            long position = size;
+            while (bytes.hasRemaining()) {
+                position += channel.write(bytes, position);
+            }
+        }
+        size += length;
+        recordCount += records.size();
+        lastSequence = Math.max(lastSequence, lastRecordSequence);
+    }
+
+    /**
+     * Atomically replaces the log with one that has only the records after {@code throughSequence}.
+     */
+    synchronized void truncate(long throughSequence) throws IOException {
+        List<Line> keptLines = new ArrayList<>();
+        for (Line line : readLines()) {
+            if (line.record.getSequence() > throughSequence) {
+                keptLines.add(line);
+            }
+        }
+
+        Path tempFilePath = Files.createTempFile(filePath.toAbsolutePath().getParent(),
+                filePath.getFileName().toString(), ".tmp");
+        try {
+            List<String> texts = new ArrayList<>();
+            for (Line line : keptLines) {
+                texts.add(line.text);
+            }
+            Files.write(tempFilePath, texts, UTF_8);
+            Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+        setRecords(keptLines);
+    }
+
+    private void initSize() throws IOException {
+        if (size < 0) {
+            setRecords(readLines());
+        }
+    }
+
+    private void setRecords(List<Line> lines) {
+        size = 0;
+        lastSequence = 0;
+        for (Line line : lines) {
+            size += line.text.getBytes(UTF_8).length + 1;
+            lastSequence = Math.max(lastSequence, line.record.getSequence());
+        }
+        recordCount = lines.size();
+    }
+
+    /**
+     * Returns the whole records in the log, without a last record that was cut short.
+     */
+    private List<Line> readLines() throws IOException {
+        List<Line> lines = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return lines;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            String text = reader.readLine();
+            while (text != null) {
+                String nextText = reader.readLine();
+                try {
+                    lines.add(new Line(text, JsonStreamingCodec.readLogRecord(text)));
+                } catch (IOException e) {
+                    if (nextText != null) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring the incomplete last record of log file " + filePath);
+                }
+                text = nextText;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * A record of the log, and the line it was read from.
+     */
+    private static class Line {
+        private final String text;
+        private final AddressBookLogRecord record;
+
+        Line(String text, AddressBookLogRecord record) {
+            this.text = text;
+            this.record = record;
+        }
+    }
+}
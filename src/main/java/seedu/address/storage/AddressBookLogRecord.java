@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * A change to the person list of the address book, read from an {@code AddressBookLog}: the
+ * {@code removedCount} persons from {@code index} onwards are replaced with {@code addedPersons}.
+ * Records are numbered in the order they were appended.
+ */
+class AddressBookLogRecord {
+
+    private final long sequence;
+    private final int index;
+    private final int removedCount;
+    private final List<JsonAdaptedPerson> addedPersons;
+
+    AddressBookLogRecord(long sequence, int index, int removedCount, List<JsonAdaptedPerson> addedPersons) {
+        requireNonNull(addedPersons);
+        this.sequence = sequence;
+        this.index = index;
+        this.removedCount = removedCount;
+        this.addedPersons = List.copyOf(addedPersons);
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    int getRemovedCount() {
+        return removedCount;
+    }
+
+    List<JsonAdaptedPerson> getAddedPersons() {
+        return addedPersons;
+    }
+
+    /**
+     * Applies the change to {@code persons}.
+     *
+     * @throws IllegalValueException if the persons the change removes are not in {@code persons}.
+     */
+    void applyTo(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        if (index < 0 || removedCount < 0 || index + removedCount > persons.size()) {
+            throw new IllegalValueException("Log record " + sequence + " does not fit an address book of "
+                    + persons.size() + " persons");
+        }
+        persons.subList(index, index + removedCount).clear();
+        persons.addAll(index, addedPersons);
+    }
+}
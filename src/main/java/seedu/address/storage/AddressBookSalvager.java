@@ -0,0 +1,187 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.person.Person;
+
+/**
+ * Loads the persons of address book files that could not be loaded as a whole, one record at a time, in a single pass
+ * over each file. A record that is not a valid person, or is the same person as an earlier one, is set aside as a
+ * {@link QuarantinedRecord} with the reason why, instead of failing the whole load. If a file stops being valid JSON,
+ * the rest of it is set aside as a single record.
+ * The quarantined records are written to a quarantine file next to the data file, so that they are not lost when the
+ * salvaged address book is saved over the data file.
+ */
+class AddressBookSalvager {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSalvager.class);
+    private static final DateTimeFormatter QUARANTINE_TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final InsurancePackageResolver insurancePackageResolver;
+    private final AddressBook addressBook = new AddressBook();
+    private final List<QuarantinedRecord> quarantinedRecords = new ArrayList<>();
+
+    AddressBookSalvager(ReadOnlyInsuranceCatalog catalog) {
+        insurancePackageResolver = new InsurancePackageResolver(catalog);
+    }
+
+    /**
+     * Loads the persons of the address book file at {@code filePath}, after those already loaded.
+     * Returns false if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read.
+     */
+    boolean salvageFile(Path filePath) throws DataLoadingException {
+        List<JsonStreamingCodec.ElementLocation> rejectedLocations = new ArrayList<>();
+        List<String> reasons = new ArrayList<>();
+        boolean isFound = JsonStreamingCodec.salvagePersons(filePath, new JsonStreamingCodec.SalvageConsumer() {
+            @Override
+            public void accept(JsonAdaptedPerson jsonAdaptedPerson, JsonStreamingCodec.ElementLocation location) {
+                String reason = add(jsonAdaptedPerson);
+                if (reason != null) {
+                    reject(location, reason);
+                }
+            }
+
+            @Override
+            public void reject(JsonStreamingCodec.ElementLocation location, String reason) {
+                rejectedLocations.add(location);
+                reasons.add(reason);
+            }
+        });
+        if (rejectedLocations.isEmpty()) {
+            return isFound;
+        }
+
+        String source = filePath.getFileName().toString();
+        try (FileChannel channel = FileChannel.open(filePath)) {
+            for (int i = 0; i < rejectedLocations.size(); i++) {
+                JsonStreamingCodec.ElementLocation location = rejectedLocations.get(i);
+                quarantinedRecords.add(new QuarantinedRecord(source, location.getIndex(), location.getLineNumber(),
+                        reasons.get(i), readText(channel, location.getStartOffset(), location.getEndOffset())));
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return isFound;
+    }
+
+    /**
+     * Loads {@code persons}, the persons of {@code source} that have already been read, after those already loaded.
+     * The text of a quarantined person is written out again, as it was not read from a file.
+     */
+    void salvagePersons(List<JsonAdaptedPerson> persons, String source) throws DataLoadingException {
+        for (int i = 0; i < persons.size(); i++) {
+            String reason = add(persons.get(i));
+            if (reason == null) {
+                continue;
+            }
+            try {
+                quarantinedRecords.add(new QuarantinedRecord(source, i, 0, reason,
+                        JsonUtil.toJsonString(persons.get(i))));
+            } catch (IOException e) {
+                throw new DataLoadingException(e);
+            }
+        }
+    }
+
+    /**
+     * Sets aside the whole of the file {@code source}, which could not be salvaged for the given {@code reason}.
+     */
+    void quarantineFile(String source, String reason) {
+        quarantinedRecords.add(new QuarantinedRecord(source, QuarantinedRecord.WHOLE_FILE_INDEX, 0, reason, ""));
+    }
+
+    /**
+     * Returns the persons loaded, after writing the quarantined records, if any, to a new quarantine file next to
+     * {@code dataFilePath}.
+     *
+     * @throws DataLoadingException if the quarantine file could not be written, so the records would be lost if the
+     *     salvaged address book were saved.
+     */
+    SalvagedAddressBook finish(Path dataFilePath) throws DataLoadingException {
+        if (quarantinedRecords.isEmpty()) {
+            return new SalvagedAddressBook(addressBook, quarantinedRecords, null);
+        }
+        try {
+            Path quarantineFilePath = createQuarantineFile(dataFilePath);
+            JsonStreamingCodec.writeQuarantine(quarantineFilePath, quarantinedRecords);
+            logger.warning("Quarantined " + quarantinedRecords.size() + " records of " + dataFilePath + " in "
+                    + quarantineFilePath);
+            return new SalvagedAddressBook(addressBook, quarantinedRecords, quarantineFilePath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Adds the person of {@code jsonAdaptedPerson} to the address book, and returns null, or returns the reason it
+     * cannot be added.
+     */
+    private String add(JsonAdaptedPerson jsonAdaptedPerson) {
+        Person person;
+        try {
+            person = jsonAdaptedPerson.toModelType(insurancePackageResolver);
+        } catch (IllegalValueException ive) {
+            return ive.getMessage();
+        }
+        if (addressBook.hasPerson(person)) {
+            return JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+        }
+        addressBook.addPerson(person);
+        return null;
+    }
+
+    private static String readText(FileChannel channel, long startOffset, long endOffset) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(Math.toIntExact(endOffset - startOffset));
+        long position = startOffset;
+        while (bytes.hasRemaining()) {
+            int readCount = channel.read(bytes, position);
+            if (readCount < 0) {
+                throw new EOFException("File ended before offset " + endOffset);
+            }
+            position += readCount;
+        }
+        return new String(bytes.array(), UTF_8);
+    }
+
+    /**
+     * Creates an empty quarantine file next to {@code dataFilePath}, named after it and the current time, without
+     * replacing the file of an earlier salvage.
+     */
+    private static Path createQuarantineFile(Path dataFilePath) throws IOException {
+        String baseName = dataFilePath.getFileName() + ".quarantine-"
+                + LocalDateTime.now().format(QUARANTINE_TIMESTAMP_FORMATTER);
+        Path directory = dataFilePath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        for (int attempt = 0; ; attempt++) {
+            Path quarantineFilePath = directory.resolve(baseName + (attempt == 0 ? "" : "-" + attempt) + ".json");
+            try {
+                return Files.createFile(quarantineFilePath);
+            } catch (FileAlreadyExistsException e) {
+                // a salvage in the same second, so the next name is tried
+            }
+        }
+    }
+}
@@ -2,11 +2,14 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -18,6 +21,15 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the path of the file that is written whenever a changed address book is saved, so that its size and last
+     * modified time tell whether the saved address book has changed, e.g. to stamp a {@link PersonSnapshotFile} with.
+     * This is the data file, unless the address book is saved to other files next to it.
+     */
+    default Path getAddressBookStampFilePath() {
+        return getAddressBookFilePath();
+    }
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -27,6 +39,45 @@ public interface AddressBookStorage {
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
             throws DataLoadingException;
 
+    /**
+     * Reads and parses the AddressBook data, without resolving the insurance packages of its persons, so that it can be
+     * done while the insurance catalog is being loaded.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if reading or parsing the data from storage failed.
+     */
+    Optional<ParsedAddressBook> parseAddressBook(Path filePath) throws DataLoadingException;
+
+    /**
+     * Reads the persons of the AddressBook in batches of up to {@code batchSize} persons, and passes each batch to
+     * {@code batchConsumer} as soon as it has been read. The persons are not checked for duplicates.
+     * Returns false if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    boolean readAddressBookInBatches(Path filePath, ReadOnlyInsuranceCatalog catalog, int batchSize,
+            Consumer<List<Person>> batchConsumer) throws DataLoadingException;
+
+    /**
+     * Loads the persons of an AddressBook that could not be read as a whole, one at a time, setting aside the records
+     * that cannot be loaded in a quarantine file next to the data file instead of failing.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if the data could not be read at all, or the quarantine file could not be written.
+     */
+    Optional<SalvagedAddressBook> salvageAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
+            throws DataLoadingException;
+
+    /**
+     * Starts following the changes to the persons of {@code addressBook}, the address book that will be saved, as soon
+     * as it has been read, so that saving it only writes what has changed since. Storages that write the whole address
+     * book each time do nothing.
+     *
+     * @throws IOException if the files of the last saved address book could not be listed.
+     */
+    default void trackAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.insurance.InsurancePackage;
+
+/**
+ * Resolves the insurance package names of persons read from storage to the packages of an insurance catalog.
+ * The packages are indexed by name once, so resolving a name is a hash lookup instead of a search of the catalog.
+ * Names are matched ignoring case, and names that are empty or not in the catalog resolve to its undecided package.
+ */
+class InsurancePackageResolver {
+
+    private final ReadOnlyInsuranceCatalog catalog;
+    private final Map<String, InsurancePackage> packagesByName = new HashMap<>();
+    private InsurancePackage undecidedPackage;
+
+    /**
+     * Creates a resolver of the packages of {@code catalog}, which should not change while the resolver is used.
+     */
+    InsurancePackageResolver(ReadOnlyInsuranceCatalog catalog) {
+        requireNonNull(catalog);
+        this.catalog = catalog;
+        for (InsurancePackage insurancePackage : catalog.getInsurancePackageList()) {
+            // the first package with a name wins, as in ReadOnlyInsuranceCatalog#getPackage
+            packagesByName.putIfAbsent(toKey(insurancePackage.getPackageName()), insurancePackage);
+        }
+    }
+
+    /**
+     * Returns the package of the catalog named {@code packageName}, or its undecided package if there is none.
+     */
+    InsurancePackage resolve(String packageName) {
+        InsurancePackage insurancePackage = packageName == null || packageName.isEmpty()
+                ? null
+                : packagesByName.get(toKey(packageName));
+        return insurancePackage != null ? insurancePackage : getUndecidedPackage();
+    }
+
+    private InsurancePackage getUndecidedPackage() {
+        if (undecidedPackage == null) {
+            undecidedPackage = catalog.getUndecidedPackage();
+        }
+        return undecidedPackage;
+    }
+
+    private static String toKey(String packageName) {
+        return packageName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,405 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that keeps a snapshot of the address book and an {@link AddressBookLog} of the changes
+ * made to it since, in a directory next to the data file.
+ * Once an address book has been tracked or saved, the storage follows the changes to its person list, and the next
+ * save only appends them to the log. When the log grows past the thresholds of its {@link LogCompactionScheduler}, a
+ * new snapshot is written in the background, and the log is truncated to the records after it, so reading the address
+ * book never replays more than about that many records.
+ * Snapshots are named after the sequence of the last record they include, and the log only drops records once a
+ * snapshot that includes them has been written, so the newest snapshot and the log always hold every change.
+ * If there is no snapshot or log yet, the address book is read from the data file as by
+ * {@code JsonAddressBookStorage}, and moved to a snapshot by the first save. The data file is not written to.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    static final String LOG_FILE_NAME = "log.jsonl";
+
+    private static final Pattern SNAPSHOT_FILE_NAME_PATTERN = Pattern.compile("snapshot-(\\d+)\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path dataFilePath;
+    private final Path directoryPath;
+    private final AddressBookLog log;
+    private final LogCompactionScheduler compactionScheduler;
+    private final JsonAddressBookStorage dataFileStorage;
+
+    /** The last address book read, if it has not been saved since. */
+    private LoadedAddressBook loadedAddressBook;
+
+    /** The person list of the last address book tracked or saved, whose changes are followed. */
+    private ObservableList<Person> trackedPersons;
+    private final ListChangeListener<Person> changeListener = this::recordChanges;
+
+    /** The changes to {@link #trackedPersons} that have not been appended to the log yet. */
+    private final List<PendingChange> pendingChanges = new ArrayList<>();
+    /** The sequence of the last record appended to the log, or of the snapshot written after it. */
+    private long sequence;
+
+    /**
+     * Creates a storage of the address book whose data file is {@code dataFilePath}, whose log is compacted by
+     * {@code compactionScheduler}.
+     */
+    public JournaledAddressBookStorage(Path dataFilePath, LogCompactionScheduler compactionScheduler) {
+        requireNonNull(dataFilePath);
+        requireNonNull(compactionScheduler);
+        this.dataFilePath = dataFilePath;
+        this.directoryPath = getJournalDirectoryPath(dataFilePath);
+        this.log = new AddressBookLog(directoryPath.resolve(LOG_FILE_NAME));
+        this.compactionScheduler = compactionScheduler;
+        this.dataFileStorage = new JsonAddressBookStorage(dataFilePath);
+    }
+
+    /**
+     * Returns the path of the directory of the snapshots and log of the address book whose data file is
+     * {@code dataFilePath}, which is next to the data file.
+     */
+    public static Path getJournalDirectoryPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + ".journal");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return dataFilePath;
+    }
+
+    /**
+     * Returns the path of the log, which each save of a changed address book appends to, and each compaction rewrites.
+     */
+    @Override
+    public Path getAddressBookStampFilePath() {
+        return log.getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
+            throws DataLoadingException {
+        requireNonNull(catalog);
+        Optional<ParsedAddressBook> parsedAddressBook = parseAddressBook(filePath);
+        if (!parsedAddressBook.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(parsedAddressBook.get().resolve(catalog));
+    }
+
+    /**
+     * Reads the newest snapshot and replays the log after it if {@code filePath} is the path of the data file, or reads
+     * the data file itself if there is no snapshot or log yet. Any other file is read as a data file.
+     */
+    @Override
+    public Optional<ParsedAddressBook> parseAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(dataFilePath)) {
+            return dataFileStorage.parseAddressBook(filePath);
+        }
+        OptionalLong snapshotSequence = findNewestSnapshotSequence();
+        if (!snapshotSequence.isPresent() && !Files.exists(log.getFilePath())) {
+            logger.info("No snapshot or log in " + directoryPath + ", reading data file " + dataFilePath);
+            return dataFileStorage.parseAddressBook(dataFilePath);
+        }
+
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        if (snapshotSequence.isPresent()) {
+            Path snapshotPath = getSnapshotPath(snapshotSequence.getAsLong());
+            if (!JsonStreamingCodec.readPersons(snapshotPath, persons::add)) {
+                throw new DataLoadingException(new NoSuchFileException(snapshotPath.toString()));
+            }
+        }
+        long lastSequence = log.replay(snapshotSequence.orElse(0), record -> record.applyTo(persons));
+
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(persons);
+        return Optional.of(catalog -> {
+            try {
+                AddressBook addressBook = jsonAddressBook.toModelType(catalog);
+                setLoadedAddressBook(new LoadedAddressBook(addressBook.getPersonList(), lastSequence));
+                return addressBook;
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        });
+    }
+
+    /**
+     * Reads the address book as by {@link #readAddressBook(Path, ReadOnlyInsuranceCatalog)}, and then passes its
+     * persons to {@code batchConsumer} in batches, as the whole log has to be replayed before any person is known.
+     */
+    @Override
+    public boolean readAddressBookInBatches(Path filePath, ReadOnlyInsuranceCatalog catalog, int batchSize,
+            Consumer<List<Person>> batchConsumer) throws DataLoadingException {
+        requireNonNull(batchConsumer);
+        checkArgument(batchSize > 0, "Batch size must be positive");
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(filePath, catalog);
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        List<Person> persons = addressBook.get().getPersonList();
+        for (int i = 0; i < persons.size(); i += batchSize) {
+            batchConsumer.accept(new ArrayList<>(persons.subList(i, Math.min(i + batchSize, persons.size()))));
+        }
+        return true;
+    }
+
+    /**
+     * Salvages the persons of the newest snapshot, with the log replayed after it, if {@code filePath} is the path of
+     * the data file, or of the data file itself if there is no snapshot or log yet. Any other file is salvaged as a
+     * data file. The snapshot and log must still be readable, as the positions of the changes in the log depend on
+     * every person before them, but the persons they add are then loaded one at a time.
+     */
+    @Override
+    public Optional<SalvagedAddressBook> salvageAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(catalog);
+        if (!filePath.equals(dataFilePath)) {
+            return dataFileStorage.salvageAddressBook(filePath, catalog);
+        }
+        OptionalLong snapshotSequence = findNewestSnapshotSequence();
+        if (!snapshotSequence.isPresent() && !Files.exists(log.getFilePath())) {
+            logger.info("No snapshot or log in " + directoryPath + ", salvaging data file " + dataFilePath);
+            return dataFileStorage.salvageAddressBook(dataFilePath, catalog);
+        }
+
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        if (snapshotSequence.isPresent()) {
+            Path snapshotPath = getSnapshotPath(snapshotSequence.getAsLong());
+            if (!JsonStreamingCodec.readPersons(snapshotPath, persons::add)) {
+                throw new DataLoadingException(new NoSuchFileException(snapshotPath.toString()));
+            }
+        }
+        log.replay(snapshotSequence.orElse(0), record -> record.applyTo(persons));
+
+        AddressBookSalvager salvager = new AddressBookSalvager(catalog);
+        salvager.salvagePersons(persons, directoryPath.getFileName().toString());
+        return Optional.of(salvager.finish(dataFilePath));
+    }
+
+    /**
+     * Starts following the changes to the persons of {@code addressBook} if they are the persons last read, so that the
+     * next save only appends the changes made since to the log. Otherwise, they are left to the next save, which writes
+     * them all to a new snapshot.
+     */
+    @Override
+    public synchronized void trackAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ObservableList<Person> persons = addressBook.getPersonList();
+        if (persons != trackedPersons && loadedAddressBook != null && loadedAddressBook.hasSamePersons(persons)) {
+            track(persons);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, dataFilePath);
+    }
+
+    /**
+     * Appends the changes to {@code addressBook} to the log if {@code filePath} is the path of the data file.
+     * Any other file is written as a data file.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(dataFilePath)) {
+            dataFileStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        saveChanges(addressBook.getPersonList());
+    }
+
+    private synchronized void setLoadedAddressBook(LoadedAddressBook loadedAddressBook) {
+        this.loadedAddressBook = loadedAddressBook;
+    }
+
+    private synchronized void saveChanges(ObservableList<Person> persons) throws IOException {
+        if (persons != trackedPersons) {
+            track(persons);
+            return;
+        }
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        List<String> records = new ArrayList<>();
+        long lastSequence = sequence;
+        for (PendingChange change : pendingChanges) {
+            lastSequence++;
+            records.add(JsonStreamingCodec.writeLogRecord(lastSequence, change.index, change.removedCount,
+                    change.addedPersons));
+        }
+        log.append(records, lastSequence);
+        sequence = lastSequence;
+        pendingChanges.clear();
+
+        if (compactionScheduler.isCompactionDue(log.getSize(), log.getRecordCount())) {
+            List<Person> snapshotPersons = new ArrayList<>(persons);
+            long snapshotSequence = sequence;
+            if (compactionScheduler.schedule(() -> compact(snapshotPersons, snapshotSequence))) {
+                logger.fine("Compacting " + log.getRecordCount() + " log records into snapshot " + snapshotSequence);
+            }
+        }
+    }
+
+    /**
+     * Starts following the changes to {@code persons}. Unless they are the persons last read, they are first written
+     * to a new snapshot, which the log is then truncated to.
+     */
+    private void track(ObservableList<Person> persons) throws IOException {
+        if (trackedPersons != null) {
+            trackedPersons.removeListener(changeListener);
+        }
+        pendingChanges.clear();
+
+        if (loadedAddressBook != null && loadedAddressBook.hasSamePersons(persons)) {
+            sequence = loadedAddressBook.sequence;
+        } else {
+            // numbered after every snapshot and record on disk, so that none of them is taken to come after it
+            long snapshotSequence = Math.max(Math.max(sequence, listSnapshotSequences().max().orElse(0)),
+                    log.getLastSequence()) + 1;
+            compact(new ArrayList<>(persons), snapshotSequence);
+            sequence = snapshotSequence;
+        }
+        loadedAddressBook = null;
+
+        trackedPersons = persons;
+        persons.addListener(changeListener);
+    }
+
+    /**
+     * Writes {@code persons} to the snapshot {@code snapshotSequence}, then drops the records it includes from the log
+     * and deletes the older snapshots.
+     */
+    private void compact(List<Person> persons, long snapshotSequence) throws IOException {
+        Files.createDirectories(directoryPath);
+        JsonStreamingCodec.writePersons(getSnapshotPath(snapshotSequence), persons);
+        log.truncate(snapshotSequence);
+        deleteSnapshotsBefore(snapshotSequence);
+    }
+
+    private synchronized void recordChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                int to = change.getTo();
+                pendingChanges.add(new PendingChange(from, to - from, change.getList().subList(from, to)));
+            } else {
+                pendingChanges.add(new PendingChange(from, change.getRemovedSize(), change.getAddedSubList()));
+            }
+        }
+    }
+
+    private Path getSnapshotPath(long snapshotSequence) {
+        return directoryPath.resolve("snapshot-" + snapshotSequence + ".json");
+    }
+
+    private OptionalLong findNewestSnapshotSequence() throws DataLoadingException {
+        try {
+            return listSnapshotSequences().max();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private void deleteSnapshotsBefore(long snapshotSequence) throws IOException {
+        for (long oldSequence : listSnapshotSequences().filter(s -> s < snapshotSequence).toArray()) {
+            Path snapshotPath = getSnapshotPath(oldSequence);
+            try {
+                Files.deleteIfExists(snapshotPath);
+            } catch (IOException e) {
+                // a newer snapshot is read instead, so deleting it can be tried again after the next compaction
+                logger.warning("Could not delete snapshot " + snapshotPath + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private LongStream listSnapshotSequences() throws IOException {
+        if (!Files.isDirectory(directoryPath)) {
+            return LongStream.empty();
+        }
+        List<Long> sequences = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            files.forEach(file -> {
+                Matcher matcher = SNAPSHOT_FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    sequences.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        return sequences.stream().mapToLong(Long::longValue);
+    }
+
+    /**
+     * A change to the person list that replaces the {@code removedCount} persons from {@code index} onwards with
+     * {@code addedPersons}.
+     */
+    private static class PendingChange {
+        private final int index;
+        private final int removedCount;
+        private final List<Person> addedPersons;
+
+        PendingChange(int index, int removedCount, List<? extends Person> addedPersons) {
+            this.index = index;
+            this.removedCount = removedCount;
+            this.addedPersons = new ArrayList<>(addedPersons);
+        }
+    }
+
+    /**
+     * The persons of an address book read from the snapshot and log, and the sequence of the last record replayed.
+     */
+    private static class LoadedAddressBook {
+        private final List<Person> persons;
+        private final long sequence;
+
+        LoadedAddressBook(List<Person> persons, long sequence) {
+            this.persons = new ArrayList<>(persons);
+            this.sequence = sequence;
+        }
+
+        /**
+         * Returns true if {@code currentPersons} are the very persons that were read, in the same order.
+         */
+        boolean hasSamePersons(List<Person> currentPersons) {
+            if (currentPersons.size() != persons.size()) {
+                return false;
+            }
+            for (int i = 0; i < persons.size(); i++) {
+                if (currentPersons.get(i) != persons.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -98,6 +98,16 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType(ReadOnlyInsuranceCatalog catalog) throws IllegalValueException {
+        return toModelType(new InsurancePackageResolver(catalog));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, resolving its
+     * insurance package with {@code insurancePackageResolver}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    Person toModelType(InsurancePackageResolver insurancePackageResolver) throws IllegalValueException {
         final Name modelName = validateAndGetName();
         final Phone modelPhone = validateAndGetPhone();
         final Email modelEmail = validateAndGetEmail();
@@ -107,7 +117,7 @@ class JsonAdaptedPerson {
         final MaritalStatus modelMaritalStatus = validateAndGetMaritalStatus();
         final Occupation modelOccupation = validateAndGetOccupation();
         final Dependents modelDependents = validateAndGetDependents();
-        final InsurancePackage modelInsurancePackage = validateAndGetInsurancePackage(catalog);
+        final InsurancePackage modelInsurancePackage = insurancePackageResolver.resolve(insurancePackage);
 
         final List<Tag> personTags = validateAndGetTags();
         final Set<Tag> modelTags = new HashSet<>(personTags);
@@ -116,6 +126,22 @@ class JsonAdaptedPerson {
                 modelMaritalStatus, modelOccupation, modelDependents, modelInsurancePackage, modelTags);
     }
 
+    /**
+     * Converts this adapted person object into the model's {@code Person} object as
+     * {@link #toModelType(InsurancePackageResolver)} does, but without validating its fields, for a person read from a
+     * data file whose persons are known to be valid.
+     */
+    Person toValidatedModelType(InsurancePackageResolver insurancePackageResolver) {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toValidatedModelType());
+        }
+        return new Person(Name.ofValidated(name), Phone.ofValidated(phone), Email.ofValidated(email),
+                Address.ofValidated(address), Salary.ofValidated(salary), new DateOfBirth(dateOfBirth),
+                MaritalStatus.of(maritalStatus), Occupation.ofValidated(occupation), new Dependents(dependents),
+                insurancePackageResolver.resolve(insurancePackage), modelTags);
+    }
+
     private void validateField(String value, String fieldName, Predicate<String> validator, String constraintMessage)
             throws IllegalValueException {
         if (value == null) {
@@ -144,7 +170,7 @@ class JsonAdaptedPerson {
 
     private Address validateAndGetAddress() throws IllegalValueException {
         validateField(address, Address.class.getSimpleName(), Address::isValidAddress, Address.MESSAGE_CONSTRAINTS);
-        return new Address(address);
+        return Address.of(address);
     }
 
     private Salary validateAndGetSalary() throws IllegalValueException {
@@ -167,13 +193,13 @@ class JsonAdaptedPerson {
     private MaritalStatus validateAndGetMaritalStatus() throws IllegalValueException {
         validateField(maritalStatus, MaritalStatus.class.getSimpleName(), MaritalStatusEnum::isValidMaritalStatus,
                 MaritalStatus.MESSAGE_CONSTRAINTS);
-        return new MaritalStatus(maritalStatus);
+        return MaritalStatus.of(maritalStatus);
     }
 
     private Occupation validateAndGetOccupation() throws IllegalValueException {
         validateField(occupation, Occupation.class.getSimpleName(), Occupation::isValidOccupation,
                 Occupation.MESSAGE_CONSTRAINTS);
-        return new Occupation(occupation);
+        return Occupation.of(occupation);
     }
 
 
@@ -185,15 +211,6 @@ class JsonAdaptedPerson {
     }
 
 
-    private InsurancePackage validateAndGetInsurancePackage(ReadOnlyInsuranceCatalog catalog) {
-        if (insurancePackage == null || insurancePackage.isEmpty()) {
-            return catalog.getUndecidedPackage();
-        } else {
-            return catalog.getPackage(insurancePackage)
-                    .orElseGet(catalog::getUndecidedPackage);
-        }
-    }
-
     private List<Tag> validateAndGetTags() throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
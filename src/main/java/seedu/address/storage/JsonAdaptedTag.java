@@ -42,7 +42,15 @@ class JsonAdaptedTag {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.of(tagName);
+    }
+
+    /**
+     * Converts this adapted tag object into the model's {@code Tag} object without validating it, for a tag that is
+     * known to be valid.
+     */
+    Tag toValidatedModelType() {
+        return Tag.ofValidated(tagName);
     }
 
 }
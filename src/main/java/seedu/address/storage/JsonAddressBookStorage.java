@@ -1,19 +1,25 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -35,18 +41,75 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
             throws DataLoadingException {
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
+        requireNonNull(catalog);
+        Optional<ParsedAddressBook> parsedAddressBook = parseAddressBook(filePath);
+        if (!parsedAddressBook.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(parsedAddressBook.get().resolve(catalog));
+    }
+
+    /**
+     * Reads and parses the data file. If its validation fingerprint shows that it has not changed since its persons
+     * were validated by the current constraints, they are not validated again when the address book is resolved.
+     * Otherwise, they are, and the fingerprint is then updated.
+     */
+    @Override
+    public Optional<ParsedAddressBook> parseAddressBook(Path filePath) throws DataLoadingException {
+        MessageDigest digest = ValidationFingerprint.newDigest();
+        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonStreamingCodec.readAddressBook(filePath, digest);
         if (!jsonAddressBook.isPresent()) {
             return Optional.empty();
         }
+        ValidationFingerprint fingerprint = ValidationFingerprint.of(digest);
+        boolean isValidated = readValidationFingerprint(filePath).map(fingerprint::equals).orElse(false);
+        return jsonAddressBook.map(addressBook -> catalog -> {
+            if (isValidated) {
+                logger.fine("Data file " + filePath + " has not changed since it was validated");
+                return addressBook.toValidatedModelType(catalog);
+            }
+            try {
+                AddressBook validatedAddressBook = addressBook.toModelType(catalog);
+                writeValidationFingerprint(filePath, fingerprint);
+                return validatedAddressBook;
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        });
+    }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType(catalog));
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+    @Override
+    public boolean readAddressBookInBatches(Path filePath, ReadOnlyInsuranceCatalog catalog, int batchSize,
+            Consumer<List<Person>> batchConsumer) throws DataLoadingException {
+        requireNonNull(catalog);
+        requireNonNull(batchConsumer);
+        checkArgument(batchSize > 0, "Batch size must be positive");
+
+        InsurancePackageResolver insurancePackageResolver = new InsurancePackageResolver(catalog);
+        List<Person> batch = new ArrayList<>();
+        boolean isFound = JsonStreamingCodec.readPersons(filePath, jsonAdaptedPerson -> {
+            batch.add(jsonAdaptedPerson.toModelType(insurancePackageResolver));
+            if (batch.size() == batchSize) {
+                batchConsumer.accept(new ArrayList<>(batch));
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+        return isFound;
+    }
+
+    @Override
+    public Optional<SalvagedAddressBook> salvageAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
+            throws DataLoadingException {
+        requireNonNull(catalog);
+        AddressBookSalvager salvager = new AddressBookSalvager(catalog);
+        if (!salvager.salvageFile(filePath)) {
+            return Optional.empty();
         }
+        return Optional.of(salvager.finish(filePath));
     }
 
     @Override
@@ -64,7 +127,38 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        MessageDigest digest = ValidationFingerprint.newDigest();
+        JsonStreamingCodec.writeAddressBook(filePath, addressBook, digest);
+        // the persons of a model are all valid, so the file written is too
+        writeValidationFingerprint(filePath, ValidationFingerprint.of(digest));
+    }
+
+    /**
+     * Returns the validation fingerprint of the data file at {@code dataFilePath}, or {@code Optional.empty()} if it
+     * has none, or it cannot be read, in which case the data file is validated as if it had none.
+     */
+    private static Optional<ValidationFingerprint> readValidationFingerprint(Path dataFilePath) {
+        Path fingerprintPath = ValidationFingerprint.getFingerprintPath(dataFilePath);
+        try {
+            return JsonStreamingCodec.readValidationFingerprint(fingerprintPath);
+        } catch (DataLoadingException e) {
+            logger.info("Ignoring unreadable validation fingerprint " + fingerprintPath);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes {@code fingerprint} as the validation fingerprint of the data file at {@code dataFilePath}.
+     * A fingerprint that cannot be written only means that the data file is validated again at the next startup, as
+     * the old fingerprint, if any, does not match it.
+     */
+    private static void writeValidationFingerprint(Path dataFilePath, ValidationFingerprint fingerprint) {
+        Path fingerprintPath = ValidationFingerprint.getFingerprintPath(dataFilePath);
+        try {
+            JsonStreamingCodec.writeValidationFingerprint(fingerprintPath, fingerprint);
+        } catch (IOException e) {
+            logger.warning("Failed to write validation fingerprint " + fingerprintPath + ": " + e);
+        }
     }
 
 }
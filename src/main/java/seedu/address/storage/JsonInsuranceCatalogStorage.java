@@ -11,7 +11,6 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyInsuranceCatalog;
 
 /**
@@ -46,8 +45,8 @@ public class JsonInsuranceCatalogStorage implements InsuranceCatalogStorage {
     public Optional<ReadOnlyInsuranceCatalog> readInsuranceCatalog(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableInsuranceCatalog> jsonInsuranceCatalog = JsonUtil.readJsonFile(
-                filePath, JsonSerializableInsuranceCatalog.class);
+        Optional<JsonSerializableInsuranceCatalog> jsonInsuranceCatalog =
+                JsonStreamingCodec.readInsuranceCatalog(filePath);
         if (!jsonInsuranceCatalog.isPresent()) {
             return Optional.empty();
         }
@@ -71,6 +70,6 @@ public class JsonInsuranceCatalogStorage implements InsuranceCatalogStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableInsuranceCatalog(insuranceCatalog), filePath);
+        JsonStreamingCodec.writeInsuranceCatalog(filePath, insuranceCatalog);
     }
 }
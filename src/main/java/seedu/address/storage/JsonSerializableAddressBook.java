@@ -22,13 +22,16 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** The name of the array of persons in the JSON data file. */
+    static final String PERSONS_PROPERTY = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_PROPERTY) List<JsonAdaptedPerson> persons) {
         this.persons.addAll(persons);
     }
 
@@ -44,15 +47,30 @@ class JsonSerializableAddressBook {
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
-     * @param catalog The catalog to validate packages against.
+     * @param catalog The catalog to resolve packages in.
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType(ReadOnlyInsuranceCatalog catalog) throws IllegalValueException {
+        InsurancePackageResolver insurancePackageResolver = new InsurancePackageResolver(catalog);
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType(catalog);
+            Person person = jsonAdaptedPerson.toModelType(insurancePackageResolver);
             addressBook.addPerson(person);
         }
         return addressBook;
     }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object as
+     * {@link #toModelType(ReadOnlyInsuranceCatalog)} does, but without validating the fields of its persons, for an
+     * address book read from a data file whose persons are known to be valid.
+     */
+    AddressBook toValidatedModelType(ReadOnlyInsuranceCatalog catalog) {
+        InsurancePackageResolver insurancePackageResolver = new InsurancePackageResolver(catalog);
+        AddressBook addressBook = new AddressBook();
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            addressBook.addPerson(jsonAdaptedPerson.toValidatedModelType(insurancePackageResolver));
+        }
+        return addressBook;
+    }
 }
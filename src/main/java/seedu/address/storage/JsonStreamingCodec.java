@@ -0,0 +1,796 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.insurance.InsurancePackage;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes the JSON data files of the address book, its segment manifest and the insurance catalog with
+ * Jackson's streaming parser and generator, instead of data binding, which finds the fields of the {@code JsonAdapted*}
+ * classes by reflection.
+ * The files are the same as those of data binding: fields are written in the same order with the default pretty
+ * printer, and when reading, unknown fields are skipped, missing fields are null (or 0 for numbers), and scalars are
+ * converted to the type of the field.
+ * The records of an {@code AddressBookLog} are each written on a single line instead.
+ */
+class JsonStreamingCodec {
+
+    static final String INSURANCE_PACKAGES_PROPERTY = "insurancePackages";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonStreamingCodec.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JsonStreamingCodec() {}
+
+    /**
+     * Reads the address book in the given file, or returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if reading the file failed, or it does not have an array of persons.
+     */
+    static Optional<JsonSerializableAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, null);
+    }
+
+    /**
+     * Reads the address book in the given file as {@link #readAddressBook(Path)} does, updating {@code digest}, if it
+     * is not null, with the whole content of the file as it is read.
+     */
+    static Optional<JsonSerializableAddressBook> readAddressBook(Path filePath, MessageDigest digest)
+            throws DataLoadingException {
+        return read(filePath, digest, parser -> {
+            List<JsonAdaptedPerson> persons = new ArrayList<>();
+            readRequiredArray(parser, JsonSerializableAddressBook.PERSONS_PROPERTY, JsonStreamingCodec::readPerson,
+                    persons::add);
+            return new JsonSerializableAddressBook(persons);
+        });
+    }
+
+    /**
+     * Reads the persons of the address book in the given file one at a time, and passes each person to
+     * {@code personConsumer} as soon as it has been read. A missing array of persons is read as an empty one.
+     * Returns false if the file is not found.
+     *
+     * @throws DataLoadingException if reading the file failed, or {@code personConsumer} rejected a person.
+     */
+    static boolean readPersons(Path filePath, ElementConsumer<JsonAdaptedPerson> personConsumer)
+            throws DataLoadingException {
+        requireNonNull(personConsumer);
+        return read(filePath, parser -> readArray(parser, JsonSerializableAddressBook.PERSONS_PROPERTY,
+                JsonStreamingCodec::readPerson, personConsumer)).isPresent();
+    }
+
+    /**
+     * Reads the persons of the address book in the given file one at a time, like
+     * {@link #readPersons(Path, ElementConsumer)}, but passes each element of the array of persons to
+     * {@code salvageConsumer} with where it is in the file, and goes on to the next element if one is not a person.
+     * If the file stops being valid JSON, or is not an object with an array of persons, the rest of the file from the
+     * end of the last element read is rejected as a whole, and reading stops there.
+     * Returns false if the file is not found.
+     *
+     * @throws DataLoadingException if reading the file failed.
+     */
+    static boolean salvagePersons(Path filePath, SalvageConsumer salvageConsumer) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(salvageConsumer);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found, salvaging its persons.");
+
+        try (JsonParser parser = JSON_FACTORY.createParser(filePath.toFile())) {
+            int index = 0;
+            long restStart = 0;
+            try {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected a JSON object");
+                }
+                boolean isFound = false;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    boolean isPersons = parser.getCurrentName().equals(JsonSerializableAddressBook.PERSONS_PROPERTY);
+                    JsonToken value = parser.nextToken();
+                    if (!isPersons || value == JsonToken.VALUE_NULL) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (value != JsonToken.START_ARRAY) {
+                        throw new JsonParseException(parser, "Expected persons to be an array");
+                    }
+                    JsonStreamContext arrayContext = parser.getParsingContext();
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        JsonLocation start = parser.getTokenLocation();
+                        try {
+                            JsonAdaptedPerson person = readPerson(parser);
+                            salvageConsumer.accept(person, new ElementLocation(index, start.getLineNr(),
+                                    start.getByteOffset(), parser.getCurrentLocation().getByteOffset()));
+                        } catch (UnexpectedValueException e) {
+                            // skips the rest of the element, which is valid JSON, just not a person, reading the
+                            // text of a string element too, as it is only read when asked for
+                            parser.getText();
+                            while (parser.getParsingContext() != arrayContext) {
+                                if (parser.nextToken() == null) {
+                                    throw new JsonParseException(parser, "Unexpected end of file");
+                                }
+                            }
+                            salvageConsumer.reject(new ElementLocation(index, start.getLineNr(),
+                                    start.getByteOffset(), parser.getCurrentLocation().getByteOffset()),
+                                    e.getOriginalMessage());
+                        }
+                        index++;
+                        restStart = parser.getCurrentLocation().getByteOffset();
+                    }
+                    isFound = true;
+                }
+                if (!isFound) {
+                    throw new JsonParseException(parser,
+                            "Missing array " + JsonSerializableAddressBook.PERSONS_PROPERTY);
+                }
+            } catch (JsonParseException e) {
+                JsonLocation location = e.getLocation();
+                logger.warning("Stopped salvaging " + filePath + " at line " + location.getLineNr() + ": "
+                        + e.getOriginalMessage());
+                salvageConsumer.reject(new ElementLocation(index, location.getLineNr(), restStart,
+                        Files.size(filePath)), e.getOriginalMessage() + " (line " + location.getLineNr()
+                        + ", column " + location.getColumnNr() + ")");
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Reads the insurance catalog in the given file, or returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if reading the file failed, or it does not have an array of insurance packages.
+     */
+    static Optional<JsonSerializableInsuranceCatalog> readInsuranceCatalog(Path filePath)
+            throws DataLoadingException {
+        return read(filePath, parser -> {
+            List<JsonAdaptedInsurancePackage> insurancePackages = new ArrayList<>();
+            readRequiredArray(parser, INSURANCE_PACKAGES_PROPERTY, JsonStreamingCodec::readInsurancePackage,
+                    insurancePackages::add);
+            return new JsonSerializableInsuranceCatalog(insurancePackages);
+        });
+    }
+
+    /**
+     * Writes {@code addressBook} to the given file, replacing it once the whole address book has been written.
+     */
+    static void writeAddressBook(Path filePath, ReadOnlyAddressBook addressBook) throws IOException {
+        writeAddressBook(filePath, addressBook, null);
+    }
+
+    /**
+     * Writes {@code addressBook} to the given file as {@link #writeAddressBook(Path, ReadOnlyAddressBook)} does,
+     * updating {@code digest}, if it is not null, with the whole content of the file as it is written.
+     */
+    static void writeAddressBook(Path filePath, ReadOnlyAddressBook addressBook, MessageDigest digest)
+            throws IOException {
+        requireNonNull(addressBook);
+        writePersons(filePath, addressBook.getPersonList(), digest);
+    }
+
+    /**
+     * Writes an address book of {@code persons} to the given file, replacing it once all persons have been written.
+     */
+    static void writePersons(Path filePath, List<Person> persons) throws IOException {
+        writePersons(filePath, persons, null);
+    }
+
+    private static void writePersons(Path filePath, List<Person> persons, MessageDigest digest) throws IOException {
+        requireNonNull(persons);
+        write(filePath, digest, generator -> {
+            generator.writeArrayFieldStart(JsonSerializableAddressBook.PERSONS_PROPERTY);
+            for (Person person : persons) {
+                writePerson(generator, person);
+            }
+            generator.writeEndArray();
+        });
+    }
+
+    /**
+     * Writes {@code catalog} to the given file, replacing it once the whole catalog has been written.
+     */
+    static void writeInsuranceCatalog(Path filePath, ReadOnlyInsuranceCatalog catalog) throws IOException {
+        requireNonNull(catalog);
+        write(filePath, generator -> {
+            generator.writeArrayFieldStart(INSURANCE_PACKAGES_PROPERTY);
+            for (InsurancePackage insurancePackage : catalog.getInsurancePackageList()) {
+                generator.writeStartObject();
+                generator.writeStringField("packageName", insurancePackage.getPackageName());
+                generator.writeStringField("packageDescription", insurancePackage.getPackageDescription());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        });
+    }
+
+    /**
+     * Reads the segment manifest in the given file, or returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if reading the file failed, or it is not a manifest of a supported version.
+     */
+    static Optional<SegmentManifest> readSegmentManifest(Path filePath) throws DataLoadingException {
+        return read(filePath, parser -> {
+            int version = 0;
+            long generation = 0;
+            List<String> segmentFileNames = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "version":
+                    version = readInt(parser);
+                    break;
+                case "generation":
+                    generation = parser.getLongValue();
+                    break;
+                case "segments":
+                    segmentFileNames = readStrings(parser, "segments");
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            if (version != SegmentManifest.VERSION || segmentFileNames == null) {
+                throw new JsonParseException(parser, "Not a segment manifest of version " + SegmentManifest.VERSION);
+            }
+            return new SegmentManifest(generation, segmentFileNames);
+        });
+    }
+
+    /**
+     * Writes {@code manifest} to the given file, atomically replacing it.
+     */
+    static void writeSegmentManifest(Path filePath, SegmentManifest manifest) throws IOException {
+        requireNonNull(manifest);
+        write(filePath, generator -> {
+            generator.writeNumberField("version", SegmentManifest.VERSION);
+            generator.writeNumberField("generation", manifest.getGeneration());
+            generator.writeArrayFieldStart("segments");
+            for (String segmentFileName : manifest.getSegmentFileNames()) {
+                generator.writeString(segmentFileName);
+            }
+            generator.writeEndArray();
+        });
+    }
+
+    /**
+     * Reads the validation fingerprint in the given file, or returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if reading the file failed, or it is not a fingerprint.
+     */
+    static Optional<ValidationFingerprint> readValidationFingerprint(Path filePath) throws DataLoadingException {
+        return read(filePath, null, parser -> {
+            int validationVersion = -1;
+            String contentHash = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "validationVersion":
+                    validationVersion = readInt(parser);
+                    break;
+                case "contentHash":
+                    contentHash = readString(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            if (validationVersion < 0 || contentHash == null) {
+                throw new JsonParseException(parser, "Incomplete validation fingerprint");
+            }
+            return new ValidationFingerprint(validationVersion, contentHash);
+        });
+    }
+
+    /**
+     * Writes {@code fingerprint} to the given file, atomically replacing it.
+     */
+    static void writeValidationFingerprint(Path filePath, ValidationFingerprint fingerprint) throws IOException {
+        requireNonNull(fingerprint);
+        write(filePath, generator -> {
+            generator.writeNumberField("validationVersion", fingerprint.getValidationVersion());
+            generator.writeStringField("contentHash", fingerprint.getContentHash());
+        });
+    }
+
+    /**
+     * Writes {@code records}, set aside by an {@code AddressBookSalvager}, to the quarantine file at {@code filePath}.
+     */
+    static void writeQuarantine(Path filePath, List<QuarantinedRecord> records) throws IOException {
+        requireNonNull(records);
+        write(filePath, generator -> {
+            generator.writeArrayFieldStart("quarantined");
+            for (QuarantinedRecord record : records) {
+                generator.writeStartObject();
+                generator.writeStringField("source", record.getSource());
+                generator.writeNumberField("index", record.getIndex());
+                generator.writeNumberField("line", record.getLineNumber());
+                generator.writeStringField("reason", record.getReason());
+                generator.writeStringField("text", record.getText());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        });
+    }
+
+    /**
+     * Returns a record of the change that replaces the {@code removedCount} persons from {@code index} onwards with
+     * {@code addedPersons}, as a line of an {@code AddressBookLog} without its line separator.
+     */
+    static String writeLogRecord(long sequence, int index, int removedCount, List<? extends Person> addedPersons)
+            throws IOException {
+        requireNonNull(addedPersons);
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeNumberField("sequence", sequence);
+            generator.writeNumberField("index", index);
+            generator.writeNumberField("removed", removedCount);
+            generator.writeArrayFieldStart(JsonSerializableAddressBook.PERSONS_PROPERTY);
+            for (Person person : addedPersons) {
+                writePerson(generator, person);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Reads the record in a line of an {@code AddressBookLog}.
+     *
+     * @throws IOException if the line is not a whole record.
+     */
+    static AddressBookLogRecord readLogRecord(String line) throws IOException {
+        requireNonNull(line);
+        try (JsonParser parser = JSON_FACTORY.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a log record object");
+            }
+            long sequence = -1;
+            int index = -1;
+            int removedCount = -1;
+            List<JsonAdaptedPerson> addedPersons = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "sequence":
+                    sequence = parser.getLongValue();
+                    break;
+                case "index":
+                    index = readInt(parser);
+                    break;
+                case "removed":
+                    removedCount = readInt(parser);
+                    break;
+                case JsonSerializableAddressBook.PERSONS_PROPERTY:
+                    if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+                        throw new JsonParseException(parser, "Expected persons to be an array");
+                    }
+                    addedPersons = new ArrayList<>();
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        addedPersons.add(readPerson(parser));
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT || sequence < 0 || index < 0 || removedCount < 0
+                    || addedPersons == null) {
+                throw new JsonParseException(parser, "Incomplete log record");
+            }
+            return new AddressBookLogRecord(sequence, index, removedCount, addedPersons);
+        }
+    }
+
+    private static <T> Optional<T> read(Path filePath, ObjectReader<T> objectReader) throws DataLoadingException {
+        return read(filePath, null, objectReader);
+    }
+
+    /**
+     * Reads the object in the given file with {@code objectReader} as {@link #read(Path, ObjectReader)} does,
+     * updating {@code digest}, if it is not null, with the whole content of the file, including any of it after the
+     * object.
+     */
+    private static <T> Optional<T> read(Path filePath, MessageDigest digest, ObjectReader<T> objectReader)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream input = digest == null
+                ? Files.newInputStream(filePath)
+                : new DigestInputStream(Files.newInputStream(filePath), digest);
+                JsonParser parser = JSON_FACTORY.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            T object = objectReader.read(parser);
+            if (digest != null) {
+                input.transferTo(OutputStream.nullOutputStream());
+            }
+            return Optional.of(object);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Reads the fields of the object at the parser, passing each element of the array {@code arrayName} to
+     * {@code elementConsumer}. Returns false if the object has no such array, or it is null.
+     */
+    private static <T> boolean readArray(JsonParser parser, String arrayName, ElementReader<T> elementReader,
+            ElementConsumer<T> elementConsumer) throws IOException, IllegalValueException {
+        boolean isFound = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            boolean isArray = parser.getCurrentName().equals(arrayName);
+            JsonToken value = parser.nextToken();
+            if (!isArray || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected " + arrayName + " to be an array");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                elementConsumer.accept(elementReader.read(parser));
+            }
+            isFound = true;
+        }
+        return isFound;
+    }
+
+    private static <T> void readRequiredArray(JsonParser parser, String arrayName, ElementReader<T> elementReader,
+            ElementConsumer<T> elementConsumer) throws IOException, IllegalValueException {
+        if (!readArray(parser, arrayName, elementReader, elementConsumer)) {
+            throw new JsonParseException(parser, "Missing array " + arrayName);
+        }
+    }
+
+    private static JsonAdaptedPerson readPerson(JsonParser parser) throws IOException {
+        requireObject(parser, "person");
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        String salary = null;
+        String dateOfBirth = null;
+        String maritalStatus = null;
+        String occupation = null;
+        int dependents = 0;
+        String insurancePackage = null;
+        List<JsonAdaptedTag> tags = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "name":
+                name = readString(parser);
+                break;
+            case "phone":
+                phone = readString(parser);
+                break;
+            case "email":
+                email = readString(parser);
+                break;
+            case "address":
+                address = readString(parser);
+                break;
+            case "salary":
+                salary = readString(parser);
+                break;
+            case "dateOfBirth":
+                dateOfBirth = readString(parser);
+                break;
+            case "maritalStatus":
+                maritalStatus = readString(parser);
+                break;
+            case "occupation":
+                occupation = readString(parser);
+                break;
+            case "dependents":
+                dependents = readInt(parser);
+                break;
+            case "insurancePackage":
+                insurancePackage = readString(parser);
+                break;
+            case "tags":
+                tags = readTags(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new JsonAdaptedPerson(name, phone, email, address, salary, dateOfBirth, maritalStatus, occupation,
+                dependents, insurancePackage, tags);
+    }
+
+    private static List<JsonAdaptedTag> readTags(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (String tagName : readStrings(parser, "tags")) {
+            tags.add(new JsonAdaptedTag(tagName));
+        }
+        return tags;
+    }
+
+    /**
+     * Reads the array of strings {@code arrayName} at the parser, none of which may be null.
+     */
+    private static List<String> readStrings(JsonParser parser, String arrayName) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new UnexpectedValueException(parser, "Expected " + arrayName + " to be an array");
+        }
+        List<String> strings = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String string = readString(parser);
+            if (string == null) {
+                throw new UnexpectedValueException(parser, "Expected " + arrayName + " to have no null elements");
+            }
+            strings.add(string);
+        }
+        return strings;
+    }
+
+    private static JsonAdaptedInsurancePackage readInsurancePackage(JsonParser parser) throws IOException {
+        requireObject(parser, "insurance package");
+        String packageName = null;
+        String packageDescription = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "packageName":
+                packageName = readString(parser);
+                break;
+            case "packageDescription":
+                packageDescription = readString(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new JsonAdaptedInsurancePackage(packageName, packageDescription);
+    }
+
+    private static void requireObject(JsonParser parser, String description) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new UnexpectedValueException(parser, "Expected a " + description + " object");
+        }
+    }
+
+    /**
+     * Returns the scalar value at the parser as a string, or null if it is null.
+     */
+    private static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new UnexpectedValueException(parser, "Expected a string");
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Returns the number at the parser as an int, truncating any fraction, or 0 if it is null or an empty string.
+     */
+    private static int readInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        if (token.isNumeric()) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            try {
+                return text.isEmpty() ? 0 : Integer.parseInt(text);
+            } catch (NumberFormatException e) {
+                throw new UnexpectedValueException(parser, "Expected an integer, not \"" + text + "\"");
+            }
+        }
+        throw new UnexpectedValueException(parser, "Expected an integer");
+    }
+
+    private static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeStringField("salary", person.getSalary().getValue());
+        generator.writeStringField("dateOfBirth", person.getDateOfBirth().getValue());
+        generator.writeStringField("maritalStatus", person.getMaritalStatus().getValue());
+        generator.writeStringField("occupation", person.getOccupation().getValue());
+        generator.writeNumberField("dependents", person.getDependents().getValue());
+        generator.writeStringField("insurancePackage", person.getInsurancePackage().getPackageName());
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes an object with the fields written by {@code fieldsWriter} to a temporary file, which is forced to the disk
+     * and then replaces the given file, so the file is never left half written.
+     */
+    private static void write(Path filePath, FieldsWriter fieldsWriter) throws IOException {
+        write(filePath, null, fieldsWriter);
+    }
+
+    /**
+     * Writes the given file as {@link #write(Path, FieldsWriter)} does, updating {@code digest}, if it is not null,
+     * with the whole content of the file as it is written.
+     */
+    private static void write(Path filePath, MessageDigest digest, FieldsWriter fieldsWriter) throws IOException {
+        requireNonNull(filePath);
+        Path tempFilePath = Files.createTempFile(filePath.toAbsolutePath().getParent(),
+                filePath.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.WRITE)) {
+                OutputStream output = digest == null
+                        ? Channels.newOutputStream(channel)
+                        : new DigestOutputStream(Channels.newOutputStream(channel), digest);
+                try (JsonGenerator generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8)) {
+                    // The channel is closed by the enclosing try, after the content is forced to the disk
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    generator.useDefaultPrettyPrinter();
+                    generator.writeStartObject();
+                    fieldsWriter.write(generator);
+                    generator.writeEndObject();
+                }
+                // Forced before the move, so a crash cannot leave the file renamed but empty
+                channel.force(true);
+            }
+            Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+    }
+
+    /**
+     * Accepts the elements of an array read by {@link #readPersons(Path, ElementConsumer)}.
+     */
+    @FunctionalInterface
+    interface ElementConsumer<T> {
+        /**
+         * Accepts {@code element}.
+         *
+         * @throws IllegalValueException if {@code element} is invalid, which stops the reading.
+         */
+        void accept(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Accepts the elements of the array of persons read by {@link #salvagePersons(Path, SalvageConsumer)}.
+     */
+    interface SalvageConsumer {
+        /**
+         * Accepts {@code person}, the element at {@code location}.
+         */
+        void accept(JsonAdaptedPerson person, ElementLocation location);
+
+        /**
+         * Rejects the text at {@code location}, which is not a person for the given {@code reason}.
+         */
+        void reject(ElementLocation location, String reason);
+    }
+
+    /**
+     * Where an element of the array of persons is in a file.
+     */
+    static class ElementLocation {
+        private final int index;
+        private final int lineNumber;
+        private final long startOffset;
+        private final long endOffset;
+
+        /**
+         * Creates the location of the element {@code index} of the array, which starts on line {@code lineNumber},
+         * and takes up the bytes of the file from {@code startOffset} up to {@code endOffset}.
+         */
+        ElementLocation(int index, int lineNumber, long startOffset, long endOffset) {
+            this.index = index;
+            this.lineNumber = lineNumber;
+            this.startOffset = startOffset;
+            this.endOffset = endOffset;
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        int getLineNumber() {
+            return lineNumber;
+        }
+
+        long getStartOffset() {
+            return startOffset;
+        }
+
+        long getEndOffset() {
+            return endOffset;
+        }
+    }
+
+    /**
+     * Signals that a value is valid JSON, but not of the type expected, so the parser can go on to the next value.
+     */
+    private static class UnexpectedValueException extends JsonParseException {
+        UnexpectedValueException(JsonParser parser, String message) {
+            super(parser, message);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ObjectReader<T> {
+        /**
+         * Reads the fields of the object at the parser, up to its end.
+         */
+        T read(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        /**
+         * Reads the array element at the parser, up to its end.
+         */
+        T read(JsonParser parser) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface FieldsWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
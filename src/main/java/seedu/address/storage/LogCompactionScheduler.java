@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Decides when a log of changes, such as that of a {@code JournaledAddressBookStorage}, is due to be compacted into a
+ * full snapshot, and runs the compaction in the background.
+ * A compaction is due once the log has more than a maximum number of bytes or records. Only one compaction runs at a
+ * time; a compaction that is requested while one is running is skipped, as the log is checked again after each save.
+ */
+public class LogCompactionScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(LogCompactionScheduler.class);
+
+    private final long maxLogSize;
+    private final int maxLogRecordCount;
+    private final Executor executor;
+    private CompletableFuture<Void> runningCompaction = CompletableFuture.completedFuture(null);
+
+    /**
+     * Creates a scheduler that compacts a log once it has more than {@code maxLogSize} bytes or
+     * {@code maxLogRecordCount} records, on a background thread of its own.
+     */
+    public LogCompactionScheduler(long maxLogSize, int maxLogRecordCount) {
+        this(maxLogSize, maxLogRecordCount, newCompactionExecutor());
+    }
+
+    /**
+     * Creates a scheduler that compacts a log once it has more than {@code maxLogSize} bytes or
+     * {@code maxLogRecordCount} records, with {@code executor}.
+     */
+    LogCompactionScheduler(long maxLogSize, int maxLogRecordCount, Executor executor) {
+        checkArgument(maxLogSize > 0, "Maximum log size must be positive");
+        checkArgument(maxLogRecordCount > 0, "Maximum log record count must be positive");
+        requireNonNull(executor);
+        this.maxLogSize = maxLogSize;
+        this.maxLogRecordCount = maxLogRecordCount;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns true if a log of {@code logSize} bytes and {@code logRecordCount} records is due to be compacted.
+     */
+    public boolean isCompactionDue(long logSize, int logRecordCount) {
+        return logSize > maxLogSize || logRecordCount > maxLogRecordCount;
+    }
+
+    /**
+     * Runs {@code compaction} in the background, unless a compaction is already running.
+     * Returns true if the compaction was started.
+     */
+    public synchronized boolean schedule(Compaction compaction) {
+        requireNonNull(compaction);
+        if (!runningCompaction.isDone()) {
+            return false;
+        }
+        runningCompaction = CompletableFuture.runAsync(() -> {
+            try {
+                compaction.run();
+            } catch (IOException e) {
+                // the log is kept as it is, so nothing is lost, and the next save schedules another compaction
+                logger.warning("Could not compact the log: " + e);
+            }
+        }, executor);
+        return true;
+    }
+
+    /**
+     * Waits for the running compaction, if any, to finish.
+     */
+    public void awaitCompaction() {
+        CompletableFuture<Void> compaction;
+        synchronized (this) {
+            compaction = runningCompaction;
+        }
+        compaction.join();
+    }
+
+    private static ExecutorService newCompactionExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "log-compaction");
+            // a compaction cut short leaves the log and the last snapshot as they were
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Writes a snapshot of the state a log leads to, and drops the records it covers from the log.
+     */
+    @FunctionalInterface
+    public interface Compaction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.storage;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+
+/**
+ * An address book that has been read and parsed from storage, but whose persons have not been created yet, as their
+ * insurance packages can only be resolved with the insurance catalog.
+ */
+@FunctionalInterface
+public interface ParsedAddressBook {
+
+    /**
+     * Creates the address book, resolving the insurance packages of its persons to the packages of {@code catalog}.
+     *
+     * @throws DataLoadingException if the data violates any constraints.
+     */
+    ReadOnlyAddressBook resolve(ReadOnlyInsuranceCatalog catalog) throws DataLoadingException;
+}
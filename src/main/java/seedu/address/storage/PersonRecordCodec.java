@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import seedu.address.model.insurance.InsurancePackage;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Dependents;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MaritalStatus;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Occupation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Salary;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes a {@code Person} as a binary record, and decodes it back.
+ * A record is its length followed by the fields of the person, with strings as their length and UTF-8 bytes, and all
+ * integers in big-endian order.
+ * Insurance packages are written as codes, which the writer and reader of the records must agree on.
+ */
+class PersonRecordCodec {
+
+    private PersonRecordCodec() {}
+
+    /**
+     * Writes the record of {@code person}, with {@code insurancePackageCode} as the code of its insurance package.
+     */
+    static void write(DataOutput output, Person person, int insurancePackageCode) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream fields = new DataOutputStream(bytes);
+        writeString(fields, person.getName().fullName);
+        writeString(fields, person.getPhone().value);
+        writeString(fields, person.getEmail().value);
+        writeString(fields, person.getAddress().value);
+        writeString(fields, person.getSalary().getValue());
+        writeString(fields, person.getDateOfBirth().getValue());
+        writeString(fields, person.getMaritalStatus().getValue());
+        writeString(fields, person.getOccupation().getValue());
+        fields.writeInt(person.getDependents().getValue());
+        fields.writeInt(insurancePackageCode);
+        fields.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(fields, tag.tagName);
+        }
+
+        output.writeInt(bytes.size());
+        output.write(bytes.toByteArray());
+    }
+
+    /**
+     * Reads the record at the position of {@code buffer}.
+     *
+     * @param insurancePackages Returns the insurance package with a code.
+     * @throws IOException if the record is truncated or its fields are invalid.
+     */
+    static Person read(ByteBuffer buffer, IntFunction<InsurancePackage> insurancePackages) throws IOException {
+        try {
+            int length = buffer.getInt();
+            ByteBuffer record = buffer.slice(buffer.position(), length);
+            Name name = new Name(readString(record));
+            Phone phone = new Phone(readString(record));
+            Email email = new Email(readString(record));
+            Address address = Address.of(readString(record));
+            Salary salary = new Salary(readString(record));
+            DateOfBirth dateOfBirth = new DateOfBirth(readString(record));
+            MaritalStatus maritalStatus = MaritalStatus.of(readString(record));
+            Occupation occupation = Occupation.of(readString(record));
+            Dependents dependents = new Dependents(record.getInt());
+            InsurancePackage insurancePackage = insurancePackages.apply(record.getInt());
+            int tagCount = record.getInt();
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(Tag.of(readString(record)));
+            }
+            return new Person(name, phone, email, address, salary, dateOfBirth, maritalStatus, occupation,
+                    dependents, insurancePackage, tags);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+                | IllegalArgumentException e) {
+            throw new IOException("Invalid person record", e);
+        }
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
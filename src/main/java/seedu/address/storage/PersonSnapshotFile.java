@@ -0,0 +1,460 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.insurance.InsurancePackage;
+import seedu.address.model.person.MaritalStatusEnum;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSnapshot;
+
+/**
+ * A binary snapshot of an address book, saved next to its data file, which is memory-mapped when opened so that a
+ * paged address book can be created from it without reading or parsing every person.
+ * The snapshot holds a record of each person, as written by {@code PersonRecordCodec}, and the columns of a
+ * {@code PersonSnapshot}. A record is only decoded when the person is read.
+ * The snapshot is stamped with the size and modification time of the data file it was written with, and is not
+ * opened if the data file has changed since, e.g. because it was edited by hand.
+ */
+public class PersonSnapshotFile implements PersonSnapshot, Closeable {
+
+    private static final Logger logger = LogsCenter.getLogger(PersonSnapshotFile.class);
+
+    private static final int MAGIC = 0x43435331;
+    private static final int VERSION = 1;
+    private static final String FILE_EXTENSION = ".snapshot";
+
+    /** The header is the magic number, version, source stamp, person count, records length and columns position. */
+    private static final int HEADER_SIZE = 48;
+
+    /** Records are mapped in chunks of this size, and the writer pads the records so none spans two chunks. */
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+
+    private final Path filePath;
+    private final FileChannel channel;
+    private final int personCount;
+    private final long recordsLength;
+    private final List<String> insurancePackageNames;
+    private final InsurancePackage[] insurancePackages;
+    private final long[] columnPositions;
+    private final MappedByteBuffer[] recordChunks;
+
+    private PersonSnapshotFile(Path filePath, FileChannel channel, int personCount, long recordsLength,
+            List<String> insurancePackageNames, InsurancePackage[] insurancePackages, long[] columnPositions) {
+        this.filePath = filePath;
+        this.channel = channel;
+        this.personCount = personCount;
+        this.recordsLength = recordsLength;
+        this.insurancePackageNames = insurancePackageNames;
+        this.insurancePackages = insurancePackages;
+        this.columnPositions = columnPositions;
+        this.recordChunks = new MappedByteBuffer[(int) ((recordsLength + CHUNK_SIZE - 1) >>> CHUNK_SHIFT)];
+    }
+
+    /**
+     * Returns the path of the snapshot of the data file at {@code dataFilePath}.
+     */
+    public static Path getSnapshotFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + FILE_EXTENSION);
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook} to {@code snapshotFilePath}, stamped with the data file at
+     * {@code dataFilePath}, which must hold the same persons. The snapshot is written to a temporary file first, so
+     * an existing snapshot is only replaced by a complete one.
+     */
+    public static void write(Path snapshotFilePath, ReadOnlyAddressBook addressBook, Path dataFilePath)
+            throws IOException {
+        requireNonNull(snapshotFilePath);
+        requireNonNull(addressBook);
+        long sourceSize = Files.size(dataFilePath);
+        long sourceLastModified = Files.getLastModifiedTime(dataFilePath).toMillis();
+
+        List<Person> persons = addressBook.getPersonList();
+        int count = persons.size();
+        Columns columns = new Columns(count);
+        Path tempFilePath = Files.createTempFile(snapshotFilePath.toAbsolutePath().getParent(),
+                snapshotFilePath.getFileName().toString(), ".tmp");
+        try {
+            long columnsPosition;
+            try (FileChannel output = FileChannel.open(tempFilePath, StandardOpenOption.WRITE)) {
+                DataOutputStream stream = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(output.position(HEADER_SIZE)), 1 << 16));
+                long recordsLength = writeRecords(stream, persons, columns);
+                columnsPosition = HEADER_SIZE + recordsLength + pad(stream, recordsLength);
+                writeColumns(stream, columns);
+                stream.flush();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).putLong(sourceSize).putLong(sourceLastModified)
+                        .putInt(count).putInt(0).putLong(recordsLength).putLong(columnsPosition);
+                output.write(header.flip(), 0);
+                output.force(false);
+            }
+            Files.move(tempFilePath, snapshotFilePath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+    }
+
+    /**
+     * Opens the snapshot at {@code snapshotFilePath}, resolving the insurance packages of its persons in
+     * {@code catalog}. Returns an empty {@code Optional} if there is no snapshot, or if the data file at
+     * {@code dataFilePath} is missing or has changed since the snapshot was written.
+     *
+     * @throws DataLoadingException if the snapshot cannot be read or is not a valid snapshot.
+     */
+    public static Optional<PersonSnapshotFile> open(Path snapshotFilePath, Path dataFilePath,
+            ReadOnlyInsuranceCatalog catalog) throws DataLoadingException {
+        requireNonNull(catalog);
+        if (!Files.exists(snapshotFilePath) || !Files.exists(dataFilePath)) {
+            return Optional.empty();
+        }
+
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(snapshotFilePath, StandardOpenOption.READ);
+            Optional<PersonSnapshotFile> snapshot = open(snapshotFilePath, channel, dataFilePath, catalog);
+            if (snapshot.isEmpty()) {
+                channel.close();
+            }
+            return snapshot;
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(channel);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static Optional<PersonSnapshotFile> open(Path snapshotFilePath, FileChannel channel, Path dataFilePath,
+            ReadOnlyInsuranceCatalog catalog) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < HEADER_SIZE) {
+            throw new IOException("Snapshot " + snapshotFilePath + " is truncated");
+        }
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException(snapshotFilePath + " is not a snapshot of this version");
+        }
+        long sourceSize = header.getLong();
+        long sourceLastModified = header.getLong();
+        if (sourceSize != Files.size(dataFilePath)
+                || sourceLastModified != Files.getLastModifiedTime(dataFilePath).toMillis()) {
+            logger.info("Ignoring snapshot " + snapshotFilePath + " as " + dataFilePath + " has changed.");
+            return Optional.empty();
+        }
+        int count = header.getInt();
+        header.getInt();
+        long recordsLength = header.getLong();
+        long columnsPosition = header.getLong();
+        if (count < 0 || recordsLength < 0 || columnsPosition < HEADER_SIZE + recordsLength
+                || columnsPosition > fileSize) {
+            throw new IOException("Snapshot " + snapshotFilePath + " has an invalid header");
+        }
+
+        ByteBuffer names = channel.map(FileChannel.MapMode.READ_ONLY, columnsPosition,
+                Math.min(fileSize - columnsPosition, Integer.MAX_VALUE));
+        int packageCount = names.getInt();
+        List<String> packageNames = new ArrayList<>();
+        InsurancePackage[] packages = new InsurancePackage[packageCount];
+        for (int code = 0; code < packageCount; code++) {
+            byte[] name = new byte[names.getInt()];
+            names.get(name);
+            packages[code] = catalog.getPackage(new String(name, StandardCharsets.UTF_8))
+                    .orElseGet(catalog::getUndecidedPackage);
+            packageNames.add(packages[code].getPackageName());
+        }
+
+        long[] columnPositions = new long[Columns.WIDTHS.length];
+        long position = columnsPosition + align(names.position());
+        for (int i = 0; i < columnPositions.length; i++) {
+            columnPositions[i] = position;
+            position += align((long) count * Columns.WIDTHS[i]);
+        }
+        if (position > fileSize) {
+            throw new IOException("Snapshot " + snapshotFilePath + " is truncated");
+        }
+        return Optional.of(new PersonSnapshotFile(snapshotFilePath, channel, count, recordsLength,
+                Collections.unmodifiableList(packageNames), packages, columnPositions));
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the length of the records, which are at the addresses from 0 to this length, exclusive.
+     */
+    public long getRecordsLength() {
+        return recordsLength;
+    }
+
+    /**
+     * Decodes the record at {@code address}.
+     */
+    public Person read(long address) throws IOException {
+        if (address < 0 || address >= recordsLength) {
+            throw new IOException("No record at address " + address + " of " + filePath);
+        }
+        ByteBuffer record = getRecordChunk((int) (address >>> CHUNK_SHIFT)).duplicate();
+        return PersonRecordCodec.read(record.position((int) (address & (CHUNK_SIZE - 1))),
+                code -> insurancePackages[code]);
+    }
+
+    @Override
+    public int size() {
+        return personCount;
+    }
+
+    @Override
+    public void readRecordAddresses(long[] column) {
+        mapColumn(Columns.RECORD_ADDRESSES).asLongBuffer().get(column, 0, personCount);
+    }
+
+    @Override
+    public void readPhoneHashes(int[] column) {
+        mapColumn(Columns.PHONE_HASHES).asIntBuffer().get(column, 0, personCount);
+    }
+
+    @Override
+    public void readEmailHashes(int[] column) {
+        mapColumn(Columns.EMAIL_HASHES).asIntBuffer().get(column, 0, personCount);
+    }
+
+    @Override
+    public void readSalaryCents(long[] column) {
+        mapColumn(Columns.SALARY_CENTS).asLongBuffer().get(column, 0, personCount);
+    }
+
+    @Override
+    public void readDependents(int[] column) {
+        mapColumn(Columns.DEPENDENTS).asIntBuffer().get(column, 0, personCount);
+    }
+
+    @Override
+    public void readDateOfBirthEpochDays(int[] column) {
+        mapColumn(Columns.DATE_OF_BIRTH_EPOCH_DAYS).asIntBuffer().get(column, 0, personCount);
+    }
+
+    @Override
+    public void readMaritalStatusOrdinals(byte[] column) {
+        mapColumn(Columns.MARITAL_STATUS_ORDINALS).get(column, 0, personCount);
+    }
+
+    @Override
+    public void readInsurancePackageCodes(int[] column) {
+        mapColumn(Columns.INSURANCE_PACKAGE_CODES).asIntBuffer().get(column, 0, personCount);
+    }
+
+    @Override
+    public List<String> getInsurancePackageNames() {
+        return insurancePackageNames;
+    }
+
+    /**
+     * Closes the snapshot. Persons that have been read stay valid, but no more can be read.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private synchronized MappedByteBuffer getRecordChunk(int chunk) throws IOException {
+        if (recordChunks[chunk] == null) {
+            long position = (long) chunk << CHUNK_SHIFT;
+            recordChunks[chunk] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + position,
+                    Math.min(CHUNK_SIZE, recordsLength - position));
+        }
+        return recordChunks[chunk];
+    }
+
+    private ByteBuffer mapColumn(int column) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, columnPositions[column],
+                    (long) personCount * Columns.WIDTHS[column]);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to map a column of snapshot " + filePath, e);
+        }
+    }
+
+    /**
+     * Writes the record of each of {@code persons}, padding where a record would span two chunks, and fills in
+     * {@code columns}. Returns the length of the records.
+     */
+    private static long writeRecords(DataOutputStream stream, List<Person> persons, Columns columns)
+            throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream(256);
+        DataOutputStream recordOutput = new DataOutputStream(record);
+        long position = 0;
+        for (int row = 0; row < persons.size(); row++) {
+            Person person = persons.get(row);
+            record.reset();
+            PersonRecordCodec.write(recordOutput, person, columns.set(row, person));
+            if (record.size() > CHUNK_SIZE) {
+                throw new IOException("Person record is too large for a snapshot");
+            }
+            long chunkEnd = (position | (CHUNK_SIZE - 1)) + 1;
+            if (position + record.size() > chunkEnd) {
+                stream.write(new byte[(int) (chunkEnd - position)]);
+                position = chunkEnd;
+            }
+            columns.recordAddresses[row] = position;
+            record.writeTo(stream);
+            position += record.size();
+        }
+        return position;
+    }
+
+    private static void writeColumns(DataOutputStream stream, Columns columns) throws IOException {
+        long position = Integer.BYTES;
+        stream.writeInt(columns.insurancePackageNames.size());
+        for (String name : columns.insurancePackageNames) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            stream.writeInt(bytes.length);
+            stream.write(bytes);
+            position += Integer.BYTES + bytes.length;
+        }
+        pad(stream, position);
+
+        int count = columns.recordAddresses.length;
+        for (long value : columns.recordAddresses) {
+            stream.writeLong(value);
+        }
+        for (int value : columns.phoneHashes) {
+            stream.writeInt(value);
+        }
+        pad(stream, (long) count * Integer.BYTES);
+        for (int value : columns.emailHashes) {
+            stream.writeInt(value);
+        }
+        pad(stream, (long) count * Integer.BYTES);
+        for (long value : columns.salaryCents) {
+            stream.writeLong(value);
+        }
+        for (int value : columns.dependents) {
+            stream.writeInt(value);
+        }
+        pad(stream, (long) count * Integer.BYTES);
+        for (int value : columns.dateOfBirthEpochDays) {
+            stream.writeInt(value);
+        }
+        pad(stream, (long) count * Integer.BYTES);
+        stream.write(columns.maritalStatusOrdinals);
+        pad(stream, count);
+        for (int value : columns.insurancePackageCodes) {
+            stream.writeInt(value);
+        }
+        pad(stream, (long) count * Integer.BYTES);
+    }
+
+    /**
+     * Writes zeros after {@code length} bytes up to the next multiple of 8, and returns the number of zeros written.
+     */
+    private static int pad(DataOutputStream stream, long length) throws IOException {
+        int padding = (int) (align(length) - length);
+        stream.write(new byte[padding]);
+        return padding;
+    }
+
+    private static long align(long length) {
+        return (length + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.fine("Failed to close snapshot: " + e);
+        }
+    }
+
+    /**
+     * The columns of a snapshot being written, in the order they are written.
+     */
+    private static class Columns {
+        static final int RECORD_ADDRESSES = 0;
+        static final int PHONE_HASHES = 1;
+        static final int EMAIL_HASHES = 2;
+        static final int SALARY_CENTS = 3;
+        static final int DEPENDENTS = 4;
+        static final int DATE_OF_BIRTH_EPOCH_DAYS = 5;
+        static final int MARITAL_STATUS_ORDINALS = 6;
+        static final int INSURANCE_PACKAGE_CODES = 7;
+        static final int[] WIDTHS = {Long.BYTES, Integer.BYTES, Integer.BYTES, Long.BYTES, Integer.BYTES,
+            Integer.BYTES, Byte.BYTES, Integer.BYTES};
+
+        final long[] recordAddresses;
+        final int[] phoneHashes;
+        final int[] emailHashes;
+        final long[] salaryCents;
+        final int[] dependents;
+        final int[] dateOfBirthEpochDays;
+        final byte[] maritalStatusOrdinals;
+        final int[] insurancePackageCodes;
+        final List<String> insurancePackageNames = new ArrayList<>();
+        private final Map<String, Integer> insurancePackageNameCodes = new HashMap<>();
+
+        Columns(int count) {
+            recordAddresses = new long[count];
+            phoneHashes = new int[count];
+            emailHashes = new int[count];
+            salaryCents = new long[count];
+            dependents = new int[count];
+            dateOfBirthEpochDays = new int[count];
+            maritalStatusOrdinals = new byte[count];
+            insurancePackageCodes = new int[count];
+        }
+
+        /**
+         * Sets the fields of {@code person} in {@code row}, except its record address, and returns the code of its
+         * insurance package.
+         */
+        int set(int row, Person person) {
+            phoneHashes[row] = person.getPhone().hashCode();
+            emailHashes[row] = person.getEmail().hashCode();
+            salaryCents[row] = person.getSalary().getCents();
+            dependents[row] = person.getDependents().getValue();
+            dateOfBirthEpochDays[row] = person.getDateOfBirth().getEpochDay();
+            maritalStatusOrdinals[row] = (byte) MaritalStatusEnum.fromString(person.getMaritalStatus().getValue())
+                    .ordinal();
+            insurancePackageCodes[row] = insurancePackageNameCodes.computeIfAbsent(
+                    person.getInsurancePackage().getPackageName(), name -> {
+                        insurancePackageNames.add(name);
+                        return insurancePackageNames.size() - 1;
+                    });
+            return insurancePackageCodes[row];
+        }
+    }
+}
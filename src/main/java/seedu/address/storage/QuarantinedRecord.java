@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A record of an address book file that could not be loaded as a person, set aside by an
+ * {@code AddressBookSalvager} with the reason why.
+ */
+class QuarantinedRecord {
+
+    /** The index of a record that stands for a whole file, none of which could be read. */
+    static final int WHOLE_FILE_INDEX = -1;
+
+    private final String source;
+    private final int index;
+    private final int lineNumber;
+    private final String reason;
+    private final String text;
+
+    /**
+     * Creates a record of the element {@code index} of the array of persons in the file {@code source}, which starts
+     * on line {@code lineNumber}, or 0 if it was not read from a line of the file, and whose text is {@code text}.
+     */
+    QuarantinedRecord(String source, int index, int lineNumber, String reason, String text) {
+        requireAllNonNull(source, reason, text);
+        this.source = source;
+        this.index = index;
+        this.lineNumber = lineNumber;
+        this.reason = reason;
+        this.text = text;
+    }
+
+    String getSource() {
+        return source;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    String getReason() {
+        return reason;
+    }
+
+    String getText() {
+        return text;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QuarantinedRecord)) {
+            return false;
+        }
+
+        QuarantinedRecord otherRecord = (QuarantinedRecord) other;
+        return source.equals(otherRecord.source)
+                && index == otherRecord.index
+                && lineNumber == otherRecord.lineNumber
+                && reason.equals(otherRecord.reason)
+                && text.equals(otherRecord.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, index, lineNumber, reason, text);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("source", source)
+                .add("index", index)
+                .add("lineNumber", lineNumber)
+                .add("reason", reason)
+                .toString();
+    }
+}
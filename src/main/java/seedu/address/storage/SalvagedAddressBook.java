@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * The persons that could be loaded from an address book that could not be loaded as a whole, and the records that were
+ * set aside in a quarantine file instead.
+ */
+public class SalvagedAddressBook {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final List<QuarantinedRecord> quarantinedRecords;
+    private final Path quarantineFilePath;
+
+    /**
+     * Creates a salvaged address book of the persons in {@code addressBook}, whose {@code quarantinedRecords} were
+     * written to {@code quarantineFilePath}, which is null if there are none.
+     */
+    SalvagedAddressBook(ReadOnlyAddressBook addressBook, List<QuarantinedRecord> quarantinedRecords,
+            Path quarantineFilePath) {
+        requireNonNull(addressBook);
+        requireNonNull(quarantinedRecords);
+        this.addressBook = addressBook;
+        this.quarantinedRecords = List.copyOf(quarantinedRecords);
+        this.quarantineFilePath = quarantineFilePath;
+    }
+
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    public int getQuarantinedRecordCount() {
+        return quarantinedRecords.size();
+    }
+
+    /**
+     * Returns the path of the file the quarantined records were written to, if any.
+     */
+    public Optional<Path> getQuarantineFilePath() {
+        return Optional.ofNullable(quarantineFilePath);
+    }
+
+    List<QuarantinedRecord> getQuarantinedRecords() {
+        return quarantinedRecords;
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.insurance.InsurancePackage;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecordStore;
+
+/**
+ * A {@code PersonRecordStore} that appends person records to a temporary segment file, which is deleted when the
+ * store is closed (or, on some platforms, as soon as it is opened). The segment file only holds the persons of the
+ * running app; the address book is still saved to its data file.
+ * The store may be layered over a {@code PersonSnapshotFile}, whose records are then also in the store, at the
+ * addresses the snapshot gives them. Records appended to the segment file come after those addresses.
+ * Insurance packages are not written out; each record refers to a package by its position in a list held in memory,
+ * so a person read back has the same package instance.
+ * Records are appended to a buffer, which is written to the file when it is full or a record in it is read.
+ */
+public class SegmentFilePersonStore implements PersonRecordStore, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PersonSnapshotFile snapshot;
+    private final long baseAddress;
+    private final Path segmentFilePath;
+    private final FileChannel channel;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(BUFFER_SIZE);
+    private final DataOutputStream bufferOutput = new DataOutputStream(buffer);
+    private long writtenSize;
+
+    private final List<InsurancePackage> insurancePackages = new ArrayList<>();
+    private final Map<InsurancePackage, Integer> insurancePackageCodes = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty store whose segment file is a new temporary file in {@code directory}.
+     */
+    public SegmentFilePersonStore(Path directory) throws IOException {
+        this(directory, null);
+    }
+
+    /**
+     * Creates a store of the records of {@code snapshot}, if not null, whose segment file is a new temporary file in
+     * {@code directory}. The snapshot is closed with this store.
+     */
+    public SegmentFilePersonStore(Path directory, PersonSnapshotFile snapshot) throws IOException {
+        requireNonNull(directory);
+        Files.createDirectories(directory);
+        this.snapshot = snapshot;
+        this.baseAddress = snapshot == null ? 0 : snapshot.getRecordsLength();
+        segmentFilePath = Files.createTempFile(directory, "persons", ".segment");
+        channel = FileChannel.open(segmentFilePath, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    public Path getSegmentFilePath() {
+        return segmentFilePath;
+    }
+
+    @Override
+    public synchronized long append(Person person) throws IOException {
+        requireNonNull(person);
+        long address = baseAddress + writtenSize + buffer.size();
+        PersonRecordCodec.write(bufferOutput, person, getInsurancePackageCode(person.getInsurancePackage()));
+        if (buffer.size() >= BUFFER_SIZE) {
+            flush();
+        }
+        return address;
+    }
+
+    @Override
+    public synchronized Person read(long address) throws IOException {
+        if (address >= 0 && address < baseAddress) {
+            return snapshot.read(address);
+        }
+        long segmentAddress = address - baseAddress;
+        if (address < 0 || segmentAddress >= writtenSize + buffer.size()) {
+            throw new IOException("No record at address " + address + " of " + segmentFilePath);
+        }
+        if (segmentAddress >= writtenSize) {
+            flush();
+        }
+
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        readFully(length, segmentAddress);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + length.getInt(0));
+        readFully(record, segmentAddress);
+        return PersonRecordCodec.read(record.flip(), insurancePackages::get);
+    }
+
+    /**
+     * Closes the segment file, which deletes it, and the snapshot.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            if (snapshot != null) {
+                snapshot.close();
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        while (bytes.hasRemaining()) {
+            writtenSize += channel.write(bytes, writtenSize);
+        }
+        buffer.reset();
+    }
+
+    private void readFully(ByteBuffer bytes, long position) throws IOException {
+        long nextPosition = position;
+        while (bytes.hasRemaining()) {
+            int readCount = channel.read(bytes, nextPosition);
+            if (readCount < 0) {
+                throw new EOFException("Truncated record at address " + position + " of " + segmentFilePath);
+            }
+            nextPosition += readCount;
+        }
+    }
+
+    private int getInsurancePackageCode(InsurancePackage insurancePackage) {
+        return insurancePackageCodes.computeIfAbsent(insurancePackage, newPackage -> {
+            insurancePackages.add(newPackage);
+            return insurancePackages.size() - 1;
+        });
+    }
+}
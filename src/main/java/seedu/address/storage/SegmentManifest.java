@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The manifest of a segmented address book, which lists its segment files in the order of their persons.
+ * Segment files are never changed once written; a changed segment is written to a new file, and the manifest, which
+ * is replaced atomically, then refers to the new file instead. The generation of the manifest is increased each time
+ * it is written, and is part of the names of the segment files written with it, so the names are never reused.
+ */
+class SegmentManifest {
+
+    static final int VERSION = 1;
+
+    private final long generation;
+    private final List<String> segmentFileNames;
+
+    /**
+     * Creates a manifest of the given generation, listing the segment files with {@code segmentFileNames}.
+     */
+    SegmentManifest(long generation, List<String> segmentFileNames) {
+        requireNonNull(segmentFileNames);
+        this.generation = generation;
+        this.segmentFileNames = List.copyOf(segmentFileNames);
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    List<String> getSegmentFileNames() {
+        return segmentFileNames;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SegmentManifest)) {
+            return false;
+        }
+
+        SegmentManifest otherManifest = (SegmentManifest) other;
+        return generation == otherManifest.generation
+                && segmentFileNames.equals(otherManifest.segmentFileNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(generation) * 31 + segmentFileNames.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("generation", generation)
+                .add("segmentFileNames", segmentFileNames)
+                .toString();
+    }
+}
@@ -0,0 +1,612 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that partitions the persons of the address book into segment files of up to a fixed
+ * number of persons each, in a directory next to the data file, with a {@link SegmentManifest} that lists the files in
+ * the order of their persons.
+ * Once an address book has been tracked or saved, the storage follows the changes to its person list to know which
+ * segments they touched, and the next save rewrites only those segments, in parallel, before atomically replacing the
+ * manifest. A save after an edit thus takes about as long however large the address book is.
+ * The first save of an address book only rewrites the segments whose persons are not those last read from them.
+ * If there is no manifest yet, the address book is read from the data file as by {@code JsonAddressBookStorage}, and
+ * moved to segment files by the first save. The data file is not written to.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final Pattern SEGMENT_FILE_NAME_PATTERN = Pattern.compile("segment-\\d+-\\d+\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path dataFilePath;
+    private final Path directoryPath;
+    private final Path manifestPath;
+    private final int segmentSize;
+    private final JsonAddressBookStorage dataFileStorage;
+
+    /** The segments of the last address book read, if it has not been saved since. */
+    private LoadedSegments loadedSegments;
+
+    /** The person list of the last address book tracked or saved, whose changes are followed. */
+    private ObservableList<Person> trackedPersons;
+    private final ListChangeListener<Person> changeListener = this::updateSegments;
+
+    /** The segments of {@link #trackedPersons}, in order. */
+    private final List<Segment> segments = new ArrayList<>();
+    /** The files no longer listed in the manifest once the segments have been saved, which are then deleted. */
+    private final Set<String> obsoleteFileNames = new LinkedHashSet<>();
+    private long generation;
+
+    /**
+     * Creates a storage of the address book whose data file is {@code dataFilePath}, with up to {@code segmentSize}
+     * persons in each segment file.
+     */
+    public SegmentedAddressBookStorage(Path dataFilePath, int segmentSize) {
+        requireNonNull(dataFilePath);
+        checkArgument(segmentSize > 0, "Segment size must be positive");
+        this.dataFilePath = dataFilePath;
+        this.directoryPath = getSegmentDirectoryPath(dataFilePath);
+        this.manifestPath = directoryPath.resolve(MANIFEST_FILE_NAME);
+        this.segmentSize = segmentSize;
+        this.dataFileStorage = new JsonAddressBookStorage(dataFilePath);
+    }
+
+    /**
+     * Returns the path of the directory of the segment files of the address book whose data file is
+     * {@code dataFilePath}, which is next to the data file.
+     */
+    public static Path getSegmentDirectoryPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + ".segments");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return dataFilePath;
+    }
+
+    /**
+     * Returns the path of the manifest, which is replaced each time a changed address book is saved.
+     */
+    @Override
+    public Path getAddressBookStampFilePath() {
+        return manifestPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
+            throws DataLoadingException {
+        requireNonNull(catalog);
+        Optional<ParsedAddressBook> parsedAddressBook = parseAddressBook(filePath);
+        if (!parsedAddressBook.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(parsedAddressBook.get().resolve(catalog));
+    }
+
+    /**
+     * Reads and parses the segments listed in the manifest if {@code filePath} is the path of the data file, or the
+     * data file itself if there is no manifest yet. Any other file is read as a data file.
+     */
+    @Override
+    public Optional<ParsedAddressBook> parseAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(dataFilePath)) {
+            return dataFileStorage.parseAddressBook(filePath);
+        }
+        Optional<SegmentManifest> manifest = JsonStreamingCodec.readSegmentManifest(manifestPath);
+        if (!manifest.isPresent()) {
+            logger.info("No segment manifest at " + manifestPath + ", reading data file " + dataFilePath);
+            return dataFileStorage.parseAddressBook(dataFilePath);
+        }
+
+        List<String> segmentFileNames = manifest.get().getSegmentFileNames();
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        int[] segmentSizes = new int[segmentFileNames.size()];
+        for (int i = 0; i < segmentFileNames.size(); i++) {
+            int previousSize = persons.size();
+            readSegment(segmentFileNames.get(i), persons::add);
+            segmentSizes[i] = persons.size() - previousSize;
+        }
+
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(persons);
+        return Optional.of(catalog -> {
+            try {
+                AddressBook addressBook = jsonAddressBook.toModelType(catalog);
+                setLoadedSegments(new LoadedSegments(segmentFileNames, segmentSizes, addressBook.getPersonList()));
+                return addressBook;
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + manifestPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        });
+    }
+
+    /**
+     * Reads the persons of the segments listed in the manifest in batches if {@code filePath} is the path of the data
+     * file, or of the data file itself if there is no manifest yet. Any other file is read as a data file.
+     */
+    @Override
+    public boolean readAddressBookInBatches(Path filePath, ReadOnlyInsuranceCatalog catalog, int batchSize,
+            Consumer<List<Person>> batchConsumer) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(catalog);
+        requireNonNull(batchConsumer);
+        checkArgument(batchSize > 0, "Batch size must be positive");
+        if (!filePath.equals(dataFilePath)) {
+            return dataFileStorage.readAddressBookInBatches(filePath, catalog, batchSize, batchConsumer);
+        }
+        Optional<SegmentManifest> manifest = JsonStreamingCodec.readSegmentManifest(manifestPath);
+        if (!manifest.isPresent()) {
+            logger.info("No segment manifest at " + manifestPath + ", reading data file " + dataFilePath);
+            return dataFileStorage.readAddressBookInBatches(dataFilePath, catalog, batchSize, batchConsumer);
+        }
+
+        InsurancePackageResolver insurancePackageResolver = new InsurancePackageResolver(catalog);
+        List<String> segmentFileNames = manifest.get().getSegmentFileNames();
+        List<Person> persons = new ArrayList<>();
+        int[] segmentSizes = new int[segmentFileNames.size()];
+        List<Person> batch = new ArrayList<>();
+        for (int i = 0; i < segmentFileNames.size(); i++) {
+            int previousSize = persons.size();
+            readSegment(segmentFileNames.get(i), jsonAdaptedPerson -> {
+                Person person = jsonAdaptedPerson.toModelType(insurancePackageResolver);
+                persons.add(person);
+                batch.add(person);
+                if (batch.size() == batchSize) {
+                    batchConsumer.accept(new ArrayList<>(batch));
+                    batch.clear();
+                }
+            });
+            segmentSizes[i] = persons.size() - previousSize;
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+        setLoadedSegments(new LoadedSegments(segmentFileNames, segmentSizes, persons));
+        return true;
+    }
+
+    /**
+     * Salvages the persons of the segments listed in the manifest, in order, if {@code filePath} is the path of the
+     * data file, or of the data file itself if there is no manifest yet. A listed segment that cannot be found is
+     * quarantined as a whole. Any other file is salvaged as a data file.
+     */
+    @Override
+    public Optional<SalvagedAddressBook> salvageAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(catalog);
+        if (!filePath.equals(dataFilePath)) {
+            return dataFileStorage.salvageAddressBook(filePath, catalog);
+        }
+        Optional<SegmentManifest> manifest = JsonStreamingCodec.readSegmentManifest(manifestPath);
+        if (!manifest.isPresent()) {
+            logger.info("No segment manifest at " + manifestPath + ", salvaging data file " + dataFilePath);
+            return dataFileStorage.salvageAddressBook(dataFilePath, catalog);
+        }
+
+        AddressBookSalvager salvager = new AddressBookSalvager(catalog);
+        for (String segmentFileName : manifest.get().getSegmentFileNames()) {
+            if (!SEGMENT_FILE_NAME_PATTERN.matcher(segmentFileName).matches()) {
+                salvager.quarantineFile(segmentFileName, "Invalid segment file name in " + manifestPath);
+            } else if (!salvager.salvageFile(directoryPath.resolve(segmentFileName))) {
+                salvager.quarantineFile(segmentFileName, "Segment file not found");
+            }
+        }
+        return Optional.of(salvager.finish(dataFilePath));
+    }
+
+    /**
+     * Starts following the changes to the persons of {@code addressBook}, marking the segments whose persons are not
+     * the very ones last read as dirty. Nothing is written until the address book is saved.
+     */
+    @Override
+    public synchronized void trackAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (addressBook.getPersonList() != trackedPersons) {
+            track(addressBook.getPersonList());
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, dataFilePath);
+    }
+
+    /**
+     * Saves the segments of {@code addressBook} that have changed if {@code filePath} is the path of the data file.
+     * Any other file is written as a data file.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(dataFilePath)) {
+            dataFileStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        saveSegments(addressBook.getPersonList());
+    }
+
+    private synchronized void setLoadedSegments(LoadedSegments loadedSegments) {
+        this.loadedSegments = loadedSegments;
+    }
+
+    private synchronized void saveSegments(ObservableList<Person> persons) throws IOException {
+        if (persons != trackedPersons) {
+            track(persons);
+        }
+        mergeSmallSegments();
+        boolean hasDirtySegments = segments.stream().anyMatch(segment -> segment.isDirty);
+        if (!hasDirtySegments && obsoleteFileNames.isEmpty() && Files.exists(manifestPath)) {
+            return;
+        }
+
+        long newGeneration = generation + 1;
+        List<Segment> dirtySegments = new ArrayList<>();
+        List<String> newFileNames = new ArrayList<>();
+        List<List<Person>> newContents = new ArrayList<>();
+        int start = 0;
+        for (Segment segment : segments) {
+            if (segment.isDirty) {
+                dirtySegments.add(segment);
+                newFileNames.add("segment-" + newGeneration + "-" + newFileNames.size() + ".json");
+                // Copied on this thread, as reading the persons of a paged address book is not thread-safe
+                newContents.add(new ArrayList<>(persons.subList(start, start + segment.size)));
+            }
+            start += segment.size;
+        }
+        assert start == persons.size() : "Segments do not cover the person list";
+
+        Files.createDirectories(directoryPath);
+        try {
+            writeSegments(newFileNames, newContents);
+            List<String> manifestFileNames = new ArrayList<>();
+            Iterator<String> newFileName = newFileNames.iterator();
+            for (Segment segment : segments) {
+                manifestFileNames.add(segment.isDirty ? newFileName.next() : segment.fileName);
+            }
+            JsonStreamingCodec.writeSegmentManifest(manifestPath,
+                    new SegmentManifest(newGeneration, manifestFileNames));
+        } catch (IOException | RuntimeException e) {
+            for (String fileName : newFileNames) {
+                try {
+                    Files.deleteIfExists(directoryPath.resolve(fileName));
+                } catch (IOException deleteException) {
+                    e.addSuppressed(deleteException);
+                }
+            }
+            throw e;
+        }
+
+        generation = newGeneration;
+        for (int i = 0; i < dirtySegments.size(); i++) {
+            Segment segment = dirtySegments.get(i);
+            if (segment.fileName != null) {
+                obsoleteFileNames.add(segment.fileName);
+            }
+            segment.fileName = newFileNames.get(i);
+            segment.isDirty = false;
+        }
+        deleteObsoleteFiles();
+        logger.fine("Saved " + dirtySegments.size() + " of " + segments.size() + " segments to " + directoryPath);
+    }
+
+    /**
+     * Starts following the changes to {@code persons}, whose segments are those last read if their persons are the
+     * same, and otherwise new segments which are all yet to be saved.
+     */
+    private void track(ObservableList<Person> persons) throws IOException {
+        if (trackedPersons != null) {
+            trackedPersons.removeListener(changeListener);
+        }
+        segments.clear();
+        obsoleteFileNames.clear();
+
+        List<String> segmentFileNames = List.of();
+        generation = 0;
+        try {
+            Optional<SegmentManifest> manifest = JsonStreamingCodec.readSegmentManifest(manifestPath);
+            if (manifest.isPresent()) {
+                segmentFileNames = manifest.get().getSegmentFileNames();
+                generation = manifest.get().getGeneration();
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Segment manifest at " + manifestPath + " could not be read, so all segments will be"
+                    + " saved again: " + e.getMessage());
+        }
+
+        if (loadedSegments != null && loadedSegments.segmentFileNames.equals(segmentFileNames)) {
+            int start = 0;
+            for (int i = 0; i < segmentFileNames.size(); i++) {
+                int size = loadedSegments.segmentSizes[i];
+                Segment segment = new Segment(segmentFileNames.get(i), size);
+                segment.isDirty = !loadedSegments.hasSamePersons(persons, start, size);
+                segments.add(segment);
+                start += size;
+            }
+            for (int i = segments.size() - 1; i >= 0; i--) {
+                if (segments.get(i).size == 0) {
+                    dropSegment(i);
+                }
+            }
+            // the persons added or removed since the read are taken to be at the end of the list
+            if (persons.size() > start) {
+                addPersons(start, persons.size() - start);
+            } else if (persons.size() < start) {
+                removePersons(persons.size(), start - persons.size());
+            }
+        } else {
+            obsoleteFileNames.addAll(segmentFileNames);
+            addPersons(0, persons.size());
+        }
+        obsoleteFileNames.addAll(findUnlistedSegmentFiles(segmentFileNames));
+        loadedSegments = null;
+
+        trackedPersons = persons;
+        persons.addListener(changeListener);
+    }
+
+    private synchronized void updateSegments(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                markDirty(change.getFrom(), change.getTo());
+                continue;
+            }
+            if (change.wasRemoved()) {
+                removePersons(change.getFrom(), change.getRemovedSize());
+            }
+            if (change.wasAdded()) {
+                addPersons(change.getFrom(), change.getAddedSize());
+            }
+        }
+    }
+
+    /**
+     * Adds {@code count} persons at {@code index} to the segment that holds the person before them, or the first
+     * segment, and moves the persons beyond the first {@code segmentSize} of that segment to new segments after it.
+     */
+    private void addPersons(int index, int count) {
+        if (count == 0) {
+            return;
+        }
+        if (segments.isEmpty()) {
+            segments.add(new Segment(null, 0));
+        }
+        int segmentIndex = 0;
+        int start = 0;
+        while (start + segments.get(segmentIndex).size < index) {
+            start += segments.get(segmentIndex).size;
+            segmentIndex++;
+        }
+
+        Segment segment = segments.get(segmentIndex);
+        if (index - start < segmentSize) {
+            // a person added past a full segment leaves the segment as it is
+            segment.isDirty = true;
+        }
+        int excess = segment.size + count - segmentSize;
+        segment.size = Math.min(segment.size + count, segmentSize);
+        for (int i = segmentIndex + 1; excess > 0; i++) {
+            Segment newSegment = new Segment(null, Math.min(excess, segmentSize));
+            newSegment.isDirty = true;
+            segments.add(i, newSegment);
+            excess -= newSegment.size;
+        }
+    }
+
+    /**
+     * Removes {@code count} persons from {@code index} onwards from their segments, and drops any segment left empty.
+     */
+    private void removePersons(int index, int count) {
+        int segmentIndex = 0;
+        int start = 0;
+        while (start + segments.get(segmentIndex).size <= index) {
+            start += segments.get(segmentIndex).size;
+            segmentIndex++;
+        }
+
+        int offset = index - start;
+        int remaining = count;
+        while (remaining > 0) {
+            Segment segment = segments.get(segmentIndex);
+            int removed = Math.min(remaining, segment.size - offset);
+            segment.size -= removed;
+            segment.isDirty = true;
+            remaining -= removed;
+            offset = 0;
+            if (segment.size == 0) {
+                dropSegment(segmentIndex);
+            } else {
+                segmentIndex++;
+            }
+        }
+    }
+
+    private void markDirty(int from, int to) {
+        int start = 0;
+        for (Segment segment : segments) {
+            if (start < to && start + segment.size > from) {
+                segment.isDirty = true;
+            }
+            start += segment.size;
+        }
+    }
+
+    /**
+     * Merges each pair of adjacent segments, one of which is to be saved, that together hold at most half of
+     * {@code segmentSize} persons, so that removing persons does not leave many small segments.
+     */
+    private void mergeSmallSegments() {
+        int i = 0;
+        while (i + 1 < segments.size()) {
+            Segment segment = segments.get(i);
+            Segment next = segments.get(i + 1);
+            if ((segment.isDirty || next.isDirty) && segment.size + next.size <= segmentSize / 2) {
+                segment.size += next.size;
+                segment.isDirty = true;
+                dropSegment(i + 1);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void dropSegment(int segmentIndex) {
+        Segment segment = segments.remove(segmentIndex);
+        if (segment.fileName != null) {
+            obsoleteFileNames.add(segment.fileName);
+        }
+    }
+
+    /**
+     * Writes the persons of {@code contents} to the segment files {@code fileNames}, in parallel.
+     */
+    private void writeSegments(List<String> fileNames, List<List<Person>> contents) throws IOException {
+        if (fileNames.size() == 1) {
+            JsonStreamingCodec.writePersons(directoryPath.resolve(fileNames.get(0)), contents.get(0));
+            return;
+        }
+
+        CompletableFuture<?>[] writes = new CompletableFuture<?>[fileNames.size()];
+        for (int i = 0; i < writes.length; i++) {
+            Path segmentPath = directoryPath.resolve(fileNames.get(i));
+            List<Person> persons = contents.get(i);
+            writes[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    JsonStreamingCodec.writePersons(segmentPath, persons);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        try {
+            CompletableFuture.allOf(writes).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void readSegment(String segmentFileName, JsonStreamingCodec.ElementConsumer<JsonAdaptedPerson> consumer)
+            throws DataLoadingException {
+        if (!SEGMENT_FILE_NAME_PATTERN.matcher(segmentFileName).matches()) {
+            throw new DataLoadingException(new IllegalValueException(
+                    "Invalid segment file name in " + manifestPath + ": " + segmentFileName));
+        }
+        Path segmentPath = directoryPath.resolve(segmentFileName);
+        if (!JsonStreamingCodec.readPersons(segmentPath, consumer)) {
+            throw new DataLoadingException(new NoSuchFileException(segmentPath.toString()));
+        }
+    }
+
+    /**
+     * Returns the names of the segment files in the directory that are not in {@code segmentFileNames}, such as those
+     * written by a save that failed.
+     */
+    private List<String> findUnlistedSegmentFiles(List<String> segmentFileNames) throws IOException {
+        if (!Files.isDirectory(directoryPath)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> SEGMENT_FILE_NAME_PATTERN.matcher(fileName).matches())
+                    .filter(fileName -> !segmentFileNames.contains(fileName))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private void deleteObsoleteFiles() {
+        Iterator<String> fileNames = obsoleteFileNames.iterator();
+        while (fileNames.hasNext()) {
+            Path segmentPath = directoryPath.resolve(fileNames.next());
+            try {
+                Files.deleteIfExists(segmentPath);
+                fileNames.remove();
+            } catch (IOException e) {
+                // the file is no longer in the manifest, so deleting it can be tried again after the next save
+                logger.warning("Could not delete segment file " + segmentPath + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A segment of the person list, and the file it was last saved to, if any.
+     */
+    private static class Segment {
+        private String fileName;
+        private int size;
+        private boolean isDirty;
+
+        Segment(String fileName, int size) {
+            this.fileName = fileName;
+            this.size = size;
+        }
+    }
+
+    /**
+     * The persons read from the segment files of a manifest.
+     */
+    private static class LoadedSegments {
+        private final List<String> segmentFileNames;
+        private final int[] segmentSizes;
+        private final List<Person> persons;
+
+        LoadedSegments(List<String> segmentFileNames, int[] segmentSizes, List<Person> persons) {
+            this.segmentFileNames = segmentFileNames;
+            this.segmentSizes = segmentSizes;
+            this.persons = new ArrayList<>(persons);
+        }
+
+        /**
+         * Returns true if the {@code size} persons of {@code currentPersons} from {@code start} onwards are the very
+         * persons read from the segment files.
+         */
+        boolean hasSamePersons(List<Person> currentPersons, int start, int size) {
+            if (start + size > currentPersons.size()) {
+                return false;
+            }
+            for (int i = start; i < start + size; i++) {
+                if (currentPersons.get(i) != persons.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -2,13 +2,16 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyInsuranceCatalog;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * API of the Storage component
@@ -29,6 +32,16 @@ public interface Storage extends AddressBookStorage, InsuranceCatalogStorage, Us
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
             throws DataLoadingException;
 
+    Optional<ParsedAddressBook> parseAddressBook() throws DataLoadingException;
+
+    @Override
+    Optional<ParsedAddressBook> parseAddressBook(Path filePath) throws DataLoadingException;
+
+    boolean readAddressBookInBatches(ReadOnlyInsuranceCatalog catalog, int batchSize,
+            Consumer<List<Person>> batchConsumer) throws DataLoadingException;
+
+    Optional<SalvagedAddressBook> salvageAddressBook(ReadOnlyInsuranceCatalog catalog) throws DataLoadingException;
+
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
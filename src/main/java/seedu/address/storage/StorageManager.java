@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -11,6 +13,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyInsuranceCatalog;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook and InsuranceCatalog data in local storage.
@@ -58,6 +61,11 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    @Override
+    public Path getAddressBookStampFilePath() {
+        return addressBookStorage.getAddressBookStampFilePath();
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
             throws DataLoadingException {
@@ -70,6 +78,52 @@ public class StorageManager implements Storage {
         return readAddressBook(addressBookStorage.getAddressBookFilePath(), catalog);
     }
 
+    @Override
+    public Optional<ParsedAddressBook> parseAddressBook(Path filePath) throws DataLoadingException {
+        logger.fine("Attempting to parse data from file: " + filePath);
+
+        return addressBookStorage.parseAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ParsedAddressBook> parseAddressBook() throws DataLoadingException {
+        return parseAddressBook(addressBookStorage.getAddressBookFilePath());
+    }
+
+    @Override
+    public boolean readAddressBookInBatches(Path filePath, ReadOnlyInsuranceCatalog catalog, int batchSize,
+            Consumer<List<Person>> batchConsumer) throws DataLoadingException {
+        logger.fine("Attempting to read data from file: " + filePath);
+
+        return addressBookStorage.readAddressBookInBatches(filePath, catalog, batchSize, batchConsumer);
+    }
+
+    @Override
+    public boolean readAddressBookInBatches(ReadOnlyInsuranceCatalog catalog, int batchSize,
+            Consumer<List<Person>> batchConsumer) throws DataLoadingException {
+        return readAddressBookInBatches(addressBookStorage.getAddressBookFilePath(), catalog, batchSize,
+                batchConsumer);
+    }
+
+    @Override
+    public Optional<SalvagedAddressBook> salvageAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
+            throws DataLoadingException {
+        logger.fine("Attempting to salvage data from file: " + filePath);
+
+        return addressBookStorage.salvageAddressBook(filePath, catalog);
+    }
+
+    @Override
+    public Optional<SalvagedAddressBook> salvageAddressBook(ReadOnlyInsuranceCatalog catalog)
+            throws DataLoadingException {
+        return salvageAddressBook(addressBookStorage.getAddressBookFilePath(), catalog);
+    }
+
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        addressBookStorage.trackAddressBook(addressBook);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
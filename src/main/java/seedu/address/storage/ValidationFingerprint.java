@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A record that the persons of a data file have all been validated: the hash of the content of the file, and the
+ * version of the constraints on the fields of a person that they were validated by.
+ * It is kept in a file next to the data file, so that a data file that has not changed since it was validated, such as
+ * one written by this app, can be loaded at startup without validating its persons again.
+ */
+class ValidationFingerprint {
+
+    /**
+     * The version of the constraints on the fields of a person. Increase it whenever a constraint is changed, so that
+     * data files validated by the old constraints are validated again.
+     */
+    static final int VALIDATION_VERSION = 1;
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String FILE_NAME_SUFFIX = ".validated";
+
+    private final int validationVersion;
+    private final String contentHash;
+
+    /**
+     * Creates a fingerprint of a data file whose content has the hash {@code contentHash}, validated by the
+     * constraints of {@code validationVersion}.
+     */
+    ValidationFingerprint(int validationVersion, String contentHash) {
+        requireNonNull(contentHash);
+        this.validationVersion = validationVersion;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Returns a fingerprint of a data file whose content {@code digest} has been updated with, validated by the
+     * current constraints. {@code digest} is reset.
+     */
+    static ValidationFingerprint of(MessageDigest digest) {
+        return new ValidationFingerprint(VALIDATION_VERSION, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Returns a new digest of the algorithm that content hashes are computed with.
+     */
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the path of the file that the fingerprint of the data file at {@code dataFilePath} is kept in.
+     */
+    static Path getFingerprintPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + FILE_NAME_SUFFIX);
+    }
+
+    int getValidationVersion() {
+        return validationVersion;
+    }
+
+    String getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ValidationFingerprint)) {
+            return false;
+        }
+
+        ValidationFingerprint otherFingerprint = (ValidationFingerprint) other;
+        return validationVersion == otherFingerprint.validationVersion
+                && contentHash.equals(otherFingerprint.contentHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return validationVersion * 31 + contentHash.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("validationVersion", validationVersion)
+                .add("contentHash", contentHash)
+                .toString();
+    }
+}
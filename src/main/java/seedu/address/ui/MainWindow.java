@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -26,6 +28,14 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
+    private static final String MESSAGE_LOADING = "Loading clients... %,d loaded";
+    private static final String MESSAGE_COMMAND_QUEUED = "Clients are still loading. \"%s\" will run once all clients "
+            + "have been loaded.";
+    private static final String MESSAGE_PARTLY_LOADED = "Note: clients are still loading, so only the %,d clients "
+            + "loaded so far were included.";
+    private static final String MESSAGE_QUEUED_COMMANDS_RUN = "All clients have been loaded. Ran the commands entered "
+            + "while loading:";
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
@@ -34,10 +44,14 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
     private ViewWindow viewWindow;
     private PackageWindow packageWindow;
 
+    // Commands entered while the address book is loading, which run once it has been loaded
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -125,11 +139,51 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        logic.addLoadingListener(this::handleLoadingProgress);
+        handleLoadingProgress();
+    }
+
+    /**
+     * Shows how many persons have been loaded while the address book is loading, and runs the commands entered
+     * while it was loading once it has been loaded.
+     */
+    private void handleLoadingProgress() {
+        if (logic.isLoading()) {
+            statusBarFooter.setLoadingStatus(String.format(MESSAGE_LOADING,
+                    logic.getAddressBook().getPersonList().size()));
+            return;
+        }
+        statusBarFooter.setLoadingStatus("");
+        if (!queuedCommands.isEmpty()) {
+            runQueuedCommands();
+        }
+    }
+
+    /**
+     * Runs the queued commands in the order they were entered, and shows the result of each.
+     */
+    private void runQueuedCommands() {
+        StringBuilder feedback = new StringBuilder(MESSAGE_QUEUED_COMMANDS_RUN);
+        while (!queuedCommands.isEmpty()) {
+            String commandText = queuedCommands.remove();
+            feedback.append("\n> ").append(commandText).append("\n");
+            try {
+                CommandResult commandResult = executeCommand(commandText);
+                feedback.append(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    queuedCommands.clear();
+                }
+            } catch (CommandException | ParseException e) {
+                feedback.append(e.getMessage());
+            }
+        }
+        resultDisplay.setFeedbackToUser(feedback.toString());
     }
 
     /**
@@ -216,9 +270,21 @@ public class MainWindow extends UiPart<Stage> {
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
+            if (logic.isLoading() && (!queuedCommands.isEmpty() || !logic.canExecuteWhileLoading(commandText))) {
+                // Queued behind any earlier commands, so that commands still run in the order they were entered
+                queuedCommands.add(commandText);
+                String feedback = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+                resultDisplay.setFeedbackToUser(feedback);
+                return new CommandResult(feedback);
+            }
+
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            String feedback = commandResult.getFeedbackToUser();
+            if (logic.isLoading()) {
+                feedback += "\n" + String.format(MESSAGE_PARTLY_LOADED, logic.getAddressBook().getPersonList().size());
+            }
+            resultDisplay.setFeedbackToUser(feedback);
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
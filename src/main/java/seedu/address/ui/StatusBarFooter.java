@@ -17,6 +17,9 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadingStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -33,4 +36,11 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(status);
     }
 
+    /**
+     * Shows {@code status} as the progress of loading the address book. An empty status hides the progress.
+     */
+    public void setLoadingStatus(String status) {
+        loadingStatus.setText(status);
+    }
+
 }
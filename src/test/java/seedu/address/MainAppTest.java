@@ -3,14 +3,24 @@ package seedu.address;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalInsurancePackages.getTypicalInsuranceCatalog;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
@@ -18,7 +28,12 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyInsuranceCatalog;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.ParsedAddressBook;
+import seedu.address.storage.SalvagedAddressBook;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,6 +42,11 @@ import seedu.address.storage.Storage;
  */
 public class MainAppTest {
 
+    private static final Path SALVAGE_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "AddressBookSalvagerTest");
+
+    @TempDir
+    public Path testFolder;
+
     private InMemoryStorageStub storage;
     private MainApp mainApp;
     private ReadOnlyAddressBook sampleAddressBook;
@@ -113,6 +133,52 @@ public class MainAppTest {
         assertEquals(new AddressBook(), result);
     }
 
+    /**
+     * Tests that {@code initAddressBook} returns the persons that can be loaded
+     * when the address book cannot be loaded as a whole,
+     * simulating an address book file with some corrupted records.
+     */
+    @Test
+    public void initAddressBook_corruptedRecords_returnsSalvagedAddressBook() throws IOException {
+        Path dataFile = Files.copy(SALVAGE_TEST_DATA_FOLDER.resolve("corruptedAddressBook.json"),
+                testFolder.resolve("addressbook.json"));
+        storage.setThrowAddressBookException(true);
+        storage.setSalvageStorage(new JsonAddressBookStorage(dataFile));
+
+        ReadOnlyAddressBook result = mainApp.initAddressBook(storage, getTypicalInsuranceCatalog());
+
+        assertEquals(List.of(ALICE, DANIEL), result.getPersonList());
+    }
+
+    /**
+     * Tests that {@code initAddressBook} returns an empty address book
+     * when parsing the address book on another thread failed,
+     * simulating a corrupt address book file.
+     */
+    @Test
+    public void initAddressBook_parsingFailed_returnsEmptyAddressBook() {
+        CompletableFuture<Optional<ParsedAddressBook>> parsedAddressBook = CompletableFuture.failedFuture(
+                new CompletionException(new DataLoadingException(new Exception("Simulated parsing error"))));
+
+        ReadOnlyAddressBook result = mainApp.initAddressBook(storage, sampleCatalog, parsedAddressBook);
+
+        assertEquals(new AddressBook(), result);
+    }
+
+    /**
+     * Tests that {@code initAddressBook} resolves the address book parsed on another thread
+     * with the given catalog.
+     */
+    @Test
+    public void initAddressBook_parsedAddressBook_resolvesWithCatalog() {
+        CompletableFuture<Optional<ParsedAddressBook>> parsedAddressBook = CompletableFuture.supplyAsync(() ->
+                Optional.of(catalog -> catalog == sampleCatalog ? sampleAddressBook : new AddressBook()));
+
+        ReadOnlyAddressBook result = mainApp.initAddressBook(storage, sampleCatalog, parsedAddressBook);
+
+        assertEquals(sampleAddressBook, result);
+    }
+
 
     /**
      * A stub implementation of {@code Storage}
@@ -125,6 +191,7 @@ public class MainAppTest {
         private boolean throwAddressBookException = false;
         private boolean throwSaveCatalogException = false;
         private boolean saveInsuranceCatalogCalled = false;
+        private AddressBookStorage salvageStorage;
 
         public void setCatalogToReturn(Optional<ReadOnlyInsuranceCatalog> catalog) {
             this.catalogToReturn = catalog;
@@ -142,6 +209,10 @@ public class MainAppTest {
             this.throwAddressBookException = shouldThrow;
         }
 
+        public void setSalvageStorage(AddressBookStorage salvageStorage) {
+            this.salvageStorage = salvageStorage;
+        }
+
         public void setThrowSaveCatalogException(boolean shouldThrow) {
             this.throwSaveCatalogException = shouldThrow;
         }
@@ -193,6 +264,49 @@ public class MainAppTest {
             return readAddressBook(catalog);
         }
 
+        @Override
+        public Optional<ParsedAddressBook> parseAddressBook() throws DataLoadingException {
+            Optional<ReadOnlyAddressBook> addressBook = readAddressBook(null);
+            return addressBook.map(ab -> catalog -> ab);
+        }
+
+        @Override
+        public Optional<ParsedAddressBook> parseAddressBook(Path filePath) throws DataLoadingException {
+            return parseAddressBook();
+        }
+
+        @Override
+        public boolean readAddressBookInBatches(ReadOnlyInsuranceCatalog catalog, int batchSize,
+                Consumer<List<Person>> batchConsumer) throws DataLoadingException {
+            Optional<ReadOnlyAddressBook> addressBook = readAddressBook(catalog);
+            addressBook.ifPresent(ab -> batchConsumer.accept(new ArrayList<>(ab.getPersonList())));
+            return addressBook.isPresent();
+        }
+
+        @Override
+        public boolean readAddressBookInBatches(Path filePath, ReadOnlyInsuranceCatalog catalog, int batchSize,
+                Consumer<List<Person>> batchConsumer) throws DataLoadingException {
+            return readAddressBookInBatches(catalog, batchSize, batchConsumer);
+        }
+
+        @Override
+        public Optional<SalvagedAddressBook> salvageAddressBook(ReadOnlyInsuranceCatalog catalog)
+                throws DataLoadingException {
+            if (salvageStorage != null) {
+                return salvageStorage.salvageAddressBook(salvageStorage.getAddressBookFilePath(), catalog);
+            }
+            if (throwAddressBookException) {
+                throw new DataLoadingException(new Exception("Simulated address book salvaging error"));
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SalvagedAddressBook> salvageAddressBook(Path filePath, ReadOnlyInsuranceCatalog catalog)
+                throws DataLoadingException {
+            return salvageAddressBook(catalog);
+        }
+
         // Other unused Storage methods
 
         @Override
@@ -12,7 +12,16 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", pagedAddressBook=" + config.isPagedAddressBook()
+                + ", personCacheSize=" + config.getPersonCacheSize()
+                + ", progressiveStartup=" + config.isProgressiveStartup()
+                + ", startupBatchSize=" + config.getStartupBatchSize()
+                + ", segmentedAddressBook=" + config.isSegmentedAddressBook()
+                + ", addressBookSegmentSize=" + config.getAddressBookSegmentSize()
+                + ", journaledAddressBook=" + config.isJournaledAddressBook()
+                + ", maxAddressBookLogSize=" + config.getMaxAddressBookLogSize()
+                + ", maxAddressBookLogRecords=" + config.getMaxAddressBookLogRecords() + "}";
         assertEquals(expected, config.toString());
     }
 
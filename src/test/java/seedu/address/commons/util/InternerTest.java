@@ -0,0 +1,39 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("Engineer");
+        String second = new String("Engineer");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_returnsOwnInstances() {
+        Interner<String> interner = new Interner<>();
+        String engineer = new String("Engineer");
+        String teacher = new String("Teacher");
+
+        assertSame(engineer, interner.intern(engineer));
+        assertSame(teacher, interner.intern(teacher));
+        assertEquals(2, interner.size());
+    }
+}
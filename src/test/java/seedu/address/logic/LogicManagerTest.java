@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_LIST_OF_COMMANDS;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -17,23 +20,40 @@ import static seedu.address.logic.commands.CommandTestUtil.SALARY_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.FXCollections;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandTimingListener;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CommandRegistry;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -97,6 +117,28 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_registeredAlias_success() throws Exception {
+        CommandRegistry commandRegistry = CommandRegistry.createDefault();
+        commandRegistry.register("ls", arguments -> new ListCommand());
+        List<Command> executedCommands = new ArrayList<>();
+        commandRegistry.addTimingListener(new CommandTimingListener() {
+            @Override
+            public void commandParsed(Command command, long elapsedNanos) {}
+
+            @Override
+            public void commandExecuted(Command command, long elapsedNanos) {
+                executedCommands.add(command);
+            }
+        });
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, insuranceCatalogStorage,
+                userPrefsStorage), commandRegistry);
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute("ls").getFeedbackToUser());
+        assertEquals(1, executedCommands.size());
+        assertTrue(executedCommands.get(0) instanceof ListCommand);
+    }
+
     @Test
     public void execute_addressBookStorageThrowsIoException_throwsCommandException() {
         String expectedMessage = String.format(
@@ -125,6 +167,101 @@ public class LogicManagerTest {
         assertCommandFailureForInsuranceCatalogSaveException(DUMMY_AD_EXCEPTION, expectedMessage);
     }
 
+    @Test
+    public void execute_commandWithoutDataChanges_doesNotSave() throws Exception {
+        Path addressBookFilePath = addressBookStorage.getAddressBookFilePath();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookFilePath));
+
+        Files.delete(addressBookFilePath);
+        logic.execute(SortCommand.COMMAND_WORD + " name descending");
+        assertFalse(Files.exists(addressBookFilePath));
+
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void loadAddressBookInBackground_validDataFile_addsPersonsInBatches() throws Exception {
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        LogicManager loadingLogic = createLogicWithEmptyAddressBook();
+        List<Integer> loadedCounts = new ArrayList<>();
+        loadingLogic.addLoadingListener(() -> loadedCounts.add(model.getAddressBook().getPersonList().size()));
+
+        // The persons are read at once, but only added to the model as the tasks are run
+        Queue<Runnable> uiTasks = new ArrayDeque<>();
+        loadingLogic.loadAddressBookInBackground(3, uiTasks::add, Runnable::run);
+        assertTrue(loadingLogic.isLoading());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+
+        uiTasks.remove().run();
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+
+        // Commands that change the address book have to wait, and the partly loaded address book is not saved
+        Files.delete(addressBookStorage.getAddressBookFilePath());
+        assertThrows(CommandException.class, LogicManager.MESSAGE_STILL_LOADING, () ->
+                loadingLogic.execute(DeleteCommand.COMMAND_WORD + " 1"));
+        assertTrue(loadingLogic.canExecuteWhileLoading(ListCommand.COMMAND_WORD));
+        assertFalse(loadingLogic.canExecuteWhileLoading(DeleteCommand.COMMAND_WORD + " 1"));
+        loadingLogic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookStorage.getAddressBookFilePath()));
+
+        uiTasks.forEach(Runnable::run);
+        assertFalse(loadingLogic.isLoading());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(Arrays.asList(0, 3, 6, 7, 7), loadedCounts);
+
+        // The loaded address book is the same as the data file, so it is saved only once it changes
+        loadingLogic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookStorage.getAddressBookFilePath()));
+        loadingLogic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertTrue(Files.exists(addressBookStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void loadAddressBookInBackground_duplicatePersons_salvagesPersons() throws Exception {
+        addressBookStorage.saveAddressBook(() -> FXCollections.observableArrayList(ALICE, BENSON, ALICE));
+        Path addressBookFilePath = addressBookStorage.getAddressBookFilePath();
+        byte[] dataFileBytes = Files.readAllBytes(addressBookFilePath);
+        LogicManager loadingLogic = createLogicWithEmptyAddressBook();
+
+        loadingLogic.loadAddressBookInBackground(1, Runnable::run, Runnable::run);
+        assertFalse(loadingLogic.isLoading());
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getAddressBook().getPersonList());
+        assertEquals(1, countQuarantineFiles());
+
+        // The data file is only saved over once a command changes the address book
+        loadingLogic.execute(ListCommand.COMMAND_WORD);
+        assertArrayEquals(dataFileBytes, Files.readAllBytes(addressBookFilePath));
+        loadingLogic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(new AddressBook(model.getAddressBook()), addressBookStorage.readAddressBook(
+                addressBookFilePath, model.getInsuranceCatalog()).get());
+    }
+
+    @Test
+    public void loadAddressBookInBackground_invalidJson_dataFileUnchanged() throws Exception {
+        Path addressBookFilePath = addressBookStorage.getAddressBookFilePath();
+        FileUtil.writeToFile(addressBookFilePath, "{ \"persons\": [ { \"name\": ");
+        byte[] dataFileBytes = Files.readAllBytes(addressBookFilePath);
+        LogicManager loadingLogic = createLogicWithEmptyAddressBook();
+
+        loadingLogic.loadAddressBookInBackground(1, Runnable::run, Runnable::run);
+        assertFalse(loadingLogic.isLoading());
+        assertEquals(new AddressBook(), model.getAddressBook());
+
+        loadingLogic.execute(ListCommand.COMMAND_WORD);
+        assertArrayEquals(dataFileBytes, Files.readAllBytes(addressBookFilePath));
+    }
+
+    @Test
+    public void loadAddressBookInBackground_missingDataFile_usesSampleAddressBook() {
+        LogicManager loadingLogic = createLogicWithEmptyAddressBook();
+
+        loadingLogic.loadAddressBookInBackground(1, Runnable::run, Runnable::run);
+        assertFalse(loadingLogic.isLoading());
+        assertEquals(SampleDataUtil.getSampleAddressBook(), model.getAddressBook());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -166,6 +303,21 @@ public class LogicManagerTest {
     }
 
 
+    private long countQuarantineFiles() throws IOException {
+        try (Stream<Path> files = Files.list(temporaryFolder)) {
+            return files.filter(file -> file.getFileName().toString().contains(".quarantine-")).count();
+        }
+    }
+
+    /**
+     * Returns a {@code LogicManager} whose model has an empty address book, to be loaded from {@code storage}.
+     */
+    private LogicManager createLogicWithEmptyAddressBook() {
+        model = new ModelManager(new AddressBook(), SampleDataUtil.getSampleInsuranceCatalog(), new UserPrefs());
+        return new LogicManager(model,
+                new StorageManager(addressBookStorage, insuranceCatalogStorage, userPrefsStorage));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
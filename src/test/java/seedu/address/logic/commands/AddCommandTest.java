@@ -31,6 +31,7 @@ import seedu.address.model.ReadOnlyInsuranceCatalog;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.insurance.InsurancePackage;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -165,6 +166,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addInsurancePackage(InsurancePackage insurancePackage) {
             throw new AssertionError("This method should not be called.");
@@ -241,7 +247,17 @@ public class AddCommandTest {
         }
 
         @Override
-        public void sortPersonList(Comparator<Person> comparator) {
+        public void sortPersonList(PersonOrder order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginPersonListBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endPersonListBatch() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,7 @@ import seedu.address.model.ReadOnlyInsuranceCatalog;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.insurance.InsurancePackage;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
 import seedu.address.testutil.InsurancePackageBuilder;
 
 public class AddPackageCommandTest {
@@ -147,6 +149,11 @@ public class AddPackageCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addInsurancePackage(InsurancePackage insurancePackage) {
             throw new AssertionError("This method should not be called.");
@@ -223,7 +230,17 @@ public class AddPackageCommandTest {
         }
 
         @Override
-        public void sortPersonList(Comparator<Person> comparator) {
+        public void sortPersonList(PersonOrder order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginPersonListBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endPersonListBatch() {
             throw new AssertionError("This method should not be called.");
         }
 
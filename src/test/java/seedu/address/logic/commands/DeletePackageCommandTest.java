@@ -8,6 +8,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,7 @@ import seedu.address.model.ReadOnlyInsuranceCatalog;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.insurance.InsurancePackage;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
 import seedu.address.testutil.InsurancePackageBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -141,6 +143,11 @@ public class DeletePackageCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -177,7 +184,17 @@ public class DeletePackageCommandTest {
         }
 
         @Override
-        public void sortPersonList(Comparator<Person> comparator) {
+        public void sortPersonList(PersonOrder order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginPersonListBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endPersonListBatch() {
             throw new AssertionError("This method should not be called.");
         }
 
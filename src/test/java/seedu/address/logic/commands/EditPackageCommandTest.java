@@ -8,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -24,6 +25,7 @@ import seedu.address.model.ReadOnlyInsuranceCatalog;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.insurance.InsurancePackage;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
 import seedu.address.testutil.InsurancePackageBuilder;
 
 public class EditPackageCommandTest {
@@ -139,6 +141,11 @@ public class EditPackageCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addInsurancePackage(InsurancePackage insurancePackage) {
             throw new AssertionError("This method should not be called.");
@@ -215,7 +222,17 @@ public class EditPackageCommandTest {
         }
 
         @Override
-        public void sortPersonList(Comparator<Person> comparator) {
+        public void sortPersonList(PersonOrder order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginPersonListBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endPersonListBatch() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -225,6 +225,7 @@ public class FilterCommandTest {
     private FilterComparisonPrefixParser createSalaryParser(String keyword) throws ParseException {
         FilterComparisonPrefixParser parser = new FilterComparisonPrefixParser(PREFIX_SALARY,
                 p -> p.getSalary().toString(),
+                p -> p.getSalary().getCents(),
                 p -> p.getSalary().isUnspecified());
         parser.parse(keyword);
         return parser;
@@ -233,6 +234,7 @@ public class FilterCommandTest {
     private FilterComparisonPrefixParser createDependentsParser(String keyword) throws ParseException {
         FilterComparisonPrefixParser parser = new FilterComparisonPrefixParser(PREFIX_DEPENDENTS,
                 p -> p.getDependents().toString(),
+                p -> p.getDependents().getValue(),
                 p -> p.getDependents().isUnspecified());
         parser.parse(keyword);
         return parser;
@@ -0,0 +1,199 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalInsurancePackages.getTypicalInsuranceCatalog;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.model.InsuranceCatalog;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.insurance.InsurancePackage;
+import seedu.address.model.person.Person;
+
+public class RunCommandTest {
+
+    private static final Path SCRIPT_PATH = Paths.get("script.txt");
+    private static final Index INDEX_OUT_OF_BOUNDS = Index.fromOneBased(100);
+    private static final String DELETE_FAILURE = String.format(RunCommand.MESSAGE_LINE_ERROR, 2,
+            MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + "\n" + DeleteCommand.MESSAGE_USAGE);
+
+    private final CommandRegistry commandRegistry = CommandRegistry.createDefault();
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalInsuranceCatalog(),
+            new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_displayedListChangedOnce() {
+        AtomicInteger changeCount = new AtomicInteger();
+        model.getFilteredPersonList()
+                .addListener((ListChangeListener<Person>) change -> changeCount.incrementAndGet());
+        List<Command> executedCommands = new ArrayList<>();
+        commandRegistry.addTimingListener(new CommandTimingListener() {
+            @Override
+            public void commandParsed(Command command, long elapsedNanos) {}
+
+            @Override
+            public void commandExecuted(Command command, long elapsedNanos) {
+                executedCommands.add(command);
+            }
+        });
+        RunCommand runCommand = createRunCommand(Map.of(
+                1, new AddCommand(BOB),
+                3, new DeleteCommand(INDEX_FIRST_PERSON),
+                4, new DeleteCommand(INDEX_FIRST_PERSON)), false);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalInsuranceCatalog(),
+                new UserPrefs());
+        expectedModel.addPerson(BOB);
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+
+        assertCommandSuccess(runCommand, model, String.format(RunCommand.MESSAGE_SUCCESS, 3, SCRIPT_PATH),
+                expectedModel);
+        assertEquals(1, changeCount.get());
+        // Each command is executed through the registry, so that its timing listeners are told about it
+        assertEquals(List.of(new AddCommand(BOB), new DeleteCommand(INDEX_FIRST_PERSON),
+                new DeleteCommand(INDEX_FIRST_PERSON)), executedCommands);
+    }
+
+    @Test
+    public void execute_filteredList_indexRefersToDisplayedPerson() {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        RunCommand runCommand = createRunCommand(Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON)), false);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalInsuranceCatalog(),
+                new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_SECOND_PERSON);
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+
+        assertCommandSuccess(runCommand, model, String.format(RunCommand.MESSAGE_SUCCESS, 1, SCRIPT_PATH),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_commandSkipped() {
+        RunCommand runCommand = createRunCommand(Map.of(
+                1, new DeleteCommand(INDEX_SECOND_PERSON),
+                2, new DeleteCommand(INDEX_OUT_OF_BOUNDS)), false);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalInsuranceCatalog(),
+                new UserPrefs());
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(1));
+
+        assertCommandSuccess(runCommand, model, String.format(RunCommand.MESSAGE_COMMANDS_FAILED, 2, SCRIPT_PATH,
+                1, DELETE_FAILURE), expectedModel);
+    }
+
+    @Test
+    public void execute_atomicCommandFails_noChanges() {
+        InsurancePackage platinum = new InsurancePackage("Platinum", "The most comprehensive package.");
+        RunCommand runCommand = createRunCommand(Map.of(
+                1, new AddPackageCommand(platinum),
+                2, new DeleteCommand(INDEX_FIRST_PERSON),
+                3, new DeleteCommand(INDEX_OUT_OF_BOUNDS),
+                4, new DeleteCommand(INDEX_FIRST_PERSON)), true);
+        String failure = String.format(RunCommand.MESSAGE_LINE_ERROR, 3,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + "\n" + DeleteCommand.MESSAGE_USAGE);
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_ROLLED_BACK, SCRIPT_PATH, failure));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(getTypicalInsuranceCatalog(), model.getInsuranceCatalog());
+        assertFalse(InsuranceCatalog.isValidInsurancePackage(platinum.getPackageName()));
+    }
+
+    @Test
+    public void execute_atomicCommandFails_addressBookRestoredOnlyIfChanged() {
+        AtomicInteger changeCount = new AtomicInteger();
+        model.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) change -> changeCount.incrementAndGet());
+        RunCommand runCommand = createRunCommand(Map.of(
+                1, new AddCommand(BOB),
+                2, new DeleteCommand(INDEX_OUT_OF_BOUNDS)), true);
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_ROLLED_BACK, SCRIPT_PATH,
+                DELETE_FAILURE));
+        // Once for adding BOB and once for restoring the address book, as only the displayed list is batched
+        assertEquals(2, changeCount.get());
+
+        changeCount.set(0);
+        runCommand = createRunCommand(Map.of(2, new DeleteCommand(INDEX_OUT_OF_BOUNDS)), true);
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_ROLLED_BACK, SCRIPT_PATH,
+                DELETE_FAILURE));
+        assertEquals(0, changeCount.get());
+    }
+
+    @Test
+    public void execute_atomicCommandsSucceed_changesMade() {
+        RunCommand runCommand = createRunCommand(Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON)), true);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalInsuranceCatalog(),
+                new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+
+        assertCommandSuccess(runCommand, model, String.format(RunCommand.MESSAGE_SUCCESS, 1, SCRIPT_PATH),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_atomicCommandFails_displayedListChangedOnce() {
+        AtomicInteger changeCount = new AtomicInteger();
+        model.getFilteredPersonList()
+                .addListener((ListChangeListener<Person>) change -> changeCount.incrementAndGet());
+        RunCommand runCommand = createRunCommand(Map.of(
+                1, new DeleteCommand(INDEX_FIRST_PERSON),
+                2, new DeleteCommand(INDEX_OUT_OF_BOUNDS)), true);
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_ROLLED_BACK, SCRIPT_PATH,
+                DELETE_FAILURE));
+        assertEquals(1, changeCount.get());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = createRunCommand(Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON)), false);
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(createRunCommand(
+                Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON)), false)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(runCommand.equals(createRunCommand(
+                Map.of(2, new DeleteCommand(INDEX_FIRST_PERSON)), false)));
+
+        // different atomicity -> returns false
+        assertFalse(runCommand.equals(createRunCommand(
+                Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON)), true)));
+    }
+
+    private RunCommand createRunCommand(Map<Integer, Command> commands, boolean isAtomic) {
+        return new RunCommand(SCRIPT_PATH, commands, isAtomic, commandRegistry);
+    }
+}
@@ -17,15 +17,19 @@ import static seedu.address.testutil.TypicalPersons.MARRY;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand.SortDirection;
 import seedu.address.logic.commands.SortCommand.SortField;
+import seedu.address.logic.commands.sort.PersonSorter;
+import seedu.address.logic.commands.sort.SortCriterion;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
@@ -379,13 +383,66 @@ public class SortCommandTest {
 
         // different sort field -> returns false
         assertFalse(sortNameCommand.equals(sortPhoneCommand));
+
+        // same criteria given as a list -> returns true
+        assertTrue(sortNameCommand.equals(
+                new SortCommand(List.of(new SortCriterion(SortField.NAME, SortDirection.ASCENDING)))));
+
+        // additional sort field -> returns false
+        assertFalse(sortNameCommand.equals(new SortCommand(List.of(
+                new SortCriterion(SortField.NAME, SortDirection.ASCENDING),
+                new SortCriterion(SortField.PHONE, SortDirection.ASCENDING)))));
+    }
+
+    @Test
+    public void execute_sortByMultipleFields_success() {
+        SortCommand command = new SortCommand(List.of(
+                new SortCriterion(SortField.DEPENDENTS, SortDirection.DESCENDING),
+                new SortCriterion(SortField.NAME, SortDirection.ASCENDING)));
+        String expectedMessage = SortCommand.MESSAGE_SUCCESS + SortField.DEPENDENTS + " in descending order, then "
+                + SortField.NAME + " in ascending order";
+        expectedModel.sortPersonList(new PersonSorter(List.of(
+                new SortCriterion(SortField.DEPENDENTS, SortDirection.DESCENDING),
+                new SortCriterion(SortField.NAME, SortDirection.ASCENDING))));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+
+        List<Person> sortedList = model.getFilteredPersonList();
+        for (int i = 1; i < sortedList.size(); i++) {
+            Person previous = sortedList.get(i - 1);
+            Person current = sortedList.get(i);
+            int previousDependents = previous.getDependents().getValue();
+            int currentDependents = current.getDependents().getValue();
+            assertTrue(previousDependents > currentDependents || previousDependents == currentDependents
+                    && previous.getName().fullName.compareToIgnoreCase(current.getName().fullName) <= 0);
+        }
+    }
+
+    @Test
+    public void execute_sortLocaleInUserPrefs_sortsNamesByLocale() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSortLocale("sv-SE");
+        Model swedishModel = new ModelManager(getTypicalAddressBook(), getTypicalInsuranceCatalog(), userPrefs);
+        Person angstrom = new PersonBuilder().withName("Ångström").withPhone("11111111").build();
+        swedishModel.addPerson(angstrom);
+        Model expectedSwedishModel = new ModelManager(swedishModel.getAddressBook(), getTypicalInsuranceCatalog(),
+                userPrefs);
+        expectedSwedishModel.sortPersonList(new PersonSorter(
+                List.of(new SortCriterion(SortField.NAME, SortDirection.ASCENDING)), Locale.forLanguageTag("sv-SE")));
+
+        String expectedMessage = SortCommand.MESSAGE_SUCCESS + SortField.NAME + " in ascending order";
+        assertCommandSuccess(new SortCommand(SortField.NAME, SortDirection.ASCENDING), swedishModel, expectedMessage,
+                expectedSwedishModel);
+
+        // Swedish sorts "Å" after "Z", so the person is placed last instead of first
+        List<Person> sortedList = swedishModel.getFilteredPersonList();
+        assertEquals(angstrom, sortedList.get(sortedList.size() - 1));
     }
 
     @Test
     public void toStringMethod() {
         SortCommand sortCommand = new SortCommand(SortField.NAME, SortDirection.ASCENDING);
-        String expected = SortCommand.class.getCanonicalName() + "{sortField=" + SortField.NAME
-                + ", sortDirection=" + SortDirection.ASCENDING + "}";
+        String expected = SortCommand.class.getCanonicalName() + "{sortCriteria="
+                + List.of(new SortCriterion(SortField.NAME, SortDirection.ASCENDING)) + "}";
         assertEquals(expected, sortCommand.toString());
     }
 }
@@ -0,0 +1,46 @@
+package seedu.address.logic.commands.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+public class CollationKeyCacheTest {
+
+    private final Collator collator = Collator.getInstance(Locale.ENGLISH);
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new CollationKeyCache(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CollationKeyCache(collator, 0));
+    }
+
+    @Test
+    public void get_sameValue_returnsCachedKey() {
+        CollationKeyCache cache = new CollationKeyCache(collator, 4);
+        CollationKey collationKey = cache.get("José García");
+
+        assertSame(collationKey, cache.get("José García"));
+        assertEquals(collator.getCollationKey("José García"), collationKey);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_overCapacity_evictsLeastRecentlyUsedKey() {
+        CollationKeyCache cache = new CollationKeyCache(collator, 2);
+        CollationKey alice = cache.get("Alice");
+        CollationKey bob = cache.get("Bob");
+        cache.get("Alice"); // Bob is now the least recently used
+        cache.get("Carl");
+
+        assertEquals(2, cache.size());
+        assertSame(alice, cache.get("Alice"));
+        assertNotSame(bob, cache.get("Bob"));
+    }
+}
@@ -0,0 +1,258 @@
+package seedu.address.logic.commands.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HARRY;
+import static seedu.address.testutil.TypicalPersons.MARRY;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand.SortDirection;
+import seedu.address.logic.commands.SortCommand.SortField;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSorterTest {
+
+    @Test
+    public void sort_null_throwsNullPointerException() {
+        PersonSorter sorter = new PersonSorter(SortField.NAME, SortDirection.ASCENDING);
+        assertThrows(NullPointerException.class, () -> sorter.sort(null));
+    }
+
+    @Test
+    public void sort_doesNotModifyInput() {
+        List<Person> persons = Arrays.asList(CARL, ALICE, BENSON);
+        List<Person> sortedPersons = new PersonSorter(SortField.NAME, SortDirection.ASCENDING).sort(persons);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), sortedPersons);
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), persons);
+    }
+
+    @Test
+    public void sort_unspecifiedValues_placedLastInBothDirections() {
+        List<Person> persons = Arrays.asList(HARRY, ALICE, MARRY, BENSON);
+
+        List<Person> ascending = new PersonSorter(SortField.SALARY, SortDirection.ASCENDING).sort(persons);
+        assertEquals(Arrays.asList(MARRY, ALICE, BENSON, HARRY), ascending);
+
+        List<Person> descending = new PersonSorter(SortField.SALARY, SortDirection.DESCENDING).sort(persons);
+        assertEquals(Arrays.asList(BENSON, ALICE, MARRY, HARRY), descending);
+    }
+
+    @Test
+    public void sort_equalKeys_keepsOriginalOrder() {
+        Person first = new PersonBuilder().withName("Same Name").withPhone("11111111")
+                .withEmail("first@example.com").build();
+        Person second = new PersonBuilder().withName("same name").withPhone("22222222")
+                .withEmail("second@example.com").build();
+        List<Person> persons = Arrays.asList(first, second, ALICE);
+
+        assertEquals(Arrays.asList(ALICE, first, second),
+                new PersonSorter(SortField.NAME, SortDirection.ASCENDING).sort(persons));
+        assertEquals(Arrays.asList(first, second, ALICE),
+                new PersonSorter(SortField.NAME, SortDirection.DESCENDING).sort(persons));
+    }
+
+    @Test
+    public void sort_accentedNames_sortedByCollationRules() {
+        Person zoe = new PersonBuilder().withName("Zoe").withPhone("11111111").build();
+        Person angstrom = new PersonBuilder().withName("Ångström").withPhone("22222222").build();
+        Person emile = new PersonBuilder().withName("Émile").withPhone("33333333").build();
+        Person eric = new PersonBuilder().withName("Eric").withPhone("44444444").build();
+        List<Person> persons = Arrays.asList(zoe, angstrom, emile, eric);
+        List<SortCriterion> byName = List.of(new SortCriterion(SortField.NAME, SortDirection.ASCENDING));
+
+        // accented letters are sorted next to their base letter, instead of after "Z" by their Unicode value
+        assertEquals(Arrays.asList(angstrom, emile, eric, zoe), new PersonSorter(byName).sort(persons));
+
+        // Swedish sorts "Å" after "Z"
+        assertEquals(Arrays.asList(emile, eric, zoe, angstrom),
+                new PersonSorter(byName, Locale.forLanguageTag("sv-SE")).sort(persons));
+    }
+
+    @Test
+    public void sort_decomposedAccents_equalToComposedAccents() {
+        Person composed = new PersonBuilder().withAddress("1 Rue Émile").withPhone("11111111").build();
+        Person decomposed = new PersonBuilder().withAddress("1 Rue E\u0301mile").withPhone("22222222").build();
+        PersonSorter sorter = new PersonSorter(SortField.ADDRESS, SortDirection.DESCENDING);
+
+        assertEquals(0, sorter.compare(composed, decomposed));
+        assertEquals(Arrays.asList(decomposed, composed), sorter.sort(Arrays.asList(decomposed, composed)));
+    }
+
+    @Test
+    public void sort_caseFoldedOccupations_foldedByCodePoint() {
+        Person sharpS = new PersonBuilder().withOccupation("Straße Cleaner").withPhone("11111111").build();
+        Person capitalS = new PersonBuilder().withOccupation("STRASSE CLEANER").withPhone("22222222").build();
+        Person deseret = new PersonBuilder().withOccupation("\uD801\uDC00 Writer").withPhone("33333333").build();
+        Person smallDeseret = new PersonBuilder().withOccupation("\uD801\uDC28 writer").withPhone("44444444").build();
+        PersonSorter sorter = new PersonSorter(SortField.OCCUPATION, SortDirection.ASCENDING);
+
+        // "ß" is folded to "ss", and a supplementary letter is folded to its lowercase letter
+        assertEquals(0, sorter.compare(sharpS, capitalS));
+        assertEquals(0, sorter.compare(deseret, smallDeseret));
+        assertEquals(Arrays.asList(sharpS, capitalS, deseret, smallDeseret),
+                sorter.sort(Arrays.asList(deseret, sharpS, smallDeseret, capitalS)));
+    }
+
+    @Test
+    public void sort_listAboveParallelThreshold_sortedBySalary() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i <= PersonSorter.PARALLEL_SORT_THRESHOLD; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(10_000_000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withSalary(String.valueOf((i * 7919) % 5000)).build());
+        }
+
+        List<Person> sortedPersons = new PersonSorter(SortField.SALARY, SortDirection.ASCENDING).sort(persons);
+
+        List<Person> expectedPersons = new ArrayList<>(persons);
+        expectedPersons.sort(Comparator.comparingDouble(person ->
+                Double.parseDouble(person.getSalary().getValue())));
+        assertEquals(expectedPersons, sortedPersons);
+    }
+
+    @Test
+    public void constructor_noCriteria_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonSorter(Collections.emptyList()));
+    }
+
+    @Test
+    public void sort_columnsOfOtherPersons_throwsIllegalArgumentException() {
+        PersonSorter sorter = new PersonSorter(SortField.SALARY, SortDirection.ASCENDING);
+        PersonColumns columns = new PersonColumns(Arrays.asList(ALICE, BENSON));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(Arrays.asList(ALICE), columns));
+    }
+
+    @Test
+    public void sort_randomPersons_matchesStableComparatorSort() {
+        List<Person> persons = createRandomPersons(2_000);
+        PersonColumns columns = new PersonColumns(persons);
+        List<List<SortCriterion>> criteriaLists = new ArrayList<>();
+        for (SortField sortField : SortField.values()) {
+            for (SortDirection sortDirection : SortDirection.values()) {
+                criteriaLists.add(List.of(new SortCriterion(sortField, sortDirection)));
+            }
+        }
+        criteriaLists.add(List.of(new SortCriterion(SortField.INSURANCEPACKAGE, SortDirection.ASCENDING),
+                new SortCriterion(SortField.SALARY, SortDirection.DESCENDING),
+                new SortCriterion(SortField.NAME, SortDirection.ASCENDING)));
+        criteriaLists.add(List.of(new SortCriterion(SortField.DEPENDENTS, SortDirection.DESCENDING),
+                new SortCriterion(SortField.DATEOFBIRTH, SortDirection.ASCENDING),
+                new SortCriterion(SortField.OCCUPATION, SortDirection.DESCENDING)));
+        criteriaLists.add(List.of(new SortCriterion(SortField.MARITALSTATUS, SortDirection.DESCENDING),
+                new SortCriterion(SortField.INSURANCEPACKAGE, SortDirection.DESCENDING),
+                new SortCriterion(SortField.SALARY, SortDirection.ASCENDING)));
+
+        for (List<SortCriterion> criteria : criteriaLists) {
+            PersonSorter sorter = new PersonSorter(criteria);
+            List<Person> expectedPersons = new ArrayList<>(persons);
+            expectedPersons.sort(sorter);
+            assertEquals(expectedPersons, sorter.sort(persons), criteria.toString());
+            assertEquals(expectedPersons, sorter.sort(persons, columns), "With columns: " + criteria);
+        }
+    }
+
+    @Test
+    public void sort_multipleCriteria_sortsByLaterCriteriaOnTies() {
+        Person gold1 = new PersonBuilder().withName("Zoe").withPhone("11111111").withSalary("100")
+                .withInsurancePackage("Gold", "").build();
+        Person gold2 = new PersonBuilder().withName("Amy").withPhone("22222222").withSalary("100")
+                .withInsurancePackage("Gold", "").build();
+        Person gold3 = new PersonBuilder().withName("Bob").withPhone("33333333").withSalary("500")
+                .withInsurancePackage("Gold", "").build();
+        Person silver = new PersonBuilder().withName("Cat").withPhone("44444444").withSalary("900")
+                .withInsurancePackage("Silver", "").build();
+        PersonSorter sorter = new PersonSorter(List.of(
+                new SortCriterion(SortField.INSURANCEPACKAGE, SortDirection.ASCENDING),
+                new SortCriterion(SortField.SALARY, SortDirection.DESCENDING),
+                new SortCriterion(SortField.NAME, SortDirection.ASCENDING)));
+
+        assertEquals(Arrays.asList(gold3, gold2, gold1, silver),
+                sorter.sort(Arrays.asList(silver, gold1, gold2, gold3)));
+    }
+
+    @Test
+    public void sort_keysTooWideToPack_sortsByComparingColumns() {
+        // The salary range needs 57 bits and the date of birth range needs 16 bits
+        Person hugeSalary = new PersonBuilder(ALICE).withSalary("999999999999999").withDateOfBirth("1900-01-01")
+                .build();
+        Person smallSalary = new PersonBuilder(BENSON).withSalary("0").withDateOfBirth("1900-01-01").build();
+        Person sameSmallSalary = new PersonBuilder(CARL).withSalary("0").withDateOfBirth("2020-01-01").build();
+        PersonSorter sorter = new PersonSorter(List.of(
+                new SortCriterion(SortField.SALARY, SortDirection.ASCENDING),
+                new SortCriterion(SortField.DATEOFBIRTH, SortDirection.DESCENDING)));
+
+        assertEquals(Arrays.asList(sameSmallSalary, smallSalary, hugeSalary),
+                sorter.sort(Arrays.asList(hugeSalary, smallSalary, sameSmallSalary)));
+    }
+
+    @Test
+    public void compare_unspecifiedAndEqualKeys() {
+        PersonSorter sorter = new PersonSorter(SortField.SALARY, SortDirection.DESCENDING);
+        assertTrue(sorter.compare(BENSON, ALICE) < 0);
+        assertTrue(sorter.compare(ALICE, HARRY) < 0);
+        assertTrue(sorter.compare(HARRY, MARRY) > 0);
+        assertEquals(0, sorter.compare(ALICE, new PersonBuilder(ALICE).withName("Other Name").build()));
+    }
+
+    /**
+     * Creates {@code count} persons with random values, including duplicate and "Unspecified" values.
+     */
+    private static List<Person> createRandomPersons(int count) {
+        Random random = new Random(2103);
+        String[] words = {"Alpha", "beta", "Gamma", "delta", "Zeta"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PersonBuilder builder = new PersonBuilder().withPhone(String.valueOf(10_000_000 + i))
+                    .withName(words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)])
+                    .withEmail(words[random.nextInt(words.length)] + i + "@example.com")
+                    .withAddress(random.nextInt(50) + " " + words[random.nextInt(words.length)] + " Street")
+                    .withInsurancePackage(random.nextBoolean()
+                            ? words[random.nextInt(3)]
+                            : words[random.nextInt(3)].toUpperCase(), "");
+            if (random.nextInt(10) == 0) {
+                builder.withSalary("Unspecified").withDateOfBirth("Unspecified").withDependents(-1)
+                        .withMaritalStatus("Unspecified").withOccupation("Unspecified");
+            } else {
+                builder.withSalary(random.nextInt(2_000) + "." + random.nextInt(10))
+                        .withDateOfBirth(LocalDate.ofEpochDay(random.nextInt(40_000) - 20_000).toString())
+                        .withDependents(random.nextInt(6))
+                        .withMaritalStatus(random.nextBoolean() ? "Single" : "Married")
+                        .withOccupation(words[random.nextInt(words.length)]);
+            }
+            persons.add(builder.build());
+        }
+        return persons;
+    }
+
+    @Test
+    public void equals() {
+        PersonSorter sorter = new PersonSorter(SortField.NAME, SortDirection.ASCENDING);
+
+        assertTrue(sorter.equals(sorter));
+        assertTrue(sorter.equals(new PersonSorter(SortField.NAME, SortDirection.ASCENDING)));
+        assertFalse(sorter.equals(null));
+        assertFalse(sorter.equals(new PersonSorter(SortField.NAME, SortDirection.DESCENDING)));
+        assertFalse(sorter.equals(new PersonSorter(SortField.PHONE, SortDirection.ASCENDING)));
+        assertFalse(sorter.equals(new PersonSorter(List.of(new SortCriterion(SortField.NAME, SortDirection.ASCENDING),
+                new SortCriterion(SortField.PHONE, SortDirection.ASCENDING)))));
+        assertFalse(sorter.equals(new PersonSorter(List.of(new SortCriterion(SortField.NAME, SortDirection.ASCENDING)),
+                Locale.forLanguageTag("sv-SE"))));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands.sort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class RadixSortTest {
+
+    @Test
+    public void stableOrder_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> RadixSort.stableOrder(null));
+    }
+
+    @Test
+    public void stableOrder_emptyOrSingleKey_returnsIdentityOrder() {
+        assertArrayEquals(new int[0], RadixSort.stableOrder(new long[0]));
+        assertArrayEquals(new int[] {0}, RadixSort.stableOrder(new long[] {42}));
+    }
+
+    @Test
+    public void stableOrder_equalKeys_keepsOriginalOrder() {
+        assertArrayEquals(new int[] {1, 3, 0, 2, 4}, RadixSort.stableOrder(new long[] {5, 3, 5, 3, 5}));
+    }
+
+    @Test
+    public void stableOrder_negativeKeys_sortedAscending() {
+        assertArrayEquals(new int[] {2, 0, 3, 1}, RadixSort.stableOrder(new long[] {-1, 7, -40_000, 0}));
+    }
+
+    @Test
+    public void stableOrder_extremeKeys_sortedAscending() {
+        long[] keys = {Long.MAX_VALUE, 0, Long.MIN_VALUE, -1, 1};
+        assertArrayEquals(new int[] {2, 3, 1, 4, 0}, RadixSort.stableOrder(keys));
+    }
+
+    @Test
+    public void stableOrder_countingAndRadixRanges_matchesComparisonSort() {
+        Random random = new Random(2103);
+        long[] bounds = {101, 1L << RadixSort.MAX_COUNTING_SORT_BITS, 10_000_000_000L};
+        for (long bound : bounds) {
+            long[] keys = random.longs(5_000, 0, bound).toArray();
+            int[] expectedOrder = IntStream.range(0, keys.length).boxed()
+                    .sorted(Comparator.comparingLong(index -> keys[index]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            assertArrayEquals(expectedOrder, RadixSort.stableOrder(keys));
+        }
+    }
+}
@@ -195,6 +195,52 @@ public class ArgumentTokenizerTest {
         assertArgumentPresent(argMultimap, pSlash, "12345");
     }
 
+    @Test
+    public void tokenize_overlappingPrefixes_firstLongestPrefixFound() {
+        Prefix sSlash = new Prefix("s/");
+        Prefix msSlash = new Prefix("ms/");
+        Prefix depSlash = new Prefix("dep/");
+        Prefix pSlash = new Prefix("p/");
+
+        String argsString = " ms/Single s/5000 dep/2 p/123";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, sSlash, pSlash, msSlash, depSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, msSlash, "Single");
+        assertArgumentPresent(argMultimap, sSlash, "5000");
+        assertArgumentPresent(argMultimap, depSlash, "2");
+        assertArgumentPresent(argMultimap, pSlash, "123");
+
+        // the shorter prefix is found where the longer one is not given
+        argMultimap = ArgumentTokenizer.tokenize(argsString, sSlash, pSlash);
+        assertPreamblePresent(argMultimap, "m");
+        assertArgumentPresent(argMultimap, sSlash, "Single", "5000 de");
+        assertArgumentPresent(argMultimap, pSlash, "2", "123");
+    }
+
+    @Test
+    public void tokenize_prefixWithQuote_quotesBeforePrefixCounted() {
+        Prefix quoteSlash = new Prefix("\"/");
+        Prefix pSlash = new Prefix("p/");
+
+        // the second quote prefix leaves a quote unclosed
+        String argsString = " \"/quoted p/1\" \"/value p/2";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, quoteSlash, pSlash);
+        assertArgumentPresent(argMultimap, quoteSlash, "quoted p/1\"", "value p/2");
+        assertArgumentAbsent(argMultimap, pSlash);
+    }
+
+    @Test
+    public void tokenize_longArgsString_allPrefixesFound() {
+        Prefix tSlash = new Prefix("t/");
+        int tagCount = 100_000;
+
+        String argsString = " \"t/quoted\" t/tag".repeat(tagCount);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, tSlash);
+        assertPreamblePresent(argMultimap, "\"t/quoted\"");
+        assertEquals(tagCount, argMultimap.getAllValues(tSlash).size());
+        assertEquals("tag \"t/quoted\"", argMultimap.getAllValues(tSlash).get(0));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,109 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandTimingListener;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class CommandRegistryTest {
+
+    @Test
+    public void register_wordAlreadyRegistered_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", arguments -> new ListCommand(), "ls");
+        assertThrows(IllegalArgumentException.class, () -> registry.register("list", arguments -> new ListCommand()));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("ls", arguments -> new ListCommand()));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("dir", arguments -> new ListCommand(),
+                "ls"));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("dir", arguments -> new ListCommand(),
+                "dir"));
+
+        // nothing is registered when a word is rejected
+        assertFalse(registry.hasCommandWord("dir"));
+    }
+
+    @Test
+    public void parse_alias_sameParserUsed() throws Exception {
+        List<String> parsedArguments = new ArrayList<>();
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("clear", arguments -> {
+            parsedArguments.add(arguments);
+            return new ClearCommand();
+        }, "cls");
+
+        assertTrue(registry.hasCommandWord("clear"));
+        assertTrue(registry.hasCommandWord("cls"));
+        assertTrue(registry.parse("clear", " a") instanceof ClearCommand);
+        assertTrue(registry.parse("cls", " b") instanceof ClearCommand);
+        assertEquals(List.of(" a", " b"), parsedArguments);
+    }
+
+    @Test
+    public void parse_unregisteredWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = CommandRegistry.createDefault();
+        assertFalse(registry.hasCommandWord("ls"));
+        assertThrows(IllegalArgumentException.class, () -> registry.parse("ls", ""));
+    }
+
+    @Test
+    public void parseAndExecute_timingListenersNotified() throws Exception {
+        CommandRegistry registry = CommandRegistry.createDefault();
+        TimingListenerStub listener = new TimingListenerStub();
+        registry.addTimingListener(listener);
+
+        Command command = registry.parse(ListCommand.COMMAND_WORD, "");
+        assertEquals(List.of(command), listener.parsedCommands);
+        assertThrows(ParseException.class, () -> registry.parse("delete", "x"));
+        assertEquals(1, listener.parsedCommands.size());
+
+        Model model = new ModelManager();
+        registry.execute(command, model);
+        assertEquals(List.of(command), listener.executedCommands);
+
+        // a command that fails is timed too
+        Command failingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) throws CommandException {
+                throw new CommandException("Failed");
+            }
+        };
+        assertThrows(CommandException.class, () -> registry.execute(failingCommand, model));
+        assertSame(failingCommand, listener.executedCommands.get(1));
+    }
+
+    /**
+     * Records the commands that it is told were parsed and executed.
+     */
+    private static class TimingListenerStub implements CommandTimingListener {
+        private final List<Command> parsedCommands = new ArrayList<>();
+        private final List<Command> executedCommands = new ArrayList<>();
+
+        @Override
+        public void commandParsed(Command command, long elapsedNanos) {
+            assertTrue(elapsedNanos >= 0);
+            parsedCommands.add(command);
+        }
+
+        @Override
+        public void commandExecuted(Command command, long elapsedNanos) {
+            assertTrue(elapsedNanos >= 0);
+            executedCommands.add(command);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_BIRTH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPENDENTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
@@ -15,6 +17,7 @@ import static seedu.address.logic.parser.filter.FilterComparisonPrefixParser.MES
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +26,7 @@ import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.filter.FilterComparisonPrefixParser;
 import seedu.address.logic.parser.filter.FilterContainsPrefixParser;
+import seedu.address.logic.parser.filter.FilterDateOfBirthPrefixParser;
 import seedu.address.logic.parser.filter.FilterPrefixParser;
 import seedu.address.logic.parser.filter.FilterTagParser;
 import seedu.address.model.person.Person;
@@ -37,6 +41,10 @@ public class FilterCommandParserTest {
             p -> p.getSalary().toString();
     private static final Function<Person, String> GET_DEPENDENTS =
             p -> p.getDependents().toString();
+    private static final ToLongFunction<Person> GET_SALARY_CENTS =
+            p -> p.getSalary().getCents();
+    private static final ToLongFunction<Person> GET_DEPENDENTS_NUMBER =
+            p -> p.getDependents().getValue();
     private static final Function<Person, Boolean> IS_SALARY_UNSPECIFIED =
             p -> p.getSalary().isUnspecified();
     private static final Function<Person, Boolean> IS_DEPENDENTS_UNSPECIFIED =
@@ -168,6 +176,23 @@ public class FilterCommandParserTest {
         assertParseFailure(parser, " " + PREFIX_DEPENDENTS + "=2.5", MESSAGE_DEPENDENTS_MUST_BE_INTEGER);
     }
 
+    @Test
+    public void parse_validDateOfBirthAndAgeArgs_returnsFilterCommand() throws ParseException {
+        String userInput = " " + PREFIX_DATE_OF_BIRTH + ">=1980-01-01 " + PREFIX_AGE + "30-45";
+        FilterCommand expectedCommand = createExpectedFilterCommand(userInput,
+                createDateOfBirthParser(PREFIX_DATE_OF_BIRTH, ">=1980-01-01"),
+                createDateOfBirthParser(PREFIX_AGE, "30-45"));
+        assertParseSuccess(parser, userInput, expectedCommand);
+
+        // invalid date
+        assertParseFailure(parser, " " + PREFIX_DATE_OF_BIRTH + "<1980-13-01",
+                String.format(FilterDateOfBirthPrefixParser.MESSAGE_INVALID_DATE, "1980-13-01"));
+
+        // invalid age
+        assertParseFailure(parser, " " + PREFIX_AGE + "thirty",
+                String.format(FilterDateOfBirthPrefixParser.MESSAGE_INVALID_AGE, "thirty"));
+    }
+
     @Test
     public void parse_validMixedArgs_returnsFilterCommand() throws ParseException {
         String userInput = " " + PREFIX_NAME + "Alice " + PREFIX_SALARY + "<120000 " + PREFIX_TAG + "friend";
@@ -204,14 +229,21 @@ public class FilterCommandParserTest {
 
     private FilterComparisonPrefixParser createSalaryComparisonParser(String keyword) throws ParseException {
         FilterComparisonPrefixParser parser = new FilterComparisonPrefixParser(
-                PREFIX_SALARY, GET_SALARY, IS_SALARY_UNSPECIFIED);
+                PREFIX_SALARY, GET_SALARY, GET_SALARY_CENTS, IS_SALARY_UNSPECIFIED);
         parser.parse(keyword);
         return parser;
     }
 
     private FilterComparisonPrefixParser createDependentsComparisonParser(String keyword) throws ParseException {
         FilterComparisonPrefixParser parser = new FilterComparisonPrefixParser(
-                PREFIX_DEPENDENTS, GET_DEPENDENTS, IS_DEPENDENTS_UNSPECIFIED);
+                PREFIX_DEPENDENTS, GET_DEPENDENTS, GET_DEPENDENTS_NUMBER, IS_DEPENDENTS_UNSPECIFIED);
+        parser.parse(keyword);
+        return parser;
+    }
+
+    private FilterDateOfBirthPrefixParser createDateOfBirthParser(Prefix prefix, String keyword)
+            throws ParseException {
+        FilterDateOfBirthPrefixParser parser = new FilterDateOfBirthPrefixParser(prefix);
         parser.parse(keyword);
         return parser;
     }
@@ -0,0 +1,88 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_LIST_OF_COMMANDS;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final CommandRegistry commandRegistry = CommandRegistry.createDefault();
+    private final RunCommandParser parser = new RunCommandParser(commandRegistry);
+
+    @Test
+    public void parse_validScript_success() throws Exception {
+        Path scriptPath = writeScript("# deletes the first two persons", "", "delete 2", "  delete 1  ");
+        RunCommand expectedCommand = new RunCommand(scriptPath, Map.of(
+                3, new DeleteCommand(INDEX_SECOND_PERSON),
+                4, new DeleteCommand(INDEX_FIRST_PERSON)), false, commandRegistry);
+        assertParseSuccess(parser, " " + scriptPath, expectedCommand);
+
+        expectedCommand = new RunCommand(scriptPath, Map.of(
+                3, new DeleteCommand(INDEX_SECOND_PERSON),
+                4, new DeleteCommand(INDEX_FIRST_PERSON)), true, commandRegistry);
+        assertParseSuccess(parser, " " + RunCommand.ATOMIC_FLAG + "  " + scriptPath, expectedCommand);
+    }
+
+    @Test
+    public void parse_missingFilePath_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, " " + RunCommand.ATOMIC_FLAG, expectedMessage);
+    }
+
+    @Test
+    public void parse_missingFile_failure() {
+        Path scriptPath = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, " " + scriptPath,
+                String.format(RunCommandParser.MESSAGE_CANNOT_READ_SCRIPT, scriptPath));
+    }
+
+    @Test
+    public void parse_emptyScript_failure() throws Exception {
+        Path scriptPath = writeScript("# nothing to do", "");
+        assertParseFailure(parser, " " + scriptPath, String.format(RunCommandParser.MESSAGE_EMPTY_SCRIPT, scriptPath));
+    }
+
+    @Test
+    public void parse_invalidLines_allReported() throws Exception {
+        Path scriptPath = writeScript("delete 1", "remove 2", "delete", RunCommand.COMMAND_WORD + " other.txt",
+                HelpCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD);
+        String expectedErrors = String.join("\n",
+                String.format(RunCommand.MESSAGE_LINE_ERROR, 2, MESSAGE_UNKNOWN_COMMAND + MESSAGE_LIST_OF_COMMANDS),
+                String.format(RunCommand.MESSAGE_LINE_ERROR, 3,
+                        ParserUtil.MESSAGE_INVALID_INDEX + "\n" + DeleteCommand.MESSAGE_USAGE),
+                String.format(RunCommand.MESSAGE_LINE_ERROR, 4, RunCommandParser.MESSAGE_NESTED_SCRIPT),
+                String.format(RunCommand.MESSAGE_LINE_ERROR, 5,
+                        String.format(RunCommandParser.MESSAGE_COMMAND_NOT_IN_SCRIPT, HelpCommand.COMMAND_WORD)),
+                String.format(RunCommand.MESSAGE_LINE_ERROR, 6,
+                        String.format(RunCommandParser.MESSAGE_COMMAND_NOT_IN_SCRIPT, ExitCommand.COMMAND_WORD)));
+        assertParseFailure(parser, " " + scriptPath,
+                String.format(RunCommandParser.MESSAGE_INVALID_SCRIPT, 5, scriptPath, expectedErrors));
+    }
+
+    private Path writeScript(String... lines) throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(lines));
+        return scriptPath;
+    }
+}
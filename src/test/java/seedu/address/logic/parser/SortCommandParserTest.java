@@ -4,11 +4,14 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.SortCommand.SortDirection;
 import seedu.address.logic.commands.SortCommand.SortField;
+import seedu.address.logic.commands.sort.SortCriterion;
 
 public class SortCommandParserTest {
     private SortCommandParser parser = new SortCommandParser();
@@ -67,6 +70,29 @@ public class SortCommandParserTest {
                 new SortCommand(SortField.DEPENDENTS, SortDirection.ASCENDING));
     }
 
+    @Test
+    public void parse_multipleCriteria_returnsSortCommand() {
+        SortCommand expectedCommand = new SortCommand(List.of(
+                new SortCriterion(SortField.INSURANCEPACKAGE, SortDirection.ASCENDING),
+                new SortCriterion(SortField.SALARY, SortDirection.DESCENDING),
+                new SortCriterion(SortField.NAME, SortDirection.ASCENDING)));
+        assertParseSuccess(parser, "insurancepackage, salary descending, name", expectedCommand);
+        assertParseSuccess(parser, "  insurancepackage ,salary DESCENDING,name  ", expectedCommand);
+
+        // invalid direction text and extra arguments ignored in each criterion
+        assertParseSuccess(parser, "insurancepackage invalid, salary descending 123, name",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_emptyCriterion_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "name,", expectedMessage);
+        assertParseFailure(parser, ", name", expectedMessage);
+        assertParseFailure(parser, "name, , salary", expectedMessage);
+        assertParseFailure(parser, "name, salaryy", expectedMessage);
+    }
+
     @Test
     public void parse_emptyArg_throwsParseException() {
         //Test empty strings
@@ -9,12 +9,17 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPENDENTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
 import seedu.address.testutil.PersonBuilder;
 
 public class FilterComparisonPrefixParserTest {
@@ -23,6 +28,10 @@ public class FilterComparisonPrefixParserTest {
             p -> p.getSalary().toString();
     private static final Function<Person, String> GET_DEPENDENTS =
             p -> p.getDependents().toString();
+    private static final ToLongFunction<Person> GET_SALARY_CENTS =
+            p -> p.getSalary().getCents();
+    private static final ToLongFunction<Person> GET_DEPENDENTS_NUMBER =
+            p -> p.getDependents().getValue();
     private static final Function<Person, Boolean> IS_SALARY_UNSPECIFIED =
             p -> p.getSalary().isUnspecified();
     private static final Function<Person, Boolean> IS_DEPENDENTS_UNSPECIFIED =
@@ -32,15 +41,17 @@ public class FilterComparisonPrefixParserTest {
     @Test
     public void constructor_nullPrefix_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
-                new FilterComparisonPrefixParser(null, GET_SALARY, IS_SALARY_UNSPECIFIED));
+                new FilterComparisonPrefixParser(null, GET_SALARY, GET_SALARY_CENTS, IS_SALARY_UNSPECIFIED));
     }
 
     @Test
     public void constructor_nullFunction_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
-                new FilterComparisonPrefixParser(PREFIX_SALARY, null, IS_SALARY_UNSPECIFIED));
+                new FilterComparisonPrefixParser(PREFIX_SALARY, null, GET_SALARY_CENTS, IS_SALARY_UNSPECIFIED));
         assertThrows(NullPointerException.class, () ->
-                new FilterComparisonPrefixParser(PREFIX_SALARY, GET_SALARY, null));
+                new FilterComparisonPrefixParser(PREFIX_SALARY, GET_SALARY, null, IS_SALARY_UNSPECIFIED));
+        assertThrows(NullPointerException.class, () ->
+                new FilterComparisonPrefixParser(PREFIX_SALARY, GET_SALARY, GET_SALARY_CENTS, null));
     }
 
     //----- GetPrefix Tests -----
@@ -175,12 +186,8 @@ public class FilterComparisonPrefixParserTest {
     @Test
     public void test_personFieldIsNull_returnsFalse() throws ParseException {
         FilterComparisonPrefixParser parser =
-                new FilterComparisonPrefixParser(PREFIX_SALARY, p -> null, IS_SALARY_UNSPECIFIED);
-        // Comparison logic
-        parser.parse(">=1000");
-        assertFalse(parser.test(ALICE));
-
-        // Contains logic
+                new FilterComparisonPrefixParser(PREFIX_SALARY, p -> null, GET_SALARY_CENTS, IS_SALARY_UNSPECIFIED);
+        // Contains logic; comparison logic uses the numeric value instead
         parser.parse("1000");
         assertFalse(parser.test(ALICE));
     }
@@ -203,6 +210,53 @@ public class FilterComparisonPrefixParserTest {
         assertTrue(parser.test(new PersonBuilder().withDependents(0).build()));
     }
 
+    //----- Row Filter Tests -----
+    @Test
+    public void retainMatchingRows_comparisons_sameAsTest() throws ParseException {
+        List<Person> persons = new ArrayList<>();
+        String[] salaries = {"Unspecified", "0", "0.01", "49999.99", "50000", "50000.01", "999999999999999.99"};
+        for (int i = 0; i < salaries.length; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(10_000_000 + i)).withSalary(salaries[i])
+                    .withDependents(i - 1).build());
+        }
+        PersonColumns columns = new PersonColumns(persons);
+
+        String[] salaryInputs = {">=50000", ">50000", "<0.01", "<=0", "=50000", ">999999999999999.99",
+            ">99999999999999999999", "<99999999999999999999"};
+        for (String input : salaryInputs) {
+            FilterComparisonPrefixParser parser = createSalaryTestParser();
+            parser.parse(input);
+            assertRowsMatchTest(parser, persons, columns);
+        }
+        String[] dependentsInputs = {">=2", "<2", "=0", ">5", "<=0"};
+        for (String input : dependentsInputs) {
+            FilterComparisonPrefixParser parser = createDependentsTestParser();
+            parser.parse(input);
+            assertRowsMatchTest(parser, persons, columns);
+        }
+    }
+
+    @Test
+    public void canFilterRows_containsSearch_returnsFalse() throws ParseException {
+        FilterComparisonPrefixParser parser = createSalaryTestParser();
+        parser.parse("500");
+        assertFalse(parser.canFilterRows());
+        assertThrows(UnsupportedOperationException.class, () ->
+                parser.retainMatchingRows(new PersonColumns(), new BitSet()));
+
+        parser.parse(">500");
+        assertTrue(parser.canFilterRows());
+    }
+
+    private static void assertRowsMatchTest(FilterPrefixParser parser, List<Person> persons, PersonColumns columns) {
+        BitSet rows = new BitSet();
+        rows.set(0, persons.size());
+        parser.retainMatchingRows(columns, rows);
+        for (int row = 0; row < persons.size(); row++) {
+            assertEquals(parser.test(persons.get(row)), rows.get(row), parser.getArg() + " " + persons.get(row));
+        }
+    }
+
     //----- equals, hashCode, toString Tests -----
     @Test
     public void equals_variousScenarios_correctResults() throws ParseException {
@@ -258,11 +312,12 @@ public class FilterComparisonPrefixParserTest {
 
     //----- Helper Methods -----
     private FilterComparisonPrefixParser createSalaryTestParser() {
-        return new FilterComparisonPrefixParser(PREFIX_SALARY, GET_SALARY, IS_SALARY_UNSPECIFIED);
+        return new FilterComparisonPrefixParser(PREFIX_SALARY, GET_SALARY, GET_SALARY_CENTS, IS_SALARY_UNSPECIFIED);
     }
 
     private FilterComparisonPrefixParser createDependentsTestParser() {
-        return new FilterComparisonPrefixParser(PREFIX_DEPENDENTS, GET_DEPENDENTS, IS_DEPENDENTS_UNSPECIFIED);
+        return new FilterComparisonPrefixParser(PREFIX_DEPENDENTS, GET_DEPENDENTS, GET_DEPENDENTS_NUMBER,
+                IS_DEPENDENTS_UNSPECIFIED);
     }
 
     private void assertSalaryComparison(String input, String personSalary, boolean expected) throws ParseException {
@@ -0,0 +1,187 @@
+package seedu.address.logic.parser.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_BIRTH;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilterDateOfBirthPrefixParserTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Test
+    public void constructor_nullPrefix_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FilterDateOfBirthPrefixParser(null));
+    }
+
+    @Test
+    public void parse_dateOfBirthOperators_success() throws ParseException {
+        assertDateOfBirthMatches(">=1980-01-01", "1980-01-01", true);
+        assertDateOfBirthMatches(">=1980-01-01", "1979-12-31", false);
+        assertDateOfBirthMatches(">1980-01-01", "1980-01-01", false);
+        assertDateOfBirthMatches(">1980-01-01", "1980-01-02", true);
+        assertDateOfBirthMatches("<1980-01-01", "1979-12-31", true);
+        assertDateOfBirthMatches("<1980-01-01", "1980-01-01", false);
+        assertDateOfBirthMatches("<=1980-01-01", "1980-01-01", true);
+        assertDateOfBirthMatches("<=1980-01-01", "1980-01-02", false);
+        assertDateOfBirthMatches("=1980-01-01", "1980-01-01", true);
+        assertDateOfBirthMatches("=1980-01-01", "1980-01-02", false);
+        assertDateOfBirthMatches(">= 1960-02-29", "1960-02-29", true);
+
+        // unspecified dates of birth never match a range
+        assertDateOfBirthMatches("<=2100-01-01", "Unspecified", false);
+    }
+
+    @Test
+    public void parse_dateOfBirthWithoutOperator_containsSearch() throws ParseException {
+        assertDateOfBirthMatches("-10-", "1990-10-05", true);
+        assertDateOfBirthMatches("-10-", "1990-11-10", false);
+        assertDateOfBirthMatches("UNSP", "Unspecified", true);
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        FilterDateOfBirthPrefixParser parser = new FilterDateOfBirthPrefixParser(PREFIX_DATE_OF_BIRTH);
+        assertThrows(ParseException.class, () -> parser.parse(">=1980-02-30"));
+        assertThrows(ParseException.class, () -> parser.parse("<1980/01/01"));
+        assertThrows(ParseException.class, () -> parser.parse(">="));
+    }
+
+    @Test
+    public void parse_ageRange_success() throws ParseException {
+        // Born exactly 30 years ago today -> 30 years old
+        String thirtyToday = TODAY.minusYears(30).toString();
+        // Turns 30 tomorrow -> 29 years old
+        String thirtyTomorrow = TODAY.minusYears(30).plusDays(1).toString();
+        // Born exactly 46 years ago today -> 46 years old
+        String fortySixToday = TODAY.minusYears(46).toString();
+        // Turns 46 tomorrow -> 45 years old
+        String fortySixTomorrow = TODAY.minusYears(46).plusDays(1).toString();
+
+        assertAgeMatches("30-45", thirtyToday, true);
+        assertAgeMatches("30-45", thirtyTomorrow, false);
+        assertAgeMatches("30 - 45", fortySixTomorrow, true);
+        assertAgeMatches("30-45", fortySixToday, false);
+
+        assertAgeMatches("29", thirtyTomorrow, true);
+        assertAgeMatches("29", thirtyToday, false);
+        assertAgeMatches("=30", thirtyToday, true);
+        assertAgeMatches(">=30", fortySixToday, true);
+        assertAgeMatches(">=30", thirtyTomorrow, false);
+        assertAgeMatches(">29", thirtyToday, true);
+        assertAgeMatches(">29", thirtyTomorrow, false);
+        assertAgeMatches("<30", thirtyTomorrow, true);
+        assertAgeMatches("<30", thirtyToday, false);
+        assertAgeMatches("<=29", thirtyTomorrow, true);
+        assertAgeMatches("<=29", thirtyToday, false);
+
+        assertAgeMatches("0", TODAY.toString(), true);
+        assertAgeMatches(">=0", "Unspecified", false);
+    }
+
+    @Test
+    public void parse_invalidAge_throwsParseException() {
+        FilterDateOfBirthPrefixParser parser = new FilterDateOfBirthPrefixParser(PREFIX_AGE);
+        String expectedMessage = String.format(FilterDateOfBirthPrefixParser.MESSAGE_INVALID_AGE, "thirty");
+        assertThrows(ParseException.class, () -> parser.parse("thirty"), expectedMessage);
+        assertThrows(ParseException.class, () -> parser.parse("30.5"));
+        assertThrows(ParseException.class, () -> parser.parse(">=30-45"));
+        assertThrows(ParseException.class, () -> parser.parse("-5"));
+        assertThrows(ParseException.class, () -> parser.parse("<"));
+    }
+
+    @Test
+    public void parse_reversedAgeRange_throwsParseException() throws ParseException {
+        FilterDateOfBirthPrefixParser parser = new FilterDateOfBirthPrefixParser(PREFIX_AGE);
+        ParseException exception = assertThrows(ParseException.class, () -> parser.parse("40-30"));
+        assertEquals(String.format(FilterDateOfBirthPrefixParser.MESSAGE_REVERSED_AGE_RANGE, "40-30"),
+                exception.getMessage());
+        assertThrows(ParseException.class, () -> parser.parse("31 - 30"));
+
+        // A range of one age is not reversed
+        parser.parse("30-30");
+        assertEquals("age/30-30", parser.getArg());
+    }
+
+    @Test
+    public void retainMatchingRows_ranges_sameAsTest() throws ParseException {
+        String[] datesOfBirth = {"Unspecified", "1960-02-29", "1979-12-31", "1980-01-01",
+            TODAY.minusYears(30).toString(), TODAY.toString()};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < datesOfBirth.length; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(10_000_000 + i))
+                    .withDateOfBirth(datesOfBirth[i]).build());
+        }
+        PersonColumns columns = new PersonColumns(persons);
+
+        List<FilterDateOfBirthPrefixParser> parsers = List.of(createParser(PREFIX_DATE_OF_BIRTH, ">=1980-01-01"),
+                createParser(PREFIX_DATE_OF_BIRTH, "<1980-01-01"), createParser(PREFIX_AGE, "30"),
+                createParser(PREFIX_AGE, ">=0"), createParser(PREFIX_AGE, "<30"));
+        for (FilterDateOfBirthPrefixParser parser : parsers) {
+            assertTrue(parser.canFilterRows());
+            BitSet rows = new BitSet();
+            rows.set(0, persons.size());
+            parser.retainMatchingRows(columns, rows);
+            for (int row = 0; row < persons.size(); row++) {
+                assertEquals(parser.test(persons.get(row)), rows.get(row), parser.getArg() + " " + datesOfBirth[row]);
+            }
+        }
+
+        // contains searches cannot be applied to rows
+        assertFalse(createParser(PREFIX_DATE_OF_BIRTH, "-10-").canFilterRows());
+    }
+
+    @Test
+    public void getArg() throws ParseException {
+        FilterDateOfBirthPrefixParser parser = new FilterDateOfBirthPrefixParser(PREFIX_AGE);
+        parser.parse("30-45");
+        assertEquals("age/30-45", parser.getArg());
+
+        parser = new FilterDateOfBirthPrefixParser(PREFIX_DATE_OF_BIRTH);
+        parser.parse(">= 1980-01-01");
+        assertEquals("dob/>=1980-01-01", parser.getArg());
+    }
+
+    @Test
+    public void equals() throws ParseException {
+        FilterDateOfBirthPrefixParser parser = createParser(PREFIX_AGE, "30-45");
+
+        assertTrue(parser.equals(parser));
+        assertTrue(parser.equals(createParser(PREFIX_AGE, "30-45")));
+        assertFalse(parser.equals(null));
+        assertFalse(parser.equals(createParser(PREFIX_AGE, "30-46")));
+        assertFalse(parser.equals(createParser(PREFIX_DATE_OF_BIRTH, "30-45")));
+    }
+
+    private static FilterDateOfBirthPrefixParser createParser(Prefix prefix, String args) throws ParseException {
+        FilterDateOfBirthPrefixParser parser = new FilterDateOfBirthPrefixParser(prefix);
+        parser.parse(args);
+        return parser;
+    }
+
+    private static void assertDateOfBirthMatches(String args, String dateOfBirth, boolean expected)
+            throws ParseException {
+        Person person = new PersonBuilder().withDateOfBirth(dateOfBirth).build();
+        assertEquals(expected, createParser(PREFIX_DATE_OF_BIRTH, args).test(person), args + " " + dateOfBirth);
+    }
+
+    private static void assertAgeMatches(String args, String dateOfBirth, boolean expected) throws ParseException {
+        Person person = new PersonBuilder().withDateOfBirth(dateOfBirth).build();
+        assertEquals(expected, createParser(PREFIX_AGE, args).test(person), args + " " + dateOfBirth);
+    }
+}
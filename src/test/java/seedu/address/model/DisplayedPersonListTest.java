@@ -0,0 +1,172 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+import seedu.address.logic.commands.SortCommand.SortDirection;
+import seedu.address.logic.commands.SortCommand.SortField;
+import seedu.address.logic.commands.sort.PersonSorter;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.filter.FilterComparisonPrefixParser;
+import seedu.address.logic.parser.filter.FilterContainsPrefixParser;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.InMemoryPersonRecordStore;
+import seedu.address.testutil.PersonBuilder;
+
+public class DisplayedPersonListTest {
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        DisplayedPersonList displayedPersons =
+                new DisplayedPersonList(addressBook.getPersonList(), addressBook.getPersonColumns());
+        assertThrows(IndexOutOfBoundsException.class, () -> displayedPersons.get(1));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        DisplayedPersonList displayedPersons =
+                new DisplayedPersonList(addressBook.getPersonList(), addressBook.getPersonColumns());
+        assertThrows(UnsupportedOperationException.class, () -> displayedPersons.add(BENSON));
+        assertThrows(UnsupportedOperationException.class, () -> displayedPersons.remove(0));
+    }
+
+    @Test
+    public void setPredicate_thenModifyPersons_showsMatchingPersonsInStoredOrder() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        DisplayedPersonList displayedPersons =
+                new DisplayedPersonList(addressBook.getPersonList(), addressBook.getPersonColumns());
+        displayedPersons.setPredicate(person -> !person.equals(BENSON));
+        assertEquals(Arrays.asList(ALICE), displayedPersons);
+
+        addressBook.addPerson(CARL);
+        assertEquals(Arrays.asList(ALICE, CARL), displayedPersons);
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Zed").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, CARL), displayedPersons);
+    }
+
+    @Test
+    public void removeOnlyPerson_sorted_removesPersonAndKeepsSort() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        DisplayedPersonList displayedPersons =
+                new DisplayedPersonList(addressBook.getPersonList(), addressBook.getPersonColumns());
+        displayedPersons.sort(new PersonSorter(SortField.NAME, SortDirection.DESCENDING));
+        List<Person> removedPersons = new ArrayList<>();
+        displayedPersons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removedPersons.addAll(change.getRemoved());
+            }
+        });
+
+        addressBook.removePerson(ALICE);
+        assertEquals(List.of(), displayedPersons);
+        assertEquals(List.of(ALICE), removedPersons);
+
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        assertEquals(Arrays.asList(CARL, BENSON), displayedPersons);
+    }
+
+    @Test
+    public void randomChanges_matchesRecomputedList() throws ParseException {
+        assertRandomChangesMatchRecomputedList(new AddressBook());
+    }
+
+    @Test
+    public void randomChanges_pagedAddressBook_matchesRecomputedList() throws ParseException {
+        // persons read back from the store are equal to, but not the same as, the persons added
+        assertRandomChangesMatchRecomputedList(AddressBook.createPaged(new InMemoryPersonRecordStore(), 8));
+    }
+
+    /**
+     * Applies random changes to {@code addressBook} and to how it is displayed, and checks after each change that
+     * the displayed persons are the persons that would be displayed if the list were built from scratch.
+     */
+    private static void assertRandomChangesMatchRecomputedList(AddressBook addressBook) throws ParseException {
+        Random random = new Random(2103);
+        DisplayedPersonList displayedPersons =
+                new DisplayedPersonList(addressBook.getPersonList(), addressBook.getPersonColumns());
+        List<Predicate<Person>> predicates = createPredicates();
+        Predicate<Person> predicate = PREDICATE_SHOW_ALL_PERSONS;
+        PersonSorter sorter = null;
+        int nextId = 0;
+
+        for (int step = 0; step < 2000; step++) {
+            List<Person> persons = addressBook.getPersonList();
+            int operation = random.nextInt(10);
+            if (operation < 4 || persons.isEmpty()) {
+                addressBook.addPerson(createPerson(nextId++, random));
+            } else if (operation < 6) {
+                Person target = persons.get(random.nextInt(persons.size()));
+                addressBook.setPerson(target, createPerson(nextId++, random));
+            } else if (operation < 8) {
+                addressBook.removePerson(persons.get(random.nextInt(persons.size())));
+            } else if (operation == 8) {
+                predicate = predicates.get(random.nextInt(predicates.size()));
+                displayedPersons.setPredicate(predicate);
+            } else if (random.nextInt(4) == 0) {
+                List<Person> keptPersons = persons.stream().filter(person -> random.nextBoolean())
+                        .collect(Collectors.toList());
+                AddressBook newData = new AddressBook(addressBook);
+                newData.setPersons(keptPersons);
+                addressBook.resetData(newData);
+            } else {
+                sorter = new PersonSorter(SortField.NAME,
+                        random.nextBoolean() ? SortDirection.ASCENDING : SortDirection.DESCENDING);
+                displayedPersons.sort(sorter);
+            }
+
+            List<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (sorter != null) {
+                expected.sort(sorter);
+            }
+            assertEquals(expected, displayedPersons, "after step " + step);
+        }
+    }
+
+    /**
+     * Returns a person with a unique name, phone and email, so that sorting by name has no ties.
+     */
+    private static Person createPerson(int id, Random random) {
+        return new PersonBuilder().withName("Person " + id).withPhone(String.valueOf(10_000_000 + id))
+                .withEmail("person" + id + "@example.com").withSalary(String.valueOf(random.nextInt(10_000)))
+                .build();
+    }
+
+    private static List<Predicate<Person>> createPredicates() throws ParseException {
+        FilterComparisonPrefixParser salaryParser = new FilterComparisonPrefixParser(PREFIX_SALARY,
+                p -> p.getSalary().toString(), p -> p.getSalary().getCents(), p -> p.getSalary().isUnspecified());
+        salaryParser.parse(">=5000");
+        FilterContainsPrefixParser nameParser = new FilterContainsPrefixParser(PREFIX_NAME,
+                p -> p.getName().toString());
+        nameParser.parse("1");
+
+        return Arrays.asList(PREDICATE_SHOW_ALL_PERSONS,
+                new PersonContainsKeywordsPredicate(Arrays.asList(salaryParser)),
+                new PersonContainsKeywordsPredicate(Arrays.asList(salaryParser, nameParser)),
+                person -> person.getName().fullName.endsWith("7"));
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_INSURANCE_PACKAGES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -11,6 +13,7 @@ import static seedu.address.testutil.TypicalInsurancePackages.GOLD;
 import static seedu.address.testutil.TypicalInsurancePackages.SILVER;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -20,11 +23,20 @@ import java.util.Comparator;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.SortCommand.SortDirection;
+import seedu.address.logic.commands.SortCommand.SortField;
+import seedu.address.logic.commands.sort.PersonSorter;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.filter.FilterComparisonPrefixParser;
+import seedu.address.logic.parser.filter.FilterContainsPrefixParser;
 import seedu.address.model.insurance.InsurancePackage;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.InsuranceCatalogBuilder;
 import seedu.address.testutil.InsurancePackageBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -136,6 +148,85 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void sortPersonList_nullSorter_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.sortPersonList(null));
+    }
+
+    @Test
+    public void sortPersonList_validSorter_onlyChangesDisplayedOrder() {
+        AddressBook addressBook =
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build();
+        ModelManager modelManager = new ModelManager(addressBook, new InsuranceCatalog(), new UserPrefs());
+
+        modelManager.sortPersonList(new PersonSorter(SortField.NAME, SortDirection.DESCENDING));
+
+        assertEquals(Arrays.asList(CARL, BENSON, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(addressBook, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void sortPersonList_thenModifyPersons_keepsSortedOrder() {
+        ModelManager modelManager = new ModelManager(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(CARL).build(),
+                new InsuranceCatalog(), new UserPrefs());
+        modelManager.sortPersonList(new PersonSorter(SortField.NAME, SortDirection.ASCENDING));
+
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Zed").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, editedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(CARL);
+        assertEquals(Arrays.asList(BENSON, editedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(CARL).withPerson(ALICE).build());
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_noActiveSort_keepsDisplayedPosition() {
+        ModelManager modelManager = new ModelManager(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build(),
+                new InsuranceCatalog(), new UserPrefs());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Zed").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rowFilters_staysCorrectAfterChanges() throws ParseException {
+        FilterComparisonPrefixParser salaryParser = new FilterComparisonPrefixParser(PREFIX_SALARY,
+                p -> p.getSalary().toString(), p -> p.getSalary().getCents(), p -> p.getSalary().isUnspecified());
+        salaryParser.parse(">=4000");
+        FilterContainsPrefixParser nameParser = new FilterContainsPrefixParser(PREFIX_NAME,
+                p -> p.getName().toString());
+        nameParser.parse("e");
+        PersonContainsKeywordsPredicate predicate =
+                new PersonContainsKeywordsPredicate(Arrays.asList(salaryParser, nameParser));
+        Person poorAlice = new PersonBuilder(ALICE).withSalary("100").build();
+        Person richBenson = new PersonBuilder(BENSON).withSalary("5000").build();
+        Person richCarl = new PersonBuilder(CARL).withSalary("5000").build();
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(poorAlice).withPerson(richBenson)
+                .withPerson(richCarl).build(), new InsuranceCatalog(), new UserPrefs());
+
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(richBenson), modelManager.getFilteredPersonList());
+
+        // edited persons are filtered by their new values
+        Person richAlice = new PersonBuilder(poorAlice).withSalary("4000").build();
+        modelManager.setPerson(poorAlice, richAlice);
+        Person poorBenson = new PersonBuilder(richBenson).withSalary("3999.99").build();
+        modelManager.setPerson(richBenson, poorBenson);
+        assertEquals(Arrays.asList(richAlice), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(richAlice);
+        assertEquals(Arrays.asList(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredInsurancePackageList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +20,21 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setSortLocale_nullLocale_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setSortLocale(null));
+    }
+
+    @Test
+    public void sortLocale_copiedAndCompared() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(UserPrefs.DEFAULT_SORT_LOCALE, userPrefs.getSortLocale());
+
+        userPrefs.setSortLocale("sv-SE");
+        assertEquals("sv-SE", new UserPrefs(userPrefs).getSortLocale());
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
 }
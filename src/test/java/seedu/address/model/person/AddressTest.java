@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -13,6 +15,13 @@ public class AddressTest {
         assertThrows(NullPointerException.class, () -> new Address(null));
     }
 
+    @Test
+    public void of_equalAddresses_returnsSameInstance() {
+        Address address = Address.of("Blk 456, Den Road, #01-355");
+        assertEquals(new Address("Blk 456, Den Road, #01-355"), address);
+        assertSame(address, Address.of(new String("Blk 456, Den Road, #01-355")));
+    }
+
     @Test
     public void constructor_invalidAddress_throwsIllegalArgumentException() {
         String invalidAddress = "";
@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class DateOfBirthTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DateOfBirth(null));
+    }
+
+    @Test
+    public void constructor_invalidDateOfBirth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DateOfBirth("2001-02-29"));
+    }
+
+    @Test
+    public void isValidDateOfBirth() {
+        // invalid dates of birth
+        assertFalse(DateOfBirth.isValidDateOfBirth("")); // empty string
+        assertFalse(DateOfBirth.isValidDateOfBirth("1990/01/01")); // wrong format
+        assertFalse(DateOfBirth.isValidDateOfBirth("2001-02-29")); // not a leap year
+        assertFalse(DateOfBirth.isValidDateOfBirth(LocalDate.now().plusDays(1).toString())); // in the future
+        assertFalse(DateOfBirth.isValidDateOfBirth("-99999999-01-01")); // epoch day does not fit in an int
+
+        // valid dates of birth
+        assertTrue(DateOfBirth.isValidDateOfBirth("2000-02-29"));
+        assertTrue(DateOfBirth.isValidDateOfBirth(LocalDate.now().toString()));
+        assertTrue(DateOfBirth.isValidDateOfBirth("unSPECIFIED"));
+    }
+
+    @Test
+    public void getEpochDay() {
+        assertEquals(0, new DateOfBirth("1970-01-01").getEpochDay());
+        assertEquals(-1, new DateOfBirth("1969-12-31").getEpochDay());
+        assertEquals(LocalDate.of(1999, 5, 30).toEpochDay(), new DateOfBirth("1999-05-30").getEpochDay());
+        assertEquals(DateOfBirth.UNSPECIFIED_EPOCH_DAY, DateOfBirth.createUnspecified().getEpochDay());
+    }
+
+    @Test
+    public void getValue() {
+        assertEquals("1999-05-30", new DateOfBirth("1999-05-30").getValue());
+        assertEquals("0999-01-01", new DateOfBirth("0999-01-01").toString());
+        assertEquals(DateOfBirth.UNSPECIFIED_VALUE, new DateOfBirth("unspecified").getValue());
+    }
+
+    @Test
+    public void equals() {
+        DateOfBirth dateOfBirth = new DateOfBirth("1999-05-30");
+
+        // same values -> returns true
+        assertTrue(dateOfBirth.equals(new DateOfBirth("1999-05-30")));
+
+        // same object -> returns true
+        assertTrue(dateOfBirth.equals(dateOfBirth));
+
+        // null -> returns false
+        assertFalse(dateOfBirth.equals(null));
+
+        // different types -> returns false
+        assertFalse(dateOfBirth.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(dateOfBirth.equals(new DateOfBirth("1999-05-31")));
+        assertFalse(dateOfBirth.equals(DateOfBirth.createUnspecified()));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -66,6 +67,11 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void ofValidated_validEmail_sameAsConstructed() {
+        assertEquals(new Email("PeterJack@Example.com"), Email.ofValidated("PeterJack@Example.com"));
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -73,6 +74,12 @@ public class NameTest {
         assertTrue(Name.isValidName("李小龙 2nd-Gen.")); // mixed Unicode and delimiters
     }
 
+    @Test
+    public void ofValidated_validName_sameAsConstructed() {
+        assertEquals(new Name("peter JACK"), Name.ofValidated("peter JACK"));
+        assertEquals("Peter Jack", Name.ofValidated("peter JACK").fullName);
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
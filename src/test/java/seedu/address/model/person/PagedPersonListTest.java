@@ -0,0 +1,115 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.InMemoryPersonRecordStore;
+import seedu.address.testutil.PersonBuilder;
+
+public class PagedPersonListTest {
+
+    private final InMemoryPersonRecordStore store = new InMemoryPersonRecordStore();
+
+    @Test
+    public void constructor_invalidCacheCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PagedPersonList(store, 0));
+    }
+
+    @Test
+    public void constructor_nullStore_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PagedPersonList(null, 1));
+    }
+
+    @Test
+    public void modify_writesRecordsAndKeepsOrder() {
+        PagedPersonList persons = new PagedPersonList(store, 10);
+        persons.add(ALICE);
+        persons.add(CARL);
+        persons.add(1, BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), persons);
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Zed").build();
+        persons.set(1, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), persons);
+        assertEquals(4, store.getRecordCount());
+
+        persons.remove(0);
+        assertEquals(Arrays.asList(editedBenson, CARL), persons);
+        assertThrows(IndexOutOfBoundsException.class, () -> persons.get(2));
+    }
+
+    @Test
+    public void get_moreRecordsThanCacheCapacity_keepsRecentlyReadPersons() {
+        PagedPersonList persons = new PagedPersonList(store, 2);
+        persons.setAll(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(2, persons.getCachedCount());
+
+        // the least recently read person is read from the store again
+        int readCount = store.getReadCount();
+        Person alice = persons.get(0);
+        assertEquals(ALICE, alice);
+        assertNotSame(ALICE, alice);
+        assertEquals(readCount + 1, store.getReadCount());
+
+        // a cached person is not read again
+        assertSame(alice, persons.get(0));
+        assertEquals(readCount + 1, store.getReadCount());
+        assertEquals(2, persons.getCachedCount());
+    }
+
+    @Test
+    public void setAll_listWithSameStore_sharesRecords() {
+        PagedPersonList persons = new PagedPersonList(store, 10);
+        persons.setAll(Arrays.asList(ALICE, BENSON));
+        PagedPersonList copy = persons.createEmptyCopy();
+        copy.setAll(persons);
+        assertEquals(persons, copy);
+        assertEquals(2, store.getRecordCount());
+
+        // the lists are independent
+        copy.remove(0);
+        assertEquals(Arrays.asList(ALICE, BENSON), persons);
+    }
+
+    @Test
+    public void remove_equalPersonNotInCache_removesPerson() {
+        PagedPersonList persons = new PagedPersonList(store, 1);
+        persons.setAll(Arrays.asList(ALICE, BENSON));
+        assertTrue(persons.remove(new PersonBuilder(ALICE).build()));
+        assertEquals(Arrays.asList(BENSON), persons);
+        assertFalse(persons.remove(CARL));
+    }
+
+    @Test
+    public void get_storeFails_throwsUncheckedIoException() {
+        PagedPersonList persons = new PagedPersonList(new PersonRecordStore() {
+            private long nextAddress;
+
+            @Override
+            public long append(Person person) {
+                return nextAddress++;
+            }
+
+            @Override
+            public Person read(long address) throws IOException {
+                throw new IOException("Disk failure");
+            }
+        }, 1);
+        persons.add(ALICE);
+        persons.add(BENSON);
+        assertThrows(UncheckedIOException.class, () -> persons.get(0));
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HARRY;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonColumnsTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonColumns(null));
+    }
+
+    @Test
+    public void constructor_persons_holdsFieldsOfPersons() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(HARRY);
+        assertColumnsMatch(persons, new PersonColumns(persons));
+    }
+
+    @Test
+    public void addressBookModified_keepsRowsInSync() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getTypicalPersons());
+        assertColumnsMatch(addressBook.getPersonList(), addressBook.getPersonColumns());
+
+        // add, including enough persons to grow the columns
+        for (int i = 0; i < 40; i++) {
+            addressBook.addPerson(new PersonBuilder().withPhone(String.valueOf(10_000_000 + i))
+                    .withEmail("person" + i + "@example.com").withSalary(String.valueOf(i * 100))
+                    .withDependents(i % 5).withInsurancePackage("Package " + (i % 3), "").build());
+        }
+        assertColumnsMatch(addressBook.getPersonList(), addressBook.getPersonColumns());
+
+        // replace
+        Person editedAlice = new PersonBuilder(ALICE).withSalary("Unspecified").withDateOfBirth("1970-01-01")
+                .withMaritalStatus("Widowed").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertColumnsMatch(addressBook.getPersonList(), addressBook.getPersonColumns());
+
+        // remove
+        addressBook.removePerson(BENSON);
+        addressBook.removePerson(editedAlice);
+        assertColumnsMatch(addressBook.getPersonList(), addressBook.getPersonColumns());
+
+        // reset
+        addressBook.setPersons(Arrays.asList(CARL, HARRY));
+        assertColumnsMatch(addressBook.getPersonList(), addressBook.getPersonColumns());
+        addressBook.setPersons(new ArrayList<>());
+        assertEquals(0, addressBook.getPersonColumns().size());
+    }
+
+    @Test
+    public void getInsurancePackageCode_samePackageName_sameCode() {
+        Person gold = new PersonBuilder().withPhone("11111111").withInsurancePackage("Gold", "First").build();
+        Person silver = new PersonBuilder().withPhone("22222222").withInsurancePackage("Silver", "").build();
+        Person otherGold = new PersonBuilder().withPhone("33333333").withInsurancePackage("Gold", "Second").build();
+        PersonColumns columns = new PersonColumns(Arrays.asList(gold, silver, otherGold));
+
+        assertEquals(2, columns.getInsurancePackageCodeCount());
+        assertEquals(columns.getInsurancePackageCode(0), columns.getInsurancePackageCode(2));
+        assertEquals("Silver", columns.getInsurancePackageName(columns.getInsurancePackageCode(1)));
+    }
+
+    @Test
+    public void retainRows_ranges_clearsRowsOutOfRange() {
+        Person unspecified = new PersonBuilder().withPhone("11111111").withSalary("Unspecified")
+                .withDateOfBirth("Unspecified").withDependents(Dependents.UNSPECIFIED_VALUE).build();
+        Person poor = new PersonBuilder().withPhone("22222222").withSalary("0").withDateOfBirth("1970-01-01")
+                .withDependents(0).build();
+        Person rich = new PersonBuilder().withPhone("33333333").withSalary("5000.50").withDateOfBirth("2000-01-01")
+                .withDependents(3).build();
+        PersonColumns columns = new PersonColumns(Arrays.asList(unspecified, poor, rich));
+
+        assertRetainedRows(List.of(1, 2), rows -> columns.retainRowsWithSalaryCentsBetween(Long.MIN_VALUE,
+                Long.MAX_VALUE, rows));
+        assertRetainedRows(List.of(2), rows -> columns.retainRowsWithSalaryCentsBetween(500_050, 500_050, rows));
+        assertRetainedRows(List.of(1), rows -> columns.retainRowsWithDependentsBetween(Long.MIN_VALUE, 2, rows));
+        assertRetainedRows(List.of(1, 2), rows -> columns.retainRowsWithDateOfBirthEpochDaysBetween(Long.MIN_VALUE,
+                Long.MAX_VALUE, rows));
+        assertRetainedRows(List.of(), rows -> columns.retainRowsWithDateOfBirthEpochDaysBetween(1, 0, rows));
+
+        // rows that are already cleared stay cleared
+        BitSet rows = new BitSet();
+        rows.set(2);
+        columns.retainRowsWithSalaryCentsBetween(0, Long.MAX_VALUE, rows);
+        assertEquals(List.of(2), rows.stream().boxed().toList());
+    }
+
+    private static void assertRetainedRows(List<Integer> expectedRows, Consumer<BitSet> retain) {
+        BitSet rows = new BitSet();
+        rows.set(0, 3);
+        retain.accept(rows);
+        assertEquals(expectedRows, rows.stream().boxed().toList());
+    }
+
+    /**
+     * Asserts that every row of {@code columns} holds the fields of the person at the same position in
+     * {@code persons}.
+     */
+    private static void assertColumnsMatch(List<Person> persons, PersonColumns columns) {
+        assertEquals(persons.size(), columns.size());
+        for (int row = 0; row < persons.size(); row++) {
+            Person person = persons.get(row);
+            assertEquals(person.getSalary().getCents(), columns.getSalaryCents(row));
+            assertEquals(person.getDependents().getValue(), columns.getDependents(row));
+            assertEquals(person.getDateOfBirth().getEpochDay(), columns.getDateOfBirthEpochDay(row));
+            assertEquals(person.getMaritalStatus().getValue(), columns.getMaritalStatus(row).toString());
+            assertEquals(person.getInsurancePackage().getPackageName(),
+                    columns.getInsurancePackageName(columns.getInsurancePackageCode(row)));
+        }
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,6 +29,10 @@ public class PersonContainsKeywordsPredicateTest {
             p -> p.getSalary().toString();
     private static final Function<Person, String> GET_DEPENDENTS =
             p -> p.getDependents().toString();
+    private static final ToLongFunction<Person> GET_SALARY_CENTS =
+            p -> p.getSalary().getCents();
+    private static final ToLongFunction<Person> GET_DEPENDENTS_NUMBER =
+            p -> p.getDependents().getValue();
     private static final Function<Person, Boolean> IS_SALARY_UNSPECIFIED =
             p -> p.getSalary().isUnspecified();
     private static final Function<Person, Boolean> IS_DEPENDENTS_UNSPECIFIED =
@@ -192,14 +197,14 @@ public class PersonContainsKeywordsPredicateTest {
 
     private FilterComparisonPrefixParser createSalaryComparisonParser(String keyword) throws ParseException {
         FilterComparisonPrefixParser parser = new FilterComparisonPrefixParser(
-                PREFIX_SALARY, GET_SALARY, IS_SALARY_UNSPECIFIED);
+                PREFIX_SALARY, GET_SALARY, GET_SALARY_CENTS, IS_SALARY_UNSPECIFIED);
         parser.parse(keyword);
         return parser;
     }
 
     private FilterComparisonPrefixParser createDependentsComparisonParser(String keyword) throws ParseException {
         FilterComparisonPrefixParser parser = new FilterComparisonPrefixParser(
-                PREFIX_DEPENDENTS, GET_DEPENDENTS, IS_DEPENDENTS_UNSPECIFIED);
+                PREFIX_DEPENDENTS, GET_DEPENDENTS, GET_DEPENDENTS_NUMBER, IS_DEPENDENTS_UNSPECIFIED);
         parser.parse(keyword);
         return parser;
     }
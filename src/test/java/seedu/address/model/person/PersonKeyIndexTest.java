@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonKeyIndexTest {
+
+    @Test
+    public void mayContainSamePerson_addedAndRemovedPersons() {
+        PersonKeyIndex index = new PersonKeyIndex();
+        assertFalse(index.mayContainSamePerson(ALICE));
+
+        index.add(ALICE);
+        assertTrue(index.mayContainSamePerson(ALICE));
+        assertTrue(index.mayContainSamePerson(new PersonBuilder(BENSON).withPhone(ALICE.getPhone().value).build()));
+        assertTrue(index.mayContainSamePerson(new PersonBuilder(BENSON).withEmail(ALICE.getEmail().value).build()));
+        assertFalse(index.mayContainSamePerson(BENSON));
+
+        // counted twice, so still present after one removal
+        index.add(ALICE);
+        index.remove(ALICE);
+        assertTrue(index.mayContainSamePerson(ALICE));
+        index.remove(ALICE);
+        assertFalse(index.mayContainSamePerson(ALICE));
+    }
+
+    @Test
+    public void copy_isIndependent() {
+        PersonKeyIndex index = new PersonKeyIndex();
+        index.add(ALICE);
+        PersonKeyIndex copy = index.copy();
+        copy.remove(ALICE);
+        copy.add(BENSON);
+        assertTrue(index.mayContainSamePerson(ALICE));
+        assertFalse(index.mayContainSamePerson(BENSON));
+        assertFalse(copy.mayContainSamePerson(ALICE));
+    }
+
+    @Test
+    public void add_manyPersons_countsAllKeys() {
+        PersonKeyIndex index = new PersonKeyIndex();
+        for (int i = 0; i < 1000; i++) {
+            index.add(createPerson(i));
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            index.remove(createPerson(i));
+        }
+        for (int i = 1; i < 1000; i += 2) {
+            assertTrue(index.mayContainSamePerson(createPerson(i)));
+        }
+        assertFalse(index.mayContainSamePerson(createPerson(5000)));
+    }
+
+    private static Person createPerson(int id) {
+        return new PersonBuilder().withPhone(String.valueOf(10_000_000 + id))
+                .withEmail("person" + id + "@example.com").build();
+    }
+}
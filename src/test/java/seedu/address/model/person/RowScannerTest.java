@@ -0,0 +1,136 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RowScannerTest {
+
+    private static final List<RowScanner> SCANNERS = createScanners();
+    private static final int[] SIZES = {0, 1, 7, 63, 64, 65, 130, 1000};
+
+    @Test
+    public void retainRowsBetween_longColumn_sameAsComparingEachRow() {
+        Random random = new Random(2103);
+        for (int size : SIZES) {
+            // Spare capacity after the rows must not be scanned
+            long[] column = random.longs(size + 5, -5, 20).toArray();
+            for (int i = 0; i < 20; i++) {
+                long min = random.nextInt(25) - 5;
+                long max = random.nextInt(25) - 5;
+                BitSet rows = createRows(random, size);
+                BitSet expected = (BitSet) rows.clone();
+                for (int row = 0; row < size; row++) {
+                    if (column[row] < min || column[row] > max) {
+                        expected.clear(row);
+                    }
+                }
+
+                for (RowScanner scanner : SCANNERS) {
+                    BitSet actual = (BitSet) rows.clone();
+                    scanner.retainRowsBetween(column, size, min, max, actual);
+                    assertEquals(expected, actual, scanner + " " + size + " [" + min + ", " + max + "]");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void retainRowsBetween_intColumn_sameAsComparingEachRow() {
+        Random random = new Random(2103);
+        for (int size : SIZES) {
+            int[] column = random.ints(size + 5, -5, 20).toArray();
+            for (int i = 0; i < 20; i++) {
+                int min = random.nextInt(25) - 5;
+                int max = random.nextInt(25) - 5;
+                BitSet rows = createRows(random, size);
+                BitSet expected = (BitSet) rows.clone();
+                for (int row = 0; row < size; row++) {
+                    if (column[row] < min || column[row] > max) {
+                        expected.clear(row);
+                    }
+                }
+
+                for (RowScanner scanner : SCANNERS) {
+                    BitSet actual = (BitSet) rows.clone();
+                    scanner.retainRowsBetween(column, size, min, max, actual);
+                    assertEquals(expected, actual, scanner + " " + size + " [" + min + ", " + max + "]");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void retainRowsBetween_extremeBounds_sameAsComparingEachRow() {
+        long[] longColumn = {Long.MIN_VALUE, -1, 0, Long.MAX_VALUE};
+        int[] intColumn = {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE};
+        for (RowScanner scanner : SCANNERS) {
+            BitSet rows = createAllRows(4);
+            scanner.retainRowsBetween(longColumn, 4, Long.MIN_VALUE, Long.MAX_VALUE, rows);
+            assertEquals(createAllRows(4), rows);
+            scanner.retainRowsBetween(longColumn, 4, 0, Long.MAX_VALUE, rows);
+            assertEquals(BitSet.valueOf(new long[] {0b1100}), rows);
+
+            rows = createAllRows(4);
+            scanner.retainRowsBetween(intColumn, 4, Integer.MIN_VALUE, -1, rows);
+            assertEquals(BitSet.valueOf(new long[] {0b0011}), rows);
+        }
+    }
+
+    @Test
+    public void createRowScanner_vectorScanProperty() {
+        assertTrue(PersonColumns.createRowScanner() instanceof ScalarRowScanner);
+
+        System.setProperty(PersonColumns.VECTOR_SCAN_PROPERTY, "true");
+        try {
+            String expectedClassName = isVectorModulePresent()
+                    ? PersonColumns.VECTOR_ROW_SCANNER_CLASS
+                    : ScalarRowScanner.class.getName();
+            assertEquals(expectedClassName, PersonColumns.createRowScanner().getClass().getName());
+        } finally {
+            System.clearProperty(PersonColumns.VECTOR_SCAN_PROPERTY);
+        }
+    }
+
+    /**
+     * Returns the scanners to check, which include the {@code VectorRowScanner} only if the tests run with the
+     * jdk.incubator.vector module, as in the vectorTest task.
+     */
+    private static List<RowScanner> createScanners() {
+        System.setProperty(PersonColumns.VECTOR_SCAN_PROPERTY, "true");
+        try {
+            RowScanner scanner = PersonColumns.createRowScanner();
+            return isVectorModulePresent() ? List.of(new ScalarRowScanner(), scanner) : List.of(scanner);
+        } finally {
+            System.clearProperty(PersonColumns.VECTOR_SCAN_PROPERTY);
+        }
+    }
+
+    private static boolean isVectorModulePresent() {
+        return ModuleLayer.boot().findModule(PersonColumns.VECTOR_MODULE).isPresent();
+    }
+
+    /**
+     * Returns rows with random bits set, including bits after the last row which must be left unchanged.
+     */
+    private static BitSet createRows(Random random, int size) {
+        BitSet rows = new BitSet();
+        for (int row = 0; row < size + 10; row++) {
+            if (random.nextInt(4) != 0) {
+                rows.set(row);
+            }
+        }
+        return rows;
+    }
+
+    private static BitSet createAllRows(int size) {
+        BitSet rows = new BitSet();
+        rows.set(0, size);
+        return rows;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SalaryTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Salary(null));
+    }
+
+    @Test
+    public void constructor_invalidSalary_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Salary(""));
+        assertThrows(IllegalArgumentException.class, () -> new Salary("1000000000000000"));
+    }
+
+    @Test
+    public void isValidSalary() {
+        // invalid salaries
+        assertFalse(Salary.isValidSalary("")); // empty string
+        assertFalse(Salary.isValidSalary("-1")); // negative
+        assertFalse(Salary.isValidSalary("1.234")); // more than 2 decimal places
+        assertFalse(Salary.isValidSalary("$100")); // symbols
+        assertFalse(Salary.isValidSalary("1000000000000000")); // more than the maximum salary
+        assertFalse(Salary.isValidSalary("99999999999999999999")); // does not fit in a long
+
+        // valid salaries
+        assertTrue(Salary.isValidSalary("0"));
+        assertTrue(Salary.isValidSalary("1,234.5"));
+        assertTrue(Salary.isValidSalary("unspecified"));
+        assertTrue(Salary.isValidSalary("999999999999999.99")); // maximum salary
+        assertTrue(Salary.isValidSalary("000000000000000001")); // leading zeros
+    }
+
+    @Test
+    public void getCents() {
+        assertEquals(0, new Salary("0").getCents());
+        assertEquals(123_400, new Salary("1234").getCents());
+        assertEquals(123_450, new Salary("1,234.5").getCents());
+        assertEquals(123_456, new Salary("1234.56").getCents());
+        assertEquals(Salary.MAX_CENTS, new Salary("999,999,999,999,999.99").getCents());
+        assertEquals(Salary.UNSPECIFIED_CENTS, Salary.createUnspecified().getCents());
+    }
+
+    @Test
+    public void getValue() {
+        assertEquals("1234.00", new Salary("1,234.00").getValue());
+        assertEquals("1234.5", new Salary("1234.5").getValue());
+        assertEquals("0100", new Salary("0100").getValue());
+        assertEquals("0.05", new Salary("0.05").getValue());
+        assertEquals(Salary.UNSPECIFIED_VALUE, new Salary("UNSPECIFIED").getValue());
+
+        // the value can be used to recreate the salary
+        Salary salary = new Salary("98765.4");
+        assertEquals(salary, new Salary(salary.getValue()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("$0.00", new Salary("0").toString());
+        assertEquals("$999.05", new Salary("999.05").toString());
+        assertEquals("$1,234.50", new Salary("1234.5").toString());
+        assertEquals("$1,234,567.89", new Salary("1234567.89").toString());
+        assertEquals(Salary.UNSPECIFIED_VALUE, Salary.createUnspecified().toString());
+
+        // the formatted salary is cached
+        Salary salary = new Salary("5000");
+        assertSame(salary.toString(), salary.toString());
+    }
+
+    @Test
+    public void ofValidated_validSalary_sameAsConstructed() {
+        assertEquals(new Salary("1,234.5"), Salary.ofValidated("1,234.5"));
+        assertEquals(123450, Salary.ofValidated("1234.5").getCents());
+        assertTrue(Salary.ofValidated(Salary.UNSPECIFIED_VALUE).isUnspecified());
+    }
+
+    @Test
+    public void equals() {
+        Salary salary = new Salary("5000");
+
+        // same values -> returns true
+        assertTrue(salary.equals(new Salary("5000")));
+        assertTrue(salary.equals(new Salary("5,000")));
+        assertEquals(salary.hashCode(), new Salary("5,000").hashCode());
+
+        // same object -> returns true
+        assertTrue(salary.equals(salary));
+
+        // null -> returns false
+        assertFalse(salary.equals(null));
+
+        // different types -> returns false
+        assertFalse(salary.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(salary.equals(new Salary("5000.01")));
+        assertFalse(salary.equals(Salary.createUnspecified()));
+
+        // same number of cents entered differently -> returns false
+        Salary sameCents = new Salary("5,000.00");
+        assertEquals(salary.getCents(), sameCents.getCents());
+        assertFalse(salary.equals(sameCents));
+        assertFalse(new Salary("5000.5").equals(new Salary("5000.50")));
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.InMemoryPersonRecordStore;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -58,6 +60,23 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_uniquePersons_addedToEnd() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(BOB.getSalary().getCents(), uniquePersonList.getPersonColumns().getSalaryCents(1));
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -162,6 +181,25 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void pagedList_editedPersons_samePersonsAsInMemoryList() {
+        UniquePersonList pagedPersonList = new UniquePersonList(new InMemoryPersonRecordStore(), 1);
+        pagedPersonList.setPersons(Arrays.asList(ALICE, BOB));
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        pagedPersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(uniquePersonList, pagedPersonList);
+        assertTrue(pagedPersonList.contains(editedAlice));
+        assertThrows(DuplicatePersonException.class, () -> pagedPersonList.add(BOB));
+
+        pagedPersonList.remove(BOB);
+        assertFalse(pagedPersonList.contains(BOB));
+        pagedPersonList.add(BOB);
+        assertTrue(pagedPersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,95 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+        assertThrows(NullPointerException.class, () -> TagSet.of(Arrays.asList(new Tag("friends"), null)));
+    }
+
+    @Test
+    public void of_emptyCollection_returnsSharedEmptySet() {
+        assertSame(TagSet.EMPTY, TagSet.of(Collections.emptyList()));
+        assertSame(TagSet.EMPTY, TagSet.of(new HashSet<>()));
+    }
+
+    @Test
+    public void of_duplicateTags_sortedDistinctInternedTags() {
+        TagSet tagSet = TagSet.of(Arrays.asList(new Tag("vip"), new Tag("Friends"), new Tag("VIP")));
+
+        assertEquals(2, tagSet.size());
+        assertEquals(List.of(new Tag("friends"), new Tag("vip")), List.copyOf(tagSet));
+        assertSame(Tag.of("friends"), tagSet.iterator().next());
+        assertSame(tagSet, TagSet.of(tagSet));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(List.of(new Tag("friends"), new Tag("colleagues")));
+
+        assertTrue(tagSet.contains(Tag.of("friends")));
+        assertTrue(tagSet.contains(new Tag("Colleagues")));
+        assertFalse(tagSet.contains(new Tag("friend")));
+        assertFalse(tagSet.contains("friends"));
+        assertFalse(TagSet.EMPTY.contains(Tag.of("friends")));
+    }
+
+    @Test
+    public void hasTagNameContaining() {
+        TagSet tagSet = TagSet.of(List.of(new Tag("friends"), new Tag("colleagues")));
+
+        assertTrue(tagSet.hasTagNameContaining("friend"));
+        assertTrue(tagSet.hasTagNameContaining("league"));
+        assertFalse(tagSet.hasTagNameContaining("family"));
+        assertFalse(TagSet.EMPTY.hasTagNameContaining(""));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(List.of(new Tag("friends")));
+
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("vip")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+
+    @Test
+    public void equals() {
+        TagSet tagSet = TagSet.of(List.of(new Tag("friends"), new Tag("vip")));
+        Set<Tag> hashSet = new HashSet<>(List.of(new Tag("vip"), new Tag("friends")));
+
+        // same values -> returns true
+        assertTrue(tagSet.equals(TagSet.of(List.of(new Tag("vip"), new Tag("friends")))));
+        assertTrue(tagSet.equals(hashSet));
+        assertTrue(hashSet.equals(tagSet));
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+
+        // same object -> returns true
+        assertTrue(tagSet.equals(tagSet));
+
+        // null -> returns false
+        assertFalse(tagSet.equals(null));
+
+        // different values -> returns false
+        assertFalse(tagSet.equals(TagSet.of(List.of(new Tag("friends")))));
+        assertFalse(tagSet.equals(TagSet.EMPTY));
+    }
+}
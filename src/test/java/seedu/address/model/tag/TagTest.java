@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,19 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_equalTagNames_returnsSameInstance() {
+        Tag tag = Tag.of("Friends");
+        assertEquals(new Tag("friends"), tag);
+        assertSame(tag, Tag.of(" friends "));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
+    @Test
+    public void ofValidated_validTagName_returnsSharedInstance() {
+        assertSame(Tag.of(" Friends "), Tag.ofValidated("friends"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -0,0 +1,133 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Occupation;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Checks that each method of {@code FieldValidator} accepts exactly the strings that its regex matches, on every string
+ * of up to a few pieces from an alphabet of pieces chosen to exercise the regex, and on longer random strings of them.
+ */
+public class FieldValidatorTest {
+
+    private static final int RANDOM_STRING_COUNT = 20_000;
+    private static final int MAX_RANDOM_PIECE_COUNT = 24;
+
+    @Test
+    public void isValidName_sameAsRegex() {
+        assertSameAsRegex(FieldValidator.NAME_REGEX, FieldValidator::isValidName, List.of("a", "Z", "\u00E9", "\u0301",
+                "7", "\u0663", "\u2167", " ", "\t", "\n", "\u000B", "\u00A0", "\u2009", "'", "-", ".", "(", ")",
+                "/", "@", ",", "_", "\uD835\uDC00", "\uD83D\uDE00", "\uD835"), 4);
+    }
+
+    @Test
+    public void isValidPhone_sameAsRegex() {
+        assertSameAsRegex(Phone.VALIDATION_REGEX, FieldValidator::isValidPhone,
+                List.of("0", "9", "1234", "5678901", "a", " ", "+", "\u0663"), 5);
+    }
+
+    @Test
+    public void isValidEmail_sameAsRegex() {
+        assertSameAsRegex(Email.VALIDATION_REGEX, FieldValidator::isValidEmail,
+                List.of("a", "Z", "0", "@", ".", "-", "+", "_", " ", "\u00E9", "\n"), 5);
+    }
+
+    @Test
+    public void isNonBlankLine_sameAsRegex() {
+        List<String> pieces = List.of("a", " ", "\t", "\n", "\r", "\u000B", "\f", "\u0085", "\u00A0",
+                "\u2028", "\u2029", "\uD835\uDC00", "#");
+        assertSameAsRegex(Address.VALIDATION_REGEX, FieldValidator::isNonBlankLine, pieces, 4);
+        assertSameAsRegex(Occupation.VALIDATION_REGEX, FieldValidator::isNonBlankLine, pieces, 4);
+    }
+
+    @Test
+    public void isValidTagName_sameAsRegex() {
+        assertSameAsRegex(Tag.VALIDATION_REGEX, FieldValidator::isValidTagName,
+                List.of("a", "Z", "0", " ", "\t", "_", "-", "\u00E9", "\u0663"), 5);
+    }
+
+    @Test
+    public void isValidSalaryAmount_sameAsRegex() {
+        assertSameAsRegex(FieldValidator.SALARY_AMOUNT_REGEX, FieldValidator::isValidSalaryAmount,
+                List.of("0", "9", ".", ",", "-", "a", " ", "\u0663"), 6);
+    }
+
+    @Test
+    public void isValidEmail_longInvalidDomain_returnsFalse() {
+        // the regex takes seconds on such an email, and overflows the stack on a longer one
+        String email = "a@" + "a-a".repeat(100_000) + "!";
+        assertFalse(FieldValidator.isValidEmail(email));
+        assertTrue(FieldValidator.isValidEmail("a@" + "a-a".repeat(100_000)));
+    }
+
+    @Test
+    public void isValidEmail_lastDomainLabel() {
+        assertTrue(FieldValidator.isValidEmail("a@b.cd"));
+        assertTrue(FieldValidator.isValidEmail("a@b-cd"));
+        assertFalse(FieldValidator.isValidEmail("a@cd.b"));
+        assertFalse(FieldValidator.isValidEmail("a@c-d"));
+    }
+
+    @Test
+    public void nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FieldValidator.isValidName(null));
+        assertThrows(NullPointerException.class, () -> FieldValidator.isValidPhone(null));
+        assertThrows(NullPointerException.class, () -> FieldValidator.isValidEmail(null));
+        assertThrows(NullPointerException.class, () -> FieldValidator.isNonBlankLine(null));
+        assertThrows(NullPointerException.class, () -> FieldValidator.isValidTagName(null));
+        assertThrows(NullPointerException.class, () -> FieldValidator.isValidSalaryAmount(null));
+    }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings that {@code regex} matches, on every string of up to
+     * {@code maxPieceCount} of {@code pieces}, and on random strings of up to {@link #MAX_RANDOM_PIECE_COUNT} of them.
+     */
+    private static void assertSameAsRegex(String regex, Predicate<String> validator, List<String> pieces,
+            int maxPieceCount) {
+        Pattern pattern = Pattern.compile(regex);
+        assertAllSameAsRegex(pattern, validator, pieces, "", maxPieceCount);
+
+        Random random = new Random(regex.hashCode());
+        for (int i = 0; i < RANDOM_STRING_COUNT; i++) {
+            StringBuilder test = new StringBuilder();
+            int pieceCount = random.nextInt(MAX_RANDOM_PIECE_COUNT + 1);
+            for (int j = 0; j < pieceCount; j++) {
+                test.append(pieces.get(random.nextInt(pieces.size())));
+            }
+            assertSameAsRegex(pattern, validator, test.toString());
+        }
+    }
+
+    private static void assertAllSameAsRegex(Pattern pattern, Predicate<String> validator, List<String> pieces,
+            String prefix, int remainingPieceCount) {
+        assertSameAsRegex(pattern, validator, prefix);
+        if (remainingPieceCount == 0) {
+            return;
+        }
+        for (String piece : pieces) {
+            assertAllSameAsRegex(pattern, validator, pieces, prefix + piece, remainingPieceCount - 1);
+        }
+    }
+
+    private static void assertSameAsRegex(Pattern pattern, Predicate<String> validator, String test) {
+        if (validator.test(test) != pattern.matcher(test).matches()) {
+            fail("Differs from the regex on "
+                    + test.chars().mapToObj(c -> String.format("\\u%04X", c)).collect(Collectors.joining()));
+        }
+    }
+}
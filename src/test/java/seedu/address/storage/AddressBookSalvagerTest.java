@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInsurancePackages.getTypicalInsuranceCatalog;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Phone;
+
+public class AddressBookSalvagerTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "AddressBookSalvagerTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void salvageFile_missingFile_returnsFalse() throws Exception {
+        AddressBookSalvager salvager = new AddressBookSalvager(getTypicalInsuranceCatalog());
+        assertFalse(salvager.salvageFile(testFolder.resolve("missing.json")));
+    }
+
+    @Test
+    public void salvageFile_corruptedRecords_quarantined() throws Exception {
+        Path dataFile = copyToTestFolder("corruptedAddressBook.json");
+        AddressBookSalvager salvager = new AddressBookSalvager(getTypicalInsuranceCatalog());
+        assertTrue(salvager.salvageFile(dataFile));
+        SalvagedAddressBook salvaged = salvager.finish(dataFile);
+
+        assertEquals(List.of(ALICE, DANIEL), salvaged.getAddressBook().getPersonList());
+        List<QuarantinedRecord> records = salvaged.getQuarantinedRecords();
+        assertEquals(List.of(1, 2, 3, 4), records.stream().map(QuarantinedRecord::getIndex).toList());
+        assertEquals(List.of(14, 26, 26, 38), records.stream().map(QuarantinedRecord::getLineNumber).toList());
+        assertEquals(Phone.MESSAGE_CONSTRAINTS, records.get(0).getReason());
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, records.get(3).getReason());
+
+        // the text of each record is exactly as it is in the data file
+        String text = Files.readString(dataFile, UTF_8);
+        assertEquals("\"Carl Kurz\"", records.get(1).getText());
+        for (QuarantinedRecord record : records) {
+            assertTrue(text.contains(record.getText()));
+        }
+        assertTrue(records.get(0).getText().startsWith("{"));
+        assertTrue(records.get(0).getText().endsWith("}"));
+        assertTrue(records.get(2).getText().contains("\"tags\" : { \"friends\" : true }"));
+
+        Path quarantineFile = salvaged.getQuarantineFilePath().get();
+        assertEquals(dataFile.getParent(), quarantineFile.getParent());
+        assertTrue(quarantineFile.getFileName().toString().startsWith("corruptedAddressBook.json.quarantine-"));
+        assertTrue(Files.readString(quarantineFile, UTF_8).contains("\"reason\" : \""
+                + JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+    }
+
+    @Test
+    public void salvageFile_truncatedFile_restQuarantined() throws Exception {
+        Path dataFile = copyToTestFolder("truncatedAddressBook.json");
+        AddressBookSalvager salvager = new AddressBookSalvager(getTypicalInsuranceCatalog());
+        assertTrue(salvager.salvageFile(dataFile));
+        SalvagedAddressBook salvaged = salvager.finish(dataFile);
+
+        assertEquals(List.of(ALICE, DANIEL), salvaged.getAddressBook().getPersonList());
+        assertEquals(1, salvaged.getQuarantinedRecordCount());
+        QuarantinedRecord record = salvaged.getQuarantinedRecords().get(0);
+        assertEquals(2, record.getIndex());
+        assertTrue(record.getText().contains("\"name\" : \"Carl Kurz\""));
+        assertTrue(Files.readString(dataFile, UTF_8).endsWith(record.getText()));
+    }
+
+    @Test
+    public void salvageFile_notJson_wholeFileQuarantined() throws Exception {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        Files.writeString(dataFile, "not json format!", UTF_8);
+        AddressBookSalvager salvager = new AddressBookSalvager(getTypicalInsuranceCatalog());
+        assertTrue(salvager.salvageFile(dataFile));
+        SalvagedAddressBook salvaged = salvager.finish(dataFile);
+
+        assertTrue(salvaged.getAddressBook().getPersonList().isEmpty());
+        assertEquals("not json format!", salvaged.getQuarantinedRecords().get(0).getText());
+    }
+
+    @Test
+    public void finish_nothingQuarantined_noQuarantineFile() throws Exception {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        JsonStreamingCodec.writePersons(dataFile, List.of(ALICE, DANIEL));
+        AddressBookSalvager salvager = new AddressBookSalvager(getTypicalInsuranceCatalog());
+        assertTrue(salvager.salvageFile(dataFile));
+        SalvagedAddressBook salvaged = salvager.finish(dataFile);
+
+        assertEquals(List.of(ALICE, DANIEL), salvaged.getAddressBook().getPersonList());
+        assertFalse(salvaged.getQuarantineFilePath().isPresent());
+        try (var files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void salvagePersons_invalidPersons_quarantined() throws Exception {
+        JsonAdaptedPerson invalidPerson = new JsonAdaptedPerson(DANIEL.getName().fullName, "8765a533",
+                DANIEL.getEmail().value, DANIEL.getAddress().value, "8000", "1996-04-04", "Divorced", "Consultant", 1,
+                "Gold", List.of());
+        AddressBookSalvager salvager = new AddressBookSalvager(getTypicalInsuranceCatalog());
+        salvager.salvagePersons(List.of(new JsonAdaptedPerson(ALICE), new JsonAdaptedPerson(ALICE), invalidPerson,
+                new JsonAdaptedPerson(DANIEL)), "addressbook.json.journal");
+        SalvagedAddressBook salvaged = salvager.finish(testFolder.resolve("addressbook.json"));
+
+        assertEquals(List.of(ALICE, DANIEL), salvaged.getAddressBook().getPersonList());
+        List<QuarantinedRecord> records = salvaged.getQuarantinedRecords();
+        assertEquals(new QuarantinedRecord("addressbook.json.journal", 1, 0,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, records.get(0).getText()), records.get(0));
+        assertTrue(records.get(0).getText().contains("Alice Pauline"));
+        assertEquals(Phone.MESSAGE_CONSTRAINTS, records.get(1).getReason());
+    }
+
+    @Test
+    public void finish_quarantineFileCannotBeWritten_throwsDataLoadingException() throws Exception {
+        Path dataFile = copyToTestFolder("corruptedAddressBook.json");
+        AddressBookSalvager salvager = new AddressBookSalvager(getTypicalInsuranceCatalog());
+        salvager.salvageFile(dataFile);
+        // a data file under a file, so no quarantine file can be created next to it
+        assertThrows(DataLoadingException.class, () -> salvager.finish(dataFile.resolve("addressbook.json")));
+    }
+
+    private Path copyToTestFolder(String fileName) throws Exception {
+        return Files.copy(TEST_DATA_FOLDER.resolve(fileName), testFolder.resolve(fileName));
+    }
+}
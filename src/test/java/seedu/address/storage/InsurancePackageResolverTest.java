@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInsurancePackages.GOLD;
+import static seedu.address.testutil.TypicalInsurancePackages.UNDECIDED;
+import static seedu.address.testutil.TypicalInsurancePackages.getTypicalInsuranceCatalog;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.InsuranceCatalog;
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.insurance.InsurancePackage;
+import seedu.address.testutil.InsuranceCatalogBuilder;
+
+public class InsurancePackageResolverTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InsurancePackageResolver(null));
+    }
+
+    @Test
+    public void resolve_packageInCatalog_returnsCatalogPackage() {
+        InsuranceCatalog catalog = getTypicalInsuranceCatalog();
+        InsurancePackageResolver resolver = new InsurancePackageResolver(catalog);
+        InsurancePackage gold = catalog.getPackage(GOLD.getPackageName()).get();
+
+        assertSame(gold, resolver.resolve("Gold"));
+        assertSame(gold, resolver.resolve("gOLD"));
+    }
+
+    @Test
+    public void resolve_packageNotInCatalog_returnsUndecidedPackage() {
+        InsurancePackageResolver resolver = new InsurancePackageResolver(getTypicalInsuranceCatalog());
+
+        assertEquals(UNDECIDED, resolver.resolve("Platinum"));
+        assertEquals(UNDECIDED, resolver.resolve(""));
+        assertEquals(UNDECIDED, resolver.resolve(null));
+    }
+
+    @Test
+    public void resolve_sameAsCatalogLookup() {
+        ReadOnlyInsuranceCatalog catalog = getTypicalInsuranceCatalog();
+        InsurancePackageResolver resolver = new InsurancePackageResolver(catalog);
+        for (String name : new String[] {"Gold", "silver", "BRONZE", "Undecided", "Tin"}) {
+            assertSame(catalog.getPackage(name).orElseGet(catalog::getUndecidedPackage), resolver.resolve(name));
+        }
+    }
+
+    @Test
+    public void resolve_noUndecidedPackage_throwsNoSuchElementException() {
+        InsurancePackageResolver resolver = new InsurancePackageResolver(
+                new InsuranceCatalogBuilder().withInsurancePackage(GOLD).build());
+
+        assertSame(GOLD, resolver.resolve("Gold"));
+        assertThrows(NoSuchElementException.class, () -> resolver.resolve("Silver"));
+    }
+}
@@ -0,0 +1,283 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInsurancePackages.getTypicalInsuranceCatalog;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final ReadOnlyInsuranceCatalog CATALOG = getTypicalInsuranceCatalog();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getAddressBookFilePath_dataFile() {
+        assertEquals(getDataFilePath(), newStorage(100).getAddressBookFilePath());
+    }
+
+    @Test
+    public void getAddressBookStampFilePath_logNextToDataFile() {
+        assertEquals(testFolder.resolve("addressbook.json.journal").resolve("log.jsonl"),
+                newStorage(100).getAddressBookStampFilePath());
+    }
+
+    @Test
+    public void readAddressBook_noSnapshotOrLog_readsDataFile() throws Exception {
+        assertFalse(readAddressBook(newStorage(100)).isPresent());
+
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(getDataFilePath()).saveAddressBook(original);
+        JournaledAddressBookStorage storage = newStorage(100);
+        ReadOnlyAddressBook readBack = readAddressBook(storage).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // the first save moves the persons to a snapshot
+        storage.saveAddressBook(readBack);
+        assertEquals(List.of("log.jsonl", "snapshot-1.json"), listJournalFiles());
+        assertEquals(original, new AddressBook(readAddressBook(newStorage(100)).get()));
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToLog() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(100);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, countLogRecords());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, countLogRecords());
+        assertEquals(List.of("log.jsonl", "snapshot-1.json"), listJournalFiles());
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage(100)).get()));
+
+        // an unchanged address book appends nothing
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, countLogRecords());
+    }
+
+    @Test
+    public void saveAddressBook_firstSaveAfterRead_appendsToLog() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        newStorage(100).saveAddressBook(original);
+
+        JournaledAddressBookStorage storage = newStorage(100);
+        AddressBook addressBook = new AddressBook(readAddressBook(storage).get());
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, countLogRecords());
+        assertEquals(List.of("log.jsonl", "snapshot-1.json"), listJournalFiles());
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage(100)).get()));
+    }
+
+    @Test
+    public void trackAddressBook_loadedAddressBook_firstSaveOnlyAppendsChange() throws Exception {
+        newStorage(100).saveAddressBook(getTypicalAddressBook());
+        Path snapshotPath = getJournalDirectoryPath().resolve("snapshot-1.json");
+        FileTime snapshotLastModified = Files.getLastModifiedTime(snapshotPath);
+
+        JournaledAddressBookStorage storage = newStorage(100);
+        AddressBook addressBook = new AddressBook(readAddressBook(storage).get());
+        storage.trackAddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, countLogRecords());
+        assertEquals(List.of("log.jsonl", "snapshot-1.json"), listJournalFiles());
+        assertEquals(snapshotLastModified, Files.getLastModifiedTime(snapshotPath));
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage(100)).get()));
+    }
+
+    @Test
+    public void trackAddressBook_notLoadedAddressBook_leftToFirstSave() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(100);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.trackAddressBook(addressBook);
+        assertFalse(Files.exists(getJournalDirectoryPath()));
+
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, countLogRecords());
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage(100)).get()));
+    }
+
+    @Test
+    public void saveAddressBook_logPastThreshold_compacted() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(AMY);
+        addressBook.addPerson(BOB);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, countLogRecords());
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, countLogRecords());
+        assertEquals(List.of("log.jsonl", "snapshot-4.json"), listJournalFiles());
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage(2)).get()));
+
+        addressBook.removePerson(AMY);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, countLogRecords());
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage(2)).get()));
+    }
+
+    @Test
+    public void readAddressBook_logNotTruncatedAfterSnapshot_skipsSnapshotRecords() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(100);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+
+        // as if the compaction stopped after writing the snapshot of record 2
+        JsonStreamingCodec.writePersons(getJournalDirectoryPath().resolve("snapshot-2.json"),
+                addressBook.getPersonList());
+        addressBook.addPerson(BOB);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, countLogRecords());
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage(100)).get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(100);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        Files.writeString(storage.getAddressBookStampFilePath(), "{\"sequence\":3,\"index\":", UTF_8,
+                StandardOpenOption.APPEND);
+
+        storage = newStorage(100);
+        AddressBook readBack = new AddressBook(readAddressBook(storage).get());
+        assertEquals(addressBook, readBack);
+
+        // the next record overwrites the incomplete one
+        storage.saveAddressBook(readBack);
+        readBack.addPerson(BOB);
+        storage.saveAddressBook(readBack);
+        assertEquals(2, countLogRecords());
+        assertEquals(readBack, new AddressBook(readAddressBook(newStorage(100)).get()));
+    }
+
+    @Test
+    public void readAddressBook_missingRecord_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(100);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(storage.getAddressBookStampFilePath(),
+                JsonStreamingCodec.writeLogRecord(3, 0, 0, List.of(AMY)) + "\n", UTF_8);
+        assertThrows(DataLoadingException.class, () -> readAddressBook(newStorage(100)));
+    }
+
+    @Test
+    public void readAddressBook_recordDoesNotFit_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(100);
+        storage.saveAddressBook(new AddressBook());
+        Files.writeString(storage.getAddressBookStampFilePath(),
+                JsonStreamingCodec.writeLogRecord(2, 1, 1, List.of(AMY)) + "\n", UTF_8);
+        assertThrows(DataLoadingException.class, () -> readAddressBook(newStorage(100)));
+    }
+
+    @Test
+    public void salvageAddressBook_duplicateInLog_quarantined() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Files.writeString(storage.getAddressBookStampFilePath(),
+                JsonStreamingCodec.writeLogRecord(2, original.getPersonList().size(), 0, List.of(ALICE)) + "\n",
+                UTF_8);
+        assertThrows(DuplicatePersonException.class, () -> readAddressBook(newStorage(100)));
+
+        storage = newStorage(100);
+        SalvagedAddressBook salvaged = storage.salvageAddressBook(storage.getAddressBookFilePath(), CATALOG).get();
+        assertEquals(original, new AddressBook(salvaged.getAddressBook()));
+        assertEquals(1, salvaged.getQuarantinedRecordCount());
+        assertTrue(salvaged.getQuarantineFilePath().isPresent());
+
+        // saving the salvaged persons writes a new snapshot of them
+        storage.saveAddressBook(salvaged.getAddressBook());
+        assertEquals(original, new AddressBook(readAddressBook(newStorage(100)).get()));
+    }
+
+    @Test
+    public void readAddressBookInBatches_success() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(100);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage newStorage = newStorage(100);
+        List<Person> persons = new ArrayList<>();
+        assertTrue(newStorage.readAddressBookInBatches(newStorage.getAddressBookFilePath(), CATALOG, 3,
+                persons::addAll));
+        assertEquals(addressBook.getPersonList(), persons);
+    }
+
+    private Path getDataFilePath() {
+        return testFolder.resolve("addressbook.json");
+    }
+
+    private Path getJournalDirectoryPath() {
+        return JournaledAddressBookStorage.getJournalDirectoryPath(getDataFilePath());
+    }
+
+    /**
+     * Returns a storage whose log is compacted, as soon as it is due, once it has more than {@code maxLogRecords}
+     * records.
+     */
+    private JournaledAddressBookStorage newStorage(int maxLogRecords) {
+        return new JournaledAddressBookStorage(getDataFilePath(),
+                new LogCompactionScheduler(Long.MAX_VALUE, maxLogRecords, Runnable::run));
+    }
+
+    private static Optional<ReadOnlyAddressBook> readAddressBook(JournaledAddressBookStorage storage)
+            throws DataLoadingException {
+        return storage.readAddressBook(storage.getAddressBookFilePath(), CATALOG);
+    }
+
+    private long countLogRecords() throws Exception {
+        return Files.readAllLines(getJournalDirectoryPath().resolve(JournaledAddressBookStorage.LOG_FILE_NAME))
+                .size();
+    }
+
+    private List<String> listJournalFiles() throws Exception {
+        try (Stream<Path> files = Files.list(getJournalDirectoryPath())) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+}
@@ -2,14 +2,25 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +29,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
 
 public class JsonAddressBookStorageTest {
@@ -63,6 +75,138 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void parseAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JsonAddressBookStorage(filePath).parseAddressBook(filePath).isPresent());
+    }
+
+    @Test
+    public void parseAddressBook_notJsonFormat_exceptionThrown() {
+        Path filePath = addToTestDataPathIfNotNull("notJsonFormatAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath)
+                .parseAddressBook(filePath));
+    }
+
+    @Test
+    public void parseAddressBook_invalidPerson_resolveThrowsDataLoadingException() throws Exception {
+        Path filePath = addToTestDataPathIfNotNull("invalidPersonAddressBook.json");
+        ParsedAddressBook parsedAddressBook = new JsonAddressBookStorage(filePath).parseAddressBook(filePath).get();
+        assertThrows(DataLoadingException.class, () -> parsedAddressBook.resolve(VALID_CATALOG));
+    }
+
+    @Test
+    public void parseAddressBook_savedAddressBook_resolvesToSameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook(), filePath);
+
+        ParsedAddressBook parsedAddressBook = jsonAddressBookStorage.parseAddressBook(filePath).get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(parsedAddressBook.resolve(VALID_CATALOG)));
+    }
+
+    @Test
+    public void saveAddressBook_writesValidationFingerprint() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(Optional.of(getFingerprint(filePath, ValidationFingerprint.VALIDATION_VERSION)),
+                JsonStreamingCodec.readValidationFingerprint(ValidationFingerprint.getFingerprintPath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_validated_writesValidationFingerprint() throws Exception {
+        Path filePath = Files.copy(Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json"), testFolder.resolve("addressbook.json"));
+        Path fingerprintPath = ValidationFingerprint.getFingerprintPath(filePath);
+        assertFalse(Files.exists(fingerprintPath));
+
+        new JsonAddressBookStorage(filePath).readAddressBook(filePath, VALID_CATALOG);
+        assertEquals(Optional.of(getFingerprint(filePath, ValidationFingerprint.VALIDATION_VERSION)),
+                JsonStreamingCodec.readValidationFingerprint(fingerprintPath));
+    }
+
+    @Test
+    public void readAddressBook_fingerprintMatches_notValidatedAgain() throws Exception {
+        Path filePath = copyToTestFolder("invalidEmailAddressBook.json");
+        writeFingerprint(filePath, ValidationFingerprint.VALIDATION_VERSION);
+
+        // the invalid email shows that the persons were not validated
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(filePath).readAddressBook(filePath,
+                VALID_CATALOG).get();
+        assertEquals("alice", addressBook.getPersonList().get(0).getEmail().value);
+    }
+
+    @Test
+    public void readAddressBook_fingerprintOfOtherVersion_validatedAgain() throws Exception {
+        Path filePath = copyToTestFolder("invalidEmailAddressBook.json");
+        writeFingerprint(filePath, ValidationFingerprint.VALIDATION_VERSION + 1);
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath)
+                .readAddressBook(filePath, VALID_CATALOG));
+    }
+
+    @Test
+    public void readAddressBook_dataFileChangedAfterFingerprint_validatedAgain() throws Exception {
+        Path filePath = copyToTestFolder("invalidEmailAddressBook.json");
+        writeFingerprint(filePath, ValidationFingerprint.VALIDATION_VERSION);
+        Files.writeString(filePath, "\n", StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath)
+                .readAddressBook(filePath, VALID_CATALOG));
+    }
+
+    @Test
+    public void readAddressBook_unreadableFingerprint_validatedAgain() throws Exception {
+        Path filePath = copyToTestFolder("invalidEmailAddressBook.json");
+        Files.writeString(ValidationFingerprint.getFingerprintPath(filePath), "not json format!");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath)
+                .readAddressBook(filePath, VALID_CATALOG));
+    }
+
+    private Path copyToTestFolder(String fileName) throws IOException {
+        return Files.copy(TEST_DATA_FOLDER.resolve(fileName), testFolder.resolve(fileName));
+    }
+
+    private static ValidationFingerprint getFingerprint(Path filePath, int validationVersion) throws IOException {
+        MessageDigest digest = ValidationFingerprint.newDigest();
+        return new ValidationFingerprint(validationVersion,
+                HexFormat.of().formatHex(digest.digest(Files.readAllBytes(filePath))));
+    }
+
+    private static void writeFingerprint(Path filePath, int validationVersion) throws IOException {
+        JsonStreamingCodec.writeValidationFingerprint(ValidationFingerprint.getFingerprintPath(filePath),
+                getFingerprint(filePath, validationVersion));
+    }
+
+    @Test
+    public void readAddressBookInBatches_missingFile_returnsFalse() throws Exception {
+        List<List<Person>> batches = new ArrayList<>();
+        assertFalse(new JsonAddressBookStorage(testFolder.resolve("NonExistentFile.json"))
+                .readAddressBookInBatches(testFolder.resolve("NonExistentFile.json"), VALID_CATALOG, 2,
+                        batches::add));
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void readAddressBookInBatches_invalidPerson_throwsDataLoadingException() {
+        Path filePath = addToTestDataPathIfNotNull("invalidAndValidPersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath)
+                .readAddressBookInBatches(filePath, VALID_CATALOG, 1, batch -> { }));
+        Path notJsonFilePath = addToTestDataPathIfNotNull("notJsonFormatAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(notJsonFilePath)
+                .readAddressBookInBatches(notJsonFilePath, VALID_CATALOG, 1, batch -> { }));
+    }
+
+    @Test
+    public void readAddressBookInBatches_savedAddressBook_readsPersonsInBatches() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook(), filePath);
+
+        List<List<Person>> batches = new ArrayList<>();
+        assertTrue(jsonAddressBookStorage.readAddressBookInBatches(filePath, VALID_CATALOG, 3, batches::add));
+        assertEquals(Arrays.asList(3, 3, 1), batches.stream().map(List::size).collect(Collectors.toList()));
+        assertEquals(getTypicalPersons(), batches.stream().flatMap(List::stream).collect(Collectors.toList()));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInsurancePackages.getTypicalInsuranceCatalog;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonStreamingCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonStreamingCodecTest");
+    private static final Path GOLDEN_ADDRESS_BOOK_FILE = TEST_DATA_FOLDER.resolve("goldenAddressBook.json");
+    private static final Path GOLDEN_INSURANCE_CATALOG_FILE = TEST_DATA_FOLDER.resolve("goldenInsuranceCatalog.json");
+    private static final ReadOnlyInsuranceCatalog CATALOG = getTypicalInsuranceCatalog();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeAddressBook_matchesGoldenFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonStreamingCodec.writeAddressBook(filePath, getGoldenAddressBook());
+        assertSameText(FileUtil.readFromFile(GOLDEN_ADDRESS_BOOK_FILE), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void writeAddressBook_sameAsDataBinding() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getGoldenAddressBook();
+        JsonStreamingCodec.writeAddressBook(filePath, addressBook);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void writeAddressBook_salaries_savedAsEntered() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Amy").withPhone("91111111").withEmail("amy@example.com")
+                .withSalary("0100").build());
+        addressBook.addPerson(new PersonBuilder().withName("Bob").withPhone("92222222").withEmail("bob@example.com")
+                .withSalary("1,234.5").build());
+        JsonStreamingCodec.writeAddressBook(filePath, addressBook);
+
+        String json = FileUtil.readFromFile(filePath);
+        assertTrue(json.contains("\"salary\" : \"0100\""));
+        assertTrue(json.contains("\"salary\" : \"1234.5\""));
+
+        List<Person> persons = JsonStreamingCodec.readAddressBook(filePath).get().toModelType(CATALOG)
+                .getPersonList();
+        assertEquals("0100", persons.get(0).getSalary().getValue());
+        assertEquals("1234.5", persons.get(1).getSalary().getValue());
+    }
+
+    @Test
+    public void writeInsuranceCatalog_matchesGoldenFile() throws Exception {
+        Path filePath = testFolder.resolve("insurancecatalog.json");
+        JsonStreamingCodec.writeInsuranceCatalog(filePath, CATALOG);
+        assertSameText(FileUtil.readFromFile(GOLDEN_INSURANCE_CATALOG_FILE), FileUtil.readFromFile(filePath));
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableInsuranceCatalog(CATALOG)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_goldenFile_success() throws Exception {
+        assertEquals(getGoldenAddressBook(),
+                JsonStreamingCodec.readAddressBook(GOLDEN_ADDRESS_BOOK_FILE).get().toModelType(CATALOG));
+    }
+
+    @Test
+    public void readInsuranceCatalog_goldenFile_success() throws Exception {
+        assertEquals(CATALOG,
+                JsonStreamingCodec.readInsuranceCatalog(GOLDEN_INSURANCE_CATALOG_FILE).get().toModelType());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonStreamingCodec.readAddressBook(testFolder.resolve("NonExistentFile.json")).isPresent());
+        assertFalse(JsonStreamingCodec.readPersons(testFolder.resolve("NonExistentFile.json"), person -> { }));
+        assertFalse(JsonStreamingCodec.readInsuranceCatalog(testFolder.resolve("NonExistentFile.json")).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_sameAsDataBinding() throws Exception {
+        assertReadSameAsDataBinding(GOLDEN_ADDRESS_BOOK_FILE);
+        assertReadSameAsDataBinding(TEST_DATA_FOLDER.resolve("looselyTypedAddressBook.json"));
+        assertReadSameAsDataBinding(TEST_DATA_FOLDER.resolve("missingPersonsAddressBook.json"));
+        assertReadSameAsDataBinding(TEST_DATA_FOLDER.resolve("personsNotArrayAddressBook.json"));
+        Path otherTestDataFolder = Paths.get("src", "test", "data");
+        assertReadSameAsDataBinding(otherTestDataFolder.resolve(
+                Paths.get("JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json")));
+        assertReadSameAsDataBinding(otherTestDataFolder.resolve(
+                Paths.get("JsonSerializableAddressBookTest", "invalidPersonAddressBook.json")));
+        assertReadSameAsDataBinding(otherTestDataFolder.resolve(
+                Paths.get("JsonAddressBookStorageTest", "invalidAndValidPersonAddressBook.json")));
+        assertReadSameAsDataBinding(otherTestDataFolder.resolve(
+                Paths.get("JsonAddressBookStorageTest", "notJsonFormatAddressBook.json")));
+    }
+
+    @Test
+    public void readPersons_missingPersons_readsNoPersons() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        assertTrue(JsonStreamingCodec.readPersons(TEST_DATA_FOLDER.resolve("missingPersonsAddressBook.json"),
+                persons::add));
+        assertTrue(persons.isEmpty());
+        assertThrows(DataLoadingException.class, () -> JsonStreamingCodec.readPersons(
+                TEST_DATA_FOLDER.resolve("personsNotArrayAddressBook.json"), persons::add));
+    }
+
+    private static AddressBook getGoldenAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Zoe Tan").withPhone("91234567")
+                .withEmail("zoe@example.com").withAddress("Blk 1 \"Caf\u00e9\" #01-01, C:\\Tan").withTags().build());
+        return addressBook;
+    }
+
+    /**
+     * Asserts that the codec and data binding both read the address book in {@code filePath} as the same address book,
+     * or both fail to read it.
+     */
+    private static void assertReadSameAsDataBinding(Path filePath) {
+        Object expected = toModelType(() -> JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get());
+        Object actual = toModelType(() -> JsonStreamingCodec.readAddressBook(filePath).get());
+        assertEquals(expected, actual, filePath.toString());
+    }
+
+    /**
+     * Returns the address book read by {@code reader}, or the class of the exception it failed with.
+     */
+    private static Object toModelType(AddressBookReader reader) {
+        try {
+            return reader.read().toModelType(CATALOG);
+        } catch (Exception e) {
+            return e.getClass();
+        }
+    }
+
+    private static void assertSameText(String expected, String actual) {
+        assertEquals(expected.replace("\r\n", "\n"), actual.replace("\r\n", "\n"));
+    }
+
+    @FunctionalInterface
+    private interface AddressBookReader {
+        JsonSerializableAddressBook read() throws Exception;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class LogCompactionSchedulerTest {
+
+    @Test
+    public void constructor_invalidThresholds_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LogCompactionScheduler(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new LogCompactionScheduler(1, 0));
+    }
+
+    @Test
+    public void isCompactionDue() {
+        LogCompactionScheduler scheduler = new LogCompactionScheduler(100, 10, Runnable::run);
+        assertFalse(scheduler.isCompactionDue(0, 0));
+        assertFalse(scheduler.isCompactionDue(100, 10));
+        assertTrue(scheduler.isCompactionDue(101, 1));
+        assertTrue(scheduler.isCompactionDue(1, 11));
+    }
+
+    @Test
+    public void schedule_compactionRunning_skipped() {
+        List<Runnable> tasks = new ArrayList<>();
+        LogCompactionScheduler scheduler = new LogCompactionScheduler(100, 10, tasks::add);
+        AtomicInteger runCount = new AtomicInteger();
+
+        assertTrue(scheduler.schedule(runCount::incrementAndGet));
+        assertFalse(scheduler.schedule(runCount::incrementAndGet));
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        scheduler.awaitCompaction();
+        assertEquals(1, runCount.get());
+        assertTrue(scheduler.schedule(runCount::incrementAndGet));
+    }
+
+    @Test
+    public void schedule_compactionFails_nextCompactionScheduled() {
+        LogCompactionScheduler scheduler = new LogCompactionScheduler(100, 10, Runnable::run);
+        assertTrue(scheduler.schedule(() -> {
+            throw new IOException("Disk full");
+        }));
+        scheduler.awaitCompaction();
+        assertTrue(scheduler.schedule(() -> { }));
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInsurancePackages.UNDECIDED;
+import static seedu.address.testutil.TypicalInsurancePackages.getTypicalInsuranceCatalog;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.testutil.InsuranceCatalogBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSnapshotFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getSnapshotFilePath_dataFile_returnsSibling() {
+        assertEquals(testFolder.resolve("addressbook.json.snapshot"),
+                PersonSnapshotFile.getSnapshotFilePath(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void open_missingSnapshot_returnsEmpty() throws Exception {
+        Path dataFile = writeDataFile();
+        assertFalse(PersonSnapshotFile.open(PersonSnapshotFile.getSnapshotFilePath(dataFile), dataFile,
+                getTypicalInsuranceCatalog()).isPresent());
+    }
+
+    @Test
+    public void open_writtenSnapshot_sameAsAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path dataFile = writeDataFile();
+        Path snapshotFile = PersonSnapshotFile.getSnapshotFilePath(dataFile);
+        PersonSnapshotFile.write(snapshotFile, addressBook, dataFile);
+
+        PersonSnapshotFile snapshot = open(snapshotFile, dataFile, getTypicalInsuranceCatalog());
+        try (SegmentFilePersonStore store = new SegmentFilePersonStore(testFolder, snapshot)) {
+            AddressBook pagedAddressBook = AddressBook.createPaged(store, 2, snapshot);
+            assertEquals(addressBook.getPersonList(), pagedAddressBook.getPersonList());
+            assertColumnsEqual(addressBook.getPersonColumns(), pagedAddressBook.getPersonColumns());
+            assertTrue(pagedAddressBook.hasPerson(ALICE));
+
+            // persons added after the snapshot are appended to the segment file
+            Person newPerson = new PersonBuilder().withName("Zed").withPhone("91234567").withEmail("zed@example.com")
+                    .build();
+            pagedAddressBook.addPerson(newPerson);
+            pagedAddressBook.removePerson(ALICE);
+            addressBook.addPerson(newPerson);
+            addressBook.removePerson(ALICE);
+            assertEquals(addressBook.getPersonList(), pagedAddressBook.getPersonList());
+            assertColumnsEqual(addressBook.getPersonColumns(), pagedAddressBook.getPersonColumns());
+        }
+    }
+
+    @Test
+    public void open_packageNotInCatalog_resolvedToUndecided() throws Exception {
+        Path dataFile = writeDataFile();
+        Path snapshotFile = PersonSnapshotFile.getSnapshotFilePath(dataFile);
+        PersonSnapshotFile.write(snapshotFile, getTypicalAddressBook(), dataFile);
+
+        ReadOnlyInsuranceCatalog catalog = new InsuranceCatalogBuilder().withInsurancePackage(UNDECIDED).build();
+        try (PersonSnapshotFile snapshot = open(snapshotFile, dataFile, catalog)) {
+            assertEquals(List.of(UNDECIDED.getPackageName()), snapshot.getInsurancePackageNames().stream()
+                    .distinct().toList());
+            long[] addresses = new long[snapshot.size()];
+            snapshot.readRecordAddresses(addresses);
+            assertEquals(UNDECIDED, snapshot.read(addresses[0]).getInsurancePackage());
+        }
+    }
+
+    @Test
+    public void open_dataFileChanged_returnsEmpty() throws Exception {
+        Path dataFile = writeDataFile();
+        Path snapshotFile = PersonSnapshotFile.getSnapshotFilePath(dataFile);
+        PersonSnapshotFile.write(snapshotFile, getTypicalAddressBook(), dataFile);
+
+        FileTime lastModified = Files.getLastModifiedTime(dataFile);
+        Files.setLastModifiedTime(dataFile, FileTime.fromMillis(lastModified.toMillis() + 1000));
+        assertFalse(PersonSnapshotFile.open(snapshotFile, dataFile, getTypicalInsuranceCatalog()).isPresent());
+
+        Files.delete(dataFile);
+        assertFalse(PersonSnapshotFile.open(snapshotFile, dataFile, getTypicalInsuranceCatalog()).isPresent());
+    }
+
+    @Test
+    public void open_invalidSnapshot_throwsDataLoadingException() throws Exception {
+        Path dataFile = writeDataFile();
+        Path snapshotFile = PersonSnapshotFile.getSnapshotFilePath(dataFile);
+        Files.write(snapshotFile, new byte[] {1, 2, 3});
+        assertThrows(DataLoadingException.class, () ->
+                PersonSnapshotFile.open(snapshotFile, dataFile, getTypicalInsuranceCatalog()));
+
+        PersonSnapshotFile.write(snapshotFile, getTypicalAddressBook(), dataFile);
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        Files.write(snapshotFile, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () ->
+                PersonSnapshotFile.open(snapshotFile, dataFile, getTypicalInsuranceCatalog()));
+    }
+
+    @Test
+    public void read_invalidAddress_throwsIoException() throws Exception {
+        Path dataFile = writeDataFile();
+        Path snapshotFile = PersonSnapshotFile.getSnapshotFilePath(dataFile);
+        PersonSnapshotFile.write(snapshotFile, getTypicalAddressBook(), dataFile);
+        try (PersonSnapshotFile snapshot = open(snapshotFile, dataFile, getTypicalInsuranceCatalog())) {
+            assertThrows(IOException.class, () -> snapshot.read(-1));
+            assertThrows(IOException.class, () -> snapshot.read(snapshot.getRecordsLength()));
+        }
+    }
+
+    private Path writeDataFile() throws IOException {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        Files.writeString(dataFile, "{}");
+        return dataFile;
+    }
+
+    private static PersonSnapshotFile open(Path snapshotFile, Path dataFile, ReadOnlyInsuranceCatalog catalog)
+            throws DataLoadingException {
+        Optional<PersonSnapshotFile> snapshot = PersonSnapshotFile.open(snapshotFile, dataFile, catalog);
+        assertTrue(snapshot.isPresent());
+        return snapshot.get();
+    }
+
+    private static void assertColumnsEqual(PersonColumns expected, PersonColumns actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int row = 0; row < expected.size(); row++) {
+            assertEquals(expected.getSalaryCents(row), actual.getSalaryCents(row));
+            assertEquals(expected.getDependents(row), actual.getDependents(row));
+            assertEquals(expected.getDateOfBirthEpochDay(row), actual.getDateOfBirthEpochDay(row));
+            assertEquals(expected.getMaritalStatus(row), actual.getMaritalStatus(row));
+            assertEquals(expected.getInsurancePackageName(expected.getInsurancePackageCode(row)),
+                    actual.getInsurancePackageName(actual.getInsurancePackageCode(row)));
+        }
+    }
+}
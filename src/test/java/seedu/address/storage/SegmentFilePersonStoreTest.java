@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentFilePersonStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_appendedPersons_returnsEqualPersons() throws IOException {
+        try (SegmentFilePersonStore store = new SegmentFilePersonStore(testFolder)) {
+            List<Person> persons = new ArrayList<>(getTypicalPersons());
+            persons.add(new PersonBuilder().withName("Zoë Ng").withAddress("新加坡").withSalary("1234.05")
+                    .withDateOfBirth("1990-02-28").withTags("vip", "new client").build());
+
+            // enough records to fill the write buffer several times
+            List<Long> addresses = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                addresses.add(store.append(persons.get(i % persons.size())));
+            }
+            for (int i = addresses.size() - 1; i >= 0; i--) {
+                Person person = store.read(addresses.get(i));
+                Person expected = persons.get(i % persons.size());
+                assertEquals(expected, person);
+                assertSame(expected.getInsurancePackage(), person.getInsurancePackage());
+            }
+        }
+    }
+
+    @Test
+    public void read_invalidAddress_throwsIoException() throws IOException {
+        try (SegmentFilePersonStore store = new SegmentFilePersonStore(testFolder)) {
+            long address = store.append(getTypicalPersons().get(0));
+            assertThrows(IOException.class, () -> store.read(address + 1_000_000));
+            assertThrows(IOException.class, () -> store.read(-1));
+        }
+    }
+
+    @Test
+    public void close_deletesSegmentFile() throws IOException {
+        SegmentFilePersonStore store = new SegmentFilePersonStore(testFolder);
+        store.append(getTypicalPersons().get(0));
+        store.close();
+        assertFalse(Files.exists(store.getSegmentFilePath()));
+    }
+
+    @Test
+    public void createPaged_typicalPersons_sameAsInMemoryAddressBook() throws IOException {
+        try (SegmentFilePersonStore store = new SegmentFilePersonStore(testFolder)) {
+            AddressBook pagedAddressBook = AddressBook.createPaged(store, 2);
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(getTypicalPersons());
+            pagedAddressBook.resetData(addressBook);
+            assertEquals(addressBook, pagedAddressBook);
+
+            Person first = getTypicalPersons().get(0);
+            Person editedFirst = new PersonBuilder(first).withName("Zed").build();
+            pagedAddressBook.setPerson(first, editedFirst);
+            addressBook.setPerson(first, editedFirst);
+            pagedAddressBook.removePerson(getTypicalPersons().get(1));
+            addressBook.removePerson(getTypicalPersons().get(1));
+            assertEquals(addressBook, pagedAddressBook);
+            assertTrue(pagedAddressBook.hasPerson(editedFirst));
+            assertFalse(pagedAddressBook.hasPerson(getTypicalPersons().get(1)));
+            assertEquals(Arrays.asList(editedFirst), pagedAddressBook.getPersonList().subList(0, 1));
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInsurancePackages.getTypicalInsuranceCatalog;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyInsuranceCatalog;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final ReadOnlyInsuranceCatalog CATALOG = getTypicalInsuranceCatalog();
+    private static final int SEGMENT_SIZE = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidSegmentSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedAddressBookStorage(getDataFilePath(), 0));
+    }
+
+    @Test
+    public void getAddressBookFilePath_dataFile() {
+        assertEquals(getDataFilePath(), newStorage().getAddressBookFilePath());
+    }
+
+    @Test
+    public void getAddressBookStampFilePath_manifestNextToDataFile() {
+        assertEquals(testFolder.resolve("addressbook.json.segments").resolve("manifest.json"),
+                newStorage().getAddressBookStampFilePath());
+    }
+
+    @Test
+    public void getAddressBookStampFilePath_snapshotStampedWithManifest_upToDateUntilChangedSave() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Path snapshotFilePath = PersonSnapshotFile.getSnapshotFilePath(storage.getAddressBookFilePath());
+        PersonSnapshotFile.write(snapshotFilePath, addressBook, storage.getAddressBookStampFilePath());
+        try (PersonSnapshotFile snapshot = PersonSnapshotFile.open(snapshotFilePath,
+                storage.getAddressBookStampFilePath(), CATALOG).get()) {
+            assertEquals(addressBook.getPersonList().size(), snapshot.size());
+        }
+
+        // saving an unchanged address book keeps the snapshot up to date
+        storage.saveAddressBook(addressBook);
+        assertTrue(PersonSnapshotFile.open(snapshotFilePath, storage.getAddressBookStampFilePath(), CATALOG)
+                .isPresent());
+
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        assertFalse(PersonSnapshotFile.open(snapshotFilePath, storage.getAddressBookStampFilePath(), CATALOG)
+                .isPresent());
+    }
+
+    @Test
+    public void readAddressBook_noManifestOrDataFile_emptyResult() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        assertFalse(readAddressBook(storage).isPresent());
+        assertFalse(storage.readAddressBookInBatches(storage.getAddressBookFilePath(), CATALOG, 2, batch -> { }));
+    }
+
+    @Test
+    public void readAddressBook_noManifest_readsDataFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(getDataFilePath()).saveAddressBook(original);
+
+        SegmentedAddressBookStorage storage = newStorage();
+        ReadOnlyAddressBook readBack = readAddressBook(storage).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // the first save moves the persons to segment files
+        storage.saveAddressBook(readBack);
+        assertEquals(getSegmentCount(original.getPersonList().size()), readManifest().getSegmentFileNames().size());
+        assertEquals(original, new AddressBook(readAddressBook(newStorage()).get()));
+    }
+
+    @Test
+    public void saveAndReadAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        newStorage().saveAddressBook(original);
+        assertEquals(getSegmentCount(original.getPersonList().size()), readManifest().getSegmentFileNames().size());
+        assertEquals(original, new AddressBook(readAddressBook(newStorage()).get()));
+
+        List<Person> persons = new ArrayList<>();
+        assertTrue(readAddressBookInBatches(newStorage(), persons::addAll));
+        assertEquals(original.getPersonList(), persons);
+    }
+
+    @Test
+    public void saveAddressBook_emptyAddressBook_writesManifest() throws Exception {
+        newStorage().saveAddressBook(new AddressBook());
+        assertTrue(readManifest().getSegmentFileNames().isEmpty());
+        assertEquals(new AddressBook(), new AddressBook(readAddressBook(newStorage()).get()));
+    }
+
+    @Test
+    public void saveAddressBook_editedPerson_rewritesOnlyItsSegment() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        List<String> savedFileNames = readManifest().getSegmentFileNames();
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        List<String> fileNames = readManifest().getSegmentFileNames();
+        assertEquals(savedFileNames.size(), fileNames.size());
+        assertNotEquals(savedFileNames.get(0), fileNames.get(0));
+        assertEquals(savedFileNames.subList(1, fileNames.size()), fileNames.subList(1, fileNames.size()));
+        assertOnlySegmentFiles(fileNames);
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage()).get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_doesNotRewrite() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        SegmentManifest savedManifest = readManifest();
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(savedManifest, readManifest());
+    }
+
+    @Test
+    public void saveAddressBook_addedPersons_rewritesOnlyLastSegments() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        for (Person person : persons.subList(0, SEGMENT_SIZE * 2)) {
+            addressBook.addPerson(person);
+        }
+        storage.saveAddressBook(addressBook);
+        List<String> savedFileNames = readManifest().getSegmentFileNames();
+
+        // the segments are full, so the added persons go to a new segment
+        addressBook.addPerson(AMY);
+        addressBook.addPerson(BOB);
+        storage.saveAddressBook(addressBook);
+        List<String> fileNames = readManifest().getSegmentFileNames();
+        assertEquals(3, fileNames.size());
+        assertEquals(savedFileNames, fileNames.subList(0, 2));
+        assertOnlySegmentFiles(fileNames);
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage()).get()));
+    }
+
+    @Test
+    public void saveAddressBook_removedPersons_dropsEmptySegments() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        int segmentCount = readManifest().getSegmentFileNames().size();
+
+        for (Person person : new ArrayList<>(addressBook.getPersonList().subList(0, SEGMENT_SIZE))) {
+            addressBook.removePerson(person);
+        }
+        storage.saveAddressBook(addressBook);
+        List<String> fileNames = readManifest().getSegmentFileNames();
+        assertEquals(segmentCount - 1, fileNames.size());
+        assertOnlySegmentFiles(fileNames);
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage()).get()));
+
+        addressBook.setPersons(List.of());
+        storage.saveAddressBook(addressBook);
+        assertTrue(readManifest().getSegmentFileNames().isEmpty());
+        assertOnlySegmentFiles(List.of());
+    }
+
+    @Test
+    public void saveAddressBook_firstSaveAfterRead_rewritesOnlyChangedSegments() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        newStorage().saveAddressBook(original);
+        List<String> savedFileNames = readManifest().getSegmentFileNames();
+
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = new AddressBook(readAddressBook(storage).get());
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        List<String> fileNames = readManifest().getSegmentFileNames();
+        assertEquals(savedFileNames.subList(0, savedFileNames.size() - 1),
+                fileNames.subList(0, savedFileNames.size() - 1));
+        assertOnlySegmentFiles(fileNames);
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage()).get()));
+    }
+
+    @Test
+    public void trackAddressBook_loadedAddressBook_firstSaveRewritesOnlyChangedSegment() throws Exception {
+        newStorage().saveAddressBook(getTypicalAddressBook());
+        List<String> savedFileNames = readManifest().getSegmentFileNames();
+
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = new AddressBook(readAddressBook(storage).get());
+        storage.trackAddressBook(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        List<String> fileNames = readManifest().getSegmentFileNames();
+        assertNotEquals(savedFileNames.get(0), fileNames.get(0));
+        assertEquals(savedFileNames.subList(1, fileNames.size()), fileNames.subList(1, fileNames.size()));
+        assertOnlySegmentFiles(fileNames);
+        assertEquals(addressBook, new AddressBook(readAddressBook(newStorage()).get()));
+    }
+
+    @Test
+    public void readAddressBook_missingSegmentFile_throwsDataLoadingException() throws Exception {
+        newStorage().saveAddressBook(getTypicalAddressBook());
+        Files.delete(getSegmentDirectoryPath().resolve(readManifest().getSegmentFileNames().get(1)));
+        assertThrows(DataLoadingException.class, () -> readAddressBook(newStorage()));
+        assertThrows(DataLoadingException.class, () -> readAddressBookInBatches(newStorage(), batch -> { }));
+    }
+
+    @Test
+    public void readAddressBook_invalidSegmentFileName_throwsDataLoadingException() throws Exception {
+        Files.createDirectories(getSegmentDirectoryPath());
+        JsonStreamingCodec.writeSegmentManifest(newStorage().getAddressBookStampFilePath(),
+                new SegmentManifest(1, List.of("../addressbook.json")));
+        assertThrows(DataLoadingException.class, () -> readAddressBook(newStorage()));
+    }
+
+    @Test
+    public void salvageAddressBook_missingSegmentFile_otherSegmentsSalvaged() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        newStorage().saveAddressBook(original);
+        String missingFileName = readManifest().getSegmentFileNames().get(1);
+        Files.delete(getSegmentDirectoryPath().resolve(missingFileName));
+
+        SegmentedAddressBookStorage storage = newStorage();
+        SalvagedAddressBook salvaged = storage.salvageAddressBook(storage.getAddressBookFilePath(), CATALOG).get();
+        List<Person> expected = new ArrayList<>(original.getPersonList());
+        expected.subList(SEGMENT_SIZE, 2 * SEGMENT_SIZE).clear();
+        assertEquals(expected, salvaged.getAddressBook().getPersonList());
+        assertEquals(List.of(new QuarantinedRecord(missingFileName, QuarantinedRecord.WHOLE_FILE_INDEX, 0,
+                "Segment file not found", "")), salvaged.getQuarantinedRecords());
+        assertEquals(getDataFilePath().getParent(), salvaged.getQuarantineFilePath().get().getParent());
+
+        // saving the salvaged persons writes a whole new set of segments
+        storage.saveAddressBook(salvaged.getAddressBook());
+        assertEquals(expected, readAddressBook(newStorage()).get().getPersonList());
+    }
+
+    private Path getDataFilePath() {
+        return testFolder.resolve("addressbook.json");
+    }
+
+    private Path getSegmentDirectoryPath() {
+        return SegmentedAddressBookStorage.getSegmentDirectoryPath(getDataFilePath());
+    }
+
+    private SegmentedAddressBookStorage newStorage() {
+        return new SegmentedAddressBookStorage(getDataFilePath(), SEGMENT_SIZE);
+    }
+
+    private static Optional<ReadOnlyAddressBook> readAddressBook(SegmentedAddressBookStorage storage)
+            throws DataLoadingException {
+        return storage.readAddressBook(storage.getAddressBookFilePath(), CATALOG);
+    }
+
+    private static boolean readAddressBookInBatches(SegmentedAddressBookStorage storage,
+            Consumer<List<Person>> batchConsumer) throws DataLoadingException {
+        return storage.readAddressBookInBatches(storage.getAddressBookFilePath(), CATALOG, 2, batchConsumer);
+    }
+
+    private SegmentManifest readManifest() throws Exception {
+        return JsonStreamingCodec.readSegmentManifest(newStorage().getAddressBookStampFilePath()).get();
+    }
+
+    private static int getSegmentCount(int personCount) {
+        return (personCount + SEGMENT_SIZE - 1) / SEGMENT_SIZE;
+    }
+
+    /**
+     * Asserts that the segment directory holds the manifest and the segment files {@code fileNames}, and nothing else.
+     */
+    private void assertOnlySegmentFiles(List<String> fileNames) throws Exception {
+        List<String> expected = new ArrayList<>(fileNames);
+        expected.add(SegmentedAddressBookStorage.MANIFEST_FILE_NAME);
+        expected.sort(null);
+        try (var files = Files.list(getSegmentDirectoryPath())) {
+            assertEquals(expected, files.map(file -> file.getFileName().toString()).sorted().toList());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.testutil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecordStore;
+
+/**
+ * A {@code PersonRecordStore} that keeps its records in memory.
+ * Like a store on disk, each read returns a new {@code Person} equal to the one written.
+ */
+public class InMemoryPersonRecordStore implements PersonRecordStore {
+
+    private final List<Person> records = new ArrayList<>();
+    private int readCount;
+
+    @Override
+    public long append(Person person) {
+        records.add(person);
+        return records.size() - 1;
+    }
+
+    @Override
+    public Person read(long address) throws IOException {
+        if (address < 0 || address >= records.size()) {
+            throw new IOException("No record at address " + address);
+        }
+        readCount++;
+        return new PersonBuilder(records.get((int) address)).build();
+    }
+
+    public int getRecordCount() {
+        return records.size();
+    }
+
+    public int getReadCount() {
+        return readCount;
+    }
+}
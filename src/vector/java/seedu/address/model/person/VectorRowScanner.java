@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A {@code RowScanner} that compares the values of as many rows at a time as fit into a SIMD register, using the
+ * incubating Vector API. The rows out of range are collected into a bitmap, which is then cleared from the rows
+ * in one pass, so every row is read regardless of which bits are set.
+ * This class may only be loaded if the {@code jdk.incubator.vector} module is present.
+ */
+class VectorRowScanner implements RowScanner {
+
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public void retainRowsBetween(long[] column, int size, long min, long max, BitSet rows) {
+        long[] mismatches = new long[wordCount(size)];
+        int loopBound = LONG_SPECIES.loopBound(size);
+        int row = 0;
+        // The number of lanes divides 64, so the lanes of one vector always fall into the same word
+        for (; row < loopBound; row += LONG_SPECIES.length()) {
+            LongVector values = LongVector.fromArray(LONG_SPECIES, column, row);
+            VectorMask<Long> isOutOfRange = values.lt(min).or(values.compare(VectorOperators.GT, max));
+            mismatches[row >>> 6] |= isOutOfRange.toLong() << row;
+        }
+        for (; row < size; row++) {
+            if (column[row] < min || column[row] > max) {
+                mismatches[row >>> 6] |= 1L << row;
+            }
+        }
+        rows.andNot(BitSet.valueOf(mismatches));
+    }
+
+    @Override
+    public void retainRowsBetween(int[] column, int size, int min, int max, BitSet rows) {
+        long[] mismatches = new long[wordCount(size)];
+        int loopBound = INT_SPECIES.loopBound(size);
+        int row = 0;
+        for (; row < loopBound; row += INT_SPECIES.length()) {
+            IntVector values = IntVector.fromArray(INT_SPECIES, column, row);
+            VectorMask<Integer> isOutOfRange = values.lt(min).or(values.compare(VectorOperators.GT, max));
+            mismatches[row >>> 6] |= isOutOfRange.toLong() << row;
+        }
+        for (; row < size; row++) {
+            if (column[row] < min || column[row] > max) {
+                mismatches[row >>> 6] |= 1L << row;
+            }
+        }
+        rows.andNot(BitSet.valueOf(mismatches));
+    }
+
+    private static int wordCount(int size) {
+        return (size + Long.SIZE - 1) / Long.SIZE;
+    }
+}